@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.vectorized.JCameraBasesDerivation;
+import com.io7m.jcamera.vectorized.JCameraFPSStyleBases;
+import com.io7m.jcamera.vectorized.JCameraSphericalBases;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the vectorized and scalar paths of
+ * {@link JCameraBasesDerivation}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class JCameraBasesDerivationBenchmark
+{
+  /**
+   * The number of cameras.
+   */
+
+  @Param({"1000", "10000"})
+  public int count;
+
+  private JCameraFPSStyleBases fps;
+  private JCameraSphericalBases spherical;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraBasesDerivationBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the cameras.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.fps = JCameraFPSStyleBases.create(this.count);
+    this.spherical = JCameraSphericalBases.create(this.count);
+
+    for (int index = 0; index < this.count; ++index) {
+      final double x = (double) index;
+      this.fps.setAngles(index, x * 0.001, x * 0.01);
+      this.spherical.setOrientation(index, x * 0.01, x * 0.001, 8.0);
+      this.spherical.setTarget3(index, x, 0.0, -x);
+    }
+  }
+
+  /**
+   * Derive FPS-style bases, using the Vector API if available.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void fpsStyleDerive(
+    final Blackhole bh)
+  {
+    JCameraBasesDerivation.deriveFPSStyle(this.fps);
+    bh.consume(this.fps);
+  }
+
+  /**
+   * Derive FPS-style bases using the scalar implementation.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void fpsStyleDeriveScalar(
+    final Blackhole bh)
+  {
+    JCameraBasesDerivation.deriveFPSStyleScalar(this.fps);
+    bh.consume(this.fps);
+  }
+
+  /**
+   * Derive spherical bases, using the Vector API if available.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void sphericalDerive(
+    final Blackhole bh)
+  {
+    JCameraBasesDerivation.deriveSpherical(this.spherical);
+    bh.consume(this.spherical);
+  }
+
+  /**
+   * Derive spherical bases using the scalar implementation.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void sphericalDeriveScalar(
+    final Blackhole bh)
+  {
+    JCameraBasesDerivation.deriveSphericalScalar(this.spherical);
+    bh.consume(this.spherical);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleBatch;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing {@link JCameraFPSStyleBatch} against an array of
+ * individual {@link JCameraFPSStyle} cameras.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFPSStyleBatchBenchmark
+{
+  /**
+   * The number of cameras.
+   */
+
+  @Param({"1000", "10000"})
+  public int count;
+
+  private JCameraFPSStyleBatch batch;
+  private JCameraFPSStyleType[] cameras;
+  private double[] matrices;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFPSStyleBatchBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the cameras.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.batch = JCameraFPSStyleBatch.newBatch(this.count);
+    this.cameras = new JCameraFPSStyleType[this.count];
+    this.matrices = new double[this.count * 16];
+
+    for (int index = 0; index < this.count; ++index) {
+      final double x = (double) index;
+      final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+      c.cameraSetPosition3(x, 2.0, 3.0);
+      c.cameraRotateAroundVertical(x * 0.01);
+      this.cameras[index] = c;
+      this.batch.cameraSetFrom(index, c);
+    }
+  }
+
+  /**
+   * Rotate and move every camera in the batch.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void batchRotateAndMove(
+    final Blackhole bh)
+  {
+    final JCameraFPSStyleBatch b = this.batch;
+    final int size = b.size();
+    for (int index = 0; index < size; ++index) {
+      b.cameraRotateAroundVertical(index, 0.001);
+      b.cameraMoveForward(index, 0.001);
+    }
+    bh.consume(b);
+  }
+
+  /**
+   * Rotate and move every camera in the array.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void camerasRotateAndMove(
+    final Blackhole bh)
+  {
+    final JCameraFPSStyleType[] cs = this.cameras;
+    for (int index = 0; index < cs.length; ++index) {
+      cs[index].cameraRotateAroundVertical(0.001);
+      cs[index].cameraMoveForward(0.001);
+    }
+    bh.consume(cs);
+  }
+
+  /**
+   * Produce view matrices for every camera in the batch.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void batchViewMatrices(
+    final Blackhole bh)
+  {
+    this.batch.makeViewMatricesInto(this.matrices, 0);
+    bh.consume(this.matrices);
+  }
+
+  /**
+   * Produce view matrices for every camera in the array.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void camerasViewMatrices(
+    final Blackhole bh)
+  {
+    final JCameraFPSStyleType[] cs = this.cameras;
+    for (int index = 0; index < cs.length; ++index) {
+      cs[index].cameraMakeViewMatrixInto(this.matrices, index * 16);
+    }
+    bh.consume(this.matrices);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleBatch;
+import com.io7m.jcamera.JCameraFPSStyleBatchInput;
+import com.io7m.jcamera.JCameraFPSStyleBatchIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing {@link JCameraFPSStyleBatchIntegrator} against an
+ * array of individual {@link JCameraFPSStyleIntegrator} integrators.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFPSStyleBatchIntegratorBenchmark
+{
+  /**
+   * The number of cameras.
+   */
+
+  @Param({"1000", "10000"})
+  public int count;
+
+  private JCameraFPSStyleBatchIntegrator batch_integrator;
+  private JCameraFPSStyleIntegratorType[] integrators;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFPSStyleBatchIntegratorBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the integrators.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final JCameraFPSStyleBatch batch =
+      JCameraFPSStyleBatch.newBatch(this.count);
+    final JCameraFPSStyleBatchInput batch_input =
+      JCameraFPSStyleBatchInput.newInput(this.count);
+
+    this.batch_integrator =
+      JCameraFPSStyleBatchIntegrator.newIntegrator(batch, batch_input);
+    this.integrators = new JCameraFPSStyleIntegratorType[this.count];
+
+    for (int index = 0; index < this.count; ++index) {
+      final boolean odd = (index & 1) == 1;
+      final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+      input.setMovingForward(true);
+      input.setMovingRight(odd);
+      batch_input.setMovingForward(index, true);
+      batch_input.setMovingRight(index, odd);
+
+      this.integrators[index] =
+        JCameraFPSStyleIntegrator.newIntegrator(
+          JCameraFPSStyle.newCamera(), input);
+    }
+  }
+
+  /**
+   * Integrate every camera using the batch integrator.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void batchIntegrate(
+    final Blackhole bh)
+  {
+    this.batch_integrator.integrate(1.0 / 60.0);
+    bh.consume(this.batch_integrator);
+  }
+
+  /**
+   * Integrate every camera using individual integrators.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void integratorsIntegrate(
+    final Blackhole bh)
+  {
+    final JCameraFPSStyleIntegratorType[] is = this.integrators;
+    for (int index = 0; index < is.length; ++index) {
+      is[index].integrate(1.0 / 60.0);
+    }
+    bh.consume(is);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraFPSStyle}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFPSStyleBenchmark
+{
+  private JCameraFPSStyleType camera;
+  private double[] matrix;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFPSStyleBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the camera.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.camera = JCameraFPSStyle.newCamera();
+    this.camera.cameraSetPosition3(1.0, 2.0, 3.0);
+    this.camera.cameraRotateAroundVertical(0.3);
+    this.camera.cameraRotateAroundHorizontal(0.1);
+    this.matrix = new double[16];
+  }
+
+  /**
+   * Rotate the camera and then read the forward vector, forcing the
+   * derivation of all vectors.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void rotateAndDerive(
+    final Blackhole bh)
+  {
+    this.camera.cameraRotateAroundVertical(0.001);
+    bh.consume(this.camera.cameraGetForward());
+  }
+
+  /**
+   * Read the forward vector when the derived vectors are already current.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void deriveCurrent(
+    final Blackhole bh)
+  {
+    bh.consume(this.camera.cameraGetForward());
+  }
+
+  /**
+   * Move the camera forward.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void moveForward(
+    final Blackhole bh)
+  {
+    this.camera.cameraMoveForward(0.001);
+    bh.consume(this.camera.cameraGetPosition());
+  }
+
+  /**
+   * Construct a view matrix.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void makeViewMatrix(
+    final Blackhole bh)
+  {
+    bh.consume(this.camera.cameraMakeViewMatrix());
+  }
+
+  /**
+   * Construct a view matrix into an existing array.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void makeViewMatrixInto(
+    final Blackhole bh)
+  {
+    this.camera.cameraMakeViewMatrixInto(this.matrix, 0);
+    bh.consume(this.matrix);
+  }
+}
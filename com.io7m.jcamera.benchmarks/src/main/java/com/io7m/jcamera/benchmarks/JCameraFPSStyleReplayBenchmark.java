@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputLog;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleReplay;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraFPSStyleReplay}: headless integration of a
+ * logged input session rather than a fixed synthetic pattern.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFPSStyleReplayBenchmark
+{
+  private static final int STEPS = 3600;
+
+  private JCameraFPSStyleInputLog log;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFPSStyleReplayBenchmark()
+  {
+
+  }
+
+  /**
+   * Log one minute of 60Hz input with irregular key presses and mouse
+   * movement.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0x5eedL);
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    this.log = JCameraFPSStyleInputLog.create(STEPS);
+
+    for (int index = 0; index < STEPS; ++index) {
+      if (random.nextInt(20) == 0) {
+        input.setMovingForward(random.nextBoolean());
+        input.setMovingLeft(random.nextInt(4) == 0);
+        input.setMovingRight(random.nextInt(4) == 0);
+      }
+      input.setRotationHorizontal(random.nextGaussian() * 0.01);
+      input.setRotationVertical(random.nextGaussian() * 0.02);
+      this.log.record(1.0 / 60.0, input);
+    }
+  }
+
+  /**
+   * Replay the whole session through a fresh integrator.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void replaySession(
+    final Blackhole bh)
+  {
+    final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleReplay replay =
+      JCameraFPSStyleReplay.create(
+        this.log,
+        input,
+        JCameraFPSStyleIntegrator.newIntegrator(camera, input));
+    bh.consume(replay.run());
+    bh.consume(camera.cameraGetPosition());
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraFPSStyleSnapshots}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFPSStyleSnapshotsBenchmark
+{
+  private JCameraFPSStyleType camera;
+  private JCameraFPSStyleSnapshot snap0;
+  private JCameraFPSStyleSnapshot snap1;
+  private JCameraFPSStyleSnapshotMutable mutable0;
+  private JCameraFPSStyleSnapshotMutable mutable1;
+  private JCameraFPSStyleSnapshotMutable mutable_out;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFPSStyleSnapshotsBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the snapshots.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.camera = JCameraFPSStyle.newCamera();
+    this.snap0 = JCameraFPSStyleSnapshots.of(this.camera);
+    this.camera.cameraSetPosition3(1.0, 2.0, 3.0);
+    this.camera.cameraRotateAroundVertical(0.3);
+    this.camera.cameraRotateAroundHorizontal(0.1);
+    this.snap1 = JCameraFPSStyleSnapshots.of(this.camera);
+
+    this.mutable0 = JCameraFPSStyleSnapshotMutable.create();
+    this.mutable1 = JCameraFPSStyleSnapshotMutable.create();
+    this.mutable_out = JCameraFPSStyleSnapshotMutable.create();
+    JCameraFPSStyleSnapshots.ofInto(this.snap0, this.mutable0);
+    JCameraFPSStyleSnapshots.ofInto(this.snap1, this.mutable1);
+  }
+
+  /**
+   * Take a snapshot of a camera.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void of(
+    final Blackhole bh)
+  {
+    bh.consume(JCameraFPSStyleSnapshots.of(this.camera));
+  }
+
+  /**
+   * Interpolate between two snapshots.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void interpolate(
+    final Blackhole bh)
+  {
+    bh.consume(
+      JCameraFPSStyleSnapshots.interpolate(this.snap0, this.snap1, 0.5));
+  }
+
+  /**
+   * Take a snapshot of a camera into an existing mutable snapshot.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void ofInto(
+    final Blackhole bh)
+  {
+    bh.consume(JCameraFPSStyleSnapshots.ofInto(this.camera, this.mutable_out));
+  }
+
+  /**
+   * Interpolate between two mutable snapshots.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void interpolateInto(
+    final Blackhole bh)
+  {
+    bh.consume(
+      JCameraFPSStyleSnapshots.interpolateInto(
+        this.mutable0,
+        this.mutable1,
+        0.5,
+        this.mutable_out));
+  }
+}
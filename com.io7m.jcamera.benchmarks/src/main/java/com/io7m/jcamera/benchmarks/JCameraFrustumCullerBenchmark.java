@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraFrustum;
+import com.io7m.jcamera.JCameraFrustumCuller;
+import com.io7m.jcamera.JCameraViewProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraFrustumCuller} with 100000 bounding
+ * volumes scattered around a moving camera.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraFrustumCullerBenchmark
+{
+  private static final int COUNT = 100_000;
+
+  private JCameraFPSStyleType camera;
+  private JCameraFrustum frustum;
+  private JCameraViewProjection view_projection;
+  private JCameraFrustumCuller culler;
+  private ForkJoinPool pool;
+  private double[] x;
+  private double[] y;
+  private double[] z;
+  private double[] radius;
+  private double[] max_x;
+  private double[] max_y;
+  private double[] max_z;
+  private long[] visible;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraFrustumCullerBenchmark()
+  {
+
+  }
+
+  private static double[] scatter(
+    final Random random,
+    final double scale,
+    final double offset)
+  {
+    final double[] r = new double[COUNT];
+    for (int index = 0; index < COUNT; ++index) {
+      r[index] = (random.nextDouble() * scale) + offset;
+    }
+    return r;
+  }
+
+  /**
+   * Set up the volumes.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0L);
+    this.x = scatter(random, 1000.0, -500.0);
+    this.y = scatter(random, 100.0, -50.0);
+    this.z = scatter(random, 1000.0, -500.0);
+    this.radius = scatter(random, 4.0, 0.5);
+    this.max_x = new double[COUNT];
+    this.max_y = new double[COUNT];
+    this.max_z = new double[COUNT];
+    for (int index = 0; index < COUNT; ++index) {
+      this.max_x[index] = this.x[index] + this.radius[index];
+      this.max_y[index] = this.y[index] + this.radius[index];
+      this.max_z[index] = this.z[index] + this.radius[index];
+    }
+
+    this.visible = new long[JCameraFrustumCuller.bitsetSize(COUNT)];
+    this.culler = JCameraFrustumCuller.create(COUNT);
+    this.frustum = JCameraFrustum.create();
+    this.view_projection = JCameraViewProjection.create();
+    this.view_projection.setPerspective(0.1, 400.0, 16.0 / 9.0, 1.2);
+    this.camera = JCameraFPSStyle.newCamera();
+    this.pool = ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Release resources.
+   */
+
+  @TearDown
+  public void tearDown()
+  {
+    this.pool = null;
+  }
+
+  private void step()
+  {
+    this.camera.cameraRotateAroundVertical(0.01);
+    this.view_projection.update(this.camera);
+    this.frustum.updateFromViewProjection(this.view_projection);
+  }
+
+  /**
+   * Cull bounding spheres on the calling thread.
+   *
+   * @return The number of visible spheres
+   */
+
+  @Benchmark
+  public int cullSpheres()
+  {
+    this.step();
+    return this.culler.cullSpheres(
+      this.frustum,
+      this.x,
+      this.y,
+      this.z,
+      this.radius,
+      COUNT,
+      this.visible);
+  }
+
+  /**
+   * Cull bounding spheres on the common pool.
+   *
+   * @return The number of visible spheres
+   */
+
+  @Benchmark
+  public int cullSpheresParallel()
+  {
+    this.step();
+    return this.culler.cullSpheresParallel(
+      this.pool,
+      this.frustum,
+      this.x,
+      this.y,
+      this.z,
+      this.radius,
+      COUNT,
+      this.visible);
+  }
+
+  /**
+   * Cull bounding boxes on the calling thread.
+   *
+   * @return The number of visible boxes
+   */
+
+  @Benchmark
+  public int cullAABBs()
+  {
+    this.step();
+    return this.culler.cullAABBs(
+      this.frustum,
+      this.x,
+      this.y,
+      this.z,
+      this.max_x,
+      this.max_y,
+      this.max_z,
+      COUNT,
+      this.visible);
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Soak benchmarks for cameras that have been turning continuously for a
+ * long time, such as a spectator camera orbiting a scene on an unattended
+ * display.</p>
+ *
+ * <p>Before measurement, each camera is turned at one radian per second in
+ * sixty steps per second for the given number of simulated days. The
+ * measured operations then continue turning the camera and derive its
+ * vectors. Because cameras reduce their accumulated angles, the cost per
+ * derivation should not depend on the number of days. For comparison, the
+ * {@code unreduced} benchmarks set the equivalent accumulated angle
+ * directly, which is what a camera that did not reduce its angles would
+ * pass to {@code Math.sin} and {@code Math.cos}.</p>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraSoakBenchmark
+{
+  private static final double STEP = 1.0 / 60.0;
+  private static final long STEPS_PER_DAY = 60L * 60L * 60L * 24L;
+
+  /**
+   * The number of simulated days of turning before measurement.
+   */
+
+  @Param({"0", "1", "7", "30"})
+  public int days;
+
+  private JCameraSphericalType spherical;
+  private JCameraSphericalType spherical_unreduced;
+  private JCameraFPSStyleType fps;
+  private JCameraFPSStyleType fps_unreduced;
+  private double unreduced;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraSoakBenchmark()
+  {
+
+  }
+
+  /**
+   * Turn the cameras for the simulated number of days.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.spherical = JCameraSpherical.newCamera();
+    this.spherical.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    this.spherical.cameraOrbitIncline(0.3);
+    this.fps = JCameraFPSStyle.newCamera();
+    this.fps.cameraSetPosition3(1.0, 2.0, 3.0);
+    this.fps.cameraRotateAroundHorizontal(0.3);
+
+    final long steps = STEPS_PER_DAY * (long) this.days;
+    for (long step = 0L; step < steps; ++step) {
+      this.spherical.cameraOrbitHeading(STEP);
+      this.fps.cameraRotateAroundVertical(STEP);
+    }
+
+    this.unreduced = (double) steps * STEP;
+    this.spherical_unreduced = JCameraSpherical.newCameraFrom(this.spherical);
+    this.spherical_unreduced.cameraSetAngleHeading(this.unreduced);
+    this.fps_unreduced = JCameraFPSStyle.newCameraFrom(this.fps);
+    this.fps_unreduced.cameraSetAngleAroundVertical(this.unreduced);
+  }
+
+  /**
+   * Orbit the spherical camera and then read the position, forcing the
+   * derivation of all vectors.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void sphericalOrbitAndDerive(
+    final Blackhole bh)
+  {
+    this.spherical.cameraOrbitHeading(STEP);
+    bh.consume(this.spherical.cameraGetPositionX());
+  }
+
+  /**
+   * Set an unreduced heading on the spherical camera and then read the
+   * position, forcing the derivation of all vectors.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void sphericalOrbitAndDeriveUnreduced(
+    final Blackhole bh)
+  {
+    this.unreduced += STEP;
+    this.spherical_unreduced.cameraSetAngleHeading(this.unreduced);
+    bh.consume(this.spherical_unreduced.cameraGetPositionX());
+  }
+
+  /**
+   * Rotate the FPS-style camera and then read the forward vector, forcing
+   * the derivation of all vectors.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void fpsRotateAndDerive(
+    final Blackhole bh)
+  {
+    this.fps.cameraRotateAroundVertical(STEP);
+    bh.consume(this.fps.cameraGetForwardX());
+  }
+
+  /**
+   * Set an unreduced angle on the FPS-style camera and then read the
+   * forward vector, forcing the derivation of all vectors.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void fpsRotateAndDeriveUnreduced(
+    final Blackhole bh)
+  {
+    this.unreduced += STEP;
+    this.fps_unreduced.cameraSetAngleAroundVertical(this.unreduced);
+    bh.consume(this.fps_unreduced.cameraGetForwardX());
+  }
+}
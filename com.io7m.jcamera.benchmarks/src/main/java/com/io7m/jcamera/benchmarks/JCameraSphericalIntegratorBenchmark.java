@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import com.io7m.jcamera.JCameraSphericalLinearIntegratorType;
+import com.io7m.jcamera.JCameraSphericalLinearIntegratorZoomScaled;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraSphericalLinearIntegratorZoomScaled}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraSphericalIntegratorBenchmark
+{
+  private JCameraSphericalType camera;
+  private JCameraSphericalInputType input;
+  private JCameraSphericalLinearIntegratorType integrator;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraSphericalIntegratorBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the integrator.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.camera = JCameraSpherical.newCamera();
+    this.input = JCameraSphericalInput.newInput();
+    this.input.setTargetMovingForwardKey(true);
+    this.integrator =
+      JCameraSphericalLinearIntegratorZoomScaled.newIntegrator(
+        this.camera,
+        this.input);
+  }
+
+  /**
+   * Integrate a single 60Hz step with a small continuous drag movement.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void integrateZoomScaled(
+    final Blackhole bh)
+  {
+    this.input.addTargetMovingContinuousRight(0.001);
+    this.integrator.integrate(1.0 / 60.0);
+    bh.consume(this.camera.cameraGetTargetPosition());
+  }
+}
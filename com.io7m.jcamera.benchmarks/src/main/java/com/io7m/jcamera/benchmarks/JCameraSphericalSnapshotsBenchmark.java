@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.benchmarks;
+
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JCameraSphericalSnapshots}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JCameraSphericalSnapshotsBenchmark
+{
+  private JCameraSphericalType camera;
+  private JCameraSphericalSnapshot snap0;
+  private JCameraSphericalSnapshot snap1;
+  private JCameraSphericalSnapshotMutable mutable0;
+  private JCameraSphericalSnapshotMutable mutable1;
+  private JCameraSphericalSnapshotMutable mutable_out;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCameraSphericalSnapshotsBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the snapshots.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.camera = JCameraSpherical.newCamera();
+    this.snap0 = JCameraSphericalSnapshots.of(this.camera);
+    this.camera.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    this.camera.cameraOrbitHeading(0.3);
+    this.camera.cameraOrbitIncline(0.1);
+    this.snap1 = JCameraSphericalSnapshots.of(this.camera);
+
+    this.mutable0 = JCameraSphericalSnapshotMutable.create();
+    this.mutable1 = JCameraSphericalSnapshotMutable.create();
+    this.mutable_out = JCameraSphericalSnapshotMutable.create();
+    JCameraSphericalSnapshots.ofInto(this.snap0, this.mutable0);
+    JCameraSphericalSnapshots.ofInto(this.snap1, this.mutable1);
+  }
+
+  /**
+   * Take a snapshot of a camera.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void of(
+    final Blackhole bh)
+  {
+    bh.consume(JCameraSphericalSnapshots.of(this.camera));
+  }
+
+  /**
+   * Interpolate between two snapshots.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void interpolate(
+    final Blackhole bh)
+  {
+    bh.consume(
+      JCameraSphericalSnapshots.interpolate(this.snap0, this.snap1, 0.5));
+  }
+
+  /**
+   * Take a snapshot of a camera into an existing mutable snapshot.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void ofInto(
+    final Blackhole bh)
+  {
+    bh.consume(JCameraSphericalSnapshots.ofInto(this.camera, this.mutable_out));
+  }
+
+  /**
+   * Interpolate between two mutable snapshots.
+   *
+   * @param bh The blackhole
+   */
+
+  @Benchmark
+  public void interpolateInto(
+    final Blackhole bh)
+  {
+    bh.consume(
+      JCameraSphericalSnapshots.interpolateInto(
+        this.mutable0,
+        this.mutable1,
+        0.5,
+        this.mutable_out));
+  }
+}
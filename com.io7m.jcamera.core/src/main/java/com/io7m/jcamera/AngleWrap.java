@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+@EqualityReference
+final class AngleWrap
+{
+  private static final double TWO_PI = 2.0 * Math.PI;
+
+  private AngleWrap()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * Reduce an accumulated angle to the range [-π, π]. Angles already in
+   * that range are returned unchanged, so the reduction only takes effect
+   * (at most once per revolution for small increments) when an angle
+   * crosses ±π. The result differs from the input by a multiple of 2π and
+   * so describes the same orientation, but it stays small enough that
+   * Math.sin and Math.cos remain on their fast, accurate path no matter
+   * how long a camera has been turning.
+   */
+
+  static double wrap(
+    final double r)
+  {
+    if (r > Math.PI || r < -Math.PI) {
+      return Math.IEEEremainder(r, TWO_PI);
+    }
+    return r;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free accumulator of {@code double} values. The value is stored as
+ * the raw bits of a {@code double} in an {@link AtomicLong}, and additions
+ * are performed with compare-and-set so that concurrent additions are never
+ * lost. {@link #take()} atomically retrieves the value and resets it, so that
+ * each added value is observed by exactly one call to {@link #take()}.
+ */
+
+@EqualityReference
+final class AtomicDouble
+{
+  private static final long ZERO = Double.doubleToRawLongBits(0.0);
+
+  private final AtomicLong bits;
+
+  AtomicDouble()
+  {
+    this.bits = new AtomicLong(ZERO);
+  }
+
+  private static long sum(
+    final long x,
+    final long y)
+  {
+    return Double.doubleToRawLongBits(
+      Double.longBitsToDouble(x) + Double.longBitsToDouble(y));
+  }
+
+  void add(
+    final double x)
+  {
+    this.bits.accumulateAndGet(
+      Double.doubleToRawLongBits(x), AtomicDouble::sum);
+  }
+
+  double get()
+  {
+    return Double.longBitsToDouble(this.bits.get());
+  }
+
+  void set(
+    final double x)
+  {
+    this.bits.set(Double.doubleToRawLongBits(x));
+  }
+
+  double take()
+  {
+    return Double.longBitsToDouble(this.bits.getAndSet(ZERO));
+  }
+}
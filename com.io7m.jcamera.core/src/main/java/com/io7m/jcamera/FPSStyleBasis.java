@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+@EqualityReference
+final class FPSStyleBasis
+{
+  static final int FORWARD_X = 0;
+  static final int FORWARD_Y = 1;
+  static final int FORWARD_Z = 2;
+  static final int RIGHT_X = 3;
+  static final int RIGHT_Y = 4;
+  static final int RIGHT_Z = 5;
+  static final int UP_X = 6;
+  static final int UP_Y = 7;
+  static final int UP_Z = 8;
+  static final int SIZE = 9;
+
+  private FPSStyleBasis()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * Derive the forward, right, and up vectors of an FPS-style camera from
+   * its angles, writing them in that order to output[offset .. offset + 9).
+   * Every FPS-style derivation, scalar or batched, goes through this
+   * function.
+   */
+
+  static void deriveInto(
+    final double horizontal,
+    final double vertical,
+    final double[] output,
+    final int offset)
+  {
+    final double cos_h = Math.cos(horizontal);
+
+    final double fx = cos_h * Math.cos(vertical);
+    final double fy = Math.sin(horizontal);
+    final double fz = -(cos_h * Math.sin(vertical));
+    final double f_scale = InverseMagnitude.inverseMagnitude(fx, fy, fz);
+    final double nfx = fx * f_scale;
+    final double nfy = fy * f_scale;
+    final double nfz = fz * f_scale;
+
+    final double vr = vertical - (Math.PI / 2.0);
+    final double rx = cos_h * Math.cos(vr);
+    final double rz = -(cos_h * Math.sin(vr));
+    final double r_scale = InverseMagnitude.inverseMagnitude(rx, 0.0, rz);
+    final double nrx = rx * r_scale;
+    final double nry = 0.0 * r_scale;
+    final double nrz = rz * r_scale;
+
+    output[offset + FORWARD_X] = nfx;
+    output[offset + FORWARD_Y] = nfy;
+    output[offset + FORWARD_Z] = nfz;
+    output[offset + RIGHT_X] = nrx;
+    output[offset + RIGHT_Y] = nry;
+    output[offset + RIGHT_Z] = nrz;
+    output[offset + UP_X] = (nry * nfz) - (nrz * nfy);
+    output[offset + UP_Y] = (nrz * nfx) - (nrx * nfz);
+    output[offset + UP_Z] = (nrx * nfy) - (nry * nfx);
+  }
+}
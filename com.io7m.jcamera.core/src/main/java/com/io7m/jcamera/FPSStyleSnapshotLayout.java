@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+@EqualityReference
+final class FPSStyleSnapshotLayout
+{
+  static final int ANGLE_HORIZONTAL = 0;
+  static final int ANGLE_VERTICAL = 1;
+  static final int POSITION = 2;
+  static final int RIGHT = 5;
+  static final int UP = 8;
+  static final int FORWARD = 11;
+  static final int SIZE = 14;
+
+  private FPSStyleSnapshotLayout()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * The state of an FPS-style snapshot packed into SIZE consecutive doubles,
+   * as held by snapshot channels and histories.
+   */
+
+  static void pack(
+    final JCameraFPSStyleSnapshotMutable snapshot,
+    final double[] output,
+    final int offset)
+  {
+    output[offset + ANGLE_HORIZONTAL] =
+      snapshot.cameraGetAngleAroundHorizontal();
+    output[offset + ANGLE_VERTICAL] = snapshot.cameraGetAngleAroundVertical();
+    output[offset + POSITION] = snapshot.cameraGetPositionX();
+    output[offset + POSITION + 1] = snapshot.cameraGetPositionY();
+    output[offset + POSITION + 2] = snapshot.cameraGetPositionZ();
+    output[offset + RIGHT] = snapshot.cameraGetRightX();
+    output[offset + RIGHT + 1] = snapshot.cameraGetRightY();
+    output[offset + RIGHT + 2] = snapshot.cameraGetRightZ();
+    output[offset + UP] = snapshot.cameraGetUpX();
+    output[offset + UP + 1] = snapshot.cameraGetUpY();
+    output[offset + UP + 2] = snapshot.cameraGetUpZ();
+    output[offset + FORWARD] = snapshot.cameraGetForwardX();
+    output[offset + FORWARD + 1] = snapshot.cameraGetForwardY();
+    output[offset + FORWARD + 2] = snapshot.cameraGetForwardZ();
+  }
+
+  static void unpack(
+    final double[] input,
+    final int offset,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    target.setAngles(
+      input[offset + ANGLE_HORIZONTAL],
+      input[offset + ANGLE_VERTICAL]);
+    target.setPosition(
+      input[offset + POSITION],
+      input[offset + POSITION + 1],
+      input[offset + POSITION + 2]);
+    target.setRight(
+      input[offset + RIGHT],
+      input[offset + RIGHT + 1],
+      input[offset + RIGHT + 2]);
+    target.setUp(
+      input[offset + UP],
+      input[offset + UP + 1],
+      input[offset + UP + 2]);
+    target.setForward(
+      input[offset + FORWARD],
+      input[offset + FORWARD + 1],
+      input[offset + FORWARD + 2]);
+  }
+}
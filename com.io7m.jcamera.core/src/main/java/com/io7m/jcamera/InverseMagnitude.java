@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+@EqualityReference
+final class InverseMagnitude
+{
+  private InverseMagnitude()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * The scaling factor that normalizes a vector, with the same semantics as
+   * Vectors3D.normalize(): Vectors of zero length are left unchanged.
+   */
+
+  static double inverseMagnitude(
+    final double x,
+    final double y,
+    final double z)
+  {
+    final double m = (x * x) + (y * y) + (z * z);
+    if (Double.compare(m, 0.0) > 0) {
+      return 1.0 / Math.sqrt(m);
+    }
+    return 1.0;
+  }
+}
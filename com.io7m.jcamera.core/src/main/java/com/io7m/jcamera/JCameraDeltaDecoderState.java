@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The camera-independent part of a delta decoder. Messages are read into
+ * {@link #decoded()}, from which the typed decoders rebuild snapshots.
+ *
+ * @see JCameraDeltaEncoding
+ */
+
+@EqualityReference
+final class JCameraDeltaDecoderState
+{
+  private final boolean[] angles;
+  private final JCameraDeltaHistory history;
+  private final long[] decoded;
+  private boolean received;
+  private long received_tick;
+
+  JCameraDeltaDecoderState(
+    final boolean[] in_angles,
+    final int in_history_capacity)
+  {
+    this.angles = in_angles;
+    this.history =
+      new JCameraDeltaHistory(in_history_capacity, in_angles.length);
+    this.decoded = new long[in_angles.length];
+  }
+
+  long[] decoded()
+  {
+    return this.decoded;
+  }
+
+  long lastTick()
+  {
+    if (!this.received) {
+      throw new IllegalStateException("No messages have been decoded");
+    }
+    return this.received_tick;
+  }
+
+  void reset()
+  {
+    this.history.clear();
+    this.received = false;
+  }
+
+  void decode(
+    final ByteBuffer buffer)
+  {
+    final int flags = (int) buffer.get() & 0xff;
+    if ((flags & JCameraDeltaEncoding.FLAG_KEYFRAME) != 0) {
+      this.decodeKeyframe(buffer);
+    } else {
+      this.decodeDelta(flags, buffer);
+    }
+  }
+
+  private void decodeKeyframe(
+    final ByteBuffer buffer)
+  {
+    final long tick = JCameraSnapshotEncoding.getVariableLong(buffer);
+    this.history.checkAppend(tick);
+    for (int f = 0; f < this.decoded.length; ++f) {
+      this.decoded[f] = JCameraSnapshotEncoding.getVariableLong(buffer);
+    }
+    this.finish(tick);
+  }
+
+  private void decodeDelta(
+    final int mask,
+    final ByteBuffer buffer)
+  {
+    final int low = (int) buffer.get() & 0xff;
+    final long elapsed = JCameraSnapshotEncoding.getVariableLong(buffer);
+    final long span = JCameraSnapshotEncoding.getVariableLong(buffer);
+    if (!this.received) {
+      throw new IllegalStateException(
+        "A delta cannot be decoded before a keyframe");
+    }
+
+    final long tick = JCameraDeltaEncoding.tick(this.received_tick, low);
+    this.history.checkAppend(tick);
+
+    final int base = this.find(tick - elapsed);
+    final int previous = span == 0L ? -1 : this.find(tick - elapsed - span);
+    for (int f = 0; f < this.decoded.length; ++f) {
+      final boolean angle = this.angles[f];
+      final long predicted =
+        JCameraDeltaEncoding.predict(
+          angle,
+          this.history.value(base, f),
+          previous >= 0 ? this.history.value(previous, f) : 0L,
+          elapsed,
+          span);
+      if ((mask & (1 << f)) != 0) {
+        this.decoded[f] =
+          JCameraDeltaEncoding.apply(
+            angle,
+            predicted,
+            JCameraSnapshotEncoding.getVariableLong(buffer));
+      } else {
+        this.decoded[f] = predicted;
+      }
+    }
+    this.finish(tick);
+  }
+
+  private int find(
+    final long tick)
+  {
+    final int slot = this.history.find(tick);
+    if (slot < 0) {
+      throw new IllegalStateException(
+        "Baseline tick " + tick + " is not available");
+    }
+    return slot;
+  }
+
+  private void finish(
+    final long tick)
+  {
+    this.history.record(tick, this.decoded);
+    this.received = true;
+    this.received_tick = tick;
+  }
+}
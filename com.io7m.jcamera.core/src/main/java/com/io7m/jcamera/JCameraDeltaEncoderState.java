@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The camera-independent part of a delta encoder. The typed encoders write
+ * the quantized state of a camera into {@link #current()}, and this class
+ * writes it to a buffer as either a keyframe or a delta against the
+ * acknowledged states.
+ *
+ * @see JCameraDeltaEncoding
+ */
+
+@EqualityReference
+final class JCameraDeltaEncoderState
+{
+  private final boolean[] angles;
+  private final JCameraDeltaHistory history;
+  private final long[] current;
+  private final long[] residuals;
+  private final int keyframe_interval;
+  private final int message_maximum;
+  private boolean keyframe_sent;
+  private long keyframe_tick;
+  private int acknowledged;
+  private long acknowledged_newest;
+  private long acknowledged_previous;
+  private long keyframes;
+  private long deltas;
+
+  JCameraDeltaEncoderState(
+    final boolean[] in_angles,
+    final int in_history_capacity,
+    final int in_keyframe_interval)
+  {
+    this.angles = in_angles;
+    this.history =
+      new JCameraDeltaHistory(in_history_capacity, in_angles.length);
+    this.current = new long[in_angles.length];
+    this.residuals = new long[in_angles.length];
+    this.keyframe_interval = in_keyframe_interval;
+    this.message_maximum =
+      2 + (JCameraSnapshotEncoding.VARIABLE_LONG_MAXIMUM_BYTES
+        * (2 + in_angles.length));
+  }
+
+  long[] current()
+  {
+    return this.current;
+  }
+
+  int messageMaximumBytes()
+  {
+    return this.message_maximum;
+  }
+
+  long keyframes()
+  {
+    return this.keyframes;
+  }
+
+  long deltas()
+  {
+    return this.deltas;
+  }
+
+  void reset()
+  {
+    this.history.clear();
+    this.keyframe_sent = false;
+    this.acknowledged = 0;
+  }
+
+  void acknowledge(
+    final long tick)
+  {
+    if (this.acknowledged == 0) {
+      this.acknowledged = 1;
+      this.acknowledged_newest = tick;
+    } else if (tick > this.acknowledged_newest) {
+      this.acknowledged = 2;
+      this.acknowledged_previous = this.acknowledged_newest;
+      this.acknowledged_newest = tick;
+    }
+  }
+
+  int encode(
+    final long tick,
+    final ByteBuffer buffer)
+  {
+    if (buffer.remaining() < this.message_maximum) {
+      throw new BufferOverflowException();
+    }
+    this.history.checkAppend(tick);
+
+    final int start = buffer.position();
+    final int base = this.baseline(tick);
+    if (base < 0) {
+      buffer.put((byte) JCameraDeltaEncoding.FLAG_KEYFRAME);
+      JCameraSnapshotEncoding.putVariableLong(buffer, tick);
+      for (int f = 0; f < this.current.length; ++f) {
+        JCameraSnapshotEncoding.putVariableLong(buffer, this.current[f]);
+      }
+      this.keyframe_sent = true;
+      this.keyframe_tick = tick;
+      ++this.keyframes;
+    } else {
+      this.encodeDelta(tick, base, buffer);
+      ++this.deltas;
+    }
+
+    this.history.record(tick, this.current);
+    return buffer.position() - start;
+  }
+
+  private void encodeDelta(
+    final long tick,
+    final int base,
+    final ByteBuffer buffer)
+  {
+    final int previous =
+      this.acknowledged == 2
+        ? this.history.find(this.acknowledged_previous)
+        : -1;
+    final long elapsed = tick - this.acknowledged_newest;
+    final long span =
+      previous >= 0
+        ? this.acknowledged_newest - this.acknowledged_previous
+        : 0L;
+
+    final long[] r = this.residuals;
+    int mask = 0;
+    for (int f = 0; f < this.current.length; ++f) {
+      final boolean angle = this.angles[f];
+      final long predicted =
+        JCameraDeltaEncoding.predict(
+          angle,
+          this.history.value(base, f),
+          previous >= 0 ? this.history.value(previous, f) : 0L,
+          elapsed,
+          span);
+      r[f] =
+        JCameraDeltaEncoding.difference(angle, this.current[f], predicted);
+      if (r[f] != 0L) {
+        mask |= 1 << f;
+      }
+    }
+
+    buffer.put((byte) mask);
+    buffer.put((byte) tick);
+    JCameraSnapshotEncoding.putVariableLong(buffer, elapsed);
+    JCameraSnapshotEncoding.putVariableLong(buffer, span);
+    for (int f = 0; f < this.current.length; ++f) {
+      if ((mask & (1 << f)) != 0) {
+        JCameraSnapshotEncoding.putVariableLong(buffer, r[f]);
+      }
+    }
+  }
+
+  /**
+   * @return The slot of the newest acknowledged state, or {@code -1} if a
+   * keyframe must be sent
+   */
+
+  private int baseline(
+    final long tick)
+  {
+    if (!this.keyframe_sent || this.acknowledged == 0) {
+      return -1;
+    }
+    if (tick - this.keyframe_tick >= (long) this.keyframe_interval) {
+      return -1;
+    }
+    if (tick - this.acknowledged_newest
+      >= (long) JCameraDeltaEncoding.TICK_WINDOW) {
+      return -1;
+    }
+    return this.history.find(this.acknowledged_newest);
+  }
+}
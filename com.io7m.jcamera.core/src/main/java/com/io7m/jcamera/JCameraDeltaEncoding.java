@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions and constants shared by the delta encoders and decoders.</p>
+ *
+ * <p>Each message begins with a flags byte. If bit {@code 7} is set, the
+ * message is a keyframe: the tick and the quantized value of every field
+ * follow as variable-length integers.</p>
+ *
+ * <p>Otherwise, the message is a delta, and bits {@code 0} to {@code 6} are
+ * a mask of the fields that are present in the message. The low eight bits
+ * of the tick follow as a single byte, and then, as variable-length
+ * integers, the distance in ticks back to the newest acknowledged state,
+ * the distance in ticks from that state back to the previous acknowledged
+ * state (or {@code 0} if there is none), and the residual of each field in
+ * the mask. Each field is predicted by linear extrapolation from the two
+ * acknowledged states (or taken from the newest acknowledged state, if
+ * there is only one), and the residual is the difference between the
+ * actual value and the prediction. A camera moving at a constant rate
+ * therefore produces residuals that are mostly zero, and fields with a
+ * residual of zero are omitted.</p>
+ *
+ * <p>The decoder reconstructs the full tick from its low eight bits and the
+ * tick of the most recently decoded message. This is unambiguous because
+ * the encoder sends a keyframe whenever the newest acknowledged state is
+ * {@link #TICK_WINDOW} or more ticks old, and the decoder must have decoded
+ * that state.</p>
+ */
+
+final class JCameraDeltaEncoding
+{
+  static final int FLAG_KEYFRAME = 0x80;
+  static final int TICK_WINDOW = 256;
+
+  private JCameraDeltaEncoding()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static long quantizeLinear(
+    final double x,
+    final double precision)
+  {
+    return Math.round(x / precision);
+  }
+
+  static double dequantizeLinear(
+    final long x,
+    final double precision)
+  {
+    return (double) x * precision;
+  }
+
+  /**
+   * Quantized angles are 16-bit values that wrap around, so differences are
+   * taken modulo {@code 2^16}.
+   */
+
+  static long difference(
+    final boolean angle,
+    final long x,
+    final long base)
+  {
+    return angle ? (long) (short) (x - base) : x - base;
+  }
+
+  static long apply(
+    final boolean angle,
+    final long base,
+    final long difference)
+  {
+    return angle ? (long) (short) (base + difference) : base + difference;
+  }
+
+  /**
+   * Predict the value of a field by linear extrapolation.
+   *
+   * @param angle    {@code true} if the field is a quantized angle
+   * @param newest   The value at the newest acknowledged state
+   * @param previous The value at the previous acknowledged state
+   * @param elapsed  The number of ticks since the newest state
+   * @param span     The number of ticks between the two states, or
+   *                 {@code 0} if there is no previous state
+   *
+   * @return The predicted value
+   */
+
+  static long predict(
+    final boolean angle,
+    final long newest,
+    final long previous,
+    final long elapsed,
+    final long span)
+  {
+    if (span == 0L) {
+      return newest;
+    }
+    final long rate = difference(angle, newest, previous);
+    return apply(angle, newest, (rate * elapsed) / span);
+  }
+
+  /**
+   * Reconstruct a tick from its low eight bits and the tick of the most
+   * recently decoded message.
+   *
+   * @param last The most recently decoded tick
+   * @param low  The low eight bits of the tick
+   *
+   * @return The tick
+   */
+
+  static long tick(
+    final long last,
+    final int low)
+  {
+    return last + (long) ((low - (int) last) & (TICK_WINDOW - 1));
+  }
+}
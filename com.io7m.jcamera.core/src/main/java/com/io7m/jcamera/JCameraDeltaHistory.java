@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+/**
+ * A ring of quantized camera states keyed by tick, shared by the delta
+ * encoders and decoders.
+ */
+
+@EqualityReference
+final class JCameraDeltaHistory
+{
+  private final JCameraSnapshotHistoryIndex ticks;
+  private final int fields;
+  private final long[] values;
+
+  JCameraDeltaHistory(
+    final int capacity,
+    final int in_fields)
+  {
+    this.ticks = new JCameraSnapshotHistoryIndex(capacity);
+    this.fields = in_fields;
+    this.values = new long[capacity * in_fields];
+  }
+
+  void clear()
+  {
+    this.ticks.clear();
+  }
+
+  void checkAppend(
+    final long tick)
+  {
+    this.ticks.checkAppend(tick);
+  }
+
+  void record(
+    final long tick,
+    final long[] source)
+  {
+    final int slot = this.ticks.append(tick);
+    System.arraycopy(source, 0, this.values, slot * this.fields, this.fields);
+  }
+
+  /**
+   * @param tick The tick
+   *
+   * @return The storage slot of the state recorded at exactly {@code tick},
+   * or {@code -1} if there is no such state
+   */
+
+  int find(
+    final long tick)
+  {
+    final int index = this.ticks.floor(tick);
+    if (index < 0 || this.ticks.tick(index) != tick) {
+      return -1;
+    }
+    return this.ticks.slot(index);
+  }
+
+  long value(
+    final int slot,
+    final int field)
+  {
+    return this.values[(slot * this.fields) + field];
+  }
+}
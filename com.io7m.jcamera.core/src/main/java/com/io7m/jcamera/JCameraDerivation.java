@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+/**
+ * Specification of when a camera derives its forward, right, up, and
+ * position vectors from its inputs.
+ */
+
+public enum JCameraDerivation
+{
+  /**
+   * Derived vectors are recalculated on the first read following a change to
+   * the camera. Reading the camera may therefore modify its internal state,
+   * and so a camera must not be read from more than one thread at a time.
+   */
+
+  DERIVATION_LAZY,
+
+  /**
+   * Derived vectors are recalculated immediately whenever the camera is
+   * changed. Reading the camera never modifies its internal state, and so a
+   * camera that is not being modified may be read from any number of threads
+   * at once.
+   */
+
+  DERIVATION_EAGER
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+/**
+ * <p>The exact solution of one-dimensional motion under constant acceleration
+ * and exponential drag, with the speed limited to a maximum magnitude.</p>
+ *
+ * <p>The explicit Euler integrators multiply the speed by {@code
+ * drag<sup>t</sup>} after each step, which describes the differential
+ * equation {@code v' = a - kv} where {@code k = -ln(drag)}. This class
+ * evaluates the analytic solution of that equation over an interval, so
+ * that integrating once over {@code t} yields the same speed and distance
+ * as integrating over any subdivision of {@code t}. If the speed reaches
+ * the limit during the interval, it remains at the limit for the rest of
+ * the interval.</p>
+ *
+ * <p>The results of the most recent call to {@link #integrate(double,
+ * double, double, double, double)} are available from {@link #speed()} and
+ * {@link #distance()}, which avoids allocating a result for each axis.</p>
+ */
+
+@EqualityReference
+final class JCameraDragIntegration
+{
+  private double speed;
+  private double distance;
+
+  JCameraDragIntegration()
+  {
+    this.speed = 0.0;
+    this.distance = 0.0;
+  }
+
+  /**
+   * Convert a drag factor in {@code [0, 1]} to a decay rate {@code k} such
+   * that {@code exp(-kt) == drag<sup>t</sup>}. A drag factor of {@code 0.0}
+   * yields an infinite rate, and a factor of {@code 1.0} yields zero.
+   *
+   * @param drag The drag factor
+   *
+   * @return The decay rate
+   */
+
+  static double rate(
+    final double drag)
+  {
+    return Math.abs(Math.log(drag));
+  }
+
+  /**
+   * @return The speed at the end of the most recent interval
+   */
+
+  double speed()
+  {
+    return this.speed;
+  }
+
+  /**
+   * @return The distance travelled during the most recent interval
+   */
+
+  double distance()
+  {
+    return this.distance;
+  }
+
+  /**
+   * Integrate over an interval.
+   *
+   * @param v0   The initial speed
+   * @param a    The constant acceleration
+   * @param k    The decay rate, as produced by {@link #rate(double)}
+   * @param vmax The maximum speed magnitude
+   * @param t    The length of the interval
+   */
+
+  void integrate(
+    final double v0,
+    final double a,
+    final double k,
+    final double vmax,
+    final double t)
+  {
+    final double v = Clamp.clamp(v0, -vmax, vmax);
+
+    if (Double.isInfinite(k)) {
+      this.speed = 0.0;
+      this.distance = 0.0;
+      return;
+    }
+
+    if (k == 0.0) {
+      this.integrateUndamped(v, a, vmax, t);
+    } else {
+      this.integrateDamped(v, a, k, vmax, t);
+    }
+  }
+
+  private void integrateUndamped(
+    final double v,
+    final double a,
+    final double vmax,
+    final double t)
+  {
+    if (a == 0.0) {
+      this.speed = v;
+      this.distance = v * t;
+      return;
+    }
+
+    final double bound = a > 0.0 ? vmax : -vmax;
+    final double tc = (bound - v) / a;
+    if (tc >= t) {
+      this.speed = v + (a * t);
+      this.distance = (v * t) + (0.5 * a * t * t);
+    } else {
+      this.speed = bound;
+      this.distance = (v * tc) + (0.5 * a * tc * tc) + (bound * (t - tc));
+    }
+  }
+
+  private void integrateDamped(
+    final double v,
+    final double a,
+    final double k,
+    final double vmax,
+    final double t)
+  {
+    final double terminal = a / k;
+
+    /*
+     * The speed approaches the terminal speed monotonically. If the terminal
+     * speed lies outside of the limits, find the time at which the speed
+     * reaches the limit.
+     */
+
+    double tc = Double.POSITIVE_INFINITY;
+    double bound = 0.0;
+    if (Math.abs(terminal) > vmax) {
+      bound = Math.copySign(vmax, terminal);
+      tc = Math.log1p((bound - v) / (terminal - bound)) / k;
+    }
+
+    if (tc >= t) {
+      this.speed = terminal + ((v - terminal) * Math.exp(-k * t));
+      this.distance = damped(v, terminal, k, t);
+    } else {
+      this.speed = bound;
+      this.distance = damped(v, terminal, k, tc) + (bound * (t - tc));
+    }
+  }
+
+  private static double damped(
+    final double v,
+    final double terminal,
+    final double k,
+    final double t)
+  {
+    return (terminal * t) + ((v - terminal) * (-Math.expm1(-k * t)) / k);
+  }
+}
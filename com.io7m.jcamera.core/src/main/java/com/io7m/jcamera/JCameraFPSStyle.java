@@ -21,22 +21,40 @@ import com.io7m.jranges.RangeCheck;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
-import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 
+import java.nio.DoubleBuffer;
 import java.util.Objects;
 
 /**
- * The default implementation of {@link JCameraFPSStyleType}.
+ * <p>The default implementation of {@link JCameraFPSStyleType}.</p>
+ *
+ * <p>The forward, right, and up vectors are derived from the camera's angles
+ * as specified by the {@link JCameraDerivation} given on creation.</p>
+ *
+ * <p>The position and derived vectors are held as primitive fields. The
+ * component accessors, the movement and rotation functions, and the
+ * {@code cameraMakeViewMatrixInto} methods do not allocate; the methods that
+ * return {@link Vector3D} values allocate a new vector on each call.</p>
  */
 
 @EqualityStructural
 public final class JCameraFPSStyle implements JCameraFPSStyleType
 {
   private final JCameraSignallingClamp clamp;
-  private Vector3D derived_forward;
-  private Vector3D derived_right;
-  private Vector3D derived_up;
-  private Vector3D input_position;
+  private final boolean eager;
+  private final double[] basis;
+  private double derived_forward_x;
+  private double derived_forward_y;
+  private double derived_forward_z;
+  private double derived_right_x;
+  private double derived_right_y;
+  private double derived_right_z;
+  private double derived_up_x;
+  private double derived_up_y;
+  private double derived_up_z;
+  private double input_position_x;
+  private double input_position_y;
+  private double input_position_z;
   private boolean clamp_horizontal;
   private double clamp_horizontal_max;
   private double clamp_horizontal_min;
@@ -44,22 +62,26 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   private double input_angle_around_horizontal;
   private double input_angle_around_vertical;
 
-  private JCameraFPSStyle()
+  private JCameraFPSStyle(
+    final JCameraDerivation derivation)
   {
-    this.input_position = Vectors3D.zero();
     this.input_angle_around_horizontal = 0.0;
     this.input_angle_around_vertical = Math.PI / 2.0;
-
     this.derived_current = false;
-    this.derived_up = Vectors3D.zero();
-    this.derived_right = Vectors3D.zero();
-    this.derived_forward = Vectors3D.zero();
 
     this.clamp_horizontal = true;
     this.clamp_horizontal_max = Math.PI / 64.0 * 31.0;
     this.clamp_horizontal_min = -this.clamp_horizontal_max;
 
     this.clamp = new JCameraSignallingClamp();
+    this.basis = new double[FPSStyleBasis.SIZE];
+
+    this.eager =
+      Objects.requireNonNull(derivation, "Derivation")
+        == JCameraDerivation.DERIVATION_EAGER;
+    if (this.eager) {
+      this.deriveVectors();
+    }
   }
 
   /**
@@ -68,7 +90,45 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
 
   public static JCameraFPSStyleType newCamera()
   {
-    return new JCameraFPSStyle();
+    return newCamera(JCameraDerivation.DERIVATION_LAZY);
+  }
+
+  /**
+   * @param derivation Specifies when the camera derives its vectors
+   *
+   * @return A new FPS camera
+   */
+
+  public static JCameraFPSStyleType newCamera(
+    final JCameraDerivation derivation)
+  {
+    return new JCameraFPSStyle(derivation);
+  }
+
+  /**
+   * <p>Derive the forward, right, and up vectors of an FPS-style camera with
+   * the given angles, writing the nine components (forward, then right, then
+   * up, each in {@code x, y, z} order) to {@code output} starting at
+   * {@code offset}.</p>
+   *
+   * <p>This is the derivation used by every FPS-style camera, and so the
+   * results are bit-for-bit identical to the vectors of a camera with the
+   * same angles.</p>
+   *
+   * @param horizontal The angle around the horizontal axis
+   * @param vertical   The angle around the vertical axis
+   * @param output     The output array
+   * @param offset     The starting offset in {@code output}
+   */
+
+  public static void deriveBasisInto(
+    final double horizontal,
+    final double vertical,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, FPSStyleBasis.SIZE, output.length);
+    FPSStyleBasis.deriveInto(horizontal, vertical, output, offset);
   }
 
   /**
@@ -80,10 +140,27 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   public static JCameraFPSStyleType newCameraFrom(
     final JCameraFPSStyleReadableType c)
   {
-    final JCameraFPSStyle r = new JCameraFPSStyle();
+    return newCameraFrom(c, JCameraDerivation.DERIVATION_LAZY);
+  }
+
+  /**
+   * @param c          An existing camera
+   * @param derivation Specifies when the camera derives its vectors
+   *
+   * @return A new FPS camera based on the given camera.
+   */
+
+  public static JCameraFPSStyleType newCameraFrom(
+    final JCameraFPSStyleReadableType c,
+    final JCameraDerivation derivation)
+  {
+    final JCameraFPSStyle r = new JCameraFPSStyle(derivation);
     r.cameraSetAngleAroundHorizontal(c.cameraGetAngleAroundHorizontal());
     r.cameraSetAngleAroundVertical(c.cameraGetAngleAroundVertical());
-    r.cameraSetPosition(c.cameraGetPosition());
+    r.cameraSetPosition3(
+      c.cameraGetPositionX(),
+      c.cameraGetPositionY(),
+      c.cameraGetPositionZ());
     return r;
   }
 
@@ -124,27 +201,120 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   public Vector3D cameraGetForward()
   {
     this.deriveVectors();
-    return this.derived_forward;
+    return Vector3D.of(
+      this.derived_forward_x,
+      this.derived_forward_y,
+      this.derived_forward_z);
   }
 
   @Override
   public Vector3D cameraGetPosition()
   {
-    return this.input_position;
+    return Vector3D.of(
+      this.input_position_x,
+      this.input_position_y,
+      this.input_position_z);
   }
 
   @Override
   public Vector3D cameraGetRight()
   {
     this.deriveVectors();
-    return this.derived_right;
+    return Vector3D.of(
+      this.derived_right_x,
+      this.derived_right_y,
+      this.derived_right_z);
   }
 
   @Override
   public Vector3D cameraGetUp()
   {
     this.deriveVectors();
-    return this.derived_up;
+    return Vector3D.of(
+      this.derived_up_x,
+      this.derived_up_y,
+      this.derived_up_z);
+  }
+
+  @Override
+  public double cameraGetPositionX()
+  {
+    return this.input_position_x;
+  }
+
+  @Override
+  public double cameraGetPositionY()
+  {
+    return this.input_position_y;
+  }
+
+  @Override
+  public double cameraGetPositionZ()
+  {
+    return this.input_position_z;
+  }
+
+  @Override
+  public double cameraGetRightX()
+  {
+    this.deriveVectors();
+    return this.derived_right_x;
+  }
+
+  @Override
+  public double cameraGetRightY()
+  {
+    this.deriveVectors();
+    return this.derived_right_y;
+  }
+
+  @Override
+  public double cameraGetRightZ()
+  {
+    this.deriveVectors();
+    return this.derived_right_z;
+  }
+
+  @Override
+  public double cameraGetUpX()
+  {
+    this.deriveVectors();
+    return this.derived_up_x;
+  }
+
+  @Override
+  public double cameraGetUpY()
+  {
+    this.deriveVectors();
+    return this.derived_up_y;
+  }
+
+  @Override
+  public double cameraGetUpZ()
+  {
+    this.deriveVectors();
+    return this.derived_up_z;
+  }
+
+  @Override
+  public double cameraGetForwardX()
+  {
+    this.deriveVectors();
+    return this.derived_forward_x;
+  }
+
+  @Override
+  public double cameraGetForwardY()
+  {
+    this.deriveVectors();
+    return this.derived_forward_y;
+  }
+
+  @Override
+  public double cameraGetForwardZ()
+  {
+    this.deriveVectors();
+    return this.derived_forward_z;
   }
 
   @Override
@@ -169,15 +339,32 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
       this.cameraGetForward());
   }
 
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final double[] output,
+    final int offset)
+  {
+    this.deriveVectors();
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    this.deriveVectors();
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
   @Override
   public void cameraMoveForward(
     final double u)
   {
     this.deriveVectors();
-    this.input_position =
-      Vectors3D.add(
-        this.input_position,
-        Vectors3D.scale(this.derived_forward, u));
+    this.input_position_x += this.derived_forward_x * u;
+    this.input_position_y += this.derived_forward_y * u;
+    this.input_position_z += this.derived_forward_z * u;
   }
 
   @Override
@@ -185,10 +372,9 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     final double u)
   {
     this.deriveVectors();
-    this.input_position =
-      Vectors3D.add(
-        this.input_position,
-        Vectors3D.scale(this.derived_right, u));
+    this.input_position_x += this.derived_right_x * u;
+    this.input_position_y += this.derived_right_y * u;
+    this.input_position_z += this.derived_right_z * u;
   }
 
   @Override
@@ -196,36 +382,37 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     final double u)
   {
     this.deriveVectors();
-    this.input_position =
-      Vectors3D.add(
-        this.input_position,
-        Vectors3D.scale(this.derived_up, u));
+    this.input_position_x += this.derived_up_x * u;
+    this.input_position_y += this.derived_up_y * u;
+    this.input_position_z += this.derived_up_z * u;
   }
 
   @Override
   public boolean cameraRotateAroundHorizontal(
     final double r)
   {
-    this.derived_current = false;
     this.input_angle_around_horizontal += r;
-    return this.clampHorizontal();
+    final boolean clamped = this.clampHorizontal();
+    this.invalidate();
+    return clamped;
   }
 
   @Override
   public void cameraRotateAroundVertical(
     final double r)
   {
-    this.derived_current = false;
-    this.input_angle_around_vertical += r;
+    this.input_angle_around_vertical =
+      AngleWrap.wrap(this.input_angle_around_vertical + r);
+    this.invalidate();
   }
 
   @Override
   public void cameraSetAngleAroundHorizontal(
     final double h)
   {
-    this.derived_current = false;
     this.input_angle_around_horizontal = h;
     this.clampHorizontal();
+    this.invalidate();
   }
 
   @Override
@@ -233,6 +420,7 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     final double v)
   {
     this.input_angle_around_vertical = v;
+    this.invalidate();
   }
 
   /**
@@ -245,7 +433,8 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   public void cameraSetPosition(
     final Vector3D v)
   {
-    this.input_position = Objects.requireNonNull(v, "Input");
+    Objects.requireNonNull(v, "Input");
+    this.cameraSetPosition3(v.x(), v.y(), v.z());
   }
 
   /**
@@ -262,7 +451,9 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     final double y,
     final double z)
   {
-    this.input_position = Vector3D.of(x, y, z);
+    this.input_position_x = x;
+    this.input_position_y = y;
+    this.input_position_z = z;
   }
 
   private boolean clampHorizontal()
@@ -279,6 +470,20 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     return false;
   }
 
+  /**
+   * Mark the derived vectors as out of date following a change to the
+   * orientation of the camera, recalculating them immediately if the camera
+   * derives eagerly.
+   */
+
+  private void invalidate()
+  {
+    this.derived_current = false;
+    if (this.eager) {
+      this.deriveVectors();
+    }
+  }
+
   /**
    * Derive the forward, right, and up vectors based on the current state of the
    * camera.
@@ -287,27 +492,22 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   private void deriveVectors()
   {
     if (!this.derived_current) {
-      final double v = this.input_angle_around_vertical;
-      final double h = this.input_angle_around_horizontal;
-
-      {
-        final double x = Math.cos(h) * Math.cos(v);
-        final double y = Math.sin(h);
-        final double z = Math.cos(h) * Math.sin(v);
-        this.derived_forward = Vectors3D.normalize(Vector3D.of(x, y, -z));
-      }
-
-      {
-        final double po2 = Math.PI / 2.0;
-        final double vr = v - po2;
-        final double x = Math.cos(h) * Math.cos(vr);
-        final double y = 0.0;
-        final double z = Math.cos(h) * Math.sin(vr);
-        this.derived_right = Vectors3D.normalize(Vector3D.of(x, y, -z));
-      }
-
-      this.derived_up =
-        Vectors3D.crossProduct(this.derived_right, this.derived_forward);
+      final double[] b = this.basis;
+      FPSStyleBasis.deriveInto(
+        this.input_angle_around_horizontal,
+        this.input_angle_around_vertical,
+        b,
+        0);
+
+      this.derived_forward_x = b[FPSStyleBasis.FORWARD_X];
+      this.derived_forward_y = b[FPSStyleBasis.FORWARD_Y];
+      this.derived_forward_z = b[FPSStyleBasis.FORWARD_Z];
+      this.derived_right_x = b[FPSStyleBasis.RIGHT_X];
+      this.derived_right_y = b[FPSStyleBasis.RIGHT_Y];
+      this.derived_right_z = b[FPSStyleBasis.RIGHT_Z];
+      this.derived_up_x = b[FPSStyleBasis.UP_X];
+      this.derived_up_y = b[FPSStyleBasis.UP_Y];
+      this.derived_up_z = b[FPSStyleBasis.UP_Z];
       this.derived_current = true;
     }
   }
@@ -336,7 +536,7 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
       && Double.compare(
       that.input_angle_around_vertical,
       this.input_angle_around_vertical) == 0
-      && this.input_position.equals(that.input_position);
+      && this.cameraGetPosition().equals(that.cameraGetPosition());
   }
 
   @Override
@@ -344,7 +544,7 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
   {
     int result;
     long temp;
-    result = this.input_position.hashCode();
+    result = this.cameraGetPosition().hashCode();
     result = 31 * result + (this.clamp_horizontal ? 1 : 0);
     temp = Double.doubleToLongBits(this.clamp_horizontal_max);
     result = 31 * result + (int) (temp ^ (temp >>> 32));
@@ -366,7 +566,7 @@ public final class JCameraFPSStyle implements JCameraFPSStyleType
     b.append(" input_angle_around_vertical=");
     b.append(this.input_angle_around_vertical);
     b.append(" input_position=");
-    b.append(this.input_position);
+    b.append(this.cameraGetPosition());
     b.append("]");
     return b.toString();
   }
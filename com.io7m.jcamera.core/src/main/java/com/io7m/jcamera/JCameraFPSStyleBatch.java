@@ -0,0 +1,678 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+
+import java.util.Objects;
+
+/**
+ * <p>A batch of FPS-style cameras stored as parallel arrays of primitive
+ * values (a <i>structure of arrays</i>).</p>
+ *
+ * <p>Each camera in the batch is identified by an index in the range
+ * {@code [0, size())}, and behaves exactly as an individual
+ * {@link JCameraFPSStyle} would: The functions of this class are index-based
+ * equivalents of the functions of {@link JCameraFPSStyleType}, and produce
+ * bit-for-bit identical results. Unlike an array of individual cameras,
+ * however, none of the functions here allocate, and operations that sweep over
+ * every camera in the batch (such as {@link #deriveAll()} and
+ * {@link #makeViewMatricesInto(double[], int)}) access memory linearly.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleBatch
+{
+  private final int size;
+  private final JCameraSignallingClamp clamp;
+  private final double[] basis;
+  private final boolean[] clamp_horizontal;
+  private final double[] clamp_horizontal_max;
+  private final double[] clamp_horizontal_min;
+  private final boolean[] derived_current;
+  private final double[] derived_forward_x;
+  private final double[] derived_forward_y;
+  private final double[] derived_forward_z;
+  private final double[] derived_right_x;
+  private final double[] derived_right_y;
+  private final double[] derived_right_z;
+  private final double[] derived_up_x;
+  private final double[] derived_up_y;
+  private final double[] derived_up_z;
+  private final double[] input_angle_around_horizontal;
+  private final double[] input_angle_around_vertical;
+  private final double[] input_position_x;
+  private final double[] input_position_y;
+  private final double[] input_position_z;
+
+  private JCameraFPSStyleBatch(
+    final int in_size)
+  {
+    this.size = in_size;
+    this.clamp = new JCameraSignallingClamp();
+    this.basis = new double[FPSStyleBasis.SIZE];
+
+    this.input_position_x = new double[in_size];
+    this.input_position_y = new double[in_size];
+    this.input_position_z = new double[in_size];
+    this.input_angle_around_horizontal = new double[in_size];
+    this.input_angle_around_vertical = new double[in_size];
+
+    this.derived_current = new boolean[in_size];
+    this.derived_forward_x = new double[in_size];
+    this.derived_forward_y = new double[in_size];
+    this.derived_forward_z = new double[in_size];
+    this.derived_right_x = new double[in_size];
+    this.derived_right_y = new double[in_size];
+    this.derived_right_z = new double[in_size];
+    this.derived_up_x = new double[in_size];
+    this.derived_up_y = new double[in_size];
+    this.derived_up_z = new double[in_size];
+
+    this.clamp_horizontal = new boolean[in_size];
+    this.clamp_horizontal_max = new double[in_size];
+    this.clamp_horizontal_min = new double[in_size];
+
+    final double clamp_max = Math.PI / 64.0 * 31.0;
+    for (int index = 0; index < in_size; ++index) {
+      this.input_angle_around_vertical[index] = Math.PI / 2.0;
+      this.clamp_horizontal[index] = true;
+      this.clamp_horizontal_max[index] = clamp_max;
+      this.clamp_horizontal_min[index] = -clamp_max;
+    }
+  }
+
+  /**
+   * Create a new batch of cameras. Each camera in the batch has the same
+   * initial state as a camera returned by {@link JCameraFPSStyle#newCamera()}.
+   *
+   * @param size The number of cameras in the batch
+   *
+   * @return A new batch of cameras
+   */
+
+  public static JCameraFPSStyleBatch newBatch(
+    final int size)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      size, "Batch size", 0, "Minimum batch size");
+    return new JCameraFPSStyleBatch(size);
+  }
+
+  /**
+   * @return The number of cameras in the batch
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Do not clamp rotations around the horizontal axis.
+   *
+   * @param index The camera index
+   *
+   * @see JCameraFPSStyleType#cameraClampHorizontalDisable()
+   */
+
+  public void cameraClampHorizontalDisable(
+    final int index)
+  {
+    this.clamp_horizontal[index] = false;
+    this.clamp_horizontal_max[index] = Double.MAX_VALUE;
+    this.clamp_horizontal_min[index] = -Double.MAX_VALUE;
+  }
+
+  /**
+   * Clamp the possible rotations around the horizontal axis to the given
+   * bounds.
+   *
+   * @param index The camera index
+   * @param min   The minimum angle
+   * @param max   The maximum angle
+   *
+   * @see JCameraFPSStyleType#cameraClampHorizontalEnable(double, double)
+   */
+
+  public void cameraClampHorizontalEnable(
+    final int index,
+    final double min,
+    final double max)
+  {
+    RangeCheck.checkGreaterDouble(
+      max, "Maximum clamp",
+      min, "Minimum clamp");
+    this.clamp_horizontal[index] = true;
+    this.clamp_horizontal_max[index] = max;
+    this.clamp_horizontal_min[index] = min;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The angle around the horizontal axis.
+   */
+
+  public double cameraGetAngleAroundHorizontal(
+    final int index)
+  {
+    return this.input_angle_around_horizontal[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The angle around the vertical axis.
+   */
+
+  public double cameraGetAngleAroundVertical(
+    final int index)
+  {
+    return this.input_angle_around_vertical[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the camera position
+   */
+
+  public double cameraGetPositionX(
+    final int index)
+  {
+    return this.input_position_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the camera position
+   */
+
+  public double cameraGetPositionY(
+    final int index)
+  {
+    return this.input_position_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the camera position
+   */
+
+  public double cameraGetPositionZ(
+    final int index)
+  {
+    return this.input_position_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the forward direction for the camera
+   */
+
+  public double cameraGetForwardX(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_forward_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the forward direction for the camera
+   */
+
+  public double cameraGetForwardY(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_forward_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the forward direction for the camera
+   */
+
+  public double cameraGetForwardZ(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_forward_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the right direction for the camera
+   */
+
+  public double cameraGetRightX(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_right_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the right direction for the camera
+   */
+
+  public double cameraGetRightY(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_right_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the right direction for the camera
+   */
+
+  public double cameraGetRightZ(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_right_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the up direction for the camera
+   */
+
+  public double cameraGetUpX(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_up_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the up direction for the camera
+   */
+
+  public double cameraGetUpY(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_up_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the up direction for the camera
+   */
+
+  public double cameraGetUpZ(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return this.derived_up_z[index];
+  }
+
+  /**
+   * Move the camera forward {@code u} units.
+   *
+   * @param index The camera index
+   * @param u     The units to move
+   *
+   * @see JCameraFPSStyleType#cameraMoveForward(double)
+   */
+
+  public void cameraMoveForward(
+    final int index,
+    final double u)
+  {
+    this.deriveVectors(index);
+    this.input_position_x[index] += this.derived_forward_x[index] * u;
+    this.input_position_y[index] += this.derived_forward_y[index] * u;
+    this.input_position_z[index] += this.derived_forward_z[index] * u;
+  }
+
+  /**
+   * Move the camera right {@code u} units.
+   *
+   * @param index The camera index
+   * @param u     The units to move
+   *
+   * @see JCameraFPSStyleType#cameraMoveRight(double)
+   */
+
+  public void cameraMoveRight(
+    final int index,
+    final double u)
+  {
+    this.deriveVectors(index);
+    this.input_position_x[index] += this.derived_right_x[index] * u;
+    this.input_position_y[index] += this.derived_right_y[index] * u;
+    this.input_position_z[index] += this.derived_right_z[index] * u;
+  }
+
+  /**
+   * Move the camera up {@code u} units.
+   *
+   * @param index The camera index
+   * @param u     The units to move
+   *
+   * @see JCameraFPSStyleType#cameraMoveUp(double)
+   */
+
+  public void cameraMoveUp(
+    final int index,
+    final double u)
+  {
+    this.deriveVectors(index);
+    this.input_position_x[index] += this.derived_up_x[index] * u;
+    this.input_position_y[index] += this.derived_up_y[index] * u;
+    this.input_position_z[index] += this.derived_up_z[index] * u;
+  }
+
+  /**
+   * Rotate by {@code r} radians around the local X axis.
+   *
+   * @param index The camera index
+   * @param r     The radians to rotate
+   *
+   * @return {@code true} if the rotation has been clamped
+   *
+   * @see JCameraFPSStyleType#cameraRotateAroundHorizontal(double)
+   */
+
+  public boolean cameraRotateAroundHorizontal(
+    final int index,
+    final double r)
+  {
+    this.derived_current[index] = false;
+    this.input_angle_around_horizontal[index] += r;
+    return this.clampHorizontal(index);
+  }
+
+  /**
+   * Rotate by {@code r} radians around the global Y axis. The resulting
+   * angle is reduced to the range {@code [-π, π]} in the same way as for
+   * single cameras.
+   *
+   * @param index The camera index
+   * @param r     The radians to rotate
+   *
+   * @see JCameraFPSStyleType#cameraRotateAroundVertical(double)
+   */
+
+  public void cameraRotateAroundVertical(
+    final int index,
+    final double r)
+  {
+    this.derived_current[index] = false;
+    this.input_angle_around_vertical[index] =
+      AngleWrap.wrap(this.input_angle_around_vertical[index] + r);
+  }
+
+  /**
+   * Set the angle around the horizontal axis to {@code h}.
+   *
+   * @param index The camera index
+   * @param h     The angle
+   */
+
+  public void cameraSetAngleAroundHorizontal(
+    final int index,
+    final double h)
+  {
+    this.derived_current[index] = false;
+    this.input_angle_around_horizontal[index] = h;
+    this.clampHorizontal(index);
+  }
+
+  /**
+   * Set the angle around the vertical axis to {@code v}.
+   *
+   * @param index The camera index
+   * @param v     The angle
+   */
+
+  public void cameraSetAngleAroundVertical(
+    final int index,
+    final double v)
+  {
+    this.derived_current[index] = false;
+    this.input_angle_around_vertical[index] = v;
+  }
+
+  /**
+   * Set the position of the camera.
+   *
+   * @param index The camera index
+   * @param x     The x coordinate
+   * @param y     The y coordinate
+   * @param z     The z coordinate
+   */
+
+  public void cameraSetPosition3(
+    final int index,
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.input_position_x[index] = x;
+    this.input_position_y[index] = y;
+    this.input_position_z[index] = z;
+  }
+
+  /**
+   * Set the angles and position of the camera at {@code index} to those of
+   * the camera {@code c}. As with
+   * {@link JCameraFPSStyle#newCameraFrom(JCameraFPSStyleReadableType)}, the
+   * clamping configuration is not copied.
+   *
+   * @param index The camera index
+   * @param c     The source camera
+   */
+
+  public void cameraSetFrom(
+    final int index,
+    final JCameraFPSStyleReadableType c)
+  {
+    Objects.requireNonNull(c, "Camera");
+    this.cameraSetAngleAroundHorizontal(
+      index, c.cameraGetAngleAroundHorizontal());
+    this.cameraSetAngleAroundVertical(
+      index, c.cameraGetAngleAroundVertical());
+
+    this.cameraSetPosition3(
+      index,
+      c.cameraGetPositionX(),
+      c.cameraGetPositionY(),
+      c.cameraGetPositionZ());
+  }
+
+  /**
+   * Take an immutable snapshot of the camera at {@code index}.
+   *
+   * @param index The camera index
+   *
+   * @return A snapshot of the camera
+   */
+
+  public JCameraFPSStyleSnapshot cameraSnapshot(
+    final int index)
+  {
+    this.deriveVectors(index);
+    return JCameraFPSStyleSnapshot.builder()
+      .setCameraGetRight(Vector3D.of(
+        this.derived_right_x[index],
+        this.derived_right_y[index],
+        this.derived_right_z[index]))
+      .setCameraGetUp(Vector3D.of(
+        this.derived_up_x[index],
+        this.derived_up_y[index],
+        this.derived_up_z[index]))
+      .setCameraGetForward(Vector3D.of(
+        this.derived_forward_x[index],
+        this.derived_forward_y[index],
+        this.derived_forward_z[index]))
+      .setCameraGetPosition(Vector3D.of(
+        this.input_position_x[index],
+        this.input_position_y[index],
+        this.input_position_z[index]))
+      .setCameraGetAngleAroundHorizontal(
+        this.input_angle_around_horizontal[index])
+      .setCameraGetAngleAroundVertical(
+        this.input_angle_around_vertical[index])
+      .build();
+  }
+
+  /**
+   * Construct a view matrix for the camera at {@code index}, writing the 16
+   * elements of the matrix in column-major order to {@code output} starting
+   * at {@code offset}.
+   *
+   * @param index  The camera index
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   *
+   * @see JCameraReadableType#cameraMakeViewMatrixInto(double[], int)
+   */
+
+  public void cameraMakeViewMatrixInto(
+    final int index,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkIndex(index, this.size);
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    this.deriveVectors(index);
+    this.writeViewMatrix(index, output, offset);
+  }
+
+  /**
+   * Construct view matrices for every camera in the batch, writing the
+   * matrices consecutively (each in column-major order) to {@code output}
+   * starting at {@code offset}. The matrix for camera {@code i} begins at
+   * {@code offset + (i * 16)}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void makeViewMatricesInto(
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(
+      (long) offset, (long) this.size * 16L, (long) output.length);
+    this.deriveAll();
+    for (int index = 0; index < this.size; ++index) {
+      this.writeViewMatrix(index, output, offset + (index * 16));
+    }
+  }
+
+  /**
+   * Derive the forward, right, and up vectors of every camera in the batch
+   * whose orientation has changed since the vectors were last derived.
+   */
+
+  public void deriveAll()
+  {
+    for (int index = 0; index < this.size; ++index) {
+      this.deriveVectors(index);
+    }
+  }
+
+  private void writeViewMatrix(
+    final int index,
+    final double[] output,
+    final int offset)
+  {
+    JCameraViewMatrix.writeViewMatrix(
+      this.input_position_x[index],
+      this.input_position_y[index],
+      this.input_position_z[index],
+      this.derived_right_x[index],
+      this.derived_right_y[index],
+      this.derived_right_z[index],
+      this.derived_up_x[index],
+      this.derived_up_y[index],
+      this.derived_up_z[index],
+      this.derived_forward_x[index],
+      this.derived_forward_y[index],
+      this.derived_forward_z[index],
+      output,
+      offset);
+  }
+
+  private boolean clampHorizontal(
+    final int index)
+  {
+    if (this.clamp_horizontal[index]) {
+      this.clamp.clamp(
+        this.input_angle_around_horizontal[index],
+        this.clamp_horizontal_min[index],
+        this.clamp_horizontal_max[index]);
+      this.input_angle_around_horizontal[index] = this.clamp.getValue();
+      return this.clamp.isClamped();
+    }
+    return false;
+  }
+
+  /**
+   * Derive the forward, right, and up vectors based on the current state of the
+   * camera.
+   */
+
+  private void deriveVectors(
+    final int index)
+  {
+    if (!this.derived_current[index]) {
+      final double[] b = this.basis;
+      FPSStyleBasis.deriveInto(
+        this.input_angle_around_horizontal[index],
+        this.input_angle_around_vertical[index],
+        b,
+        0);
+
+      this.derived_forward_x[index] = b[FPSStyleBasis.FORWARD_X];
+      this.derived_forward_y[index] = b[FPSStyleBasis.FORWARD_Y];
+      this.derived_forward_z[index] = b[FPSStyleBasis.FORWARD_Z];
+      this.derived_right_x[index] = b[FPSStyleBasis.RIGHT_X];
+      this.derived_right_y[index] = b[FPSStyleBasis.RIGHT_Y];
+      this.derived_right_z[index] = b[FPSStyleBasis.RIGHT_Z];
+      this.derived_up_x[index] = b[FPSStyleBasis.UP_X];
+      this.derived_up_y[index] = b[FPSStyleBasis.UP_Y];
+      this.derived_up_z[index] = b[FPSStyleBasis.UP_Z];
+      this.derived_current[index] = true;
+    }
+  }
+}
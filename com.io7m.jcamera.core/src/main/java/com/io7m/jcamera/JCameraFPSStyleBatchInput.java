@@ -0,0 +1,426 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+
+/**
+ * <p>The inputs for a {@link JCameraFPSStyleBatch}, stored as parallel arrays
+ * of primitive values.</p>
+ *
+ * <p>Each camera index has the same state as an individual
+ * {@link JCameraFPSStyleInput}: The movement keys are packed into a single
+ * bitmask per camera, and the rotation coefficients and factors are held in
+ * separate arrays.</p>
+ *
+ * <p>Unlike {@link JCameraFPSStyleInput}, values of this type are not
+ * thread-safe, and are expected to be written and consumed by the same
+ * thread.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleBatchInput
+{
+  static final int MOVING_FORWARD = 1 << 0;
+  static final int MOVING_BACKWARD = 1 << 1;
+  static final int MOVING_RIGHT = 1 << 2;
+  static final int MOVING_LEFT = 1 << 3;
+  static final int MOVING_UP = 1 << 4;
+  static final int MOVING_DOWN = 1 << 5;
+
+  private final int size;
+  private final int[] movement;
+  private final double[] rotate_horizontal;
+  private final double[] rotate_horizontal_factor;
+  private final double[] rotate_vertical;
+  private final double[] rotate_vertical_factor;
+
+  private JCameraFPSStyleBatchInput(
+    final int in_size)
+  {
+    this.size = in_size;
+    this.movement = new int[in_size];
+    this.rotate_horizontal = new double[in_size];
+    this.rotate_vertical = new double[in_size];
+    this.rotate_horizontal_factor = new double[in_size];
+    this.rotate_vertical_factor = new double[in_size];
+    Arrays.fill(this.rotate_horizontal_factor, 1.0);
+    Arrays.fill(this.rotate_vertical_factor, 1.0);
+  }
+
+  /**
+   * Create new inputs for a batch of cameras.
+   *
+   * @param size The number of cameras
+   *
+   * @return A new set of inputs
+   */
+
+  public static JCameraFPSStyleBatchInput newInput(
+    final int size)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      size, "Batch size", 0, "Minimum batch size");
+    return new JCameraFPSStyleBatchInput(size);
+  }
+
+  /**
+   * @return The number of cameras for which inputs are held
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The movement keys held for the camera, as a bitmask
+   */
+
+  int movement(
+    final int index)
+  {
+    return this.movement[index];
+  }
+
+  private void setMovement(
+    final int index,
+    final int bit,
+    final boolean set)
+  {
+    if (set) {
+      this.movement[index] |= bit;
+    } else {
+      this.movement[index] &= ~bit;
+    }
+  }
+
+  /**
+   * Add a rotation around the horizontal axis.
+   *
+   * @param index The camera index
+   * @param r     The rotation amount
+   */
+
+  public void addRotationAroundHorizontal(
+    final int index,
+    final double r)
+  {
+    this.rotate_horizontal[index] += r;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current horizontal rotation coefficient.
+   */
+
+  public double getRotationHorizontal(
+    final int index)
+  {
+    return this.rotate_horizontal[index] * this.rotate_horizontal_factor[index];
+  }
+
+  /**
+   * Set the horizontal rotation.
+   *
+   * @param index The camera index
+   * @param r     The rotation
+   */
+
+  public void setRotationHorizontal(
+    final int index,
+    final double r)
+  {
+    this.rotate_horizontal[index] = r;
+  }
+
+  /**
+   * Set the horizontal rotation factor. Rotation coefficients are multiplied by
+   * this value when they are retrieved.
+   *
+   * @param index The camera index
+   * @param f     The factor
+   */
+
+  public void setRotationHorizontalFactor(
+    final int index,
+    final double f)
+  {
+    this.rotate_horizontal_factor[index] =
+      RangeCheck.checkGreaterDouble(
+        f,
+        "Factor",
+        0.0,
+        "Minimum factor");
+  }
+
+  /**
+   * Retrieve the current horizontal rotation coefficient, and reset it to
+   * {@code 0.0}.
+   *
+   * @param index The camera index
+   *
+   * @return The current horizontal rotation coefficient.
+   */
+
+  public double takeRotationHorizontal(
+    final int index)
+  {
+    final double r = this.getRotationHorizontal(index);
+    this.rotate_horizontal[index] = 0.0;
+    return r;
+  }
+
+  /**
+   * Add a rotation around the vertical axis.
+   *
+   * @param index The camera index
+   * @param r     The rotation amount
+   */
+
+  public void addRotationAroundVertical(
+    final int index,
+    final double r)
+  {
+    this.rotate_vertical[index] += r;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current vertical rotation coefficient.
+   */
+
+  public double getRotationVertical(
+    final int index)
+  {
+    return this.rotate_vertical[index] * this.rotate_vertical_factor[index];
+  }
+
+  /**
+   * Set the vertical rotation.
+   *
+   * @param index The camera index
+   * @param r     The rotation
+   */
+
+  public void setRotationVertical(
+    final int index,
+    final double r)
+  {
+    this.rotate_vertical[index] = r;
+  }
+
+  /**
+   * Set the vertical rotation factor. Rotation coefficients are multiplied by
+   * this value when they are retrieved.
+   *
+   * @param index The camera index
+   * @param f     The factor
+   */
+
+  public void setRotationVerticalFactor(
+    final int index,
+    final double f)
+  {
+    this.rotate_vertical_factor[index] =
+      RangeCheck.checkGreaterDouble(
+        f,
+        "Factor",
+        0.0,
+        "Minimum factor");
+  }
+
+  /**
+   * Retrieve the current vertical rotation coefficient, and reset it to
+   * {@code 0.0}.
+   *
+   * @param index The camera index
+   *
+   * @return The current vertical rotation coefficient.
+   */
+
+  public double takeRotationVertical(
+    final int index)
+  {
+    final double r = this.getRotationVertical(index);
+    this.rotate_vertical[index] = 0.0;
+    return r;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move backward.
+   */
+
+  public boolean isMovingBackward(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_BACKWARD) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move backward.
+   *
+   * @param index The camera index
+   * @param in_backward {@code true} if the user wants to move backward.
+   */
+
+  public void setMovingBackward(
+    final int index,
+    final boolean in_backward)
+  {
+    this.setMovement(index, MOVING_BACKWARD, in_backward);
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move down.
+   */
+
+  public boolean isMovingDown(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_DOWN) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move down.
+   *
+   * @param index The camera index
+   * @param in_down {@code true} if the user wants to move down.
+   */
+
+  public void setMovingDown(
+    final int index,
+    final boolean in_down)
+  {
+    this.setMovement(index, MOVING_DOWN, in_down);
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move forward.
+   */
+
+  public boolean isMovingForward(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_FORWARD) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move forward.
+   *
+   * @param index The camera index
+   * @param in_forward {@code true} if the user wants to move forward.
+   */
+
+  public void setMovingForward(
+    final int index,
+    final boolean in_forward)
+  {
+    this.setMovement(index, MOVING_FORWARD, in_forward);
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move left.
+   */
+
+  public boolean isMovingLeft(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_LEFT) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move left.
+   *
+   * @param index The camera index
+   * @param in_left {@code true} if the user wants to move left.
+   */
+
+  public void setMovingLeft(
+    final int index,
+    final boolean in_left)
+  {
+    this.setMovement(index, MOVING_LEFT, in_left);
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move right.
+   */
+
+  public boolean isMovingRight(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_RIGHT) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move right.
+   *
+   * @param index The camera index
+   * @param in_right {@code true} if the user wants to move right.
+   */
+
+  public void setMovingRight(
+    final int index,
+    final boolean in_right)
+  {
+    this.setMovement(index, MOVING_RIGHT, in_right);
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return {@code true} if the user wants to move up.
+   */
+
+  public boolean isMovingUp(
+    final int index)
+  {
+    return (this.movement[index] & MOVING_UP) != 0;
+  }
+
+  /**
+   * Set whether the user wants to move up.
+   *
+   * @param index The camera index
+   * @param in_up {@code true} if the user wants to move up.
+   */
+
+  public void setMovingUp(
+    final int index,
+    final boolean in_up)
+  {
+    this.setMovement(index, MOVING_UP, in_up);
+  }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * <p>An integrator that advances every camera in a
+ * {@link JCameraFPSStyleBatch} in a single call.</p>
+ *
+ * <p>For each camera index, the integrator behaves exactly as a
+ * {@link JCameraFPSStyleIntegrator} that samples the corresponding index of a
+ * {@link JCameraFPSStyleBatchInput}: The linear movement is integrated
+ * first, followed by the angular movement, and the results are bit-for-bit
+ * identical. The acceleration, drag, and speed limits are shared by all
+ * cameras in the batch, which allows the drag factors to be computed once per
+ * call to {@link #integrate(double)} rather than once per camera and axis.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleBatchIntegrator implements
+  JCameraIntegratorType
+{
+  private final JCameraFPSStyleBatch batch;
+  private final JCameraFPSStyleBatchInput input;
+  private final double[] speed_forward;
+  private final double[] speed_horizontal;
+  private final double[] speed_right;
+  private final double[] speed_up;
+  private final double[] speed_vertical;
+  private double acceleration;
+  private double acceleration_horizontal;
+  private double acceleration_vertical;
+  private double drag;
+  private double drag_horizontal;
+  private double drag_vertical;
+  private double maximum_speed;
+  private double maximum_speed_horizontal;
+  private double maximum_speed_vertical;
+
+  private JCameraFPSStyleBatchIntegrator(
+    final JCameraFPSStyleBatch in_batch,
+    final JCameraFPSStyleBatchInput in_input)
+  {
+    this.batch = Objects.requireNonNull(in_batch, "Batch");
+    this.input = Objects.requireNonNull(in_input, "Input");
+
+    final int size = in_batch.size();
+    if (in_input.size() != size) {
+      throw new IllegalArgumentException(
+        "Input size does not match batch size");
+    }
+
+    this.speed_forward = new double[size];
+    this.speed_right = new double[size];
+    this.speed_up = new double[size];
+    this.speed_horizontal = new double[size];
+    this.speed_vertical = new double[size];
+
+    this.maximum_speed = 3.0;
+    this.drag = 0.25;
+    this.acceleration = 30.0;
+
+    this.maximum_speed_horizontal = 2.0 * Math.PI;
+    this.maximum_speed_vertical = 2.0 * Math.PI;
+    this.acceleration_horizontal = this.maximum_speed_horizontal / 2.0f;
+    this.acceleration_vertical = this.maximum_speed_vertical / 2.0f;
+    this.drag_horizontal = 0.05f;
+    this.drag_vertical = 0.05f;
+  }
+
+  /**
+   * Construct a new integrator.
+   *
+   * @param in_batch The cameras to be integrated.
+   * @param in_input The inputs to be sampled. Must be the same size as
+   *                 {@code in_batch}.
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraFPSStyleBatchIntegrator newIntegrator(
+    final JCameraFPSStyleBatch in_batch,
+    final JCameraFPSStyleBatchInput in_input)
+  {
+    return new JCameraFPSStyleBatchIntegrator(in_batch, in_input);
+  }
+
+  private static double integrateAxis(
+    final int movement,
+    final int positive,
+    final int negative,
+    final double speed,
+    final double acceleration_time,
+    final double maximum)
+  {
+    double s = speed;
+    if ((movement & positive) != 0) {
+      s += acceleration_time;
+    }
+    if ((movement & negative) != 0) {
+      s -= acceleration_time;
+    }
+    return Clamp.clamp(s, -maximum, maximum);
+  }
+
+  /**
+   * @return The cameras that will be affected by this integrator.
+   */
+
+  public JCameraFPSStyleBatch integratorGetBatch()
+  {
+    return this.batch;
+  }
+
+  /**
+   * @return The inputs that will be sampled by this integrator.
+   */
+
+  public JCameraFPSStyleBatchInput integratorGetInput()
+  {
+    return this.input;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current forward speed of the camera at {@code index}
+   */
+
+  public double integratorGetSpeedForward(
+    final int index)
+  {
+    return this.speed_forward[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current right speed of the camera at {@code index}
+   */
+
+  public double integratorGetSpeedRight(
+    final int index)
+  {
+    return this.speed_right[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current up speed of the camera at {@code index}
+   */
+
+  public double integratorGetSpeedUp(
+    final int index)
+  {
+    return this.speed_up[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current speed of rotation around the horizontal axis of the
+   * camera at {@code index}
+   */
+
+  public double integratorGetSpeedHorizontal(
+    final int index)
+  {
+    return this.speed_horizontal[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The current speed of rotation around the vertical axis of the
+   * camera at {@code index}
+   */
+
+  public double integratorGetSpeedVertical(
+    final int index)
+  {
+    return this.speed_vertical[index];
+  }
+
+  @Override
+  public void integrate(
+    final double t)
+  {
+    final double drag_linear = Math.pow(this.drag, t);
+    final double drag_h = this.dragFactor(this.drag_horizontal, t, drag_linear);
+    final double drag_v = this.dragFactor(this.drag_vertical, t, drag_linear);
+
+    final int size = this.batch.size();
+    for (int index = 0; index < size; ++index) {
+      this.integrateLinear(index, t, drag_linear);
+      this.integrateAngular(index, t, drag_h, drag_v);
+    }
+  }
+
+  /*
+   * Math.pow() is comparatively expensive, so avoid calling it again for
+   * drag factors that are the same as the linear drag factor.
+   */
+
+  private double dragFactor(
+    final double d,
+    final double t,
+    final double drag_linear)
+  {
+    if (Double.compare(d, this.drag) == 0) {
+      return drag_linear;
+    }
+    return Math.pow(d, t);
+  }
+
+  private void integrateLinear(
+    final int index,
+    final double t,
+    final double drag_linear)
+  {
+    final int movement = this.input.movement(index);
+    final double at = this.acceleration * t;
+    final double max = this.maximum_speed;
+
+    final double sf = integrateAxis(
+      movement,
+      JCameraFPSStyleBatchInput.MOVING_FORWARD,
+      JCameraFPSStyleBatchInput.MOVING_BACKWARD,
+      this.speed_forward[index],
+      at,
+      max);
+    this.batch.cameraMoveForward(index, sf * t);
+    this.speed_forward[index] = sf * drag_linear;
+
+    final double sr = integrateAxis(
+      movement,
+      JCameraFPSStyleBatchInput.MOVING_RIGHT,
+      JCameraFPSStyleBatchInput.MOVING_LEFT,
+      this.speed_right[index],
+      at,
+      max);
+    this.batch.cameraMoveRight(index, sr * t);
+    this.speed_right[index] = sr * drag_linear;
+
+    final double su = integrateAxis(
+      movement,
+      JCameraFPSStyleBatchInput.MOVING_UP,
+      JCameraFPSStyleBatchInput.MOVING_DOWN,
+      this.speed_up[index],
+      at,
+      max);
+    this.batch.cameraMoveUp(index, su * t);
+    this.speed_up[index] = su * drag_linear;
+  }
+
+  private void integrateAngular(
+    final int index,
+    final double t,
+    final double drag_h,
+    final double drag_v)
+  {
+    {
+      final double r = this.input.takeRotationHorizontal(index);
+      final double s =
+        this.speed_horizontal[index] + (r * (this.acceleration_horizontal * t));
+      final double sc =
+        Clamp.clamp(
+          s,
+          -this.maximum_speed_horizontal,
+          this.maximum_speed_horizontal);
+
+      /*
+       * As with JCameraFPSStyleAngularIntegrator, a clamped rotation removes
+       * all speed in that direction.
+       */
+
+      if (this.batch.cameraRotateAroundHorizontal(index, sc)) {
+        this.speed_horizontal[index] = 0.0;
+      } else {
+        this.speed_horizontal[index] = sc * drag_h;
+      }
+    }
+
+    {
+      final double r = this.input.takeRotationVertical(index);
+      final double s =
+        this.speed_vertical[index] + (r * (this.acceleration_vertical * t));
+      final double sc =
+        Clamp.clamp(
+          s,
+          -this.maximum_speed_vertical,
+          this.maximum_speed_vertical);
+
+      this.batch.cameraRotateAroundVertical(index, sc);
+      this.speed_vertical[index] = sc * drag_v;
+    }
+  }
+
+  /**
+   * Set the angular acceleration for rotations around the horizontal axis.
+   *
+   * @param a The acceleration
+   */
+
+  public void integratorAngularSetAccelerationHorizontal(
+    final double a)
+  {
+    this.acceleration_horizontal =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  /**
+   * Set the angular acceleration for rotations around the vertical axis.
+   *
+   * @param a The acceleration
+   */
+
+  public void integratorAngularSetAccelerationVertical(
+    final double a)
+  {
+    this.acceleration_vertical =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  /**
+   * Set the drag factor for rotations around the horizontal axis.
+   *
+   * @param d The drag factor
+   */
+
+  public void integratorAngularSetDragHorizontal(
+    final double d)
+  {
+    this.drag_horizontal =
+      RangeCheck.checkGreaterEqualDouble(
+        RangeCheck
+          .checkLessEqualDouble(d, "Drag factor", 1.0, "Maximum drag"),
+        "Drag factor",
+        0.0,
+        "Minimum drag");
+  }
+
+  /**
+   * Set the drag factor for rotations around the vertical axis.
+   *
+   * @param d The drag factor
+   */
+
+  public void integratorAngularSetDragVertical(
+    final double d)
+  {
+    this.drag_vertical =
+      RangeCheck.checkGreaterEqualDouble(
+        RangeCheck
+          .checkLessEqualDouble(d, "Drag factor", 1.0, "Maximum drag"),
+        "Drag factor",
+        0.0,
+        "Minimum drag");
+  }
+
+  /**
+   * Set the maximum rotation speed around the horizontal axis.
+   *
+   * @param s The maximum speed
+   */
+
+  public void integratorAngularSetMaximumSpeedHorizontal(
+    final double s)
+  {
+    this.maximum_speed_horizontal =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+
+  /**
+   * Set the maximum rotation speed around the vertical axis.
+   *
+   * @param s The maximum speed
+   */
+
+  public void integratorAngularSetMaximumSpeedVertical(
+    final double s)
+  {
+    this.maximum_speed_vertical =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+
+  /**
+   * Set the acceleration for linear movement.
+   *
+   * @param a The acceleration
+   */
+
+  public void integratorLinearSetAcceleration(
+    final double a)
+  {
+    this.acceleration =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  /**
+   * Set the drag factor for linear movement.
+   *
+   * @param d The drag factor
+   */
+
+  public void integratorLinearSetDrag(
+    final double d)
+  {
+    this.drag =
+      RangeCheck.checkGreaterEqualDouble(
+        RangeCheck
+          .checkLessEqualDouble(d, "Drag factor", 1.0, "Maximum drag"),
+        "Drag factor",
+        0.0,
+        "Minimum drag");
+  }
+
+  /**
+   * Set the maximum linear speed.
+   *
+   * @param s The maximum speed
+   */
+
+  public void integratorLinearSetMaximumSpeed(
+    final double s)
+  {
+    this.maximum_speed =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>A decoder for the messages produced by a
+ * {@link JCameraFPSStyleDeltaEncoder}.</p>
+ *
+ * <p>Messages must be decoded in the order in which they were encoded, but
+ * messages may be lost: a delta can be decoded as long as the state against
+ * which it was encoded was decoded and is still held in the history. The
+ * tick of each decoded message, given by {@link #lastTick()}, should be
+ * sent back to the encoder as an acknowledgement. The camera vectors of
+ * each decoded snapshot are derived from the decoded angles, exactly as a
+ * {@link JCameraFPSStyle} camera would derive them.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleDeltaDecoder
+{
+  private static final boolean[] ANGLES = {true, true, false, false, false};
+
+  private final JCameraDeltaDecoderState state;
+  private final JCameraFPSStyleType camera;
+  private final double precision;
+
+  private JCameraFPSStyleDeltaDecoder(
+    final int history_capacity,
+    final double in_precision)
+  {
+    this.state = new JCameraDeltaDecoderState(ANGLES, history_capacity);
+    this.precision = in_precision;
+    this.camera = JCameraFPSStyle.newCamera();
+    this.camera.cameraClampHorizontalDisable();
+  }
+
+  /**
+   * Create a new decoder.
+   *
+   * @param history_capacity   The number of decoded states that are
+   *                           retained as possible baselines for deltas
+   * @param position_precision The precision to which positions are
+   *                           quantized
+   *
+   * @return A new decoder
+   */
+
+  public static JCameraFPSStyleDeltaDecoder create(
+    final int history_capacity,
+    final double position_precision)
+  {
+    RangeCheck.checkGreaterInteger(
+      history_capacity, "History capacity", 0, "Minimum capacity");
+    RangeCheck.checkGreaterDouble(
+      position_precision, "Position precision", 0.0, "Minimum precision");
+    return new JCameraFPSStyleDeltaDecoder(
+      history_capacity, position_precision);
+  }
+
+  /**
+   * @return The tick of the most recently decoded message
+   *
+   * @throws IllegalStateException If no messages have been decoded
+   */
+
+  public long lastTick()
+  {
+    return this.state.lastTick();
+  }
+
+  /**
+   * Discard all decoded states.
+   */
+
+  public void reset()
+  {
+    this.state.reset();
+  }
+
+  /**
+   * Decode a message.
+   *
+   * @param buffer The input buffer
+   *
+   * @return The decoded snapshot
+   *
+   * @throws BufferUnderflowException If the buffer does not contain a
+   *                                  complete message
+   * @throws IllegalStateException    If the message is a delta against a
+   *                                  state that is not available
+   * @throws IllegalArgumentException If the tick of the message is not
+   *                                  greater than that of the previous
+   *                                  message
+   */
+
+  public JCameraFPSStyleSnapshot decode(
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    this.state.decode(buffer);
+
+    final long[] q = this.state.decoded();
+    this.camera.cameraSetAngleAroundHorizontal(
+      JCameraSnapshotEncoding.dequantize((short) q[0]));
+    this.camera.cameraSetAngleAroundVertical(
+      JCameraSnapshotEncoding.dequantize((short) q[1]));
+    this.camera.cameraSetPosition3(
+      JCameraDeltaEncoding.dequantizeLinear(q[2], this.precision),
+      JCameraDeltaEncoding.dequantizeLinear(q[3], this.precision),
+      JCameraDeltaEncoding.dequantizeLinear(q[4], this.precision));
+    return JCameraFPSStyleSnapshots.of(this.camera);
+  }
+}
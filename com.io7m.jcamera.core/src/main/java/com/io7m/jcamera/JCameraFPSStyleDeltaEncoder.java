@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>An encoder that streams the state of an FPS-style camera as a series of
+ * small messages, each of which is decoded by a
+ * {@link JCameraFPSStyleDeltaDecoder}.</p>
+ *
+ * <p>Angles are quantized to 16 bits as with
+ * {@link JCameraSnapshotAngleEncoding#ANGLE_QUANTIZED_16}, and positions are
+ * quantized to multiples of a given precision. Each message is either a
+ * keyframe, which contains the complete quantized state, or a delta against
+ * the states most recently acknowledged by the decoder. A delta contains
+ * only the fields that differ from a prediction extrapolated from the two
+ * newest acknowledged states, and the quantized differences of those
+ * fields, so a camera that is stationary or moving at a constant rate
+ * produces very small deltas. A keyframe is sent when no acknowledged state
+ * is available, and at least once every {@code keyframe_interval} ticks.
+ * Because deltas are taken between quantized values, errors do not
+ * accumulate over time.</p>
+ *
+ * <p>One encoder is required per observer, as the encoder tracks the
+ * acknowledgements of a single decoder. The encoder and decoder must be
+ * created with the same history capacity and position precision.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleDeltaEncoder
+{
+  private static final boolean[] ANGLES = {true, true, false, false, false};
+
+  private final JCameraDeltaEncoderState state;
+  private final double precision;
+
+  private JCameraFPSStyleDeltaEncoder(
+    final int history_capacity,
+    final int keyframe_interval,
+    final double in_precision)
+  {
+    this.state =
+      new JCameraDeltaEncoderState(
+        ANGLES, history_capacity, keyframe_interval);
+    this.precision = in_precision;
+  }
+
+  /**
+   * Create a new encoder.
+   *
+   * @param history_capacity   The number of sent states that are retained
+   *                           as possible baselines for deltas
+   * @param keyframe_interval  The maximum number of ticks between keyframes
+   * @param position_precision The precision to which positions are
+   *                           quantized
+   *
+   * @return A new encoder
+   */
+
+  public static JCameraFPSStyleDeltaEncoder create(
+    final int history_capacity,
+    final int keyframe_interval,
+    final double position_precision)
+  {
+    RangeCheck.checkGreaterInteger(
+      history_capacity, "History capacity", 0, "Minimum capacity");
+    RangeCheck.checkGreaterInteger(
+      keyframe_interval, "Keyframe interval", 0, "Minimum interval");
+    RangeCheck.checkGreaterDouble(
+      position_precision, "Position precision", 0.0, "Minimum precision");
+    return new JCameraFPSStyleDeltaEncoder(
+      history_capacity, keyframe_interval, position_precision);
+  }
+
+  /**
+   * @return The maximum number of bytes that a single message may occupy
+   */
+
+  public int messageMaximumBytes()
+  {
+    return this.state.messageMaximumBytes();
+  }
+
+  /**
+   * @return The number of keyframes sent
+   */
+
+  public long keyframesSent()
+  {
+    return this.state.keyframes();
+  }
+
+  /**
+   * @return The number of deltas sent
+   */
+
+  public long deltasSent()
+  {
+    return this.state.deltas();
+  }
+
+  /**
+   * Record that the decoder has received the message for {@code tick}.
+   * Subsequent deltas are encoded against the state at the newest
+   * acknowledged tick.
+   *
+   * @param tick The acknowledged tick
+   */
+
+  public void acknowledge(
+    final long tick)
+  {
+    this.state.acknowledge(tick);
+  }
+
+  /**
+   * Discard all sent states and acknowledgements, so that the next message
+   * is a keyframe.
+   */
+
+  public void reset()
+  {
+    this.state.reset();
+  }
+
+  /**
+   * Encode the state of the given camera at the given tick.
+   *
+   * @param tick   The tick, which must be greater than that of the previous
+   *               message
+   * @param c      The camera
+   * @param buffer The output buffer
+   *
+   * @return The number of bytes written
+   *
+   * @throws BufferOverflowException  If fewer than
+   *                                  {@link #messageMaximumBytes()} bytes
+   *                                  remain in {@code buffer}; nothing is
+   *                                  written in this case
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the previous message
+   */
+
+  public int encode(
+    final long tick,
+    final JCameraFPSStyleReadableType c,
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(c, "Camera");
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final long[] q = this.state.current();
+    q[0] = JCameraSnapshotEncoding.quantize(
+      c.cameraGetAngleAroundHorizontal());
+    q[1] = JCameraSnapshotEncoding.quantize(
+      c.cameraGetAngleAroundVertical());
+    q[2] = JCameraDeltaEncoding.quantizeLinear(
+      c.cameraGetPositionX(), this.precision);
+    q[3] = JCameraDeltaEncoding.quantizeLinear(
+      c.cameraGetPositionY(), this.precision);
+    q[4] = JCameraDeltaEncoding.quantizeLinear(
+      c.cameraGetPositionZ(), this.precision);
+    return this.state.encode(tick, buffer);
+  }
+}
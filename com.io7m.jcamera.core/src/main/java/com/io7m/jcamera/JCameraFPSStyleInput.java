@@ -22,7 +22,13 @@ import com.io7m.jranges.RangeCheck;
 /**
  * <p>An input for an fps-style camera.</p>
  *
- * <p>It is safe to access values of this type from multiple threads.</p>
+ * <p>It is safe to access values of this type from multiple threads. Rotations
+ * are accumulated without locks, and each rotation added with
+ * {@link #addRotationAroundHorizontal(double)} or
+ * {@link #addRotationAroundVertical(double)} is returned by exactly one call
+ * to {@link #takeRotationHorizontal()} or {@link #takeRotationVertical()}
+ * respectively, even when the calls are made concurrently from different
+ * threads.</p>
  */
 
 @EqualityReference
@@ -33,16 +39,16 @@ public final class JCameraFPSStyleInput implements JCameraFPSStyleInputType
   private volatile boolean forward;
   private volatile boolean left;
   private volatile boolean right;
-  private volatile double rotate_horizontal;
+  private final AtomicDouble rotate_horizontal;
   private volatile double rotate_horizontal_factor;
-  private volatile double rotate_vertical;
+  private final AtomicDouble rotate_vertical;
   private volatile double rotate_vertical_factor;
   private volatile boolean up;
 
   private JCameraFPSStyleInput()
   {
-    this.rotate_horizontal = 0.0;
-    this.rotate_vertical = 0.0;
+    this.rotate_horizontal = new AtomicDouble();
+    this.rotate_vertical = new AtomicDouble();
     this.rotate_horizontal_factor = 1.0;
     this.rotate_vertical_factor = 1.0;
   }
@@ -60,40 +66,40 @@ public final class JCameraFPSStyleInput implements JCameraFPSStyleInputType
   public void addRotationAroundHorizontal(
     final double r)
   {
-    this.rotate_horizontal += r;
+    this.rotate_horizontal.add(r);
   }
 
   @Override
   public void addRotationAroundVertical(
     final double r)
   {
-    this.rotate_vertical += r;
+    this.rotate_vertical.add(r);
   }
 
   @Override
   public double getRotationHorizontal()
   {
-    return this.rotate_horizontal * this.rotate_horizontal_factor;
+    return this.rotate_horizontal.get() * this.rotate_horizontal_factor;
   }
 
   @Override
   public void setRotationHorizontal(
     final double r)
   {
-    this.rotate_horizontal = r;
+    this.rotate_horizontal.set(r);
   }
 
   @Override
   public double getRotationVertical()
   {
-    return this.rotate_vertical * this.rotate_vertical_factor;
+    return this.rotate_vertical.get() * this.rotate_vertical_factor;
   }
 
   @Override
   public void setRotationVertical(
     final double r)
   {
-    this.rotate_vertical = r;
+    this.rotate_vertical.set(r);
   }
 
   @Override
@@ -201,17 +207,13 @@ public final class JCameraFPSStyleInput implements JCameraFPSStyleInputType
   @Override
   public double takeRotationHorizontal()
   {
-    final double r = this.getRotationHorizontal();
-    this.rotate_horizontal = 0.0;
-    return r;
+    return this.rotate_horizontal.take() * this.rotate_horizontal_factor;
   }
 
   @Override
   public double takeRotationVertical()
   {
-    final double r = this.getRotationVertical();
-    this.rotate_vertical = 0.0;
-    return r;
+    return this.rotate_vertical.take() * this.rotate_vertical_factor;
   }
 
   @Override
@@ -229,9 +231,9 @@ public final class JCameraFPSStyleInput implements JCameraFPSStyleInputType
     b.append(", right=");
     b.append(this.right);
     b.append(", rotate_horizontal=");
-    b.append(this.rotate_horizontal);
+    b.append(this.rotate_horizontal.get());
     b.append(", rotate_vertical=");
-    b.append(this.rotate_vertical);
+    b.append(this.rotate_vertical.get());
     b.append(", up=");
     b.append(this.up);
     b.append(", rotate_horizontal_factor=");
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>The kinds of input events for FPS-style cameras, for use with
+ * {@link JCameraInputEventRing}.</p>
+ *
+ * @see JCameraInputEventIntegrator
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleInputEvents
+{
+  /**
+   * A change to the forward movement state.
+   */
+
+  public static final int MOVING_FORWARD = 0;
+
+  /**
+   * A change to the backward movement state.
+   */
+
+  public static final int MOVING_BACKWARD = 1;
+
+  /**
+   * A change to the leftward movement state.
+   */
+
+  public static final int MOVING_LEFT = 2;
+
+  /**
+   * A change to the rightward movement state.
+   */
+
+  public static final int MOVING_RIGHT = 3;
+
+  /**
+   * A change to the upward movement state.
+   */
+
+  public static final int MOVING_UP = 4;
+
+  /**
+   * A change to the downward movement state.
+   */
+
+  public static final int MOVING_DOWN = 5;
+
+  /**
+   * A rotation around the horizontal axis, added to the current rotation.
+   */
+
+  public static final int ROTATION_HORIZONTAL = 6;
+
+  /**
+   * A rotation around the vertical axis, added to the current rotation.
+   */
+
+  public static final int ROTATION_VERTICAL = 7;
+
+  private JCameraFPSStyleInputEvents()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Apply the event {@code kind} with value {@code value} to
+   * {@code input}. Events that represent boolean states are considered to
+   * be {@code true} iff {@code value != 0.0}.
+   *
+   * @param input The input
+   * @param kind  The kind of event
+   * @param value The value associated with the event
+   *
+   * @throws IllegalArgumentException If {@code kind} is not a recognized
+   *                                  event kind
+   */
+
+  public static void apply(
+    final JCameraFPSStyleInputType input,
+    final int kind,
+    final double value)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(input, "Input");
+
+    if (kind >= MOVING_FORWARD && kind <= MOVING_DOWN) {
+      applyKey(input, kind, value);
+    } else if (kind >= ROTATION_HORIZONTAL && kind <= ROTATION_VERTICAL) {
+      applyRotation(input, kind, value);
+    } else {
+      throw new IllegalArgumentException("Unrecognized event kind: " + kind);
+    }
+  }
+
+  /**
+   * @param input The input
+   *
+   * @return An applier that applies events to {@code input}
+   */
+
+  public static JCameraInputEventApplierType applier(
+    final JCameraFPSStyleInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+    return (kind, value) -> apply(input, kind, value);
+  }
+
+  private static void applyKey(
+    final JCameraFPSStyleInputType input,
+    final int kind,
+    final double value)
+  {
+    switch (kind) {
+      case MOVING_FORWARD -> input.setMovingForward(value != 0.0);
+      case MOVING_BACKWARD -> input.setMovingBackward(value != 0.0);
+      case MOVING_LEFT -> input.setMovingLeft(value != 0.0);
+      case MOVING_RIGHT -> input.setMovingRight(value != 0.0);
+      case MOVING_UP -> input.setMovingUp(value != 0.0);
+      case MOVING_DOWN -> input.setMovingDown(value != 0.0);
+      default -> throw new UnreachableCodeException();
+    }
+  }
+
+  private static void applyRotation(
+    final JCameraFPSStyleInputType input,
+    final int kind,
+    final double value)
+  {
+    switch (kind) {
+      case ROTATION_HORIZONTAL -> input.addRotationAroundHorizontal(value);
+      case ROTATION_VERTICAL -> input.addRotationAroundVertical(value);
+      default -> throw new UnreachableCodeException();
+    }
+  }
+}
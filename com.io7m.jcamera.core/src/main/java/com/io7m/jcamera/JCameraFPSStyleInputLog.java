@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>An in-memory log of the input that drove an FPS-style integrator, one
+ * entry per call to {@link JCameraIntegratorType#integrate(double)}.</p>
+ *
+ * <p>Each entry holds the time step passed to the integrator and the input
+ * state sampled immediately before the step. If other threads update the
+ * input while a session is being logged, the entries must be taken with
+ * {@link #recordFrom(double, JCameraFPSStyleInputType,
+ * JCameraFPSStyleInputType)} so that the log holds exactly the input the
+ * integrator consumed. Entries are stored in
+ * primitive arrays that grow by doubling, so recording allocates only when
+ * the log grows. A log can be replayed with {@link
+ * JCameraFPSStyleReplay}.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleInputLog
+{
+  private double[] deltas;
+  private int[] flags;
+  private double[] rotations;
+  private int size;
+
+  private JCameraFPSStyleInputLog(
+    final int capacity)
+  {
+    this.deltas = new double[capacity];
+    this.flags = new int[capacity];
+    this.rotations = new double[capacity * 2];
+    this.size = 0;
+  }
+
+  /**
+   * Create a new empty log.
+   *
+   * @param capacity The initial capacity
+   *
+   * @return A new log
+   */
+
+  public static JCameraFPSStyleInputLog create(
+    final int capacity)
+  {
+    RangeCheck.checkGreaterInteger(capacity, "Capacity", 0, "Minimum capacity");
+    RangeCheck.checkLessEqualInteger(
+      capacity, "Capacity", Integer.MAX_VALUE / 2, "Maximum capacity");
+    return new JCameraFPSStyleInputLog(capacity);
+  }
+
+  /**
+   * Create a log from a recording made with {@link JCameraFPSStyleRecorder}.
+   * Each record is assumed to represent a single fixed step of {@code step}
+   * seconds, as produced by {@link JCameraFixedStepDriver}.
+   *
+   * @param player The recording
+   * @param step   The fixed time step in seconds
+   *
+   * @return A new log
+   */
+
+  public static JCameraFPSStyleInputLog fromRecording(
+    final JCameraFPSStylePlayer player,
+    final double step)
+  {
+    Objects.requireNonNull(player, "Player");
+    RangeCheck.checkGreaterEqualDouble(step, "Step", 0.0, "Minimum step");
+
+    final JCameraFPSStyleInputLog log =
+      new JCameraFPSStyleInputLog(Math.max(1, player.size()));
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    for (int index = 0; index < player.size(); ++index) {
+      player.applyInput(index, input);
+      log.record(step, input);
+    }
+    return log;
+  }
+
+  /**
+   * @return The number of entries
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Remove all entries. The capacity of the log is retained.
+   */
+
+  public void clear()
+  {
+    this.size = 0;
+  }
+
+  /**
+   * Append an entry. This must be called immediately before the integrator
+   * is called with {@code delta}, and {@code input} must not be modified
+   * until the integrator has consumed it. In particular, {@code input}
+   * must not be updated concurrently by other threads: Anything added
+   * between this call and the integrator's step is consumed by the
+   * integrator but is missing from the log. Use {@link #recordFrom(double,
+   * JCameraFPSStyleInputType, JCameraFPSStyleInputType)} for input that
+   * other threads update.
+   *
+   * @param delta The time step that will be passed to the integrator
+   * @param input The input
+   */
+
+  public void record(
+    final double delta,
+    final JCameraFPSStyleInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+    RangeCheck.checkGreaterEqualDouble(delta, "Delta", 0.0, "Minimum delta");
+
+    this.append(
+      delta,
+      JCameraRecordingFormat.fpsInputFlags(input),
+      input.getRotationHorizontal(),
+      input.getRotationVertical());
+  }
+
+  /**
+   * <p>Append an entry for input that other threads may be updating, and
+   * set {@code target} to exactly the logged input state.</p>
+   *
+   * <p>The rotations accumulated in {@code source} are taken (and so
+   * cleared) as with {@link JCameraFPSStyleInputType#takeRotationHorizontal()}
+   * and {@link JCameraFPSStyleInputType#takeRotationVertical()}, and the
+   * movement flags are sampled once. The integrator must read
+   * {@code target}, which must not be shared with other threads. The
+   * integrator then consumes exactly the logged state, so a replay of the
+   * log reproduces the step no matter when other threads update
+   * {@code source}.</p>
+   *
+   * @param delta  The time step that will be passed to the integrator
+   * @param source The input updated by other threads
+   * @param target The input read by the integrator
+   */
+
+  public void recordFrom(
+    final double delta,
+    final JCameraFPSStyleInputType source,
+    final JCameraFPSStyleInputType target)
+  {
+    Objects.requireNonNull(source, "Source");
+    Objects.requireNonNull(target, "Target");
+    RangeCheck.checkGreaterEqualDouble(delta, "Delta", 0.0, "Minimum delta");
+
+    final int input_flags = JCameraRecordingFormat.fpsInputFlags(source);
+    final double horizontal = source.takeRotationHorizontal();
+    final double vertical = source.takeRotationVertical();
+    this.append(delta, input_flags, horizontal, vertical);
+    JCameraRecordingFormat.fpsInputApply(
+      input_flags, horizontal, vertical, target);
+  }
+
+  private void append(
+    final double delta,
+    final int input_flags,
+    final double horizontal,
+    final double vertical)
+  {
+    if (this.size == this.deltas.length) {
+      RangeCheck.checkLessInteger(
+        this.size, "Size", Integer.MAX_VALUE / 4, "Maximum size");
+      final int capacity = this.size * 2;
+      this.deltas = Arrays.copyOf(this.deltas, capacity);
+      this.flags = Arrays.copyOf(this.flags, capacity);
+      this.rotations = Arrays.copyOf(this.rotations, capacity * 2);
+    }
+
+    final int index = this.size;
+    this.deltas[index] = delta;
+    this.flags[index] = input_flags;
+    this.rotations[index * 2] = horizontal;
+    this.rotations[(index * 2) + 1] = vertical;
+    ++this.size;
+  }
+
+  /**
+   * @param index The index of an entry
+   *
+   * @return The time step of the entry
+   */
+
+  public double delta(
+    final int index)
+  {
+    return this.deltas[Objects.checkIndex(index, this.size)];
+  }
+
+  /**
+   * Set {@code input} to the input state of an entry. The logged rotations
+   * already include the rotation factors that were in effect when they
+   * were logged, so the rotation factors of {@code input} are reset to
+   * {@code 1.0}.
+   *
+   * @param index The index of an entry
+   * @param input The input
+   */
+
+  public void applyInput(
+    final int index,
+    final JCameraFPSStyleInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+    Objects.checkIndex(index, this.size);
+
+    JCameraRecordingFormat.fpsInputApply(
+      this.flags[index],
+      this.rotations[index * 2],
+      this.rotations[(index * 2) + 1],
+      input);
+  }
+}
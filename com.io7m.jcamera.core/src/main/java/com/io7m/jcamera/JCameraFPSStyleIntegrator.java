@@ -56,6 +56,31 @@ public final class JCameraFPSStyleIntegrator
     return newIntegratorWith(ai, li);
   }
 
+  /**
+   * Return a new integrator for the given camera and input using the
+   * integrator implementations that integrate linear movement exactly. See
+   * {@link JCameraFPSStyleLinearIntegratorExact}. Angular movement is driven
+   * by per-frame rotation impulses rather than constant acceleration, and
+   * so continues to use the default angular integrator.
+   *
+   * @param in_camera The camera
+   * @param in_input  The input
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraFPSStyleIntegratorType newIntegratorExact(
+    final JCameraFPSStyleType in_camera,
+    final JCameraFPSStyleInputType in_input)
+  {
+    final JCameraFPSStyleAngularIntegratorType ai =
+      JCameraFPSStyleAngularIntegrator.newIntegrator(in_camera, in_input);
+    final JCameraFPSStyleLinearIntegratorType li =
+      JCameraFPSStyleLinearIntegratorExact.newIntegrator(in_camera, in_input);
+
+    return newIntegratorWith(ai, li);
+  }
+
   /**
    * Return a new integrator using the given integrator implementations.
    *
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * <p>An implementation of {@link JCameraFPSStyleLinearIntegratorType} that
+ * uses the exact solution of constant acceleration under exponential drag
+ * over each interval, rather than an explicit Euler step.</p>
+ *
+ * <p>Given unchanging input, integrating once over a time {@code t} yields
+ * the same result as integrating repeatedly over any subdivision of {@code
+ * t}, so the integrator may be called at variable rates or with large time
+ * steps. Note that a drag factor of {@code 0.0} describes infinite drag, and
+ * the camera will therefore not move at all.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleLinearIntegratorExact implements
+  JCameraFPSStyleLinearIntegratorType
+{
+  private final JCameraFPSStyleType camera;
+  private final JCameraFPSStyleInputType input;
+  private final JCameraDragIntegration exact;
+  private double acceleration;
+  private double drag_rate;
+  private double maximum_speed;
+  private double speed_forward;
+  private double speed_right;
+  private double speed_up;
+
+  private JCameraFPSStyleLinearIntegratorExact(
+    final JCameraFPSStyleType in_camera,
+    final JCameraFPSStyleInputType in_input)
+  {
+    this.camera = Objects.requireNonNull(in_camera, "Camera");
+    this.input = Objects.requireNonNull(in_input, "Input");
+    this.exact = new JCameraDragIntegration();
+    this.maximum_speed = 3.0;
+    this.speed_forward = 0.0;
+    this.speed_right = 0.0;
+    this.speed_up = 0.0;
+    this.drag_rate = JCameraDragIntegration.rate(0.25);
+    this.acceleration = 30.0;
+  }
+
+  /**
+   * Construct a new integrator.
+   *
+   * @param in_camera The camera to be integrated.
+   * @param in_input  The input to be sampled.
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraFPSStyleLinearIntegratorType newIntegrator(
+    final JCameraFPSStyleType in_camera,
+    final JCameraFPSStyleInputType in_input)
+  {
+    return new JCameraFPSStyleLinearIntegratorExact(in_camera, in_input);
+  }
+
+  private double accelerationFor(
+    final boolean positive,
+    final boolean negative)
+  {
+    double a = 0.0;
+    if (positive) {
+      a += this.acceleration;
+    }
+    if (negative) {
+      a -= this.acceleration;
+    }
+    return a;
+  }
+
+  @Override
+  public void integrate(
+    final double t)
+  {
+    this.exact.integrate(
+      this.speed_forward,
+      this.accelerationFor(
+        this.input.isMovingForward(),
+        this.input.isMovingBackward()),
+      this.drag_rate,
+      this.maximum_speed,
+      t);
+    this.camera.cameraMoveForward(this.exact.distance());
+    this.speed_forward = this.exact.speed();
+
+    this.exact.integrate(
+      this.speed_right,
+      this.accelerationFor(
+        this.input.isMovingRight(),
+        this.input.isMovingLeft()),
+      this.drag_rate,
+      this.maximum_speed,
+      t);
+    this.camera.cameraMoveRight(this.exact.distance());
+    this.speed_right = this.exact.speed();
+
+    this.exact.integrate(
+      this.speed_up,
+      this.accelerationFor(
+        this.input.isMovingUp(),
+        this.input.isMovingDown()),
+      this.drag_rate,
+      this.maximum_speed,
+      t);
+    this.camera.cameraMoveUp(this.exact.distance());
+    this.speed_up = this.exact.speed();
+  }
+
+  @Override
+  public JCameraFPSStyleReadableType integratorGetCamera()
+  {
+    return this.camera;
+  }
+
+  @Override
+  public JCameraFPSStyleInputType integratorGetInput()
+  {
+    return this.input;
+  }
+
+  @Override
+  public void integratorLinearSetAcceleration(
+    final double a)
+  {
+    this.acceleration =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  @Override
+  public void integratorLinearSetDrag(
+    final double f)
+  {
+    this.drag_rate =
+      JCameraDragIntegration.rate(
+        RangeCheck.checkGreaterEqualDouble(
+          RangeCheck
+            .checkLessEqualDouble(f, "Drag factor", 1.0, "Maximum drag"),
+          "Drag factor",
+          0.0,
+          "Minimum drag"));
+  }
+
+  @Override
+  public void integratorLinearSetMaximumSpeed(
+    final double s)
+  {
+    this.maximum_speed =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A player for files written by {@link JCameraFPSStyleRecorder}.</p>
+ *
+ * <p>The records of the file are mapped into memory when the player is
+ * opened, and each access reads the fields of a record directly from the
+ * mapped memory; there is no parsing step and no per-record
+ * allocation.</p>
+ *
+ * <p>A recording can be played back in two ways. {@link #applyCamera(int,
+ * JCameraFPSStyleType)} sets a camera to the recorded result of a tick,
+ * and {@link #applyInput(int, JCameraFPSStyleInputType)} sets an input to
+ * the recorded input of a tick so that the tick can be simulated
+ * again.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStylePlayer implements Closeable
+{
+  private final JCameraRecordingReader reader;
+
+  private JCameraFPSStylePlayer(
+    final JCameraRecordingReader in_reader)
+  {
+    this.reader = in_reader;
+  }
+
+  /**
+   * Open a recording.
+   *
+   * @param file The file
+   *
+   * @return A new player
+   *
+   * @throws IOException On I/O errors, or if the file is not a recording of
+   *                     an FPS-style camera
+   */
+
+  public static JCameraFPSStylePlayer open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "File");
+    return new JCameraFPSStylePlayer(
+      JCameraRecordingReader.open(
+        file,
+        JCameraRecordingFormat.KIND_FPS_STYLE,
+        JCameraRecordingFormat.FPS_RECORD_SIZE));
+  }
+
+  /**
+   * @return The number of records
+   */
+
+  public int size()
+  {
+    return this.reader.count();
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The tick of the record
+   */
+
+  public long tickAt(
+    final int index)
+  {
+    return this.reader.tick(index);
+  }
+
+  /**
+   * @param tick A tick
+   *
+   * @return The index of the newest record with a tick less than or equal
+   * to {@code tick}, or {@code -1} if there is no such record
+   */
+
+  public int find(
+    final long tick)
+  {
+    return this.reader.find(tick);
+  }
+
+  /**
+   * Read the camera state of a record into {@code target}.
+   *
+   * @param index  The index of a record
+   * @param target The target snapshot
+   *
+   * @return {@code target}
+   */
+
+  public JCameraFPSStyleSnapshotMutable snapshotInto(
+    final int index,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    target.setAngles(
+      b.getDouble(base + JCameraRecordingFormat.FPS_ANGLE_H),
+      b.getDouble(base + JCameraRecordingFormat.FPS_ANGLE_V));
+    target.setPosition(
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION),
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION + 8),
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION + 16));
+    target.setRight(
+      b.getDouble(base + JCameraRecordingFormat.FPS_RIGHT_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.FPS_RIGHT_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.FPS_RIGHT_VECTOR + 16));
+    target.setUp(
+      b.getDouble(base + JCameraRecordingFormat.FPS_UP_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.FPS_UP_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.FPS_UP_VECTOR + 16));
+    target.setForward(
+      b.getDouble(base + JCameraRecordingFormat.FPS_FORWARD_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.FPS_FORWARD_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.FPS_FORWARD_VECTOR + 16));
+    return target;
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The camera state of the record
+   */
+
+  public JCameraFPSStyleSnapshot snapshot(
+    final int index)
+  {
+    return JCameraFPSStyleSnapshots.of(
+      this.snapshotInto(index, JCameraFPSStyleSnapshotMutable.create()));
+  }
+
+  /**
+   * Set the angles and position of {@code camera} to the camera state of a
+   * record.
+   *
+   * @param index  The index of a record
+   * @param camera The camera
+   */
+
+  public void applyCamera(
+    final int index,
+    final JCameraFPSStyleType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    camera.cameraSetAngleAroundHorizontal(
+      b.getDouble(base + JCameraRecordingFormat.FPS_ANGLE_H));
+    camera.cameraSetAngleAroundVertical(
+      b.getDouble(base + JCameraRecordingFormat.FPS_ANGLE_V));
+    camera.cameraSetPosition3(
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION),
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION + 8),
+      b.getDouble(base + JCameraRecordingFormat.FPS_POSITION + 16));
+  }
+
+  /**
+   * Set {@code input} to the input state of a record. The recorded
+   * rotations already include the rotation factors that were in effect
+   * when they were recorded, so the rotation factors of {@code input} are
+   * reset to {@code 1.0}.
+   *
+   * @param index The index of a record
+   * @param input The input
+   */
+
+  public void applyInput(
+    final int index,
+    final JCameraFPSStyleInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    JCameraRecordingFormat.fpsInputApply(
+      b.getInt(base + JCameraRecordingFormat.RECORD_INPUT_FLAGS),
+      b.getDouble(base + JCameraRecordingFormat.RECORD_INPUT_0),
+      b.getDouble(base + JCameraRecordingFormat.RECORD_INPUT_1),
+      input);
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.reader.close();
+  }
+}
@@ -59,4 +59,76 @@ public interface JCameraFPSStyleReadableType extends JCameraReadableType
    */
 
   Vector3D cameraGetUp();
+
+  @Override
+  default double cameraGetPositionX()
+  {
+    return this.cameraGetPosition().x();
+  }
+
+  @Override
+  default double cameraGetPositionY()
+  {
+    return this.cameraGetPosition().y();
+  }
+
+  @Override
+  default double cameraGetPositionZ()
+  {
+    return this.cameraGetPosition().z();
+  }
+
+  @Override
+  default double cameraGetRightX()
+  {
+    return this.cameraGetRight().x();
+  }
+
+  @Override
+  default double cameraGetRightY()
+  {
+    return this.cameraGetRight().y();
+  }
+
+  @Override
+  default double cameraGetRightZ()
+  {
+    return this.cameraGetRight().z();
+  }
+
+  @Override
+  default double cameraGetUpX()
+  {
+    return this.cameraGetUp().x();
+  }
+
+  @Override
+  default double cameraGetUpY()
+  {
+    return this.cameraGetUp().y();
+  }
+
+  @Override
+  default double cameraGetUpZ()
+  {
+    return this.cameraGetUp().z();
+  }
+
+  @Override
+  default double cameraGetForwardX()
+  {
+    return this.cameraGetForward().x();
+  }
+
+  @Override
+  default double cameraGetForwardY()
+  {
+    return this.cameraGetForward().y();
+  }
+
+  @Override
+  default double cameraGetForwardZ()
+  {
+    return this.cameraGetForward().z();
+  }
 }
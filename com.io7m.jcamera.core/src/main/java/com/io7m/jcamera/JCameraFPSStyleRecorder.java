@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A recorder that appends the path of an FPS-style camera to a file,
+ * for later playback with {@link JCameraFPSStylePlayer}.</p>
+ *
+ * <p>Each tick produces one fixed-size record holding the tick, the input
+ * state that drove the tick, and the resulting state of the camera. A tick
+ * is recorded in two steps: {@link #recordInput(long,
+ * JCameraFPSStyleInputType)} (or {@link #recordInputFrom(long,
+ * JCameraFPSStyleInputType, JCameraFPSStyleInputType)}, if other threads
+ * update the input) is called before the camera is integrated, and
+ * {@link #recordCamera(JCameraFPSStyleReadableType)} afterwards. Records
+ * are written directly into regions of the file that are mapped into
+ * memory, and the operating system writes modified pages back to the file
+ * asynchronously. The file is mapped in regions of {@code chunk_records}
+ * records. A background thread owned by the recorder maps each region while
+ * the previous region is being filled, so that moving to the next region
+ * only exchanges one mapped buffer for another. Recording a tick therefore
+ * neither allocates nor performs I/O on the calling thread. The calling
+ * thread waits only if it fills an entire region before the background
+ * thread has finished mapping the next one. The background thread is
+ * stopped when the recorder is closed.</p>
+ *
+ * <p>Each filled region is written back to storage by the background thread
+ * when the recorder moves to the next region, and the remaining data is
+ * written back when the recorder is closed. The header of the file holds
+ * the number of completed records, and players read only that many. The
+ * file is not truncated to the recorded data, because truncating a file
+ * that is still mapped into memory fails on some platforms; the file
+ * length is instead always a whole number of regions. If the process
+ * exits without closing the recorder, the file still contains every
+ * completed record.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleRecorder implements Closeable
+{
+  private final JCameraRecordingWriter writer;
+  private final JCameraFPSStyleSnapshotMutable scratch;
+
+  private JCameraFPSStyleRecorder(
+    final JCameraRecordingWriter in_writer)
+  {
+    this.writer = in_writer;
+    this.scratch = JCameraFPSStyleSnapshotMutable.create();
+  }
+
+  /**
+   * Create a new recorder, replacing {@code file} if it exists.
+   *
+   * @param file          The output file
+   * @param chunk_records The number of records in each mapped region
+   *
+   * @return A new recorder
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static JCameraFPSStyleRecorder create(
+    final Path file,
+    final int chunk_records)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "File");
+    RangeCheck.checkGreaterInteger(
+      chunk_records, "Chunk records", 0, "Minimum chunk records");
+    RangeCheck.checkLessEqualInteger(
+      chunk_records,
+      "Chunk records",
+      Integer.MAX_VALUE / JCameraRecordingFormat.FPS_RECORD_SIZE,
+      "Maximum chunk records");
+
+    return new JCameraFPSStyleRecorder(
+      JCameraRecordingWriter.create(
+        file,
+        JCameraRecordingFormat.KIND_FPS_STYLE,
+        JCameraRecordingFormat.FPS_RECORD_SIZE,
+        chunk_records));
+  }
+
+  /**
+   * @return The number of completed records
+   */
+
+  public long size()
+  {
+    return this.writer.count();
+  }
+
+  /**
+   * Begin the record for a tick by sampling the given input. The input is
+   * not modified here, and must not be modified until the integrator has
+   * consumed it. In particular, it must not be updated concurrently by
+   * other threads: Anything added between this call and the integrator's
+   * step is consumed by the integrator but is missing from the record. Use
+   * {@link #recordInputFrom(long, JCameraFPSStyleInputType,
+   * JCameraFPSStyleInputType)} for input that other threads update.
+   *
+   * @param tick  The tick, which must be greater than that of the previous
+   *              record
+   * @param input The input
+   *
+   * @throws IOException              If a new region of the file could not
+   *                                  be mapped
+   * @throws IllegalStateException    If the previous record has not been
+   *                                  completed
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the previous record
+   */
+
+  public void recordInput(
+    final long tick,
+    final JCameraFPSStyleInputType input)
+    throws IOException
+  {
+    Objects.requireNonNull(input, "Input");
+
+    this.writeInput(
+      tick,
+      JCameraRecordingFormat.fpsInputFlags(input),
+      input.getRotationHorizontal(),
+      input.getRotationVertical());
+  }
+
+  /**
+   * Begin the record for a tick with input that other threads may be
+   * updating, and set {@code target} to exactly the recorded input state.
+   * The rotations accumulated in {@code source} are taken (and so cleared),
+   * and the movement flags are sampled once. The integrator must read
+   * {@code target}, which must not be shared with other threads, so that
+   * it consumes exactly the recorded state.
+   *
+   * @param tick   The tick, which must be greater than that of the
+   *               previous record
+   * @param source The input updated by other threads
+   * @param target The input read by the integrator
+   *
+   * @throws IOException              If a new region of the file could not
+   *                                  be mapped
+   * @throws IllegalStateException    If the previous record has not been
+   *                                  completed
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the previous record
+   */
+
+  public void recordInputFrom(
+    final long tick,
+    final JCameraFPSStyleInputType source,
+    final JCameraFPSStyleInputType target)
+    throws IOException
+  {
+    Objects.requireNonNull(source, "Source");
+    Objects.requireNonNull(target, "Target");
+
+    final int flags = JCameraRecordingFormat.fpsInputFlags(source);
+    final double horizontal = source.takeRotationHorizontal();
+    final double vertical = source.takeRotationVertical();
+    this.writeInput(tick, flags, horizontal, vertical);
+    JCameraRecordingFormat.fpsInputApply(flags, horizontal, vertical, target);
+  }
+
+  private void writeInput(
+    final long tick,
+    final int flags,
+    final double horizontal,
+    final double vertical)
+    throws IOException
+  {
+    final int base = this.writer.begin(tick);
+    final ByteBuffer b = this.writer.chunk();
+
+    b.putInt(base + JCameraRecordingFormat.RECORD_INPUT_FLAGS, flags);
+    b.putDouble(base + JCameraRecordingFormat.RECORD_INPUT_0, horizontal);
+    b.putDouble(base + JCameraRecordingFormat.RECORD_INPUT_1, vertical);
+  }
+
+  /**
+   * Complete the record for the current tick with the state of the given
+   * camera.
+   *
+   * @param camera The camera
+   *
+   * @throws IllegalStateException If no record has been started
+   */
+
+  public void recordCamera(
+    final JCameraFPSStyleReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    this.recordCamera(JCameraFPSStyleSnapshots.ofInto(camera, this.scratch));
+  }
+
+  /**
+   * Complete the record for the current tick with the given snapshot.
+   *
+   * @param snapshot The snapshot
+   *
+   * @throws IllegalStateException If no record has been started
+   */
+
+  public void recordCamera(
+    final JCameraFPSStyleSnapshotMutable snapshot)
+  {
+    Objects.requireNonNull(snapshot, "Snapshot");
+
+    final int base = this.writer.pending();
+    final ByteBuffer b = this.writer.chunk();
+    b.putDouble(
+      base + JCameraRecordingFormat.FPS_ANGLE_H,
+      snapshot.cameraGetAngleAroundHorizontal());
+    b.putDouble(
+      base + JCameraRecordingFormat.FPS_ANGLE_V,
+      snapshot.cameraGetAngleAroundVertical());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.FPS_POSITION,
+      snapshot.cameraGetPositionX(),
+      snapshot.cameraGetPositionY(),
+      snapshot.cameraGetPositionZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.FPS_RIGHT_VECTOR,
+      snapshot.cameraGetRightX(),
+      snapshot.cameraGetRightY(),
+      snapshot.cameraGetRightZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.FPS_UP_VECTOR,
+      snapshot.cameraGetUpX(),
+      snapshot.cameraGetUpY(),
+      snapshot.cameraGetUpZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.FPS_FORWARD_VECTOR,
+      snapshot.cameraGetForwardX(),
+      snapshot.cameraGetForwardY(),
+      snapshot.cameraGetForwardZ());
+    this.writer.commit();
+  }
+
+  /**
+   * Write any outstanding data to storage and close the file. A record that
+   * has been started but not completed is discarded.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.writer.close();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * <p>A harness that replays a {@link JCameraFPSStyleInputLog} through an
+ * integrator.</p>
+ *
+ * <p>Each step applies the next logged input state to the integrator's
+ * input and then integrates by the logged time step. The harness reads no
+ * clock and runs entirely on the calling thread, so replaying a log through
+ * an integrator that starts from the same camera state and configuration as
+ * the original integrator reproduces the original camera states exactly,
+ * provided that the replay runs on the same JVM build and platform as the
+ * original.</p>
+ *
+ * <p>The guarantee does not extend across JVMs or platforms. Basic
+ * floating-point arithmetic is strict in Java, but the integrators and
+ * cameras also use {@link Math#sin(double)}, {@link Math#cos(double)}, and
+ * {@link Math#pow(double, double)}, which are only specified to within one
+ * ulp of the exact result and so may differ between JVM implementations
+ * and processors. A replay on a different JVM or platform therefore
+ * follows the original path closely, but not necessarily bit-for-bit.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleReplay
+{
+  private final JCameraFPSStyleInputLog log;
+  private final JCameraFPSStyleInputType input;
+  private final JCameraFPSStyleIntegratorType integrator;
+  private int position;
+
+  private JCameraFPSStyleReplay(
+    final JCameraFPSStyleInputLog in_log,
+    final JCameraFPSStyleInputType in_input,
+    final JCameraFPSStyleIntegratorType in_integrator)
+  {
+    this.log = Objects.requireNonNull(in_log, "Log");
+    this.input = Objects.requireNonNull(in_input, "Input");
+    this.integrator = Objects.requireNonNull(in_integrator, "Integrator");
+    this.position = 0;
+  }
+
+  /**
+   * Create a new replay.
+   *
+   * @param in_log        The input log
+   * @param in_input      The input read by {@code in_integrator}
+   * @param in_integrator A fresh integrator
+   *
+   * @return A new replay, positioned at the first entry of the log
+   */
+
+  public static JCameraFPSStyleReplay create(
+    final JCameraFPSStyleInputLog in_log,
+    final JCameraFPSStyleInputType in_input,
+    final JCameraFPSStyleIntegratorType in_integrator)
+  {
+    return new JCameraFPSStyleReplay(in_log, in_input, in_integrator);
+  }
+
+  /**
+   * @return The index of the next entry to be replayed
+   */
+
+  public int position()
+  {
+    return this.position;
+  }
+
+  /**
+   * @return {@code true} iff every entry of the log has been replayed
+   */
+
+  public boolean isFinished()
+  {
+    return this.position >= this.log.size();
+  }
+
+  /**
+   * Replay the next entry of the log.
+   *
+   * @throws IllegalStateException If every entry has been replayed
+   */
+
+  public void step()
+  {
+    if (this.isFinished()) {
+      throw new IllegalStateException("Replay is finished");
+    }
+
+    this.log.applyInput(this.position, this.input);
+    this.integrator.integrate(this.log.delta(this.position));
+    ++this.position;
+  }
+
+  /**
+   * Replay every remaining entry of the log.
+   *
+   * @return The number of entries replayed
+   */
+
+  public int run()
+  {
+    final int start = this.position;
+    while (!this.isFinished()) {
+      this.step();
+    }
+    return this.position - start;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * <p>A channel that publishes the latest state of an FPS-style camera from
+ * one thread to any number of other threads.</p>
+ *
+ * <p>The state is held in preallocated primitive slots guarded by a sequence
+ * counter. Exactly one thread (typically the simulation thread) may call the
+ * {@code publish} functions. Any number of threads (such as render, audio,
+ * or network threads) may concurrently call {@link
+ * #readInto(JCameraFPSStyleSnapshotMutable)}, which always produces a
+ * complete state from a single publication. Neither publishing nor reading
+ * takes a lock or allocates; a reader that races with a publication simply
+ * reads again.</p>
+ *
+ * <p>Cameras such as {@link JCameraFPSStyle} modify internal state when read
+ * and so must not themselves be shared between threads; the simulation
+ * thread should publish them here instead.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleSnapshotChannel
+{
+  private final JCameraSeqlock lock;
+  private final JCameraFPSStyleSnapshotMutable scratch;
+
+  private JCameraFPSStyleSnapshotChannel()
+  {
+    this.lock = new JCameraSeqlock(FPSStyleSnapshotLayout.SIZE);
+    this.scratch = JCameraFPSStyleSnapshotMutable.create();
+  }
+
+  /**
+   * Create a new channel. Until the first publication, readers observe a
+   * state with all values set to zero.
+   *
+   * @return A new channel
+   */
+
+  public static JCameraFPSStyleSnapshotChannel create()
+  {
+    return new JCameraFPSStyleSnapshotChannel();
+  }
+
+  /**
+   * Publish the current state of {@code camera}. This function must only be
+   * called from the publishing thread.
+   *
+   * @param camera The camera
+   */
+
+  public void publish(
+    final JCameraFPSStyleReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    this.publish(JCameraFPSStyleSnapshots.ofInto(camera, this.scratch));
+  }
+
+  /**
+   * Publish the state held in {@code snapshot}. This function must only be
+   * called from the publishing thread.
+   *
+   * @param snapshot The snapshot
+   */
+
+  public void publish(
+    final JCameraFPSStyleSnapshotMutable snapshot)
+  {
+    Objects.requireNonNull(snapshot, "Snapshot");
+
+    final JCameraSeqlock k = this.lock;
+    k.writeBegin();
+    FPSStyleSnapshotLayout.pack(snapshot, k.slots(), 0);
+    k.writeEnd();
+  }
+
+  /**
+   * Read the most recently published state into {@code target}. This
+   * function may be called from any thread, but {@code target} must not be
+   * shared between reading threads.
+   *
+   * @param target The snapshot that will be overwritten
+   *
+   * @return The number of the publication that was read, counting from one,
+   * or zero if nothing has been published
+   */
+
+  public long readInto(
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+
+    final JCameraSeqlock k = this.lock;
+    while (true) {
+      final long stamp = k.readBegin();
+      FPSStyleSnapshotLayout.unpack(k.slots(), 0, target);
+      if (k.readValidate(stamp)) {
+        return stamp >>> 1;
+      }
+    }
+  }
+
+  /**
+   * A reader that has already read the state returned by a particular
+   * publication can compare that publication's number with this value to
+   * avoid reading the same state again.
+   *
+   * @return The number of completed publications
+   */
+
+  public long version()
+  {
+    return this.lock.version();
+  }
+}
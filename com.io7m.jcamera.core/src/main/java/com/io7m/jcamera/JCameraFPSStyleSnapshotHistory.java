@@ -0,0 +1,320 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * <p>A fixed-capacity history of the states of an FPS-style camera, keyed by
+ * simulation tick.</p>
+ *
+ * <p>The history is intended for answering questions such as "where was
+ * this camera at time {@code t}?", as required for server-side lag
+ * compensation and rewinding. States are recorded in order of strictly
+ * increasing tick; once the history is full, recording a state discards the
+ * oldest one. All storage is allocated when the history is created and is
+ * held in arrays of primitive values, so recording a state is {@code O(1)},
+ * finding a state by tick is {@code O(log n)}, and neither allocates.</p>
+ *
+ * <p>Queries at times that fall between two recorded ticks are answered by
+ * linear interpolation with the functions in
+ * {@link JCameraFPSStyleSnapshots}. Times are expressed in ticks, but need
+ * not be integers: the time {@code 10.25} is a quarter of the way from tick
+ * {@code 10} to the next recorded tick. Queries outside of the recorded
+ * range return the oldest or newest state.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleSnapshotHistory
+{
+  private final JCameraSnapshotHistoryIndex ticks;
+  private final double[] values;
+  private final JCameraFPSStyleSnapshotMutable scratch0;
+  private final JCameraFPSStyleSnapshotMutable scratch1;
+
+  private JCameraFPSStyleSnapshotHistory(
+    final int capacity)
+  {
+    this.ticks = new JCameraSnapshotHistoryIndex(capacity);
+    this.values = new double[capacity * FPSStyleSnapshotLayout.SIZE];
+    this.scratch0 = JCameraFPSStyleSnapshotMutable.create();
+    this.scratch1 = JCameraFPSStyleSnapshotMutable.create();
+  }
+
+  /**
+   * Create a new, empty history.
+   *
+   * @param capacity The maximum number of states that can be held
+   *
+   * @return A new history
+   */
+
+  public static JCameraFPSStyleSnapshotHistory create(
+    final int capacity)
+  {
+    RangeCheck.checkGreaterInteger(
+      capacity, "Capacity", 0, "Minimum capacity");
+    RangeCheck.checkLessEqualInteger(
+      capacity,
+      "Capacity",
+      Integer.MAX_VALUE / FPSStyleSnapshotLayout.SIZE,
+      "Maximum capacity");
+    return new JCameraFPSStyleSnapshotHistory(capacity);
+  }
+
+  /**
+   * @return The maximum number of states that can be held
+   */
+
+  public int capacity()
+  {
+    return this.ticks.capacity();
+  }
+
+  /**
+   * @return The number of states currently held
+   */
+
+  public int size()
+  {
+    return this.ticks.size();
+  }
+
+  /**
+   * @return {@code true} if no states are held
+   */
+
+  public boolean isEmpty()
+  {
+    return this.ticks.size() == 0;
+  }
+
+  /**
+   * Discard all states.
+   */
+
+  public void clear()
+  {
+    this.ticks.clear();
+  }
+
+  /**
+   * @return The tick of the oldest state
+   *
+   * @throws IllegalStateException If the history is empty
+   */
+
+  public long oldestTick()
+  {
+    return this.ticks.oldest();
+  }
+
+  /**
+   * @return The tick of the newest state
+   *
+   * @throws IllegalStateException If the history is empty
+   */
+
+  public long newestTick()
+  {
+    return this.ticks.newest();
+  }
+
+  /**
+   * @param index The index of a state, where {@code 0} is the oldest state
+   *
+   * @return The tick of the given state
+   */
+
+  public long tickAt(
+    final int index)
+  {
+    return this.ticks.tick(index);
+  }
+
+  /**
+   * Find the newest state recorded at or before the given tick.
+   *
+   * @param tick The tick
+   *
+   * @return The index of the state, or {@code -1} if all held states are
+   * newer than {@code tick}
+   */
+
+  public int find(
+    final long tick)
+  {
+    return this.ticks.floor(tick);
+  }
+
+  /**
+   * Record the state of a camera at the given tick.
+   *
+   * @param tick   The tick, which must be greater than that of the newest
+   *               state
+   * @param camera The camera
+   *
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the newest state
+   */
+
+  public void record(
+    final long tick,
+    final JCameraFPSStyleReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    this.record(tick, JCameraFPSStyleSnapshots.ofInto(camera, this.scratch0));
+  }
+
+  /**
+   * Record a snapshot of a camera at the given tick. The function does not
+   * allocate.
+   *
+   * @param tick     The tick, which must be greater than that of the newest
+   *                 state
+   * @param snapshot The snapshot
+   *
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the newest state
+   */
+
+  public void record(
+    final long tick,
+    final JCameraFPSStyleSnapshotMutable snapshot)
+  {
+    Objects.requireNonNull(snapshot, "Snapshot");
+
+    final int base =
+      this.ticks.append(tick) * FPSStyleSnapshotLayout.SIZE;
+    FPSStyleSnapshotLayout.pack(snapshot, this.values, base);
+  }
+
+  /**
+   * @param index The index of a state, where {@code 0} is the oldest state
+   *
+   * @return The given state
+   */
+
+  public JCameraFPSStyleSnapshot get(
+    final int index)
+  {
+    return JCameraFPSStyleSnapshots.of(
+      this.getInto(index, JCameraFPSStyleSnapshotMutable.create()));
+  }
+
+  /**
+   * Copy the given state into {@code target}. The function does not
+   * allocate.
+   *
+   * @param index  The index of a state, where {@code 0} is the oldest state
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public JCameraFPSStyleSnapshotMutable getInto(
+    final int index,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+    this.load(this.ticks.slot(index), target);
+    return target;
+  }
+
+  /**
+   * Determine the state of the camera at the given time.
+   *
+   * @param time The time in ticks
+   *
+   * @return The state of the camera at {@code time}
+   *
+   * @throws IllegalStateException If the history is empty
+   */
+
+  public JCameraFPSStyleSnapshot sample(
+    final double time)
+  {
+    final double a = this.prepare(time);
+    return JCameraFPSStyleSnapshots.interpolate(
+      JCameraFPSStyleSnapshots.of(this.scratch0),
+      JCameraFPSStyleSnapshots.of(this.scratch1),
+      a);
+  }
+
+  /**
+   * Determine the state of the camera at the given time, writing the result
+   * into {@code target}. The results are identical to those of
+   * {@link #sample(double)}, but the function does not allocate.
+   *
+   * @param time   The time in ticks
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   *
+   * @throws IllegalStateException If the history is empty
+   */
+
+  public JCameraFPSStyleSnapshotMutable sampleInto(
+    final double time,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+    final double a = this.prepare(time);
+    return JCameraFPSStyleSnapshots.interpolateInto(
+      this.scratch0, this.scratch1, a, target);
+  }
+
+  /**
+   * Load the states either side of {@code time} into the scratch snapshots.
+   *
+   * @return The interpolation value between the scratch snapshots
+   */
+
+  private double prepare(
+    final double time)
+  {
+    this.ticks.checkNotEmpty();
+
+    final int last = this.ticks.size() - 1;
+    final int i = Math.max(0, this.ticks.floor((long) Math.floor(time)));
+    if (i == last || (double) this.ticks.tick(i) >= time) {
+      final int slot = this.ticks.slot(i);
+      this.load(slot, this.scratch0);
+      this.load(slot, this.scratch1);
+      return 0.0;
+    }
+
+    final long t0 = this.ticks.tick(i);
+    final long t1 = this.ticks.tick(i + 1);
+    this.load(this.ticks.slot(i), this.scratch0);
+    this.load(this.ticks.slot(i + 1), this.scratch1);
+    return (time - (double) t0) / (double) (t1 - t0);
+  }
+
+  private void load(
+    final int slot,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    final int base = slot * FPSStyleSnapshotLayout.SIZE;
+    FPSStyleSnapshotLayout.unpack(this.values, base, target);
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * <p>A mutable, reusable snapshot of an FPS-style camera.</p>
+ *
+ * <p>Values are written with {@link JCameraFPSStyleSnapshots#ofInto(
+ * JCameraFPSStyleReadableType, JCameraFPSStyleSnapshotMutable)} and {@link
+ * JCameraFPSStyleSnapshots#interpolateInto(JCameraFPSStyleSnapshotMutable,
+ * JCameraFPSStyleSnapshotMutable, double, JCameraFPSStyleSnapshotMutable)},
+ * and are held as primitive fields. The component accessors and the {@code
+ * cameraMakeViewMatrixInto} methods do not allocate; the methods that return
+ * {@link Vector3D} values allocate a new vector on each call.</p>
+ *
+ * <p>Unlike {@link JCameraFPSStyleSnapshot}, values of this type may change
+ * and so should not be shared between threads.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleSnapshotMutable
+  implements JCameraFPSStyleReadableType
+{
+  private final JCameraOrientationSlerp slerp;
+  private double angle_around_horizontal;
+  private double angle_around_vertical;
+  private double position_x;
+  private double position_y;
+  private double position_z;
+  private double right_x;
+  private double right_y;
+  private double right_z;
+  private double up_x;
+  private double up_y;
+  private double up_z;
+  private double forward_x;
+  private double forward_y;
+  private double forward_z;
+
+  private JCameraFPSStyleSnapshotMutable()
+  {
+    this.slerp = new JCameraOrientationSlerp();
+  }
+
+  /**
+   * Create a new snapshot with all values set to zero.
+   *
+   * @return A new snapshot
+   */
+
+  public static JCameraFPSStyleSnapshotMutable create()
+  {
+    return new JCameraFPSStyleSnapshotMutable();
+  }
+
+  JCameraOrientationSlerp orientationSlerp()
+  {
+    return this.slerp;
+  }
+
+  void setAngles(
+    final double horizontal,
+    final double vertical)
+  {
+    this.angle_around_horizontal = horizontal;
+    this.angle_around_vertical = vertical;
+  }
+
+  void setPosition(
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.position_x = x;
+    this.position_y = y;
+    this.position_z = z;
+  }
+
+  void setRight(
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.right_x = x;
+    this.right_y = y;
+    this.right_z = z;
+  }
+
+  void setUp(
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.up_x = x;
+    this.up_y = y;
+    this.up_z = z;
+  }
+
+  void setForward(
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.forward_x = x;
+    this.forward_y = y;
+    this.forward_z = z;
+  }
+
+  @Override
+  public double cameraGetAngleAroundHorizontal()
+  {
+    return this.angle_around_horizontal;
+  }
+
+  @Override
+  public double cameraGetAngleAroundVertical()
+  {
+    return this.angle_around_vertical;
+  }
+
+  @Override
+  public Vector3D cameraGetForward()
+  {
+    return Vector3D.of(this.forward_x, this.forward_y, this.forward_z);
+  }
+
+  @Override
+  public Vector3D cameraGetPosition()
+  {
+    return Vector3D.of(this.position_x, this.position_y, this.position_z);
+  }
+
+  @Override
+  public Vector3D cameraGetRight()
+  {
+    return Vector3D.of(this.right_x, this.right_y, this.right_z);
+  }
+
+  @Override
+  public Vector3D cameraGetUp()
+  {
+    return Vector3D.of(this.up_x, this.up_y, this.up_z);
+  }
+
+  @Override
+  public double cameraGetPositionX()
+  {
+    return this.position_x;
+  }
+
+  @Override
+  public double cameraGetPositionY()
+  {
+    return this.position_y;
+  }
+
+  @Override
+  public double cameraGetPositionZ()
+  {
+    return this.position_z;
+  }
+
+  @Override
+  public double cameraGetRightX()
+  {
+    return this.right_x;
+  }
+
+  @Override
+  public double cameraGetRightY()
+  {
+    return this.right_y;
+  }
+
+  @Override
+  public double cameraGetRightZ()
+  {
+    return this.right_z;
+  }
+
+  @Override
+  public double cameraGetUpX()
+  {
+    return this.up_x;
+  }
+
+  @Override
+  public double cameraGetUpY()
+  {
+    return this.up_y;
+  }
+
+  @Override
+  public double cameraGetUpZ()
+  {
+    return this.up_z;
+  }
+
+  @Override
+  public double cameraGetForwardX()
+  {
+    return this.forward_x;
+  }
+
+  @Override
+  public double cameraGetForwardY()
+  {
+    return this.forward_y;
+  }
+
+  @Override
+  public double cameraGetForwardZ()
+  {
+    return this.forward_z;
+  }
+
+  @Override
+  public Matrix4x4D cameraMakeViewMatrix()
+  {
+    return JCameraViewMatrix.makeViewMatrix(
+      this.cameraGetPosition(),
+      this.cameraGetRight(),
+      this.cameraGetUp(),
+      this.cameraGetForward());
+  }
+
+  @Override
+  public <T0, T1> PMatrix4x4D<T0, T1> cameraMakeViewPMatrix()
+  {
+    return JCameraViewMatrix.makeViewPMatrix(
+      this.cameraGetPosition(),
+      this.cameraGetRight(),
+      this.cameraGetUp(),
+      this.cameraGetForward());
+  }
+
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final double[] output,
+    final int offset)
+  {
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder b = new StringBuilder(128);
+    b.append("[JCameraFPSStyleSnapshotMutable position=[");
+    b.append(this.position_x);
+    b.append(' ');
+    b.append(this.position_y);
+    b.append(' ');
+    b.append(this.position_z);
+    b.append("] angle_around_horizontal=");
+    b.append(this.angle_around_horizontal);
+    b.append(" angle_around_vertical=");
+    b.append(this.angle_around_vertical);
+    b.append(']');
+    return b.toString();
+  }
+}
@@ -22,7 +22,7 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
- * Functions to derive immutable snapshots of cameras.
+ * Functions to derive immutable and mutable snapshots of cameras.
  */
 
 public final class JCameraFPSStyleSnapshots
@@ -33,7 +33,9 @@ public final class JCameraFPSStyleSnapshots
   }
 
   /**
-   * Linearly interpolate between two camera snapshots.
+   * Linearly interpolate between two camera snapshots. The angle around the
+   * vertical axis is interpolated along the shortest arc, because cameras
+   * wrap that angle into the range {@code [-π, π]} as they rotate.
    *
    * @param x The first snapshot
    * @param y The second snapshot
@@ -69,7 +71,7 @@ public final class JCameraFPSStyleSnapshots
         y.cameraGetAngleAroundHorizontal(),
         a);
     final double r_v =
-      InterpolationD.interpolateLinear(
+      JCameraOrientationSlerp.interpolateAngle(
         x.cameraGetAngleAroundVertical(),
         y.cameraGetAngleAroundVertical(),
         a);
@@ -102,4 +104,188 @@ public final class JCameraFPSStyleSnapshots
       .setCameraGetAngleAroundVertical(c.cameraGetAngleAroundVertical())
       .build();
   }
+
+  /**
+   * Copy the state of a camera into an existing mutable snapshot. The
+   * function does not allocate.
+   *
+   * @param c      A camera
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraFPSStyleSnapshotMutable ofInto(
+    final JCameraFPSStyleReadableType c,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    target.setAngles(
+      c.cameraGetAngleAroundHorizontal(),
+      c.cameraGetAngleAroundVertical());
+    target.setPosition(
+      c.cameraGetPositionX(),
+      c.cameraGetPositionY(),
+      c.cameraGetPositionZ());
+    target.setRight(
+      c.cameraGetRightX(),
+      c.cameraGetRightY(),
+      c.cameraGetRightZ());
+    target.setUp(
+      c.cameraGetUpX(),
+      c.cameraGetUpY(),
+      c.cameraGetUpZ());
+    target.setForward(
+      c.cameraGetForwardX(),
+      c.cameraGetForwardY(),
+      c.cameraGetForwardZ());
+    return target;
+  }
+
+  /**
+   * Linearly interpolate between two mutable camera snapshots, writing the
+   * result into {@code target}. The results are identical to those of
+   * {@link #interpolate(JCameraFPSStyleSnapshot, JCameraFPSStyleSnapshot,
+   * double)}, but the function does not allocate. The {@code target} may be
+   * the same object as {@code x} or {@code y}.
+   *
+   * @param x      The first snapshot
+   * @param y      The second snapshot
+   * @param a      The interpolation value
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraFPSStyleSnapshotMutable interpolateInto(
+    final JCameraFPSStyleSnapshotMutable x,
+    final JCameraFPSStyleSnapshotMutable y,
+    final double a,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    target.setAngles(
+      InterpolationD.interpolateLinear(
+        x.cameraGetAngleAroundHorizontal(),
+        y.cameraGetAngleAroundHorizontal(),
+        a),
+      JCameraOrientationSlerp.interpolateAngle(
+        x.cameraGetAngleAroundVertical(),
+        y.cameraGetAngleAroundVertical(),
+        a));
+    target.setPosition(
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionX(), y.cameraGetPositionX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionY(), y.cameraGetPositionY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionZ(), y.cameraGetPositionZ(), a));
+    target.setRight(
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightX(), y.cameraGetRightX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightY(), y.cameraGetRightY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightZ(), y.cameraGetRightZ(), a));
+    target.setUp(
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpX(), y.cameraGetUpX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpY(), y.cameraGetUpY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpZ(), y.cameraGetUpZ(), a));
+    target.setForward(
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardX(), y.cameraGetForwardX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardY(), y.cameraGetForwardY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardZ(), y.cameraGetForwardZ(), a));
+    return target;
+  }
+
+  /**
+   * <p>Interpolate between two camera snapshots, preserving the orientation
+   * of the camera.</p>
+   *
+   * <p>Unlike {@link #interpolate(JCameraFPSStyleSnapshot,
+   * JCameraFPSStyleSnapshot, double)}, the camera bases are converted to
+   * quaternions and interpolated spherically, so the resulting basis is
+   * always orthonormal and rotates at a constant rate. The angle around the
+   * vertical axis is interpolated along the shortest arc, so an angle that
+   * crosses a multiple of {@code 2π} between snapshots does not cause the
+   * camera to spin the long way around. The angle around the horizontal
+   * axis, which is clamped rather than wrapped, and the position are
+   * interpolated linearly.</p>
+   *
+   * @param x The first snapshot
+   * @param y The second snapshot
+   * @param a The interpolation value
+   *
+   * @return A value between {@code x} and {@code y}
+   */
+
+  public static JCameraFPSStyleSnapshot interpolateSlerp(
+    final JCameraFPSStyleSnapshot x,
+    final JCameraFPSStyleSnapshot y,
+    final double a)
+  {
+    final JCameraFPSStyleSnapshotMutable m0 =
+      ofInto(x, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable m1 =
+      ofInto(y, JCameraFPSStyleSnapshotMutable.create());
+    return of(interpolateSlerpInto(m0, m1, a, m0));
+  }
+
+  /**
+   * Interpolate between two mutable camera snapshots, preserving the
+   * orientation of the camera, and writing the result into {@code target}.
+   * The results are those of {@link #interpolateSlerp(JCameraFPSStyleSnapshot,
+   * JCameraFPSStyleSnapshot, double)}, but the function does not allocate.
+   * The {@code target} may be the same object as {@code x} or {@code y}.
+   *
+   * @param x      The first snapshot
+   * @param y      The second snapshot
+   * @param a      The interpolation value
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraFPSStyleSnapshotMutable interpolateSlerpInto(
+    final JCameraFPSStyleSnapshotMutable x,
+    final JCameraFPSStyleSnapshotMutable y,
+    final double a,
+    final JCameraFPSStyleSnapshotMutable target)
+  {
+    final JCameraOrientationSlerp s = target.orientationSlerp();
+    s.setBasis0(
+      x.cameraGetRightX(), x.cameraGetRightY(), x.cameraGetRightZ(),
+      x.cameraGetUpX(), x.cameraGetUpY(), x.cameraGetUpZ(),
+      x.cameraGetForwardX(), x.cameraGetForwardY(), x.cameraGetForwardZ());
+    s.setBasis1(
+      y.cameraGetRightX(), y.cameraGetRightY(), y.cameraGetRightZ(),
+      y.cameraGetUpX(), y.cameraGetUpY(), y.cameraGetUpZ(),
+      y.cameraGetForwardX(), y.cameraGetForwardY(), y.cameraGetForwardZ());
+    s.slerp(a);
+
+    target.setAngles(
+      InterpolationD.interpolateLinear(
+        x.cameraGetAngleAroundHorizontal(),
+        y.cameraGetAngleAroundHorizontal(),
+        a),
+      JCameraOrientationSlerp.interpolateAngle(
+        x.cameraGetAngleAroundVertical(),
+        y.cameraGetAngleAroundVertical(),
+        a));
+    target.setPosition(
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionX(), y.cameraGetPositionX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionY(), y.cameraGetPositionY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionZ(), y.cameraGetPositionZ(), a));
+    target.setRight(s.rightX(), s.rightY(), s.rightZ());
+    target.setUp(s.upX(), s.upY(), s.upZ());
+    target.setForward(s.forwardX(), s.forwardY(), s.forwardZ());
+    return target;
+  }
 }
@@ -130,6 +130,11 @@ public interface JCameraFPSStyleType extends
    * causes the camera to look <i>right</i>.
    * </p>
    *
+   * <p>The resulting angle is reduced to the range {@code [-π, π]} whenever
+   * it leaves that range, so a camera can rotate indefinitely without its
+   * angle growing without bound. The reduced angle describes the same
+   * orientation.</p>
+   *
    * @param r The radians to rotate
    */
 
@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A driver that advances a simulation in fixed time steps, decoupled from
+ * the rate at which frames are rendered.</p>
+ *
+ * <p>Each call to {@link #update()} reads the clock, runs as many fixed steps
+ * of the simulation as the elapsed time allows, and interpolates between the
+ * two most recent snapshots by the fraction of a step that remains. At most
+ * a configurable number of steps are executed per update; if the simulation
+ * falls further behind than that (because, for example, the process was
+ * suspended), the excess time is dropped rather than accumulated, so that
+ * the simulation cannot fall progressively further behind.</p>
+ *
+ * <p>Time is accumulated in integer nanoseconds, so the driver itself
+ * introduces no rounding drift, and the driver performs no allocation. The
+ * clock is supplied by the caller: {@code System::nanoTime} for real use, or
+ * a manually advanced counter for deterministic tests.</p>
+ *
+ * <p>Because the driver keeps the two most recent snapshots, a simulation
+ * must not return the same snapshot instance from consecutive steps; see
+ * {@link JCameraFixedStepSimulationType}. Simulations that reuse mutable
+ * snapshots alternate between two of them, and the interpolator writes to
+ * a third, so a whole frame can run without allocating.</p>
+ *
+ * <p>Drivers are not thread-safe.</p>
+ *
+ * @param <S> The type of snapshots produced by the simulation
+ */
+
+@EqualityReference
+public final class JCameraFixedStepDriver<S>
+{
+  private final LongSupplier clock;
+  private final JCameraFixedStepSimulationType<S> simulation;
+  private final JCameraSnapshotInterpolatorType<S> interpolator;
+  private final long step_nanos;
+  private final double step_seconds;
+  private final int maximum_steps;
+  private long time_then;
+  private long time_accum;
+  private S snap_prev;
+  private S snap_curr;
+  private double alpha;
+  private int frame_steps;
+  private long frame_dropped;
+  private long total_steps;
+  private long total_dropped;
+
+  private JCameraFixedStepDriver(
+    final LongSupplier in_clock,
+    final double in_rate,
+    final int in_maximum_steps,
+    final S in_initial,
+    final JCameraFixedStepSimulationType<S> in_simulation,
+    final JCameraSnapshotInterpolatorType<S> in_interpolator)
+  {
+    this.clock =
+      Objects.requireNonNull(in_clock, "Clock");
+    this.simulation =
+      Objects.requireNonNull(in_simulation, "Simulation");
+    this.interpolator =
+      Objects.requireNonNull(in_interpolator, "Interpolator");
+
+    RangeCheck.checkGreaterDouble(in_rate, "Rate", 0.0, "Minimum rate");
+    this.step_nanos = Math.max(1L, Math.round(1.0e9 / in_rate));
+    this.step_seconds = (double) this.step_nanos / 1.0e9;
+    this.maximum_steps =
+      RangeCheck.checkGreaterEqualInteger(
+        in_maximum_steps,
+        "Maximum steps",
+        1,
+        "Minimum steps");
+
+    this.snap_curr = Objects.requireNonNull(in_initial, "Initial");
+    this.reset();
+  }
+
+  /**
+   * Construct a new driver.
+   *
+   * @param in_clock         A clock that returns the current time in
+   *                         nanoseconds, such as {@code System::nanoTime}
+   * @param in_rate          The number of simulation steps per second
+   * @param in_maximum_steps The maximum number of steps executed by a single
+   *                         call to {@link #update()}
+   * @param in_initial       The initial snapshot
+   * @param in_simulation    The simulation
+   * @param in_interpolator  The snapshot interpolation function
+   * @param <S>              The type of snapshots
+   *
+   * @return A new driver
+   */
+
+  public static <S> JCameraFixedStepDriver<S> create(
+    final LongSupplier in_clock,
+    final double in_rate,
+    final int in_maximum_steps,
+    final S in_initial,
+    final JCameraFixedStepSimulationType<S> in_simulation,
+    final JCameraSnapshotInterpolatorType<S> in_interpolator)
+  {
+    return new JCameraFixedStepDriver<>(
+      in_clock,
+      in_rate,
+      in_maximum_steps,
+      in_initial,
+      in_simulation,
+      in_interpolator);
+  }
+
+  /**
+   * Restart timing from the current clock time. Any accumulated time is
+   * discarded, and the previous snapshot is set to the current snapshot.
+   * This should be called when the simulation is first started, or after a
+   * deliberate pause.
+   */
+
+  public void reset()
+  {
+    this.time_then = this.clock.getAsLong();
+    this.time_accum = 0L;
+    this.snap_prev = this.snap_curr;
+    this.alpha = 0.0;
+    this.frame_steps = 0;
+    this.frame_dropped = 0L;
+  }
+
+  /**
+   * Run as many simulation steps as the time elapsed since the last update
+   * allows, and interpolate between the two most recent snapshots.
+   *
+   * @return The interpolated snapshot
+   *
+   * @throws IllegalStateException If a step returns the same snapshot
+   *                               instance as the step before it
+   *
+   * @see JCameraFixedStepSimulationType
+   */
+
+  public S update()
+  {
+    final long time_now = this.clock.getAsLong();
+    final long time_diff = Math.max(0L, time_now - this.time_then);
+    this.time_then = time_now;
+    this.time_accum += time_diff;
+
+    int steps = 0;
+    while (this.time_accum >= this.step_nanos && steps < this.maximum_steps) {
+      final S next = this.simulation.simulate(this.step_seconds);
+      if (next == this.snap_curr) {
+        throw new IllegalStateException(
+          "Simulation returned the snapshot of the previous step");
+      }
+      this.snap_prev = this.snap_curr;
+      this.snap_curr = next;
+      this.time_accum -= this.step_nanos;
+      ++steps;
+    }
+
+    /*
+     * If the maximum number of steps was reached and whole steps remain,
+     * drop them and keep only the fractional part of a step.
+     */
+
+    long dropped = 0L;
+    if (this.time_accum >= this.step_nanos) {
+      final long remainder = this.time_accum % this.step_nanos;
+      dropped = this.time_accum - remainder;
+      this.time_accum = remainder;
+    }
+
+    this.frame_steps = steps;
+    this.frame_dropped = dropped;
+    this.total_steps += (long) steps;
+    this.total_dropped += dropped;
+
+    this.alpha = (double) this.time_accum / (double) this.step_nanos;
+    return this.interpolator.interpolate(
+      this.snap_prev,
+      this.snap_curr,
+      this.alpha);
+  }
+
+  /**
+   * @return The length of a simulation step in seconds
+   */
+
+  public double stepSeconds()
+  {
+    return this.step_seconds;
+  }
+
+  /**
+   * @return The maximum number of steps executed by a single update
+   */
+
+  public int maximumSteps()
+  {
+    return this.maximum_steps;
+  }
+
+  /**
+   * @return The interpolation factor used by the most recent update
+   */
+
+  public double alpha()
+  {
+    return this.alpha;
+  }
+
+  /**
+   * @return The snapshot produced by the step before the most recent step
+   */
+
+  public S previous()
+  {
+    return this.snap_prev;
+  }
+
+  /**
+   * @return The snapshot produced by the most recent step
+   */
+
+  public S current()
+  {
+    return this.snap_curr;
+  }
+
+  /**
+   * @return The number of steps executed by the most recent update
+   */
+
+  public int frameSteps()
+  {
+    return this.frame_steps;
+  }
+
+  /**
+   * @return The time in nanoseconds dropped by the most recent update
+   */
+
+  public long frameDroppedNanoseconds()
+  {
+    return this.frame_dropped;
+  }
+
+  /**
+   * @return The total number of steps executed since the driver was created
+   */
+
+  public long totalSteps()
+  {
+    return this.total_steps;
+  }
+
+  /**
+   * @return The total time in nanoseconds dropped since the driver was
+   * created
+   */
+
+  public long totalDroppedNanoseconds()
+  {
+    return this.total_dropped;
+  }
+}
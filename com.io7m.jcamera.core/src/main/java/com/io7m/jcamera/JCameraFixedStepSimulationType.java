@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+/**
+ * <p>The type of simulations advanced by a {@link JCameraFixedStepDriver}.</p>
+ *
+ * <p>The driver keeps the snapshots returned by the two most recent steps
+ * and interpolates between them, so each step must return a snapshot
+ * that is a distinct instance from the one returned by the step before
+ * it. A simulation that avoids allocation by reusing mutable snapshots
+ * must therefore alternate between (at least) two of them, filling the
+ * one that was not returned by the previous step. The initial snapshot
+ * given to the driver counts as the result of the step before the
+ * first.</p>
+ *
+ * @param <S> The type of snapshots produced by the simulation
+ */
+
+@FunctionalInterface
+public interface JCameraFixedStepSimulationType<S>
+{
+  /**
+   * Advance the simulation by one step.
+   *
+   * @param delta The length of the step in seconds
+   *
+   * @return A snapshot of the simulation state after the step, which must
+   * not be the same instance as the snapshot returned by the previous step
+   */
+
+  S simulate(
+    double delta);
+}
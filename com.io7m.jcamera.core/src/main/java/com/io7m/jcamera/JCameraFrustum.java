@@ -0,0 +1,427 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * <p>The six clipping planes of a view frustum, in world space, for use in
+ * visibility culling.</p>
+ *
+ * <p>A frustum is updated from a {@link JCameraViewProjection}, or directly
+ * from a combined view-projection matrix, by extracting the planes from the
+ * rows of the view-projection matrix. Each plane is stored as the four
+ * coefficients {@code (a, b, c, d)} of the equation {@code a * x + b * y +
+ * c * z + d = 0}, normalized so that {@code (a, b, c)} is a unit vector
+ * pointing into the frustum. The signed distance of a point from a plane is
+ * therefore {@code a * x + b * y + c * z + d}, and is non-negative for
+ * points on the inside of the plane.</p>
+ *
+ * <p>Neither updating the frustum nor testing points and volumes against it
+ * allocates.</p>
+ *
+ * <p>A frustum contains every point until it is first updated.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFrustum
+{
+  /**
+   * The index of the left plane.
+   */
+
+  public static final int PLANE_LEFT = 0;
+
+  /**
+   * The index of the right plane.
+   */
+
+  public static final int PLANE_RIGHT = 1;
+
+  /**
+   * The index of the bottom plane.
+   */
+
+  public static final int PLANE_BOTTOM = 2;
+
+  /**
+   * The index of the top plane.
+   */
+
+  public static final int PLANE_TOP = 3;
+
+  /**
+   * The index of the near plane.
+   */
+
+  public static final int PLANE_NEAR = 4;
+
+  /**
+   * The index of the far plane.
+   */
+
+  public static final int PLANE_FAR = 5;
+
+  /**
+   * The number of planes.
+   */
+
+  public static final int PLANE_COUNT = 6;
+
+  private final double[] planes;
+
+  private JCameraFrustum()
+  {
+    this.planes = new double[PLANE_COUNT * 4];
+
+    for (int plane = 0; plane < PLANE_COUNT; ++plane) {
+      this.planes[(plane * 4) + 3] = 1.0;
+    }
+  }
+
+  /**
+   * @return A new frustum that contains every point
+   */
+
+  public static JCameraFrustum create()
+  {
+    return new JCameraFrustum();
+  }
+
+  /**
+   * @param plane The index of a plane, such as {@link #PLANE_LEFT}
+   *
+   * @return The {@code a} coefficient (the x component of the normal) of
+   * the plane
+   */
+
+  public double planeA(
+    final int plane)
+  {
+    return this.planes[Objects.checkIndex(plane, PLANE_COUNT) * 4];
+  }
+
+  /**
+   * @param plane The index of a plane, such as {@link #PLANE_LEFT}
+   *
+   * @return The {@code b} coefficient (the y component of the normal) of
+   * the plane
+   */
+
+  public double planeB(
+    final int plane)
+  {
+    return this.planes[(Objects.checkIndex(plane, PLANE_COUNT) * 4) + 1];
+  }
+
+  /**
+   * @param plane The index of a plane, such as {@link #PLANE_LEFT}
+   *
+   * @return The {@code c} coefficient (the z component of the normal) of
+   * the plane
+   */
+
+  public double planeC(
+    final int plane)
+  {
+    return this.planes[(Objects.checkIndex(plane, PLANE_COUNT) * 4) + 2];
+  }
+
+  /**
+   * @param plane The index of a plane, such as {@link #PLANE_LEFT}
+   *
+   * @return The {@code d} coefficient (the signed distance of the origin)
+   * of the plane
+   */
+
+  public double planeD(
+    final int plane)
+  {
+    return this.planes[(Objects.checkIndex(plane, PLANE_COUNT) * 4) + 3];
+  }
+
+  /**
+   * Copy the coefficients of every plane to {@code output}, four per plane
+   * in the order of the plane indices.
+   *
+   * @param output The output array
+   */
+
+  void planesInto(
+    final double[] output)
+  {
+    System.arraycopy(this.planes, 0, output, 0, this.planes.length);
+  }
+
+  /**
+   * Update the frustum from the current view-projection matrix of
+   * {@code view_projection}. The view-projection should have been updated
+   * for the current state of the camera with
+   * {@link JCameraViewProjection#update(JCameraReadableType)}.
+   *
+   * @param view_projection The view-projection
+   */
+
+  public void updateFromViewProjection(
+    final JCameraViewProjection view_projection)
+  {
+    Objects.requireNonNull(view_projection, "View projection");
+    this.extractAll(view_projection.viewProjection(), 0);
+  }
+
+  /**
+   * Update the frustum from a combined view-projection matrix that maps
+   * world space to OpenGL clip space.
+   *
+   * @param matrix The 16 elements of the matrix in column-major order
+   * @param offset The index of the first element in {@code matrix}
+   */
+
+  public void updateFromViewProjection(
+    final double[] matrix,
+    final int offset)
+  {
+    Objects.requireNonNull(matrix, "Matrix");
+    Objects.checkFromIndexSize(offset, 16, matrix.length);
+    this.extractAll(matrix, offset);
+  }
+
+  private void extractAll(
+    final double[] m,
+    final int offset)
+  {
+    for (int row = 0; row < 3; ++row) {
+      this.extract(m, offset, row, 1.0, row * 2);
+      this.extract(m, offset, row, -1.0, (row * 2) + 1);
+    }
+  }
+
+  /**
+   * Set a plane to the fourth row of the matrix plus {@code sign} times the
+   * given row, normalized. A plane with a zero normal (such as the far
+   * plane of an infinite projection) is replaced by a plane that contains
+   * every point.
+   */
+
+  private void extract(
+    final double[] m,
+    final int offset,
+    final int row,
+    final double sign,
+    final int plane)
+  {
+    final double a = m[offset + 3] + (sign * m[offset + row]);
+    final double b = m[offset + 7] + (sign * m[offset + 4 + row]);
+    final double c = m[offset + 11] + (sign * m[offset + 8 + row]);
+    final double d = m[offset + 15] + (sign * m[offset + 12 + row]);
+    final double length = Math.sqrt((a * a) + (b * b) + (c * c));
+
+    final int base = plane * 4;
+    if (length == 0.0) {
+      this.planes[base] = 0.0;
+      this.planes[base + 1] = 0.0;
+      this.planes[base + 2] = 0.0;
+      this.planes[base + 3] = 1.0;
+    } else {
+      final double scale = 1.0 / length;
+      this.planes[base] = a * scale;
+      this.planes[base + 1] = b * scale;
+      this.planes[base + 2] = c * scale;
+      this.planes[base + 3] = d * scale;
+    }
+  }
+
+  /**
+   * @param plane The index of a plane, such as {@link #PLANE_LEFT}
+   * @param x     The x coordinate of a point
+   * @param y     The y coordinate of a point
+   * @param z     The z coordinate of a point
+   *
+   * @return The signed distance of the point from the plane, which is
+   * positive on the inside of the plane
+   */
+
+  public double distance(
+    final int plane,
+    final double x,
+    final double y,
+    final double z)
+  {
+    final int base = Objects.checkIndex(plane, PLANE_COUNT) * 4;
+    return this.signedDistance(base, x, y, z);
+  }
+
+  private double signedDistance(
+    final int base,
+    final double x,
+    final double y,
+    final double z)
+  {
+    final double[] p = this.planes;
+    return (p[base] * x) + (p[base + 1] * y) + (p[base + 2] * z) + p[base + 3];
+  }
+
+  /**
+   * @param x The x coordinate of a point
+   * @param y The y coordinate of a point
+   * @param z The z coordinate of a point
+   *
+   * @return {@code true} iff the point is inside the frustum or on its
+   * boundary
+   */
+
+  public boolean containsPoint(
+    final double x,
+    final double y,
+    final double z)
+  {
+    for (int base = 0; base < PLANE_COUNT * 4; base += 4) {
+      if (this.signedDistance(base, x, y, z) < 0.0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Test a sphere against the frustum. The test is conservative: it never
+   * rejects a sphere that intersects the frustum, but may accept a sphere
+   * that lies just outside the frustum near one of its edges.
+   *
+   * @param x      The x coordinate of the center of the sphere
+   * @param y      The y coordinate of the center of the sphere
+   * @param z      The z coordinate of the center of the sphere
+   * @param radius The radius of the sphere
+   *
+   * @return {@code false} iff the sphere is certainly outside the frustum
+   */
+
+  public boolean intersectsSphere(
+    final double x,
+    final double y,
+    final double z,
+    final double radius)
+  {
+    for (int base = 0; base < PLANE_COUNT * 4; base += 4) {
+      if (this.signedDistance(base, x, y, z) < -radius) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Test an axis-aligned bounding box against the frustum. For each plane,
+   * the corner of the box furthest along the plane normal is tested. The
+   * test is conservative in the same way as
+   * {@link #intersectsSphere(double, double, double, double)}.
+   *
+   * @param x_min The minimum x coordinate of the box
+   * @param y_min The minimum y coordinate of the box
+   * @param z_min The minimum z coordinate of the box
+   * @param x_max The maximum x coordinate of the box
+   * @param y_max The maximum y coordinate of the box
+   * @param z_max The maximum z coordinate of the box
+   *
+   * @return {@code false} iff the box is certainly outside the frustum
+   */
+
+  public boolean intersectsAABB(
+    final double x_min,
+    final double y_min,
+    final double z_min,
+    final double x_max,
+    final double y_max,
+    final double z_max)
+  {
+    final double[] p = this.planes;
+    for (int base = 0; base < PLANE_COUNT * 4; base += 4) {
+      final double x = p[base] >= 0.0 ? x_max : x_min;
+      final double y = p[base + 1] >= 0.0 ? y_max : y_min;
+      final double z = p[base + 2] >= 0.0 ? z_max : z_min;
+      if (this.signedDistance(base, x, y, z) < 0.0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Test whether an axis-aligned bounding box lies entirely inside the
+   * frustum. For each plane, the corner of the box nearest along the plane
+   * normal is tested.
+   *
+   * @param x_min The minimum x coordinate of the box
+   * @param y_min The minimum y coordinate of the box
+   * @param z_min The minimum z coordinate of the box
+   * @param x_max The maximum x coordinate of the box
+   * @param y_max The maximum y coordinate of the box
+   * @param z_max The maximum z coordinate of the box
+   *
+   * @return {@code true} iff every point of the box is inside the frustum
+   */
+
+  public boolean containsAABB(
+    final double x_min,
+    final double y_min,
+    final double z_min,
+    final double x_max,
+    final double y_max,
+    final double z_max)
+  {
+    final double[] p = this.planes;
+    for (int base = 0; base < PLANE_COUNT * 4; base += 4) {
+      final double x = p[base] >= 0.0 ? x_min : x_max;
+      final double y = p[base + 1] >= 0.0 ? y_min : y_max;
+      final double z = p[base + 2] >= 0.0 ? z_min : z_max;
+      if (this.signedDistance(base, x, y, z) < 0.0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Test whether a sphere lies entirely inside the frustum.
+   *
+   * @param x      The x coordinate of the center of the sphere
+   * @param y      The y coordinate of the center of the sphere
+   * @param z      The z coordinate of the center of the sphere
+   * @param radius The radius of the sphere
+   *
+   * @return {@code true} iff every point of the sphere is inside the
+   * frustum
+   */
+
+  public boolean containsSphere(
+    final double x,
+    final double y,
+    final double z,
+    final double radius)
+  {
+    for (int base = 0; base < PLANE_COUNT * 4; base += 4) {
+      if (this.signedDistance(base, x, y, z) < radius) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
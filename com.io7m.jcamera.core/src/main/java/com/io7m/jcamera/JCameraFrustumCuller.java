@@ -0,0 +1,496 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>Batch visibility culling of bounding volumes against a
+ * {@link JCameraFrustum}.</p>
+ *
+ * <p>Bounding spheres and axis-aligned bounding boxes are supplied as
+ * parallel arrays of primitive values (a <i>structure of arrays</i>), and
+ * the result of culling is written to a bitset in which bit {@code i % 64}
+ * of element {@code i / 64} is set iff volume {@code i} may be visible.
+ * The tests are the same conservative tests as
+ * {@link JCameraFrustum#intersectsSphere(double, double, double, double)}
+ * and {@link JCameraFrustum#intersectsAABB(double, double, double, double,
+ * double, double)}.</p>
+ *
+ * <p>The culler exploits <i>plane coherency</i>: for each volume, it
+ * remembers the plane that most recently rejected the volume, and tests
+ * that plane first the next time the volume is culled. Because cameras
+ * move by small amounts between frames, an invisible volume is then
+ * usually rejected by the first plane tested. The remembered plane only
+ * affects the order in which planes are tested, and so never affects the
+ * result. A culler should therefore be used with a single camera, and
+ * with the same volumes at the same indices, from frame to frame.</p>
+ *
+ * <p>The sequential functions do not allocate. The parallel functions
+ * divide the volumes into ranges of whole bitset elements and cull the
+ * ranges on a {@link ForkJoinPool}, allocating a small number of tasks per
+ * call; they are only worthwhile for very large numbers of volumes.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraFrustumCuller
+{
+  private static final int PARALLEL_THRESHOLD = 64 * 256;
+
+  private final byte[] coherency;
+  private final double[] planes;
+
+  private JCameraFrustumCuller(
+    final int capacity)
+  {
+    this.coherency = new byte[capacity];
+    this.planes = new double[JCameraFrustum.PLANE_COUNT * 4];
+  }
+
+  /**
+   * Create a new culler.
+   *
+   * @param capacity The maximum number of volumes culled in a single call
+   *
+   * @return A new culler
+   */
+
+  public static JCameraFrustumCuller create(
+    final int capacity)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      capacity, "Capacity", 0, "Minimum capacity");
+    return new JCameraFrustumCuller(capacity);
+  }
+
+  /**
+   * @param count The number of volumes
+   *
+   * @return The number of {@code long} elements needed to hold the
+   * visibility bits of {@code count} volumes
+   */
+
+  public static int bitsetSize(
+    final int count)
+  {
+    RangeCheck.checkGreaterEqualInteger(count, "Count", 0, "Minimum count");
+    return (int) (((long) count + 63L) >>> 6);
+  }
+
+  /**
+   * @param visible A visibility bitset
+   * @param index   The index of a volume
+   *
+   * @return {@code true} iff the bit for volume {@code index} is set
+   */
+
+  public static boolean isVisible(
+    final long[] visible,
+    final int index)
+  {
+    return (visible[index >>> 6] & (1L << index)) != 0L;
+  }
+
+  /**
+   * @return The maximum number of volumes culled in a single call
+   */
+
+  public int capacity()
+  {
+    return this.coherency.length;
+  }
+
+  /**
+   * Forget the remembered plane of every volume. This should be called if
+   * the culler is used with a different camera, or the volumes are
+   * reordered.
+   */
+
+  public void reset()
+  {
+    Arrays.fill(this.coherency, (byte) 0);
+  }
+
+  /**
+   * Cull bounding spheres.
+   *
+   * @param frustum The frustum
+   * @param x       The x coordinates of the sphere centers
+   * @param y       The y coordinates of the sphere centers
+   * @param z       The z coordinates of the sphere centers
+   * @param radius  The sphere radii
+   * @param count   The number of spheres
+   * @param visible The output bitset, of at least
+   *                {@link #bitsetSize(int)} elements
+   *
+   * @return The number of spheres that may be visible
+   */
+
+  public int cullSpheres(
+    final JCameraFrustum frustum,
+    final double[] x,
+    final double[] y,
+    final double[] z,
+    final double[] radius,
+    final int count,
+    final long[] visible)
+  {
+    this.prepareSpheres(frustum, x, y, z, radius, count, visible);
+    return this.cullSpheresRange(x, y, z, radius, 0, count, visible);
+  }
+
+  /**
+   * Cull bounding spheres in parallel.
+   *
+   * @param pool    The pool that will execute the culling
+   * @param frustum The frustum
+   * @param x       The x coordinates of the sphere centers
+   * @param y       The y coordinates of the sphere centers
+   * @param z       The z coordinates of the sphere centers
+   * @param radius  The sphere radii
+   * @param count   The number of spheres
+   * @param visible The output bitset, of at least
+   *                {@link #bitsetSize(int)} elements
+   *
+   * @return The number of spheres that may be visible
+   *
+   * @see #cullSpheres(JCameraFrustum, double[], double[], double[],
+   * double[], int, long[])
+   */
+
+  public int cullSpheresParallel(
+    final ForkJoinPool pool,
+    final JCameraFrustum frustum,
+    final double[] x,
+    final double[] y,
+    final double[] z,
+    final double[] radius,
+    final int count,
+    final long[] visible)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    this.prepareSpheres(frustum, x, y, z, radius, count, visible);
+    return pool.invoke(new CullTask(
+      (start, end) -> this.cullSpheresRange(
+        x, y, z, radius, start, end, visible),
+      0,
+      count)).intValue();
+  }
+
+  /**
+   * Cull axis-aligned bounding boxes.
+   *
+   * @param frustum The frustum
+   * @param min_x   The minimum x coordinates of the boxes
+   * @param min_y   The minimum y coordinates of the boxes
+   * @param min_z   The minimum z coordinates of the boxes
+   * @param max_x   The maximum x coordinates of the boxes
+   * @param max_y   The maximum y coordinates of the boxes
+   * @param max_z   The maximum z coordinates of the boxes
+   * @param count   The number of boxes
+   * @param visible The output bitset, of at least
+   *                {@link #bitsetSize(int)} elements
+   *
+   * @return The number of boxes that may be visible
+   */
+
+  public int cullAABBs(
+    final JCameraFrustum frustum,
+    final double[] min_x,
+    final double[] min_y,
+    final double[] min_z,
+    final double[] max_x,
+    final double[] max_y,
+    final double[] max_z,
+    final int count,
+    final long[] visible)
+  {
+    this.prepare(frustum, count, visible);
+    checkArrays(min_x, min_y, min_z, count);
+    checkArrays(max_x, max_y, max_z, count);
+    return this.cullAABBsRange(
+      min_x, min_y, min_z, max_x, max_y, max_z, 0, count, visible);
+  }
+
+  /**
+   * Cull axis-aligned bounding boxes in parallel.
+   *
+   * @param pool    The pool that will execute the culling
+   * @param frustum The frustum
+   * @param min_x   The minimum x coordinates of the boxes
+   * @param min_y   The minimum y coordinates of the boxes
+   * @param min_z   The minimum z coordinates of the boxes
+   * @param max_x   The maximum x coordinates of the boxes
+   * @param max_y   The maximum y coordinates of the boxes
+   * @param max_z   The maximum z coordinates of the boxes
+   * @param count   The number of boxes
+   * @param visible The output bitset, of at least
+   *                {@link #bitsetSize(int)} elements
+   *
+   * @return The number of boxes that may be visible
+   *
+   * @see #cullAABBs(JCameraFrustum, double[], double[], double[], double[],
+   * double[], double[], int, long[])
+   */
+
+  public int cullAABBsParallel(
+    final ForkJoinPool pool,
+    final JCameraFrustum frustum,
+    final double[] min_x,
+    final double[] min_y,
+    final double[] min_z,
+    final double[] max_x,
+    final double[] max_y,
+    final double[] max_z,
+    final int count,
+    final long[] visible)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    this.prepare(frustum, count, visible);
+    checkArrays(min_x, min_y, min_z, count);
+    checkArrays(max_x, max_y, max_z, count);
+    return pool.invoke(new CullTask(
+      (start, end) -> this.cullAABBsRange(
+        min_x, min_y, min_z, max_x, max_y, max_z, start, end, visible),
+      0,
+      count)).intValue();
+  }
+
+  private static void checkArrays(
+    final double[] x,
+    final double[] y,
+    final double[] z,
+    final int count)
+  {
+    Objects.checkFromIndexSize(0, count, x.length);
+    Objects.checkFromIndexSize(0, count, y.length);
+    Objects.checkFromIndexSize(0, count, z.length);
+  }
+
+  private void prepareSpheres(
+    final JCameraFrustum frustum,
+    final double[] x,
+    final double[] y,
+    final double[] z,
+    final double[] radius,
+    final int count,
+    final long[] visible)
+  {
+    this.prepare(frustum, count, visible);
+    checkArrays(x, y, z, count);
+    Objects.checkFromIndexSize(0, count, radius.length);
+  }
+
+  private void prepare(
+    final JCameraFrustum frustum,
+    final int count,
+    final long[] visible)
+  {
+    Objects.requireNonNull(frustum, "Frustum");
+    RangeCheck.checkGreaterEqualInteger(count, "Count", 0, "Minimum count");
+    RangeCheck.checkLessEqualInteger(
+      count, "Count", this.coherency.length, "Capacity");
+    Objects.checkFromIndexSize(0, bitsetSize(count), visible.length);
+    frustum.planesInto(this.planes);
+  }
+
+  /**
+   * Cull the spheres in {@code [start, end)}, where {@code start} is a
+   * multiple of 64, writing whole elements of {@code visible}.
+   */
+
+  private int cullSpheresRange(
+    final double[] x,
+    final double[] y,
+    final double[] z,
+    final double[] radius,
+    final int start,
+    final int end,
+    final long[] visible)
+  {
+    final double[] p = this.planes;
+    final byte[] c = this.coherency;
+
+    int total = 0;
+    long word = 0L;
+    for (int index = start; index < end; ++index) {
+      final double px = x[index];
+      final double py = y[index];
+      final double pz = z[index];
+      final double nr = -radius[index];
+      final int first = c[index];
+
+      boolean inside =
+        distance(p, first * 4, px, py, pz) >= nr;
+      for (int plane = 0; inside && plane < JCameraFrustum.PLANE_COUNT;
+           ++plane) {
+        if (plane != first && distance(p, plane * 4, px, py, pz) < nr) {
+          c[index] = (byte) plane;
+          inside = false;
+        }
+      }
+
+      if (inside) {
+        word |= 1L << index;
+        ++total;
+      }
+      if ((index & 63) == 63) {
+        visible[index >>> 6] = word;
+        word = 0L;
+      }
+    }
+    if ((end & 63) != 0) {
+      visible[end >>> 6] = word;
+    }
+    return total;
+  }
+
+  /**
+   * Cull the boxes in {@code [start, end)}, where {@code start} is a
+   * multiple of 64, writing whole elements of {@code visible}.
+   */
+
+  private int cullAABBsRange(
+    final double[] min_x,
+    final double[] min_y,
+    final double[] min_z,
+    final double[] max_x,
+    final double[] max_y,
+    final double[] max_z,
+    final int start,
+    final int end,
+    final long[] visible)
+  {
+    final double[] p = this.planes;
+    final byte[] c = this.coherency;
+
+    int total = 0;
+    long word = 0L;
+    for (int index = start; index < end; ++index) {
+      final double x0 = min_x[index];
+      final double y0 = min_y[index];
+      final double z0 = min_z[index];
+      final double x1 = max_x[index];
+      final double y1 = max_y[index];
+      final double z1 = max_z[index];
+      final int first = c[index];
+
+      boolean inside = boxInside(p, first * 4, x0, y0, z0, x1, y1, z1);
+      for (int plane = 0; inside && plane < JCameraFrustum.PLANE_COUNT;
+           ++plane) {
+        if (plane != first
+          && !boxInside(p, plane * 4, x0, y0, z0, x1, y1, z1)) {
+          c[index] = (byte) plane;
+          inside = false;
+        }
+      }
+
+      if (inside) {
+        word |= 1L << index;
+        ++total;
+      }
+      if ((index & 63) == 63) {
+        visible[index >>> 6] = word;
+        word = 0L;
+      }
+    }
+    if ((end & 63) != 0) {
+      visible[end >>> 6] = word;
+    }
+    return total;
+  }
+
+  private static double distance(
+    final double[] p,
+    final int base,
+    final double x,
+    final double y,
+    final double z)
+  {
+    return (p[base] * x) + (p[base + 1] * y) + (p[base + 2] * z) + p[base + 3];
+  }
+
+  /**
+   * @return {@code true} iff the corner of the box furthest along the
+   * normal of the plane is on the inside of the plane
+   */
+
+  private static boolean boxInside(
+    final double[] p,
+    final int base,
+    final double x0,
+    final double y0,
+    final double z0,
+    final double x1,
+    final double y1,
+    final double z1)
+  {
+    final double x = p[base] >= 0.0 ? x1 : x0;
+    final double y = p[base + 1] >= 0.0 ? y1 : y0;
+    final double z = p[base + 2] >= 0.0 ? z1 : z0;
+    return distance(p, base, x, y, z) >= 0.0;
+  }
+
+  private interface RangeCullerType
+  {
+    int cull(
+      int start,
+      int end);
+  }
+
+  private static final class CullTask extends RecursiveTask<Integer>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient RangeCullerType culler;
+    private final int start;
+    private final int end;
+
+    CullTask(
+      final RangeCullerType in_culler,
+      final int in_start,
+      final int in_end)
+    {
+      this.culler = in_culler;
+      this.start = in_start;
+      this.end = in_end;
+    }
+
+    @Override
+    protected Integer compute()
+    {
+      if (this.end - this.start <= PARALLEL_THRESHOLD) {
+        return Integer.valueOf(this.culler.cull(this.start, this.end));
+      }
+
+      final int middle = ((this.start + this.end) >>> 1) & ~63;
+      final CullTask low = new CullTask(this.culler, this.start, middle);
+      final CullTask high = new CullTask(this.culler, middle, this.end);
+      low.fork();
+      final int high_total = high.compute().intValue();
+      return Integer.valueOf(low.join().intValue() + high_total);
+    }
+  }
+}
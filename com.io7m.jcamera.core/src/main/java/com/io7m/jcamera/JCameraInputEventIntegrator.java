@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * <p>An integrator that applies timestamped input events at their correct
+ * times within each integration step.</p>
+ *
+ * <p>The integrator maintains a current time in nanoseconds. A call to
+ * {@link #integrate(double)} with a delta time of {@code d} seconds consumes
+ * every event in the ring buffer with a time less than or equal to the
+ * current time plus {@code d}. For each event, the delegate integrator is
+ * first advanced to the time of the event, and the event is then applied to
+ * the input. The delegate is then advanced over whatever remains of the
+ * step. A key that is pressed and released between two steps therefore still
+ * moves the camera for the time that the key was held, and the sub-step
+ * timing of events is respected without increasing the simulation rate.</p>
+ *
+ * <p>Events with times earlier than the current time (late events) are
+ * applied immediately. If no events are consumed during a step, the delegate
+ * is advanced by exactly {@code d}.</p>
+ *
+ * <p>Splitting a step is only correct for integrators that scale their
+ * movement by the delta time. An integrator that instead applies a
+ * per-frame impulse, such as {@link JCameraFPSStyleAngularIntegrator}, which
+ * rotates the camera by its current angular speed on every call, can be
+ * given as a separate <i>per-frame</i> delegate. The per-frame delegate is
+ * advanced exactly once per step, by {@code d}, after all of the events of
+ * the step have been applied.</p>
+ *
+ * <p>Times are compared in the manner required for values obtained from
+ * {@link System#nanoTime()}, as described in
+ * {@link JCameraInputEventRing}.</p>
+ *
+ * <p>If the applier rejects an event (for example, because its kind is not
+ * recognized), the exception is propagated, the rejected event is discarded,
+ * and the rest of the step is abandoned. The current time is nevertheless
+ * advanced to the end of the step, so that later steps are not measured
+ * from the time of the rejected event.</p>
+ */
+
+@EqualityReference
+public final class JCameraInputEventIntegrator implements JCameraIntegratorType
+{
+  private static final double NANOS_PER_SECOND = 1.0e9;
+
+  private final JCameraIntegratorType delegate;
+  private final JCameraIntegratorType per_frame;
+  private final JCameraInputEventRing ring;
+  private final JCameraInputEventApplierType applier;
+  private final JCameraInputEventReceiverType receiver;
+  private long time;
+  private double remaining;
+
+  private JCameraInputEventIntegrator(
+    final JCameraIntegratorType in_delegate,
+    final JCameraIntegratorType in_per_frame,
+    final JCameraInputEventRing in_ring,
+    final JCameraInputEventApplierType in_applier,
+    final long in_time)
+  {
+    this.delegate = Objects.requireNonNull(in_delegate, "Delegate");
+    this.per_frame = Objects.requireNonNull(in_per_frame, "Per-frame");
+    this.ring = Objects.requireNonNull(in_ring, "Ring");
+    this.applier = Objects.requireNonNull(in_applier, "Applier");
+    this.receiver = this::onEvent;
+    this.time = in_time;
+    this.remaining = 0.0;
+  }
+
+  /**
+   * Construct a new integrator.
+   *
+   * @param in_delegate The integrator that will be advanced between events
+   * @param in_ring     The ring buffer from which events are consumed
+   * @param in_applier  The function that applies events to the input used by
+   *                    {@code in_delegate}
+   * @param in_time     The initial time in nanoseconds, in the same time base
+   *                    as the event times (typically a value obtained from
+   *                    {@link System#nanoTime()})
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraInputEventIntegrator newIntegrator(
+    final JCameraIntegratorType in_delegate,
+    final JCameraInputEventRing in_ring,
+    final JCameraInputEventApplierType in_applier,
+    final long in_time)
+  {
+    return new JCameraInputEventIntegrator(
+      in_delegate, d -> { }, in_ring, in_applier, in_time);
+  }
+
+  /**
+   * Construct a new integrator with a separate per-frame delegate.
+   *
+   * @param in_delegate  The integrator that will be advanced between events
+   * @param in_per_frame The integrator that will be advanced once per step,
+   *                     after all of the events of the step
+   * @param in_ring      The ring buffer from which events are consumed
+   * @param in_applier   The function that applies events to the input used
+   *                     by the delegates
+   * @param in_time      The initial time in nanoseconds
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraInputEventIntegrator newIntegrator(
+    final JCameraIntegratorType in_delegate,
+    final JCameraIntegratorType in_per_frame,
+    final JCameraInputEventRing in_ring,
+    final JCameraInputEventApplierType in_applier,
+    final long in_time)
+  {
+    return new JCameraInputEventIntegrator(
+      in_delegate, in_per_frame, in_ring, in_applier, in_time);
+  }
+
+  /**
+   * Construct a new integrator that applies events to the input of the given
+   * FPS-style integrators. The linear integrator is advanced between events,
+   * and the angular integrator, which rotates the camera by a per-frame
+   * impulse, is advanced once per step.
+   *
+   * @param ai      The angular integrator
+   * @param li      The linear integrator
+   * @param in_ring The ring buffer from which events are consumed
+   * @param in_time The initial time in nanoseconds
+   *
+   * @return A new integrator
+   *
+   * @see JCameraFPSStyleInputEvents
+   * @see JCameraFPSStyleIntegrator#newIntegratorWith(
+   * JCameraFPSStyleAngularIntegratorType, JCameraFPSStyleLinearIntegratorType)
+   */
+
+  public static JCameraInputEventIntegrator newIntegratorFPSStyle(
+    final JCameraFPSStyleAngularIntegratorType ai,
+    final JCameraFPSStyleLinearIntegratorType li,
+    final JCameraInputEventRing in_ring,
+    final long in_time)
+  {
+    if (ai.integratorGetCamera() != li.integratorGetCamera()) {
+      throw new IllegalArgumentException(
+        "Angular integrator camera does not match linear integrator camera");
+    }
+    if (ai.integratorGetInput() != li.integratorGetInput()) {
+      throw new IllegalArgumentException(
+        "Angular integrator input does not match linear integrator input");
+    }
+
+    return new JCameraInputEventIntegrator(
+      li,
+      ai,
+      in_ring,
+      JCameraFPSStyleInputEvents.applier(li.integratorGetInput()),
+      in_time);
+  }
+
+  /**
+   * Construct a new integrator that applies events to the input of the given
+   * spherical integrator.
+   *
+   * @param in_delegate The integrator that will be advanced between events
+   * @param in_ring     The ring buffer from which events are consumed
+   * @param in_time     The initial time in nanoseconds
+   *
+   * @return A new integrator
+   *
+   * @see JCameraSphericalInputEvents
+   */
+
+  public static JCameraInputEventIntegrator newIntegratorSpherical(
+    final JCameraSphericalIntegratorType in_delegate,
+    final JCameraInputEventRing in_ring,
+    final long in_time)
+  {
+    return new JCameraInputEventIntegrator(
+      in_delegate,
+      d -> { },
+      in_ring,
+      JCameraSphericalInputEvents.applier(in_delegate.integratorGetInput()),
+      in_time);
+  }
+
+  /**
+   * @return The current time in nanoseconds
+   */
+
+  public long integratorGetTime()
+  {
+    return this.time;
+  }
+
+  /**
+   * Set the current time. This can be used to resynchronize the integrator
+   * with the time base of the events after a pause.
+   *
+   * @param in_time The time in nanoseconds
+   */
+
+  public void integratorSetTime(
+    final long in_time)
+  {
+    this.time = in_time;
+  }
+
+  @Override
+  public void integrate(
+    final double d)
+  {
+    final long end = this.time + (long) (d * NANOS_PER_SECOND);
+
+    this.remaining = d;
+    try {
+      this.ring.drainUntil(end, this.receiver);
+
+      if (this.remaining > 0.0) {
+        this.delegate.integrate(this.remaining);
+      }
+      this.per_frame.integrate(d);
+    } finally {
+      this.remaining = 0.0;
+      this.time = end;
+    }
+  }
+
+  private void onEvent(
+    final long event_time,
+    final int kind,
+    final double value)
+  {
+    if (event_time - this.time > 0L) {
+      final double sub =
+        Math.min(
+          (double) (event_time - this.time) / NANOS_PER_SECOND,
+          this.remaining);
+      this.delegate.integrate(sub);
+      this.remaining -= sub;
+      this.time = event_time;
+    }
+    this.applier.apply(kind, value);
+  }
+}
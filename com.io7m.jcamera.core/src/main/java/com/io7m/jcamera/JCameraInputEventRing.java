@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A bounded, lock-free, single-producer/single-consumer ring buffer of
+ * timestamped input events.</p>
+ *
+ * <p>Each event consists of a time in nanoseconds, an integer kind (such as
+ * {@link JCameraFPSStyleInputEvents#MOVING_FORWARD}), and a {@code double}
+ * value. Events are stored in parallel arrays of primitive values, and so
+ * neither inserting nor consuming events allocates.</p>
+ *
+ * <p>Exactly one thread may call {@link #offer(long, int, double)}, and
+ * exactly one (possibly different) thread may call the consuming functions
+ * {@link #poll(JCameraInputEventReceiverType)} and
+ * {@link #drainUntil(long, JCameraInputEventReceiverType)}. Producers are
+ * expected to insert events in order of time.</p>
+ *
+ * <p>Times are compared in the manner required for values obtained from
+ * {@link System#nanoTime()}: {@code t0} is earlier than {@code t1} iff
+ * {@code t0 - t1 < 0}. Times therefore continue to be ordered correctly if
+ * the time base wraps around, provided that the times being compared are
+ * less than {@code 2^63} nanoseconds apart.</p>
+ */
+
+@EqualityReference
+public final class JCameraInputEventRing
+{
+  private final int capacity;
+  private final int mask;
+  private final long[] times;
+  private final int[] kinds;
+  private final double[] values;
+  private final AtomicLong head;
+  private final AtomicLong tail;
+
+  private JCameraInputEventRing(
+    final int in_capacity)
+  {
+    this.capacity = in_capacity;
+    this.mask = in_capacity - 1;
+    this.times = new long[in_capacity];
+    this.kinds = new int[in_capacity];
+    this.values = new double[in_capacity];
+    this.head = new AtomicLong(0L);
+    this.tail = new AtomicLong(0L);
+  }
+
+  /**
+   * Create a new ring buffer.
+   *
+   * @param capacity The maximum number of events that can be buffered. Must
+   *                 be a power of two.
+   *
+   * @return A new ring buffer
+   */
+
+  public static JCameraInputEventRing create(
+    final int capacity)
+  {
+    RangeCheck.checkGreaterInteger(
+      capacity, "Capacity", 0, "Minimum capacity");
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+        "Capacity must be a power of two (received " + capacity + ")");
+    }
+    return new JCameraInputEventRing(capacity);
+  }
+
+  /**
+   * @return The maximum number of events that can be buffered
+   */
+
+  public int capacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * @return The number of buffered events
+   */
+
+  public int size()
+  {
+    final long h = this.head.get();
+    final long t = this.tail.get();
+    return (int) (t - h);
+  }
+
+  /**
+   * @return {@code true} if there are no buffered events
+   */
+
+  public boolean isEmpty()
+  {
+    return this.head.get() == this.tail.get();
+  }
+
+  /**
+   * Insert an event. This function must only be called from the producer
+   * thread.
+   *
+   * @param time  The time of the event in nanoseconds
+   * @param kind  The kind of event
+   * @param value The value associated with the event
+   *
+   * @return {@code false} if the ring buffer is full and the event was not
+   * inserted
+   */
+
+  public boolean offer(
+    final long time,
+    final int kind,
+    final double value)
+  {
+    final long t = this.tail.getPlain();
+    if (t - this.head.getAcquire() == (long) this.capacity) {
+      return false;
+    }
+
+    final int index = (int) t & this.mask;
+    this.times[index] = time;
+    this.kinds[index] = kind;
+    this.values[index] = value;
+    this.tail.setRelease(t + 1L);
+    return true;
+  }
+
+  /**
+   * Remove the oldest event, if any, and pass it to {@code receiver}. This
+   * function must only be called from the consumer thread.
+   *
+   * @param receiver The event receiver
+   *
+   * @return {@code true} if an event was removed
+   */
+
+  public boolean poll(
+    final JCameraInputEventReceiverType receiver)
+  {
+    return this.drainUntil(0L, false, receiver, 1) == 1;
+  }
+
+  /**
+   * Remove all events with times less than or equal to {@code time}, in
+   * order, passing each one to {@code receiver}. This function must only be
+   * called from the consumer thread.
+   *
+   * @param time     The time limit in nanoseconds
+   * @param receiver The event receiver
+   *
+   * @return The number of events removed
+   */
+
+  public int drainUntil(
+    final long time,
+    final JCameraInputEventReceiverType receiver)
+  {
+    return this.drainUntil(time, true, receiver, Integer.MAX_VALUE);
+  }
+
+  private int drainUntil(
+    final long time,
+    final boolean bounded,
+    final JCameraInputEventReceiverType receiver,
+    final int limit)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+
+    long h = this.head.getPlain();
+    final long t = this.tail.getAcquire();
+
+    int count = 0;
+    while (h != t && count < limit) {
+      final int index = (int) h & this.mask;
+      final long event_time = this.times[index];
+      if (bounded && event_time - time > 0L) {
+        break;
+      }
+
+      final int kind = this.kinds[index];
+      final double value = this.values[index];
+      h += 1L;
+      this.head.setRelease(h);
+      receiver.receive(event_time, kind, value);
+      count += 1;
+    }
+    return count;
+  }
+}
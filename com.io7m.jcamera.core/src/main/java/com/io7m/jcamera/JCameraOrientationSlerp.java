@@ -0,0 +1,343 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+/**
+ * <p>Spherical linear interpolation between two camera orientations.</p>
+ *
+ * <p>Each orientation is given as an orthonormal basis of right, up, and
+ * forward vectors, and is converted to a unit quaternion representing the
+ * rotation with columns {@code [right, up, -forward]}. The quaternions are
+ * interpolated along the shortest arc, and the result is converted back to
+ * an orthonormal basis. When the orientations are very close, normalized
+ * linear interpolation is used instead of slerp, as it is cheaper and
+ * indistinguishable at that scale.</p>
+ *
+ * <p>Values of this type hold only scratch state and are owned by the
+ * mutable snapshot that uses them, so that interpolation does not
+ * allocate.</p>
+ */
+
+@EqualityReference
+final class JCameraOrientationSlerp
+{
+  /**
+   * The cosine of the angle between quaternions above which nlerp is used.
+   */
+
+  private static final double NLERP_THRESHOLD = 0.9995;
+
+  private static final double TWO_PI = 2.0 * Math.PI;
+
+  private final double[] q0;
+  private final double[] q1;
+  private final double[] qr;
+
+  JCameraOrientationSlerp()
+  {
+    this.q0 = new double[4];
+    this.q1 = new double[4];
+    this.qr = new double[4];
+  }
+
+  /**
+   * Interpolate between two angles along the shortest arc. The result is
+   * exactly {@code x} when {@code a == 0.0} and exactly {@code y} when
+   * {@code a == 1.0}. Up to and including {@code a == 0.5}, the arc is
+   * measured from {@code x}, and beyond it, from {@code y}. If {@code x} and
+   * {@code y} are more than {@code π} apart, the results on either side of
+   * the midpoint therefore differ by a multiple of {@code 2π}, but they
+   * still describe a continuous rotation.
+   *
+   * @param x The first angle in radians
+   * @param y The second angle in radians
+   * @param a The interpolation value
+   *
+   * @return The interpolated angle
+   */
+
+  static double interpolateAngle(
+    final double x,
+    final double y,
+    final double a)
+  {
+    final double r = Math.IEEEremainder(y - x, TWO_PI);
+    if (a <= 0.5) {
+      return x + (r * a);
+    }
+    return y - (r * (1.0 - a));
+  }
+
+  /**
+   * Convert a rotation matrix to a unit quaternion {@code (w, x, y, z)}
+   * using Shepperd's method, which selects the numerically largest component
+   * to divide by.
+   */
+
+  private static void quaternionOf(
+    final double m00,
+    final double m01,
+    final double m02,
+    final double m10,
+    final double m11,
+    final double m12,
+    final double m20,
+    final double m21,
+    final double m22,
+    final double[] out)
+  {
+    final double trace = m00 + m11 + m22;
+    if (trace > 0.0) {
+      final double s = 0.5 / Math.sqrt(trace + 1.0);
+      out[0] = 0.25 / s;
+      out[1] = (m21 - m12) * s;
+      out[2] = (m02 - m20) * s;
+      out[3] = (m10 - m01) * s;
+    } else if (m00 > m11 && m00 > m22) {
+      final double s = 2.0 * Math.sqrt(1.0 + m00 - m11 - m22);
+      out[0] = (m21 - m12) / s;
+      out[1] = 0.25 * s;
+      out[2] = (m01 + m10) / s;
+      out[3] = (m02 + m20) / s;
+    } else if (m11 > m22) {
+      final double s = 2.0 * Math.sqrt(1.0 + m11 - m00 - m22);
+      out[0] = (m02 - m20) / s;
+      out[1] = (m01 + m10) / s;
+      out[2] = 0.25 * s;
+      out[3] = (m12 + m21) / s;
+    } else {
+      final double s = 2.0 * Math.sqrt(1.0 + m22 - m00 - m11);
+      out[0] = (m10 - m01) / s;
+      out[1] = (m02 + m20) / s;
+      out[2] = (m12 + m21) / s;
+      out[3] = 0.25 * s;
+    }
+  }
+
+  private static void quaternionOfBasis(
+    final double rx,
+    final double ry,
+    final double rz,
+    final double ux,
+    final double uy,
+    final double uz,
+    final double fx,
+    final double fy,
+    final double fz,
+    final double[] out)
+  {
+    quaternionOf(rx, ux, -fx, ry, uy, -fy, rz, uz, -fz, out);
+  }
+
+  /**
+   * Set the first orientation.
+   *
+   * @param rx The X component of the right vector
+   * @param ry The Y component of the right vector
+   * @param rz The Z component of the right vector
+   * @param ux The X component of the up vector
+   * @param uy The Y component of the up vector
+   * @param uz The Z component of the up vector
+   * @param fx The X component of the forward vector
+   * @param fy The Y component of the forward vector
+   * @param fz The Z component of the forward vector
+   */
+
+  void setBasis0(
+    final double rx,
+    final double ry,
+    final double rz,
+    final double ux,
+    final double uy,
+    final double uz,
+    final double fx,
+    final double fy,
+    final double fz)
+  {
+    quaternionOfBasis(rx, ry, rz, ux, uy, uz, fx, fy, fz, this.q0);
+  }
+
+  /**
+   * Set the second orientation.
+   *
+   * @param rx The X component of the right vector
+   * @param ry The Y component of the right vector
+   * @param rz The Z component of the right vector
+   * @param ux The X component of the up vector
+   * @param uy The Y component of the up vector
+   * @param uz The Z component of the up vector
+   * @param fx The X component of the forward vector
+   * @param fy The Y component of the forward vector
+   * @param fz The Z component of the forward vector
+   */
+
+  void setBasis1(
+    final double rx,
+    final double ry,
+    final double rz,
+    final double ux,
+    final double uy,
+    final double uz,
+    final double fx,
+    final double fy,
+    final double fz)
+  {
+    quaternionOfBasis(rx, ry, rz, ux, uy, uz, fx, fy, fz, this.q1);
+  }
+
+  /**
+   * Interpolate between the two orientations. The resulting basis is
+   * available from the accessor methods.
+   *
+   * @param a The interpolation value
+   */
+
+  void slerp(
+    final double a)
+  {
+    double dot =
+      (this.q0[0] * this.q1[0])
+        + (this.q0[1] * this.q1[1])
+        + (this.q0[2] * this.q1[2])
+        + (this.q0[3] * this.q1[3]);
+
+    /*
+     * The quaternions q and -q represent the same rotation. Negating one of
+     * them if necessary ensures that the interpolation takes the shortest
+     * path.
+     */
+
+    double sign = 1.0;
+    if (dot < 0.0) {
+      sign = -1.0;
+      dot = -dot;
+    }
+
+    final double w0;
+    final double w1;
+    if (dot > NLERP_THRESHOLD) {
+      w0 = 1.0 - a;
+      w1 = a * sign;
+    } else {
+      final double theta = Math.acos(dot);
+      final double sin_theta = Math.sin(theta);
+      w0 = Math.sin((1.0 - a) * theta) / sin_theta;
+      w1 = (Math.sin(a * theta) / sin_theta) * sign;
+    }
+
+    double m = 0.0;
+    for (int index = 0; index < 4; ++index) {
+      final double q = (this.q0[index] * w0) + (this.q1[index] * w1);
+      this.qr[index] = q;
+      m += q * q;
+    }
+
+    final double inv = 1.0 / Math.sqrt(m);
+    for (int index = 0; index < 4; ++index) {
+      this.qr[index] *= inv;
+    }
+  }
+
+  /**
+   * @return The X component of the interpolated right vector
+   */
+
+  double rightX()
+  {
+    final double y = this.qr[2];
+    final double z = this.qr[3];
+    return 1.0 - (2.0 * ((y * y) + (z * z)));
+  }
+
+  /**
+   * @return The Y component of the interpolated right vector
+   */
+
+  double rightY()
+  {
+    return 2.0 * ((this.qr[1] * this.qr[2]) + (this.qr[0] * this.qr[3]));
+  }
+
+  /**
+   * @return The Z component of the interpolated right vector
+   */
+
+  double rightZ()
+  {
+    return 2.0 * ((this.qr[1] * this.qr[3]) - (this.qr[0] * this.qr[2]));
+  }
+
+  /**
+   * @return The X component of the interpolated up vector
+   */
+
+  double upX()
+  {
+    return 2.0 * ((this.qr[1] * this.qr[2]) - (this.qr[0] * this.qr[3]));
+  }
+
+  /**
+   * @return The Y component of the interpolated up vector
+   */
+
+  double upY()
+  {
+    final double x = this.qr[1];
+    final double z = this.qr[3];
+    return 1.0 - (2.0 * ((x * x) + (z * z)));
+  }
+
+  /**
+   * @return The Z component of the interpolated up vector
+   */
+
+  double upZ()
+  {
+    return 2.0 * ((this.qr[2] * this.qr[3]) + (this.qr[0] * this.qr[1]));
+  }
+
+  /**
+   * @return The X component of the interpolated forward vector
+   */
+
+  double forwardX()
+  {
+    return -2.0 * ((this.qr[1] * this.qr[3]) + (this.qr[0] * this.qr[2]));
+  }
+
+  /**
+   * @return The Y component of the interpolated forward vector
+   */
+
+  double forwardY()
+  {
+    return -2.0 * ((this.qr[2] * this.qr[3]) - (this.qr[0] * this.qr[1]));
+  }
+
+  /**
+   * @return The Z component of the interpolated forward vector
+   */
+
+  double forwardZ()
+  {
+    final double x = this.qr[1];
+    final double y = this.qr[2];
+    return (2.0 * ((x * x) + (y * y))) - 1.0;
+  }
+}
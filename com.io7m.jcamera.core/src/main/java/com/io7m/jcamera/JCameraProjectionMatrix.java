@@ -0,0 +1,459 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Functions to produce projection matrices.</p>
+ *
+ * <p>All of the functions assume a right-handed eye space in which the
+ * camera looks down the negative Z axis, as produced by
+ * {@link JCameraViewMatrix}. The ordinary projections map eye space to
+ * OpenGL clip space, in which visible depths lie in {@code [-w, w]}. The
+ * <i>reversed</i> projections map the near plane to a depth of {@code 1}
+ * and the far plane to a depth of {@code 0}, for use with a
+ * {@code [0, 1]} clip-space depth range (such as that selected by
+ * {@code glClipControl(GL_LOWER_LEFT, GL_ZERO_TO_ONE)}) and a
+ * floating-point depth buffer, where they distribute depth precision far
+ * more evenly.</p>
+ *
+ * <p>If {@code z_far} is {@link Double#POSITIVE_INFINITY}, the perspective
+ * functions produce an "infinite" projection with no far plane.</p>
+ *
+ * <p>The {@code Into} functions write the 16 elements of the matrix in
+ * column-major order, and do not allocate.</p>
+ *
+ * @see JCameraViewProjection
+ */
+
+@EqualityReference
+public final class JCameraProjectionMatrix
+{
+  private JCameraProjectionMatrix()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static void checkPerspective(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    RangeCheck.checkGreaterDouble(z_near, "Near Z", 0.0, "Minimum Z");
+    RangeCheck.checkLessDouble(z_near, "Near Z", z_far, "Far Z");
+    RangeCheck.checkLessDouble(x_min, "Minimum X", x_max, "Maximum X");
+    RangeCheck.checkLessDouble(y_min, "Minimum Y", y_max, "Maximum Y");
+  }
+
+  private static void writePerspective(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double r2c2,
+    final double r2c3,
+    final double[] output,
+    final int offset)
+  {
+    output[offset] = 2.0 * z_near / (x_max - x_min);
+    output[offset + 1] = 0.0;
+    output[offset + 2] = 0.0;
+    output[offset + 3] = 0.0;
+
+    output[offset + 4] = 0.0;
+    output[offset + 5] = 2.0 * z_near / (y_max - y_min);
+    output[offset + 6] = 0.0;
+    output[offset + 7] = 0.0;
+
+    output[offset + 8] = (x_max + x_min) / (x_max - x_min);
+    output[offset + 9] = (y_max + y_min) / (y_max - y_min);
+    output[offset + 10] = r2c2;
+    output[offset + 11] = -1.0;
+
+    output[offset + 12] = 0.0;
+    output[offset + 13] = 0.0;
+    output[offset + 14] = r2c3;
+    output[offset + 15] = 0.0;
+  }
+
+  /**
+   * <p>Calculate a matrix that produces a perspective projection. The
+   * {@code (x_min, y_min, -z_near)} and {@code (x_max, y_max, -z_near)}
+   * points in eye space are mapped to the lower-left and upper-right
+   * corners of the window, respectively. The {@code z_far} parameter
+   * specifies the distance to the far clipping plane.</p>
+   *
+   * <p>See
+   * <a href="http://http.developer.nvidia.com/GPUGems/gpugems_ch09.html">GPU
+   * Gems</a></p>
+   *
+   * @param x_min  The minimum X clip plane
+   * @param x_max  The maximum X clip plane
+   * @param y_min  The minimum Y clip plane
+   * @param y_max  The maximum Y clip plane
+   * @param z_near The near Z clip plane
+   * @param z_far  The far Z clip plane
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public static void frustumProjectionRHInto(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    checkPerspective(x_min, x_max, y_min, y_max, z_near, z_far);
+
+    final double r2c2;
+    final double r2c3;
+    if (z_far >= Double.POSITIVE_INFINITY) {
+      r2c2 = -1.0;
+      r2c3 = -2.0 * z_near;
+    } else {
+      r2c2 = -((z_far + z_near) / (z_far - z_near));
+      r2c3 = -(2.0 * z_far * z_near / (z_far - z_near));
+    }
+
+    writePerspective(
+      x_min, x_max, y_min, y_max, z_near, r2c2, r2c3, output, offset);
+  }
+
+  /**
+   * Calculate a matrix that produces a perspective projection with
+   * reversed depth. The parameters are as for
+   * {@link #frustumProjectionRHInto(double, double, double, double, double,
+   * double, double[], int)}.
+   *
+   * @param x_min  The minimum X clip plane
+   * @param x_max  The maximum X clip plane
+   * @param y_min  The minimum Y clip plane
+   * @param y_max  The maximum Y clip plane
+   * @param z_near The near Z clip plane
+   * @param z_far  The far Z clip plane
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public static void frustumProjectionReversedRHInto(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    checkPerspective(x_min, x_max, y_min, y_max, z_near, z_far);
+
+    final double r2c2;
+    final double r2c3;
+    if (z_far >= Double.POSITIVE_INFINITY) {
+      r2c2 = 0.0;
+      r2c3 = z_near;
+    } else {
+      r2c2 = z_near / (z_far - z_near);
+      r2c3 = z_far * z_near / (z_far - z_near);
+    }
+
+    writePerspective(
+      x_min, x_max, y_min, y_max, z_near, r2c2, r2c3, output, offset);
+  }
+
+  /**
+   * Calculate a matrix that produces a symmetric perspective projection
+   * based on the aspect ratio of the viewport and a horizontal field of
+   * view. Note that {@code horizontal_fov} represents the full horizontal
+   * field of view: the angle at the base of the triangle formed by the
+   * frustum on the {@code x/z} plane.
+   *
+   * @param z_near         The near clipping plane coordinate
+   * @param z_far          The far clipping plane coordinate
+   * @param aspect         The aspect ratio of the viewport; the width
+   *                       divided by the height
+   * @param horizontal_fov The horizontal field of view in radians
+   * @param output         The output array
+   * @param offset         The starting offset in {@code output}
+   */
+
+  public static void perspectiveProjectionRHInto(
+    final double z_near,
+    final double z_far,
+    final double aspect,
+    final double horizontal_fov,
+    final double[] output,
+    final int offset)
+  {
+    final double x_max = halfWidth(z_near, aspect, horizontal_fov);
+    final double y_max = x_max / aspect;
+    frustumProjectionRHInto(
+      -x_max, x_max, -y_max, y_max, z_near, z_far, output, offset);
+  }
+
+  /**
+   * Calculate a matrix that produces a symmetric perspective projection
+   * with reversed depth. The parameters are as for
+   * {@link #perspectiveProjectionRHInto(double, double, double, double,
+   * double[], int)}.
+   *
+   * @param z_near         The near clipping plane coordinate
+   * @param z_far          The far clipping plane coordinate
+   * @param aspect         The aspect ratio of the viewport; the width
+   *                       divided by the height
+   * @param horizontal_fov The horizontal field of view in radians
+   * @param output         The output array
+   * @param offset         The starting offset in {@code output}
+   */
+
+  public static void perspectiveProjectionReversedRHInto(
+    final double z_near,
+    final double z_far,
+    final double aspect,
+    final double horizontal_fov,
+    final double[] output,
+    final int offset)
+  {
+    final double x_max = halfWidth(z_near, aspect, horizontal_fov);
+    final double y_max = x_max / aspect;
+    frustumProjectionReversedRHInto(
+      -x_max, x_max, -y_max, y_max, z_near, z_far, output, offset);
+  }
+
+  private static double halfWidth(
+    final double z_near,
+    final double aspect,
+    final double horizontal_fov)
+  {
+    RangeCheck.checkGreaterDouble(
+      horizontal_fov, "Field of view", 0.0, "Minimum field of view");
+    RangeCheck.checkLessDouble(
+      horizontal_fov, "Field of view", Math.PI, "Maximum field of view");
+    RangeCheck.checkGreaterDouble(aspect, "Aspect", 0.0, "Minimum aspect");
+    return z_near * Math.tan(horizontal_fov / 2.0);
+  }
+
+  /**
+   * Calculate a projection matrix that produces an orthographic projection
+   * based on the given clipping plane coordinates.
+   *
+   * @param x_min  The left clipping plane coordinate
+   * @param x_max  The right clipping plane coordinate
+   * @param y_min  The bottom clipping plane coordinate
+   * @param y_max  The top clipping plane coordinate
+   * @param z_near The near clipping plane coordinate
+   * @param z_far  The far clipping plane coordinate
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public static void orthographicProjectionRHInto(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    RangeCheck.checkLessDouble(z_near, "Near Z", z_far, "Far Z");
+    RangeCheck.checkLessDouble(x_min, "Minimum X", x_max, "Maximum X");
+    RangeCheck.checkLessDouble(y_min, "Minimum Y", y_max, "Maximum Y");
+
+    final double rml = x_max - x_min;
+    final double rpl = x_max + x_min;
+    final double tmb = y_max - y_min;
+    final double tpb = y_max + y_min;
+    final double fmn = z_far - z_near;
+    final double fpn = z_far + z_near;
+
+    output[offset] = 2.0 / rml;
+    output[offset + 1] = 0.0;
+    output[offset + 2] = 0.0;
+    output[offset + 3] = 0.0;
+
+    output[offset + 4] = 0.0;
+    output[offset + 5] = 2.0 / tmb;
+    output[offset + 6] = 0.0;
+    output[offset + 7] = 0.0;
+
+    output[offset + 8] = 0.0;
+    output[offset + 9] = 0.0;
+    output[offset + 10] = -2.0 / fmn;
+    output[offset + 11] = 0.0;
+
+    output[offset + 12] = -(rpl / rml);
+    output[offset + 13] = -(tpb / tmb);
+    output[offset + 14] = -(fpn / fmn);
+    output[offset + 15] = 1.0;
+  }
+
+  /**
+   * Multiply two matrices, writing {@code left * right} to {@code output}.
+   * All matrices are in column-major order. The output must not overlap
+   * either input.
+   *
+   * @param left         The left matrix
+   * @param left_offset  The starting offset in {@code left}
+   * @param right        The right matrix
+   * @param right_offset The starting offset in {@code right}
+   * @param output       The output array
+   * @param offset       The starting offset in {@code output}
+   */
+
+  public static void multiplyInto(
+    final double[] left,
+    final int left_offset,
+    final double[] right,
+    final int right_offset,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(left_offset, 16, left.length);
+    Objects.checkFromIndexSize(right_offset, 16, right.length);
+    Objects.checkFromIndexSize(offset, 16, output.length);
+
+    for (int col = 0; col < 4; ++col) {
+      final int rc = right_offset + (col * 4);
+      final double r0 = right[rc];
+      final double r1 = right[rc + 1];
+      final double r2 = right[rc + 2];
+      final double r3 = right[rc + 3];
+      for (int row = 0; row < 4; ++row) {
+        final int lr = left_offset + row;
+        output[offset + (col * 4) + row] =
+          (left[lr] * r0)
+            + (left[lr + 4] * r1)
+            + (left[lr + 8] * r2)
+            + (left[lr + 12] * r3);
+      }
+    }
+  }
+
+  private static Matrix4x4D toMatrix(
+    final double[] m)
+  {
+    return Matrix4x4D.of(
+      m[0], m[4], m[8], m[12],
+      m[1], m[5], m[9], m[13],
+      m[2], m[6], m[10], m[14],
+      m[3], m[7], m[11], m[15]);
+  }
+
+  /**
+   * Calculate a matrix that produces a perspective projection.
+   *
+   * @param x_min  The minimum X clip plane
+   * @param x_max  The maximum X clip plane
+   * @param y_min  The minimum Y clip plane
+   * @param y_max  The maximum Y clip plane
+   * @param z_near The near Z clip plane
+   * @param z_far  The far Z clip plane
+   *
+   * @return A frustum projection matrix
+   *
+   * @see #frustumProjectionRHInto(double, double, double, double, double,
+   * double, double[], int)
+   */
+
+  public static Matrix4x4D frustumProjectionRH(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    final double[] m = new double[16];
+    frustumProjectionRHInto(x_min, x_max, y_min, y_max, z_near, z_far, m, 0);
+    return toMatrix(m);
+  }
+
+  /**
+   * Calculate a matrix that produces an orthographic projection.
+   *
+   * @param x_min  The left clipping plane coordinate
+   * @param x_max  The right clipping plane coordinate
+   * @param y_min  The bottom clipping plane coordinate
+   * @param y_max  The top clipping plane coordinate
+   * @param z_near The near clipping plane coordinate
+   * @param z_far  The far clipping plane coordinate
+   *
+   * @return An orthographic projection matrix
+   *
+   * @see #orthographicProjectionRHInto(double, double, double, double,
+   * double, double, double[], int)
+   */
+
+  public static Matrix4x4D orthographicProjectionRH(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    final double[] m = new double[16];
+    orthographicProjectionRHInto(
+      x_min, x_max, y_min, y_max, z_near, z_far, m, 0);
+    return toMatrix(m);
+  }
+
+  /**
+   * Calculate a matrix that produces a symmetric perspective projection.
+   *
+   * @param z_near         The near clipping plane coordinate
+   * @param z_far          The far clipping plane coordinate
+   * @param aspect         The aspect ratio of the viewport; the width
+   *                       divided by the height
+   * @param horizontal_fov The horizontal field of view in radians
+   *
+   * @return A perspective projection matrix
+   *
+   * @see #perspectiveProjectionRHInto(double, double, double, double,
+   * double[], int)
+   */
+
+  public static Matrix4x4D perspectiveProjectionRH(
+    final double z_near,
+    final double z_far,
+    final double aspect,
+    final double horizontal_fov)
+  {
+    final double[] m = new double[16];
+    perspectiveProjectionRHInto(z_near, z_far, aspect, horizontal_fov, m, 0);
+    return toMatrix(m);
+  }
+}
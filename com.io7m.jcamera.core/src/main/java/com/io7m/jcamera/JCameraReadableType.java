@@ -19,8 +19,13 @@ package com.io7m.jcamera;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 
+import java.nio.DoubleBuffer;
+
 /**
- * The type of (readable) cameras.
+ * <p>The type of (readable) cameras.</p>
+ *
+ * <p>The component accessors such as {@link #cameraGetForwardX()} allow the
+ * camera's position and axes to be read without allocating any vectors.</p>
  */
 
 public interface JCameraReadableType
@@ -43,4 +48,107 @@ public interface JCameraReadableType
    */
 
   <T0, T1> PMatrix4x4D<T0, T1> cameraMakeViewPMatrix();
+
+  /**
+   * Construct a view matrix for the camera, writing the 16 elements of the
+   * matrix in column-major order to {@code output} starting at
+   * {@code offset}. The function does not allocate.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   *
+   * @see #cameraMakeViewMatrix()
+   */
+
+  void cameraMakeViewMatrixInto(
+    double[] output,
+    int offset);
+
+  /**
+   * Construct a view matrix for the camera, writing the 16 elements of the
+   * matrix in column-major order to {@code output} starting at the absolute
+   * index {@code offset}. The position of the buffer is not modified. The
+   * function does not allocate.
+   *
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   *
+   * @see #cameraMakeViewMatrix()
+   */
+
+  void cameraMakeViewMatrixInto(
+    DoubleBuffer output,
+    int offset);
+
+  /**
+   * @return The X component of the position of the camera
+   */
+
+  double cameraGetPositionX();
+
+  /**
+   * @return The Y component of the position of the camera
+   */
+
+  double cameraGetPositionY();
+
+  /**
+   * @return The Z component of the position of the camera
+   */
+
+  double cameraGetPositionZ();
+
+  /**
+   * @return The X component of the camera's right vector
+   */
+
+  double cameraGetRightX();
+
+  /**
+   * @return The Y component of the camera's right vector
+   */
+
+  double cameraGetRightY();
+
+  /**
+   * @return The Z component of the camera's right vector
+   */
+
+  double cameraGetRightZ();
+
+  /**
+   * @return The X component of the camera's up vector
+   */
+
+  double cameraGetUpX();
+
+  /**
+   * @return The Y component of the camera's up vector
+   */
+
+  double cameraGetUpY();
+
+  /**
+   * @return The Z component of the camera's up vector
+   */
+
+  double cameraGetUpZ();
+
+  /**
+   * @return The X component of the camera's forward vector
+   */
+
+  double cameraGetForwardX();
+
+  /**
+   * @return The Y component of the camera's forward vector
+   */
+
+  double cameraGetForwardY();
+
+  /**
+   * @return The Z component of the camera's forward vector
+   */
+
+  double cameraGetForwardZ();
 }
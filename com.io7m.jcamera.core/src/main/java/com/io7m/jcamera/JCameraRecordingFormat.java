@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>The layout of camera recording files.</p>
+ *
+ * <p>A file begins with a {@link #HEADER_SIZE}-byte header containing the
+ * magic number, the format version, the kind of camera, the size of each
+ * record, the number of records in each mapped chunk, and the number of
+ * records written. The header is followed by fixed-size records. Each
+ * record holds the tick, the input state sampled before the tick was
+ * integrated, and the camera state after integration. All values are
+ * big-endian.</p>
+ */
+
+final class JCameraRecordingFormat
+{
+  static final int MAGIC = 0x4A43414D;
+  static final int VERSION = 1;
+  static final int KIND_FPS_STYLE = 1;
+  static final int KIND_SPHERICAL = 2;
+
+  static final int HEADER_MAGIC = 0;
+  static final int HEADER_VERSION = 4;
+  static final int HEADER_KIND = 8;
+  static final int HEADER_RECORD_SIZE = 12;
+  static final int HEADER_CHUNK_RECORDS = 16;
+  static final int HEADER_COUNT = 24;
+  static final int HEADER_SIZE = 32;
+
+  static final int RECORD_TICK = 0;
+  static final int RECORD_INPUT_FLAGS = 8;
+  static final int RECORD_INPUT_0 = 16;
+  static final int RECORD_INPUT_1 = 24;
+  static final int RECORD_CAMERA = 32;
+
+  static final int FPS_FORWARD = 1 << 0;
+  static final int FPS_BACKWARD = 1 << 1;
+  static final int FPS_LEFT = 1 << 2;
+  static final int FPS_RIGHT = 1 << 3;
+  static final int FPS_UP = 1 << 4;
+  static final int FPS_DOWN = 1 << 5;
+
+  static final int FPS_ANGLE_H = RECORD_CAMERA;
+  static final int FPS_ANGLE_V = RECORD_CAMERA + 8;
+  static final int FPS_POSITION = RECORD_CAMERA + 16;
+  static final int FPS_RIGHT_VECTOR = RECORD_CAMERA + 40;
+  static final int FPS_UP_VECTOR = RECORD_CAMERA + 64;
+  static final int FPS_FORWARD_VECTOR = RECORD_CAMERA + 88;
+  static final int FPS_RECORD_SIZE = RECORD_CAMERA + 112;
+
+  static final int SPHERICAL_HEADING = RECORD_CAMERA;
+  static final int SPHERICAL_INCLINE = RECORD_CAMERA + 8;
+  static final int SPHERICAL_ZOOM = RECORD_CAMERA + 16;
+  static final int SPHERICAL_POSITION = RECORD_CAMERA + 24;
+  static final int SPHERICAL_RIGHT_VECTOR = RECORD_CAMERA + 48;
+  static final int SPHERICAL_UP_VECTOR = RECORD_CAMERA + 72;
+  static final int SPHERICAL_FORWARD_VECTOR = RECORD_CAMERA + 96;
+  static final int SPHERICAL_FORWARD_ON_XZ = RECORD_CAMERA + 120;
+  static final int SPHERICAL_TARGET = RECORD_CAMERA + 144;
+  static final int SPHERICAL_RECORD_SIZE = RECORD_CAMERA + 168;
+
+  /**
+   * @param input An input
+   *
+   * @return The movement state of {@code input} as a set of {@code FPS_*}
+   * flags
+   */
+
+  static int fpsInputFlags(
+    final JCameraFPSStyleInputType input)
+  {
+    int flags = 0;
+    flags |= input.isMovingForward() ? FPS_FORWARD : 0;
+    flags |= input.isMovingBackward() ? FPS_BACKWARD : 0;
+    flags |= input.isMovingLeft() ? FPS_LEFT : 0;
+    flags |= input.isMovingRight() ? FPS_RIGHT : 0;
+    flags |= input.isMovingUp() ? FPS_UP : 0;
+    flags |= input.isMovingDown() ? FPS_DOWN : 0;
+    return flags;
+  }
+
+  /**
+   * Set {@code input} to recorded input state. The recorded rotations
+   * already include the rotation factors that were in effect when they were
+   * recorded, so the rotation factors of {@code input} are reset to
+   * {@code 1.0}.
+   *
+   * @param flags      The recorded {@code FPS_*} flags
+   * @param horizontal The recorded horizontal rotation
+   * @param vertical   The recorded vertical rotation
+   * @param input      The input
+   */
+
+  static void fpsInputApply(
+    final int flags,
+    final double horizontal,
+    final double vertical,
+    final JCameraFPSStyleInputType input)
+  {
+    input.setMovingForward((flags & FPS_FORWARD) != 0);
+    input.setMovingBackward((flags & FPS_BACKWARD) != 0);
+    input.setMovingLeft((flags & FPS_LEFT) != 0);
+    input.setMovingRight((flags & FPS_RIGHT) != 0);
+    input.setMovingUp((flags & FPS_UP) != 0);
+    input.setMovingDown((flags & FPS_DOWN) != 0);
+    input.setRotationHorizontalFactor(1.0);
+    input.setRotationVerticalFactor(1.0);
+    input.setRotationHorizontal(horizontal);
+    input.setRotationVertical(vertical);
+  }
+
+  private JCameraRecordingFormat()
+  {
+    throw new UnreachableCodeException();
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * The camera-independent part of a player. The records of a file are
+ * mapped read-only, chunk by chunk, when the file is opened.
+ *
+ * @see JCameraRecordingFormat
+ */
+
+@EqualityReference
+final class JCameraRecordingReader implements Closeable
+{
+  private final FileChannel channel;
+  private final MappedByteBuffer[] chunks;
+  private final int record_size;
+  private final int chunk_records;
+  private final int count;
+
+  private JCameraRecordingReader(
+    final FileChannel in_channel,
+    final MappedByteBuffer[] in_chunks,
+    final int in_record_size,
+    final int in_chunk_records,
+    final int in_count)
+  {
+    this.channel = in_channel;
+    this.chunks = in_chunks;
+    this.record_size = in_record_size;
+    this.chunk_records = in_chunk_records;
+    this.count = in_count;
+  }
+
+  static JCameraRecordingReader open(
+    final Path file,
+    final int kind,
+    final int record_size)
+    throws IOException
+  {
+    final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      final long file_size = channel.size();
+      if (file_size < (long) JCameraRecordingFormat.HEADER_SIZE) {
+        throw new IOException("File is too small to be a camera recording");
+      }
+
+      final ByteBuffer header =
+        channel.map(
+          FileChannel.MapMode.READ_ONLY,
+          0L,
+          (long) JCameraRecordingFormat.HEADER_SIZE);
+
+      checkHeader(
+        header,
+        JCameraRecordingFormat.HEADER_MAGIC,
+        JCameraRecordingFormat.MAGIC,
+        "magic number");
+      checkHeader(
+        header,
+        JCameraRecordingFormat.HEADER_VERSION,
+        JCameraRecordingFormat.VERSION,
+        "version");
+      checkHeader(header, JCameraRecordingFormat.HEADER_KIND, kind, "kind");
+      checkHeader(
+        header,
+        JCameraRecordingFormat.HEADER_RECORD_SIZE,
+        record_size,
+        "record size");
+
+      final int chunk_records =
+        header.getInt(JCameraRecordingFormat.HEADER_CHUNK_RECORDS);
+      if (chunk_records <= 0) {
+        throw new IOException("Invalid chunk size: " + chunk_records);
+      }
+
+      final long available =
+        (file_size - (long) JCameraRecordingFormat.HEADER_SIZE)
+          / (long) record_size;
+      final long count =
+        Math.min(
+          header.getLong(JCameraRecordingFormat.HEADER_COUNT), available);
+      if (count < 0L || count > (long) Integer.MAX_VALUE) {
+        throw new IOException("Invalid record count: " + count);
+      }
+
+      final int chunk_count =
+        (int) ((count + (long) chunk_records - 1L) / (long) chunk_records);
+      final MappedByteBuffer[] chunks = new MappedByteBuffer[chunk_count];
+      final long chunk_bytes = (long) chunk_records * (long) record_size;
+      for (int index = 0; index < chunk_count; ++index) {
+        final long start =
+          (long) JCameraRecordingFormat.HEADER_SIZE
+            + ((long) index * chunk_bytes);
+        chunks[index] =
+          channel.map(
+            FileChannel.MapMode.READ_ONLY,
+            start,
+            Math.min(chunk_bytes, file_size - start));
+      }
+
+      return new JCameraRecordingReader(
+        channel, chunks, record_size, chunk_records, (int) count);
+    } catch (final IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static void checkHeader(
+    final ByteBuffer header,
+    final int offset,
+    final int expected,
+    final String name)
+    throws IOException
+  {
+    final int received = header.getInt(offset);
+    if (received != expected) {
+      throw new IOException(
+        "Unexpected " + name + " (expected " + expected
+          + ", received " + received + ")");
+    }
+  }
+
+  int count()
+  {
+    return this.count;
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The chunk holding the record
+   */
+
+  ByteBuffer chunk(
+    final int index)
+  {
+    Objects.checkIndex(index, this.count);
+    return this.chunks[index / this.chunk_records];
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The offset of the record within {@link #chunk(int)}
+   */
+
+  int offset(
+    final int index)
+  {
+    return (index % this.chunk_records) * this.record_size;
+  }
+
+  long tick(
+    final int index)
+  {
+    return this.chunk(index)
+      .getLong(this.offset(index) + JCameraRecordingFormat.RECORD_TICK);
+  }
+
+  /**
+   * @param tick A tick
+   *
+   * @return The index of the newest record with a tick less than or equal
+   * to {@code tick}, or {@code -1} if there is no such record
+   */
+
+  int find(
+    final long tick)
+  {
+    int low = 0;
+    int high = this.count - 1;
+    int result = -1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (this.tick(mid) <= tick) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.channel.close();
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The camera-independent part of a recorder. Records are written into
+ * chunks of the file that are mapped into memory. Mapping a chunk grows the
+ * file and allocates a buffer, so chunks are mapped one chunk ahead by a
+ * dedicated background thread. When the current chunk fills, the writer
+ * simply takes the chunk that the background thread has already mapped and
+ * asks for the one after it. The writer only waits if the background thread
+ * has not finished mapping the next chunk by the time the current chunk has
+ * been filled. Each chunk that the writer leaves behind is handed back to
+ * the background thread, which forces it to storage before mapping the
+ * next one.
+ *
+ * The file is never truncated. Truncating a file while parts of it are
+ * mapped fails on some platforms (Windows, for example), and mapped
+ * buffers are only unmapped when they are garbage collected. The file
+ * therefore always has a length of a whole number of chunks, possibly
+ * including a chunk that was mapped in advance but never written, and the
+ * number of completed records stored in the header is the logical length
+ * of the recording.
+ *
+ * @see JCameraRecordingFormat
+ */
+
+@EqualityReference
+final class JCameraRecordingWriter implements Closeable
+{
+  private final FileChannel channel;
+  private final MappedByteBuffer header;
+  private final int record_size;
+  private final int chunk_records;
+  private final long chunk_bytes;
+  private final Thread mapper;
+  private MappedByteBuffer chunk;
+  private long chunk_index;
+  private int chunk_used;
+  private long count;
+  private boolean pending;
+  private long last_tick;
+  private boolean closed;
+
+  /*
+   * State shared with the mapping thread. The simulation thread takes the
+   * next chunk by setting next_chunk to null, and then requests the chunk
+   * after it by increasing next_requested. The mapping thread only maps a
+   * chunk when next_chunk is null, so the two threads never write to
+   * next_chunk at the same time. The chunk that was replaced is placed in
+   * retired, and the mapping thread forces and clears it before mapping
+   * the next chunk, so retired is always null by the time the simulation
+   * thread can replace another chunk.
+   */
+
+  private volatile MappedByteBuffer next_chunk;
+  private volatile MappedByteBuffer retired;
+  private volatile long next_requested;
+  private volatile IOException next_failure;
+  private volatile boolean stopping;
+
+  private JCameraRecordingWriter(
+    final FileChannel in_channel,
+    final MappedByteBuffer in_header,
+    final MappedByteBuffer in_chunk,
+    final int in_record_size,
+    final int in_chunk_records)
+  {
+    this.channel = in_channel;
+    this.header = in_header;
+    this.chunk = in_chunk;
+    this.record_size = in_record_size;
+    this.chunk_records = in_chunk_records;
+    this.chunk_bytes = (long) in_chunk_records * (long) in_record_size;
+    this.chunk_index = 0L;
+    this.chunk_used = 0;
+    this.next_requested = 1L;
+    this.mapper = new Thread(this::runMapper);
+    this.mapper.setName("com.io7m.jcamera.recording-mapper");
+    this.mapper.setDaemon(true);
+  }
+
+  static JCameraRecordingWriter create(
+    final Path file,
+    final int kind,
+    final int record_size,
+    final int chunk_records)
+    throws IOException
+  {
+    final FileChannel channel =
+      FileChannel.open(
+        file,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+
+    try {
+      final MappedByteBuffer header =
+        channel.map(
+          FileChannel.MapMode.READ_WRITE,
+          0L,
+          (long) JCameraRecordingFormat.HEADER_SIZE);
+      header.putInt(
+        JCameraRecordingFormat.HEADER_MAGIC, JCameraRecordingFormat.MAGIC);
+      header.putInt(
+        JCameraRecordingFormat.HEADER_VERSION, JCameraRecordingFormat.VERSION);
+      header.putInt(JCameraRecordingFormat.HEADER_KIND, kind);
+      header.putInt(JCameraRecordingFormat.HEADER_RECORD_SIZE, record_size);
+      header.putInt(
+        JCameraRecordingFormat.HEADER_CHUNK_RECORDS, chunk_records);
+      header.putLong(JCameraRecordingFormat.HEADER_COUNT, 0L);
+
+      final MappedByteBuffer first =
+        mapChunk(channel, 0L, (long) chunk_records * (long) record_size);
+      final JCameraRecordingWriter writer =
+        new JCameraRecordingWriter(
+          channel, header, first, record_size, chunk_records);
+      writer.mapper.start();
+      return writer;
+    } catch (final IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  long count()
+  {
+    return this.count;
+  }
+
+  MappedByteBuffer chunk()
+  {
+    return this.chunk;
+  }
+
+  /**
+   * Begin a new record, moving to the next chunk if the current chunk is
+   * full.
+   *
+   * @param tick The tick of the record
+   *
+   * @return The offset of the record within {@link #chunk()}
+   */
+
+  int begin(
+    final long tick)
+    throws IOException
+  {
+    if (this.closed) {
+      throw new IllegalStateException("Recorder is closed");
+    }
+    if (this.pending) {
+      throw new IllegalStateException(
+        "The previous record has not been completed");
+    }
+    if (this.count > 0L && tick <= this.last_tick) {
+      throw new IllegalArgumentException(
+        "Ticks must be strictly increasing (received "
+          + tick + " after " + this.last_tick + ")");
+    }
+
+    if (this.chunk_used == this.chunk_records) {
+      this.takeNextChunk();
+    }
+
+    final int offset = this.chunk_used * this.record_size;
+    this.chunk.putLong(offset + JCameraRecordingFormat.RECORD_TICK, tick);
+    this.pending = true;
+    return offset;
+  }
+
+  /**
+   * @return The offset of the pending record within {@link #chunk()}
+   */
+
+  int pending()
+  {
+    if (!this.pending) {
+      throw new IllegalStateException("No record has been started");
+    }
+    return this.chunk_used * this.record_size;
+  }
+
+  /**
+   * Complete the pending record, making it visible to readers.
+   */
+
+  void commit()
+  {
+    this.last_tick =
+      this.chunk.getLong(this.pending() + JCameraRecordingFormat.RECORD_TICK);
+    this.pending = false;
+    ++this.chunk_used;
+    ++this.count;
+    this.header.putLong(JCameraRecordingFormat.HEADER_COUNT, this.count);
+  }
+
+  /**
+   * Write a vector at the given absolute offset.
+   *
+   * @param b      The buffer
+   * @param offset The offset of the x component
+   * @param x      The x component
+   * @param y      The y component
+   * @param z      The z component
+   */
+
+  static void putVector(
+    final ByteBuffer b,
+    final int offset,
+    final double x,
+    final double y,
+    final double z)
+  {
+    b.putDouble(offset, x);
+    b.putDouble(offset + 8, y);
+    b.putDouble(offset + 16, z);
+  }
+
+  private static MappedByteBuffer mapChunk(
+    final FileChannel channel,
+    final long index,
+    final long size)
+    throws IOException
+  {
+    return channel.map(
+      FileChannel.MapMode.READ_WRITE,
+      (long) JCameraRecordingFormat.HEADER_SIZE + (index * size),
+      size);
+  }
+
+  private void takeNextChunk()
+    throws IOException
+  {
+    MappedByteBuffer next = this.next_chunk;
+    while (next == null) {
+      final IOException failure = this.next_failure;
+      if (failure != null) {
+        throw failure;
+      }
+      Thread.onSpinWait();
+      next = this.next_chunk;
+    }
+
+    this.next_chunk = null;
+    this.retired = this.chunk;
+    this.chunk = next;
+    ++this.chunk_index;
+    this.chunk_used = 0;
+    this.next_requested = this.chunk_index + 1L;
+    LockSupport.unpark(this.mapper);
+  }
+
+  private void runMapper()
+  {
+    long mapped = 0L;
+    while (!this.stopping) {
+      final MappedByteBuffer old = this.retired;
+      if (old != null) {
+        old.force();
+        this.retired = null;
+        continue;
+      }
+
+      final long requested = this.next_requested;
+      if (requested > mapped && this.next_chunk == null) {
+        try {
+          this.next_chunk =
+            mapChunk(this.channel, requested, this.chunk_bytes);
+          mapped = requested;
+        } catch (final IOException e) {
+          this.next_failure = e;
+          return;
+        }
+      } else {
+        LockSupport.park(this);
+      }
+    }
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (!this.closed) {
+      this.closed = true;
+      this.stopping = true;
+      LockSupport.unpark(this.mapper);
+      try {
+        this.mapper.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      try {
+        final MappedByteBuffer old = this.retired;
+        if (old != null) {
+          old.force();
+          this.retired = null;
+        }
+        this.next_chunk = null;
+        this.chunk.force();
+        this.header.force();
+      } finally {
+        this.channel.close();
+      }
+    }
+  }
+}
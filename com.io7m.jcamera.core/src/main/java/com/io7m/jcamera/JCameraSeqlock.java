@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A sequence lock guarding a fixed number of {@code double} slots, for one
+ * writer thread and any number of reader threads.</p>
+ *
+ * <p>The writer makes the sequence number odd, writes the slots, and then
+ * makes the sequence number even again. A reader takes the (even) sequence
+ * number with {@link #readBegin()}, reads the slots, and then checks with
+ * {@link #readValidate(long)} that the sequence number did not change. If it
+ * did, the reader may have observed a partially written state and must read
+ * again. Neither side blocks or allocates.</p>
+ */
+
+@EqualityReference
+final class JCameraSeqlock
+{
+  private final AtomicLong sequence;
+  private final double[] slots;
+
+  JCameraSeqlock(
+    final int size)
+  {
+    this.sequence = new AtomicLong(0L);
+    this.slots = new double[size];
+  }
+
+  void writeBegin()
+  {
+    final long s = this.sequence.getPlain();
+    this.sequence.setOpaque(s + 1L);
+    VarHandle.storeStoreFence();
+  }
+
+  void writeEnd()
+  {
+    this.sequence.setRelease(this.sequence.getPlain() + 1L);
+  }
+
+  long readBegin()
+  {
+    while (true) {
+      final long s = this.sequence.getAcquire();
+      if ((s & 1L) == 0L) {
+        return s;
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /**
+   * The slots are written in place by the writer between {@link
+   * #writeBegin()} and {@link #writeEnd()}, and read in place by readers
+   * between {@link #readBegin()} and {@link #readValidate(long)}.
+   *
+   * @return The slots
+   */
+
+  double[] slots()
+  {
+    return this.slots;
+  }
+
+  boolean readValidate(
+    final long stamp)
+  {
+    VarHandle.loadLoadFence();
+    return this.sequence.getOpaque() == stamp;
+  }
+
+  /**
+   * @return The number of completed writes
+   */
+
+  long version()
+  {
+    return this.sequence.getAcquire() >>> 1;
+  }
+}
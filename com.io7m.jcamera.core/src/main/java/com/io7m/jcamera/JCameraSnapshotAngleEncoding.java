@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+/**
+ * Specification of the encodings of angles in serialized snapshots.
+ *
+ * @see JCameraFPSStyleSnapshotCodec
+ * @see JCameraSphericalSnapshotCodec
+ */
+
+public enum JCameraSnapshotAngleEncoding
+{
+  /**
+   * Angles are written exactly, as 8-byte IEEE 754 values.
+   */
+
+  ANGLE_DOUBLE,
+
+  /**
+   * Angles are wrapped to the range {@code [-π, π)} and quantized to 2-byte
+   * signed integers, giving a resolution of {@code 2π / 65536} radians
+   * (approximately {@code 0.0055} degrees). Angles that differ by a multiple
+   * of {@code 2π} describe the same orientation, so a camera rebuilt from
+   * quantized angles faces in almost exactly the same direction as the
+   * original camera, but the angles themselves may differ by multiples of
+   * {@code 2π}.
+   */
+
+  ANGLE_QUANTIZED_16
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Functions shared by the snapshot codecs.
+ */
+
+final class JCameraSnapshotEncoding
+{
+  /**
+   * The maximum number of bytes occupied by a variable-length integer.
+   */
+
+  static final int VARIABLE_LONG_MAXIMUM_BYTES = 10;
+
+  private static final double QUANTIZE_SCALE = 32768.0 / Math.PI;
+  private static final double DEQUANTIZE_SCALE = Math.PI / 32768.0;
+
+  private JCameraSnapshotEncoding()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int angleSize(
+    final JCameraSnapshotAngleEncoding encoding)
+  {
+    return switch (encoding) {
+      case ANGLE_DOUBLE -> Double.BYTES;
+      case ANGLE_QUANTIZED_16 -> Short.BYTES;
+    };
+  }
+
+  static short quantize(
+    final double angle)
+  {
+    final double wrapped = Math.IEEEremainder(angle, 2.0 * Math.PI);
+    return (short) Math.round(wrapped * QUANTIZE_SCALE);
+  }
+
+  static double dequantize(
+    final short value)
+  {
+    return (double) value * DEQUANTIZE_SCALE;
+  }
+
+  static void putAngle(
+    final ByteBuffer buffer,
+    final JCameraSnapshotAngleEncoding encoding,
+    final double angle)
+  {
+    switch (encoding) {
+      case ANGLE_DOUBLE -> buffer.putDouble(angle);
+      case ANGLE_QUANTIZED_16 -> buffer.putShort(quantize(angle));
+    }
+  }
+
+  static double getAngle(
+    final ByteBuffer buffer,
+    final JCameraSnapshotAngleEncoding encoding)
+  {
+    return switch (encoding) {
+      case ANGLE_DOUBLE -> buffer.getDouble();
+      case ANGLE_QUANTIZED_16 -> dequantize(buffer.getShort());
+    };
+  }
+
+  /**
+   * Write a signed integer using a zig-zag, variable-length encoding of
+   * between {@code 1} and {@link #VARIABLE_LONG_MAXIMUM_BYTES} bytes. Values
+   * of small magnitude occupy the fewest bytes.
+   */
+
+  static void putVariableLong(
+    final ByteBuffer buffer,
+    final long value)
+  {
+    long v = (value << 1) ^ (value >> 63);
+    while ((v & ~0x7fL) != 0L) {
+      buffer.put((byte) ((v & 0x7fL) | 0x80L));
+      v >>>= 7;
+    }
+    buffer.put((byte) v);
+  }
+
+  /**
+   * Read a signed integer written by
+   * {@link #putVariableLong(ByteBuffer, long)}.
+   */
+
+  static long getVariableLong(
+    final ByteBuffer buffer)
+  {
+    long v = 0L;
+    int shift = 0;
+    int b;
+    do {
+      if (shift >= 64) {
+        throw new IllegalArgumentException(
+          "Malformed variable-length integer");
+      }
+      b = (int) buffer.get();
+      v |= (long) (b & 0x7f) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (v >>> 1) ^ -(v & 1L);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * The tick index shared by the snapshot history types. Ticks are held in a
+ * ring of primitive values, oldest first, and must be strictly increasing.
+ */
+
+@EqualityReference
+final class JCameraSnapshotHistoryIndex
+{
+  private final long[] ticks;
+  private int start;
+  private int size;
+
+  JCameraSnapshotHistoryIndex(
+    final int capacity)
+  {
+    this.ticks = new long[capacity];
+    this.start = 0;
+    this.size = 0;
+  }
+
+  int capacity()
+  {
+    return this.ticks.length;
+  }
+
+  int size()
+  {
+    return this.size;
+  }
+
+  void clear()
+  {
+    this.start = 0;
+    this.size = 0;
+  }
+
+  /**
+   * @param index The logical index, where {@code 0} is the oldest entry
+   *
+   * @return The storage slot of the given entry
+   */
+
+  int slot(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size);
+    final int s = this.start + index;
+    return s >= this.ticks.length ? s - this.ticks.length : s;
+  }
+
+  long tick(
+    final int index)
+  {
+    return this.ticks[this.slot(index)];
+  }
+
+  long oldest()
+  {
+    this.checkNotEmpty();
+    return this.ticks[this.start];
+  }
+
+  long newest()
+  {
+    this.checkNotEmpty();
+    return this.tick(this.size - 1);
+  }
+
+  void checkNotEmpty()
+  {
+    if (this.size == 0) {
+      throw new IllegalStateException("History is empty");
+    }
+  }
+
+  /**
+   * @param tick The tick
+   *
+   * @throws IllegalArgumentException If {@code tick} is not greater than the
+   *                                  newest tick
+   */
+
+  void checkAppend(
+    final long tick)
+  {
+    if (this.size > 0) {
+      final long last = this.newest();
+      if (tick <= last) {
+        throw new IllegalArgumentException(
+          "Ticks must be strictly increasing (received "
+            + tick + " after " + last + ")");
+      }
+    }
+  }
+
+  /**
+   * Append a tick, evicting the oldest entry if the index is full.
+   *
+   * @param tick The tick
+   *
+   * @return The storage slot that will hold the new entry
+   */
+
+  int append(
+    final long tick)
+  {
+    this.checkAppend(tick);
+
+    final int capacity = this.ticks.length;
+    final int slot;
+    if (this.size == capacity) {
+      slot = this.start;
+      this.start = this.start + 1 == capacity ? 0 : this.start + 1;
+    } else {
+      final int s = this.start + this.size;
+      slot = s >= capacity ? s - capacity : s;
+      this.size += 1;
+    }
+    this.ticks[slot] = tick;
+    return slot;
+  }
+
+  /**
+   * @param tick A tick
+   *
+   * @return The logical index of the newest entry with a tick less than or
+   * equal to {@code tick}, or {@code -1} if there is no such entry
+   */
+
+  int floor(
+    final long tick)
+  {
+    int low = 0;
+    int high = this.size - 1;
+    int result = -1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (this.tick(mid) <= tick) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return result;
+  }
+}
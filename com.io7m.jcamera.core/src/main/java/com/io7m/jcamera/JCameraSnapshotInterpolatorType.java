@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+/**
+ * The type of functions that interpolate between camera snapshots.
+ *
+ * @param <S> The type of snapshots
+ *
+ * @see JCameraFPSStyleSnapshots#interpolate(JCameraFPSStyleSnapshot,
+ * JCameraFPSStyleSnapshot, double)
+ * @see JCameraSphericalSnapshots#interpolate(JCameraSphericalSnapshot,
+ * JCameraSphericalSnapshot, double)
+ */
+
+@FunctionalInterface
+public interface JCameraSnapshotInterpolatorType<S>
+{
+  /**
+   * Interpolate between two snapshots.
+   *
+   * @param previous The previous snapshot
+   * @param current  The current snapshot
+   * @param alpha    The interpolation factor in {@code [0, 1]}
+   *
+   * @return The interpolated snapshot
+   */
+
+  S interpolate(
+    S previous,
+    S current,
+    double alpha);
+}
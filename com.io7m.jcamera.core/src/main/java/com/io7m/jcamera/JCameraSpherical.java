@@ -21,55 +21,73 @@ import com.io7m.jranges.RangeCheck;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
-import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 
+import java.nio.DoubleBuffer;
 import java.util.Objects;
 
 /**
- * The default implementation of {@link JCameraSphericalType}.
+ * <p>The default implementation of {@link JCameraSphericalType}.</p>
+ *
+ * <p>The forward, right, up, and position vectors are derived from the
+ * camera's target, angles, and zoom as specified by the {@link
+ * JCameraDerivation} given on creation.</p>
+ *
+ * <p>The target position and derived vectors are held as primitive fields.
+ * The component accessors, the movement and orbiting functions, and the
+ * {@code cameraMakeViewMatrixInto} methods do not allocate; the methods that
+ * return {@link Vector3D} values allocate a new vector on each call.</p>
  */
 
 @EqualityStructural
 public final class JCameraSpherical implements
   JCameraSphericalType
 {
-  private static final Vector3D AXIS_Y;
-
-  static {
-    AXIS_Y = Vector3D.of(0.0, 1.0, 0.0);
-  }
-
   private final JCameraSignallingClamp clamp;
-  private Vector3D derived_forward;
-  private Vector3D derived_forward_on_xz;
-  private Vector3D derived_position;
-  private Vector3D derived_right;
-  private Vector3D derived_up;
-  private Vector3D input_target_position;
+  private final boolean eager;
+  private double derived_direction_x;
+  private double derived_direction_y;
+  private double derived_direction_z;
+  private double derived_forward_x;
+  private double derived_forward_y;
+  private double derived_forward_z;
+  private double derived_forward_on_xz_x;
+  private double derived_forward_on_xz_y;
+  private double derived_forward_on_xz_z;
+  private double derived_position_x;
+  private double derived_position_y;
+  private double derived_position_z;
+  private double derived_right_x;
+  private double derived_right_y;
+  private double derived_right_z;
+  private double derived_up_x;
+  private double derived_up_y;
+  private double derived_up_z;
+  private double input_target_position_x;
+  private double input_target_position_y;
+  private double input_target_position_z;
   private boolean clamp_incline;
   private double clamp_incline_max;
   private double clamp_incline_min;
   private boolean clamp_radius;
   private double clamp_radius_max;
   private double clamp_radius_min;
-  private boolean derived_current;
+  private boolean derived_orientation_current;
+  private boolean derived_position_current;
+  private long derivations_orientation;
+  private long derivations_position;
   private double input_heading;
   private double input_incline;
   private double input_radius;
 
-  private JCameraSpherical()
+  private JCameraSpherical(
+    final JCameraDerivation derivation)
   {
-    this.input_target_position = Vectors3D.zero();
     this.input_incline = 0.0;
     this.input_heading = -(Math.PI / 2.0);
     this.input_radius = 8.0;
 
-    this.derived_current = false;
-    this.derived_up = Vectors3D.zero();
-    this.derived_right = Vectors3D.zero();
-    this.derived_forward = Vectors3D.zero();
-    this.derived_forward_on_xz = Vectors3D.zero();
-    this.derived_position = Vectors3D.zero();
+    this.derived_orientation_current = false;
+    this.derived_position_current = false;
 
     this.clamp_incline = true;
     this.clamp_incline_max = 1.4;
@@ -80,6 +98,13 @@ public final class JCameraSpherical implements
     this.clamp_radius_max = Double.MAX_VALUE;
 
     this.clamp = new JCameraSignallingClamp();
+
+    this.eager =
+      Objects.requireNonNull(derivation, "Derivation")
+        == JCameraDerivation.DERIVATION_EAGER;
+    if (this.eager) {
+      this.deriveVectors();
+    }
   }
 
   /**
@@ -88,7 +113,19 @@ public final class JCameraSpherical implements
 
   public static JCameraSphericalType newCamera()
   {
-    return new JCameraSpherical();
+    return newCamera(JCameraDerivation.DERIVATION_LAZY);
+  }
+
+  /**
+   * @param derivation Specifies when the camera derives its vectors
+   *
+   * @return A new spherical camera.
+   */
+
+  public static JCameraSphericalType newCamera(
+    final JCameraDerivation derivation)
+  {
+    return new JCameraSpherical(derivation);
   }
 
   /**
@@ -100,10 +137,27 @@ public final class JCameraSpherical implements
   public static JCameraSphericalType newCameraFrom(
     final JCameraSphericalReadableType c)
   {
-    final JCameraSphericalType r = new JCameraSpherical();
+    return newCameraFrom(c, JCameraDerivation.DERIVATION_LAZY);
+  }
+
+  /**
+   * @param c          An existing camera
+   * @param derivation Specifies when the camera derives its vectors
+   *
+   * @return A new camera based on the given camera.
+   */
+
+  public static JCameraSphericalType newCameraFrom(
+    final JCameraSphericalReadableType c,
+    final JCameraDerivation derivation)
+  {
+    final JCameraSphericalType r = new JCameraSpherical(derivation);
     r.cameraSetAngleHeading(c.cameraGetAngleHeading());
     r.cameraSetAngleIncline(c.cameraGetAngleIncline());
-    r.cameraSetTargetPosition(c.cameraGetTargetPosition());
+    r.cameraSetTargetPosition3(
+      c.cameraGetTargetPositionX(),
+      c.cameraGetTargetPositionY(),
+      c.cameraGetTargetPositionZ());
     r.cameraSetZoom(c.cameraGetZoom());
     return r;
   }
@@ -132,9 +186,9 @@ public final class JCameraSpherical implements
   @Override
   public void cameraClampRadiusDisable()
   {
-    this.clamp_incline = false;
-    this.clamp_incline_max = Double.MAX_VALUE;
-    this.clamp_incline_min = 0.0;
+    this.clamp_radius = false;
+    this.clamp_radius_max = Double.MAX_VALUE;
+    this.clamp_radius_min = 0.0;
   }
 
   @Override
@@ -156,6 +210,18 @@ public final class JCameraSpherical implements
     this.clamp_radius_min = min;
   }
 
+  @Override
+  public long cameraGetOrientationDerivations()
+  {
+    return this.derivations_orientation;
+  }
+
+  @Override
+  public long cameraGetPositionDerivations()
+  {
+    return this.derivations_position;
+  }
+
   @Override
   public double cameraGetAngleHeading()
   {
@@ -171,42 +237,60 @@ public final class JCameraSpherical implements
   @Override
   public Vector3D cameraGetForward()
   {
-    this.deriveVectors();
-    return this.derived_forward;
+    this.deriveOrientation();
+    return Vector3D.of(
+      this.derived_forward_x,
+      this.derived_forward_y,
+      this.derived_forward_z);
   }
 
   @Override
   public Vector3D cameraGetForwardProjectedOnXZ()
   {
-    this.deriveVectors();
-    return this.derived_forward_on_xz;
+    this.deriveOrientation();
+    return Vector3D.of(
+      this.derived_forward_on_xz_x,
+      this.derived_forward_on_xz_y,
+      this.derived_forward_on_xz_z);
   }
 
   @Override
   public Vector3D cameraGetPosition()
   {
     this.deriveVectors();
-    return this.derived_position;
+    return Vector3D.of(
+      this.derived_position_x,
+      this.derived_position_y,
+      this.derived_position_z);
   }
 
   @Override
   public Vector3D cameraGetRight()
   {
-    this.deriveVectors();
-    return this.derived_right;
+    this.deriveOrientation();
+    return Vector3D.of(
+      this.derived_right_x,
+      this.derived_right_y,
+      this.derived_right_z);
   }
 
   @Override
   public Vector3D cameraGetTargetPosition()
   {
-    return this.input_target_position;
+    return Vector3D.of(
+      this.input_target_position_x,
+      this.input_target_position_y,
+      this.input_target_position_z);
   }
 
   @Override
   public Vector3D cameraGetUp()
   {
-    this.deriveVectors();
-    return this.derived_up;
+    this.deriveOrientation();
+    return Vector3D.of(
+      this.derived_up_x,
+      this.derived_up_y,
+      this.derived_up_z);
   }
 
   @Override
@@ -215,6 +299,129 @@ public final class JCameraSpherical implements
     return this.input_radius;
   }
 
+  @Override
+  public double cameraGetPositionX()
+  {
+    this.deriveVectors();
+    return this.derived_position_x;
+  }
+
+  @Override
+  public double cameraGetPositionY()
+  {
+    this.deriveVectors();
+    return this.derived_position_y;
+  }
+
+  @Override
+  public double cameraGetPositionZ()
+  {
+    this.deriveVectors();
+    return this.derived_position_z;
+  }
+
+  @Override
+  public double cameraGetRightX()
+  {
+    this.deriveOrientation();
+    return this.derived_right_x;
+  }
+
+  @Override
+  public double cameraGetRightY()
+  {
+    this.deriveOrientation();
+    return this.derived_right_y;
+  }
+
+  @Override
+  public double cameraGetRightZ()
+  {
+    this.deriveOrientation();
+    return this.derived_right_z;
+  }
+
+  @Override
+  public double cameraGetUpX()
+  {
+    this.deriveOrientation();
+    return this.derived_up_x;
+  }
+
+  @Override
+  public double cameraGetUpY()
+  {
+    this.deriveOrientation();
+    return this.derived_up_y;
+  }
+
+  @Override
+  public double cameraGetUpZ()
+  {
+    this.deriveOrientation();
+    return this.derived_up_z;
+  }
+
+  @Override
+  public double cameraGetForwardX()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_x;
+  }
+
+  @Override
+  public double cameraGetForwardY()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_y;
+  }
+
+  @Override
+  public double cameraGetForwardZ()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_z;
+  }
+
+  @Override
+  public double cameraGetForwardProjectedOnXZX()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_on_xz_x;
+  }
+
+  @Override
+  public double cameraGetForwardProjectedOnXZY()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_on_xz_y;
+  }
+
+  @Override
+  public double cameraGetForwardProjectedOnXZZ()
+  {
+    this.deriveOrientation();
+    return this.derived_forward_on_xz_z;
+  }
+
+  @Override
+  public double cameraGetTargetPositionX()
+  {
+    return this.input_target_position_x;
+  }
+
+  @Override
+  public double cameraGetTargetPositionY()
+  {
+    return this.input_target_position_y;
+  }
+
+  @Override
+  public double cameraGetTargetPositionZ()
+  {
+    return this.input_target_position_z;
+  }
+
   @Override
   public Matrix4x4D cameraMakeViewMatrix()
   {
@@ -237,54 +444,72 @@ public final class JCameraSpherical implements
       this.cameraGetForward());
   }
 
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final double[] output,
+    final int offset)
+  {
+    this.deriveVectors();
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
+  @Override
+  public void cameraMakeViewMatrixInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    this.deriveVectors();
+    JCameraViewMatrix.makeViewMatrixInto(this, output, offset);
+  }
+
   @Override
   public void cameraMoveTargetForwardOnXZ(
     final double u)
   {
-    this.deriveVectors();
-    this.input_target_position =
-      Vectors3D.addScaled(
-        this.input_target_position, this.derived_forward_on_xz, u);
-    this.derived_current = false;
+    this.deriveOrientation();
+    this.input_target_position_x += this.derived_forward_on_xz_x * u;
+    this.input_target_position_y += this.derived_forward_on_xz_y * u;
+    this.input_target_position_z += this.derived_forward_on_xz_z * u;
+    this.invalidatePosition();
   }
 
   @Override
   public void cameraMoveTargetRight(
     final double u)
   {
-    this.deriveVectors();
-    this.input_target_position =
-      Vectors3D.addScaled(
-        this.input_target_position, this.derived_right, u);
-    this.derived_current = false;
+    this.deriveOrientation();
+    this.input_target_position_x += this.derived_right_x * u;
+    this.input_target_position_y += this.derived_right_y * u;
+    this.input_target_position_z += this.derived_right_z * u;
+    this.invalidatePosition();
   }
 
   @Override
   public void cameraMoveTargetUp(
     final double u)
   {
-    this.deriveVectors();
-    this.input_target_position =
-      Vectors3D.addScaled(
-        this.input_target_position, AXIS_Y, u);
-    this.derived_current = false;
+    this.input_target_position_x += 0.0 * u;
+    this.input_target_position_y += 1.0 * u;
+    this.input_target_position_z += 0.0 * u;
+    this.invalidatePosition();
   }
 
   @Override
   public void cameraOrbitHeading(
     final double r)
   {
-    this.derived_current = false;
-    this.input_heading += r;
+    this.input_heading = AngleWrap.wrap(this.input_heading + r);
+    this.invalidateOrientation();
   }
 
   @Override
   public boolean cameraOrbitIncline(
     final double r)
   {
-    this.derived_current = false;
     this.input_incline += r;
-    return this.clampIncline();
+    final boolean clamped = this.clampIncline();
+    this.invalidateOrientation();
+    return clamped;
   }
 
   @Override
@@ -292,7 +517,7 @@ public final class JCameraSpherical implements
     final double v)
   {
     this.input_heading = v;
-    this.derived_current = false;
+    this.invalidateOrientation();
   }
 
   @Override
@@ -300,18 +525,16 @@ public final class JCameraSpherical implements
     final double h)
   {
     this.input_incline = h;
-    this.derived_current = false;
     this.clampIncline();
+    this.invalidateOrientation();
   }
 
   @Override
   public void cameraSetTargetPosition(
     final Vector3D v)
   {
-    this.input_target_position = Objects.requireNonNull(
-      v,
-      "Position");
-    this.derived_current = false;
+    Objects.requireNonNull(v, "Position");
+    this.cameraSetTargetPosition3(v.x(), v.y(), v.z());
   }
 
   @Override
@@ -320,26 +543,29 @@ public final class JCameraSpherical implements
     final double y,
     final double z)
   {
-    this.input_target_position = Vector3D.of(x, y, z);
-    this.derived_current = false;
+    this.input_target_position_x = x;
+    this.input_target_position_y = y;
+    this.input_target_position_z = z;
+    this.invalidatePosition();
   }
 
   @Override
   public void cameraSetZoom(
     final double r)
   {
-    this.derived_current = false;
     this.input_radius = r;
     this.clampRadius();
+    this.invalidatePosition();
   }
 
   @Override
   public boolean cameraZoomIn(
     final double r)
   {
-    this.derived_current = false;
     this.input_radius -= r;
-    return this.clampRadius();
+    final boolean clamped = this.clampRadius();
+    this.invalidatePosition();
+    return clamped;
   }
 
   @Override
@@ -376,65 +602,129 @@ public final class JCameraSpherical implements
     return false;
   }
 
+  /**
+   * Mark all derived vectors as out of date following a change to the
+   * orientation of the camera, recalculating them immediately if the camera
+   * derives eagerly.
+   */
+
+  private void invalidateOrientation()
+  {
+    this.derived_orientation_current = false;
+    this.derived_position_current = false;
+    if (this.eager) {
+      this.deriveVectors();
+    }
+  }
+
+  /**
+   * Mark the derived position as out of date following a change to the
+   * target or radius of the camera, recalculating it immediately if the
+   * camera derives eagerly. The orientation of the camera is unaffected.
+   */
+
+  private void invalidatePosition()
+  {
+    this.derived_position_current = false;
+    if (this.eager) {
+      this.deriveVectors();
+    }
+  }
+
   private void deriveVectors()
   {
-    if (!this.derived_current) {
+    this.deriveOrientation();
+    this.derivePosition();
+  }
+
+  /**
+   * Derive the position of the camera from the target position, the radius,
+   * and the (already derived) direction from the target to the camera.
+   */
+
+  private void derivePosition()
+  {
+    if (!this.derived_position_current) {
+      final double r = this.input_radius;
+      this.derived_position_x =
+        this.input_target_position_x + (this.derived_direction_x * r);
+      this.derived_position_y =
+        this.input_target_position_y + (this.derived_direction_y * r);
+      this.derived_position_z =
+        this.input_target_position_z + (this.derived_direction_z * r);
+      this.derived_position_current = true;
+      ++this.derivations_position;
+    }
+  }
+
+  /**
+   * Derive the forward, right, and up vectors, and the direction from the
+   * target to the camera. These depend only on the heading and incline.
+   */
+
+  private void deriveOrientation()
+  {
+    if (!this.derived_orientation_current) {
       final double i = this.input_incline;
       final double a = this.input_heading;
+      final double cos_a = Math.cos(a);
+      final double sin_a = Math.sin(a);
 
       /*
-       * Derive forward vector and resulting camera position.
+       * Derive forward vector and the direction from the target to the
+       * camera.
        */
 
-      {
-        final double x = Math.cos(a) * Math.cos(i);
-        final double y = Math.sin(i);
-        final double z = -(Math.cos(i) * Math.sin(a));
-
-        this.derived_position =
-          Vectors3D.add(
-            this.input_target_position,
-            Vectors3D.scale(Vector3D.of(x, y, z), this.input_radius));
-
-        this.derived_forward =
-          Vectors3D.normalize(Vectors3D.scale(Vector3D.of(x, y, z), -1.0));
-      }
+      final double dx = cos_a * Math.cos(i);
+      final double dy = Math.sin(i);
+      final double dz = -(Math.cos(i) * sin_a);
+      this.derived_direction_x = dx;
+      this.derived_direction_y = dy;
+      this.derived_direction_z = dz;
+
+      final double f_scale = InverseMagnitude.inverseMagnitude(-dx, -dy, -dz);
+      final double fx = -dx * f_scale;
+      final double fy = -dy * f_scale;
+      final double fz = -dz * f_scale;
+      this.derived_forward_x = fx;
+      this.derived_forward_y = fy;
+      this.derived_forward_z = fz;
 
       /*
        * Project forward vector onto X/Z plane.
        */
 
-      {
-        this.derived_forward_on_xz =
-          Vectors3D.normalize(
-            Vector3D.of(
-              this.derived_forward.x(),
-              0.0,
-              this.derived_forward.z()));
-      }
+      final double xz_scale = InverseMagnitude.inverseMagnitude(fx, 0.0, fz);
+      this.derived_forward_on_xz_x = fx * xz_scale;
+      this.derived_forward_on_xz_y = 0.0 * xz_scale;
+      this.derived_forward_on_xz_z = fz * xz_scale;
 
       /*
        * Derive up vector.
        */
 
-      {
-        final double im = i - Math.toRadians(90.0);
-        final double x = Math.cos(a) * Math.cos(im);
-        final double y = Math.sin(im);
-        final double z = -(Math.cos(im) * Math.sin(a));
-        this.derived_up =
-          Vectors3D.normalize(Vectors3D.scale(Vector3D.of(x, y, z), -1.0));
-      }
+      final double im = i - Math.toRadians(90.0);
+      final double ux0 = -(cos_a * Math.cos(im));
+      final double uy0 = -Math.sin(im);
+      final double uz0 = Math.cos(im) * sin_a;
+      final double u_scale = InverseMagnitude.inverseMagnitude(ux0, uy0, uz0);
+      final double ux = ux0 * u_scale;
+      final double uy = uy0 * u_scale;
+      final double uz = uz0 * u_scale;
+      this.derived_up_x = ux;
+      this.derived_up_y = uy;
+      this.derived_up_z = uz;
 
       /*
        * Derive right vector (forward * up).
        */
 
-      this.derived_right =
-        Vectors3D.crossProduct(this.derived_forward, this.derived_up);
+      this.derived_right_x = (fy * uz) - (fz * uy);
+      this.derived_right_y = (fz * ux) - (fx * uz);
+      this.derived_right_z = (fx * uy) - (fy * ux);
+      this.derived_orientation_current = true;
+      ++this.derivations_orientation;
     }
-
-    this.derived_current = true;
   }
 
   @Override
@@ -463,7 +753,7 @@ public final class JCameraSpherical implements
       that.input_incline,
       this.input_incline) == 0 && Double.compare(
       that.input_radius,
-      this.input_radius) == 0 && this.input_target_position.equals(that.input_target_position);
+      this.input_radius) == 0 && this.cameraGetTargetPosition().equals(that.cameraGetTargetPosition());
   }
 
   @Override
@@ -471,7 +761,7 @@ public final class JCameraSpherical implements
   {
     int result;
     long temp;
-    result = this.input_target_position.hashCode();
+    result = this.cameraGetTargetPosition().hashCode();
     result = 31 * result + (this.clamp_incline ? 1 : 0);
     temp = Double.doubleToLongBits(this.clamp_incline_max);
     result = 31 * result + (int) (temp ^ (temp >>> 32));
@@ -508,7 +798,7 @@ public final class JCameraSpherical implements
     b.append(" clamp_radius_min=");
     b.append(this.clamp_radius_min);
     b.append(" input_focus_position=");
-    b.append(this.input_target_position);
+    b.append(this.cameraGetTargetPosition());
     b.append(" input_heading=");
     b.append(this.input_heading);
     b.append(" input_incline=");
@@ -86,20 +86,26 @@ public final class JCameraSphericalAngularIntegrator implements
   public void integrate(
     final double time)
   {
-    this.speed_heading = this.integrateHeading(time);
-    this.speed_incline = this.integrateIncline(time);
+    final int state = this.input.getState();
+    this.speed_heading = this.integrateHeading(state, time);
+    this.speed_incline = this.integrateIncline(state, time);
   }
 
   private double integrateHeading(
+    final int state,
     final double time)
   {
     double s = this.speed_heading;
 
-    final boolean positive = this.input.isOrbitingHeadingPositive();
+    final boolean positive =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ORBITING_HEADING_POSITIVE);
     if (positive) {
       s += this.acceleration_heading * time;
     }
-    final boolean negative = this.input.isOrbitingHeadingNegative();
+    final boolean negative =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ORBITING_HEADING_NEGATIVE);
     if (negative) {
       s -= this.acceleration_heading * time;
     }
@@ -114,15 +120,20 @@ public final class JCameraSphericalAngularIntegrator implements
   }
 
   private double integrateIncline(
+    final int state,
     final double time)
   {
     double s = this.speed_incline;
 
-    final boolean positive = this.input.isOrbitingInclinePositive();
+    final boolean positive =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ORBITING_INCLINE_POSITIVE);
     if (positive) {
       s += this.acceleration_incline * time;
     }
-    final boolean negative = this.input.isOrbitingInclineNegative();
+    final boolean negative =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ORBITING_INCLINE_NEGATIVE);
     if (negative) {
       s -= this.acceleration_incline * time;
     }
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * <p>An implementation of {@link JCameraSphericalAngularIntegratorType} that
+ * uses the exact solution of constant acceleration under exponential drag
+ * over each interval, rather than an explicit Euler step.</p>
+ *
+ * <p>Given unchanging input, integrating once over a time {@code t} yields
+ * the same result as integrating repeatedly over any subdivision of {@code
+ * t}, so the integrator may be called at variable rates or with large time
+ * steps.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalAngularIntegratorExact implements
+  JCameraSphericalAngularIntegratorType
+{
+  private final JCameraSphericalType camera;
+  private final JCameraSphericalInputType input;
+  private final JCameraDragIntegration exact;
+  private double acceleration_heading;
+  private double acceleration_incline;
+  private double drag_rate_heading;
+  private double drag_rate_incline;
+  private double maximum_speed_heading;
+  private double maximum_speed_incline;
+  private double speed_heading;
+  private double speed_incline;
+
+  private JCameraSphericalAngularIntegratorExact(
+    final JCameraSphericalType in_camera,
+    final JCameraSphericalInputType in_input)
+  {
+    this.camera = Objects.requireNonNull(in_camera, "Camera");
+    this.input = Objects.requireNonNull(in_input, "Input");
+    this.exact = new JCameraDragIntegration();
+
+    this.maximum_speed_heading = 2.0 * Math.PI;
+    this.maximum_speed_incline = 2.0 * Math.PI;
+    this.acceleration_heading = this.maximum_speed_heading / 2.0;
+    this.acceleration_incline = this.maximum_speed_incline / 2.0;
+    this.drag_rate_incline = JCameraDragIntegration.rate(0.05);
+    this.drag_rate_heading = JCameraDragIntegration.rate(0.05);
+    this.speed_heading = 0.0;
+    this.speed_incline = 0.0;
+  }
+
+  /**
+   * Construct a new integrator.
+   *
+   * @param in_camera The camera to be integrated.
+   * @param in_input  The input to be sampled.
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraSphericalAngularIntegratorType newIntegrator(
+    final JCameraSphericalType in_camera,
+    final JCameraSphericalInputType in_input)
+  {
+    return new JCameraSphericalAngularIntegratorExact(in_camera, in_input);
+  }
+
+  private static double accelerationFor(
+    final int state,
+    final int positive,
+    final int negative,
+    final double acceleration)
+  {
+    double a = 0.0;
+    if (JCameraSphericalInputState.isSet(state, positive)) {
+      a += acceleration;
+    }
+    if (JCameraSphericalInputState.isSet(state, negative)) {
+      a -= acceleration;
+    }
+    return a;
+  }
+
+  private static double checkDrag(
+    final double d)
+  {
+    return RangeCheck.checkGreaterEqualDouble(
+      RangeCheck
+        .checkLessEqualDouble(d, "Drag factor", 1.0, "Maximum drag"),
+      "Drag factor",
+      0.0,
+      "Minimum drag");
+  }
+
+  @Override
+  public void integrate(
+    final double time)
+  {
+    final int state = this.input.getState();
+
+    this.exact.integrate(
+      this.speed_heading,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.ORBITING_HEADING_POSITIVE,
+        JCameraSphericalInputState.ORBITING_HEADING_NEGATIVE,
+        this.acceleration_heading),
+      this.drag_rate_heading,
+      this.maximum_speed_heading,
+      time);
+    this.camera.cameraOrbitHeading(this.exact.distance());
+    this.speed_heading = this.exact.speed();
+
+    this.exact.integrate(
+      this.speed_incline,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.ORBITING_INCLINE_POSITIVE,
+        JCameraSphericalInputState.ORBITING_INCLINE_NEGATIVE,
+        this.acceleration_incline),
+      this.drag_rate_incline,
+      this.maximum_speed_incline,
+      time);
+
+    /*
+     * If applying the movement resulted in a value that was clamped, then
+     * remove all speed in that direction, as the Euler integrator does.
+     */
+
+    final boolean clamped =
+      this.camera.cameraOrbitIncline(this.exact.distance());
+    this.speed_incline = clamped ? 0.0 : this.exact.speed();
+  }
+
+  @Override
+  public void integratorAngularOrbitHeadingSetAcceleration(
+    final double a)
+  {
+    this.acceleration_heading =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  @Override
+  public void integratorAngularOrbitHeadingSetDrag(
+    final double d)
+  {
+    this.drag_rate_heading = JCameraDragIntegration.rate(checkDrag(d));
+  }
+
+  @Override
+  public void integratorAngularOrbitHeadingSetMaximumSpeed(
+    final double s)
+  {
+    this.maximum_speed_heading =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+
+  @Override
+  public void integratorAngularOrbitInclineSetAcceleration(
+    final double a)
+  {
+    this.acceleration_incline =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  @Override
+  public void integratorAngularOrbitInclineSetDrag(
+    final double d)
+  {
+    this.drag_rate_incline = JCameraDragIntegration.rate(checkDrag(d));
+  }
+
+  @Override
+  public void integratorAngularOrbitInclineSetMaximumSpeed(
+    final double s)
+  {
+    this.maximum_speed_incline =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+
+  @Override
+  public JCameraSphericalReadableType integratorGetCamera()
+  {
+    return this.camera;
+  }
+
+  @Override
+  public JCameraSphericalInputType integratorGetInput()
+  {
+    return this.input;
+  }
+}
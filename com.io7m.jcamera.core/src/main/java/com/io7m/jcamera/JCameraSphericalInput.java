@@ -18,37 +18,52 @@ package com.io7m.jcamera;
 
 import com.io7m.jequality.annotations.EqualityReference;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
- * <p> An input for a spherical camera. </p> <p> It is safe to access values of
- * this type from multiple threads. </p>
+ * <p>An input for a spherical camera.</p>
+ *
+ * <p>It is safe to access values of this type from multiple threads. The
+ * boolean states are packed into a single word, and so {@link #getState()}
+ * always returns a consistent snapshot of all of the states. The continuous
+ * movements are accumulated without locks, and each movement added with
+ * {@link #addTargetMovingContinuousForward(double)} or
+ * {@link #addTargetMovingContinuousRight(double)} is returned by exactly one
+ * call to {@link #takeTargetMovingForward()} or
+ * {@link #takeTargetMovingRight()} respectively.</p>
  */
 
 @EqualityReference
 public final class JCameraSphericalInput implements JCameraSphericalInputType
 {
-  private volatile boolean backward_cursor;
-  private volatile boolean backward_key;
-  private volatile boolean down;
-  private volatile double forward_continuous;
-  private volatile boolean forward_cursor;
+  private static final int CURSOR_SHIFT = 12;
+  private static final int TARGET_MOVING_FORWARD_CURSOR =
+    JCameraSphericalInputState.TARGET_MOVING_FORWARD << CURSOR_SHIFT;
+  private static final int TARGET_MOVING_BACKWARD_CURSOR =
+    JCameraSphericalInputState.TARGET_MOVING_BACKWARD << CURSOR_SHIFT;
+  private static final int TARGET_MOVING_LEFT_CURSOR =
+    JCameraSphericalInputState.TARGET_MOVING_LEFT << CURSOR_SHIFT;
+  private static final int TARGET_MOVING_RIGHT_CURSOR =
+    JCameraSphericalInputState.TARGET_MOVING_RIGHT << CURSOR_SHIFT;
+
+  /*
+   * The boolean states, packed into a single word. The low bits hold the
+   * flags defined in JCameraSphericalInputState, where the forward, backward,
+   * left, and right flags represent the keys. The same flags shifted left by
+   * CURSOR_SHIFT represent the cursor.
+   */
+
+  private final AtomicInteger state;
+  private final AtomicDouble forward_continuous;
+  private final AtomicDouble right_continuous;
   private volatile double forward_factor;
-  private volatile boolean forward_key;
-  private volatile boolean left_cursor;
-  private volatile boolean left_key;
-  private volatile boolean orbit_heading_negative;
-  private volatile boolean orbit_heading_positive;
-  private volatile boolean orbit_incline_negative;
-  private volatile boolean orbit_incline_positive;
-  private volatile double right_continuous;
-  private volatile boolean right_cursor;
   private volatile double right_factor;
-  private volatile boolean right_key;
-  private volatile boolean up;
-  private volatile boolean zoom_in;
-  private volatile boolean zoom_out;
 
   private JCameraSphericalInput()
   {
+    this.state = new AtomicInteger(0);
+    this.forward_continuous = new AtomicDouble();
+    this.right_continuous = new AtomicDouble();
     this.forward_factor = 1.0;
     this.right_factor = 1.0;
   }
@@ -62,18 +77,37 @@ public final class JCameraSphericalInput implements JCameraSphericalInputType
     return new JCameraSphericalInput();
   }
 
+  private void setFlag(
+    final int flag,
+    final boolean set)
+  {
+    int current;
+    int next;
+    do {
+      current = this.state.get();
+      next = set ? current | flag : current & ~flag;
+    } while (!this.state.compareAndSet(current, next));
+  }
+
+  @Override
+  public int getState()
+  {
+    final int raw = this.state.get();
+    return (raw | (raw >>> CURSOR_SHIFT)) & JCameraSphericalInputState.ALL;
+  }
+
   @Override
   public void addTargetMovingContinuousForward(
     final double in_forward)
   {
-    this.forward_continuous += in_forward;
+    this.forward_continuous.add(in_forward);
   }
 
   @Override
   public void addTargetMovingContinuousRight(
     final double in_right)
   {
-    this.right_continuous += in_right;
+    this.right_continuous.add(in_right);
   }
 
   @Override
@@ -91,113 +125,125 @@ public final class JCameraSphericalInput implements JCameraSphericalInputType
   @Override
   public double getTargetMovingForwardContinuous()
   {
-    return this.forward_continuous * this.forward_factor;
+    return this.forward_continuous.get() * this.forward_factor;
   }
 
   @Override
   public double getTargetMovingRight()
   {
-    return this.right_continuous * this.right_factor;
+    return this.right_continuous.get() * this.right_factor;
   }
 
   @Override
   public boolean isOrbitingHeadingNegative()
   {
-    return this.orbit_heading_negative;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ORBITING_HEADING_NEGATIVE);
   }
 
   @Override
   public boolean isOrbitingHeadingPositive()
   {
-    return this.orbit_heading_positive;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ORBITING_HEADING_POSITIVE);
   }
 
   @Override
   public boolean isOrbitingInclineNegative()
   {
-    return this.orbit_incline_negative;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ORBITING_INCLINE_NEGATIVE);
   }
 
   @Override
   public boolean isOrbitingInclinePositive()
   {
-    return this.orbit_incline_positive;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ORBITING_INCLINE_POSITIVE);
   }
 
   @Override
   public boolean isTargetMovingBackward()
   {
-    return this.backward_key || this.backward_cursor;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_BACKWARD);
   }
 
   @Override
   public boolean isTargetMovingDown()
   {
-    return this.down;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_DOWN);
   }
 
   @Override
   public void setTargetMovingDown(
     final boolean in_down)
   {
-    this.down = in_down;
+    this.setFlag(JCameraSphericalInputState.TARGET_MOVING_DOWN, in_down);
   }
 
   @Override
   public boolean isTargetMovingForward()
   {
-    return this.forward_key || this.forward_cursor;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_FORWARD);
   }
 
   @Override
   public boolean isTargetMovingLeft()
   {
-    return this.left_key || this.left_cursor;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_LEFT);
   }
 
   @Override
   public boolean isTargetMovingRight()
   {
-    return this.right_key || this.right_cursor;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_RIGHT);
   }
 
   @Override
   public boolean isTargetMovingUp()
   {
-    return this.up;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.TARGET_MOVING_UP);
   }
 
   @Override
   public void setTargetMovingUp(
     final boolean in_up)
   {
-    this.up = in_up;
+    this.setFlag(JCameraSphericalInputState.TARGET_MOVING_UP, in_up);
   }
 
   @Override
   public boolean isZoomingIn()
   {
-    return this.zoom_in;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ZOOMING_IN);
   }
 
   @Override
   public void setZoomingIn(
     final boolean in_zoom_in)
   {
-    this.zoom_in = in_zoom_in;
+    this.setFlag(JCameraSphericalInputState.ZOOMING_IN, in_zoom_in);
   }
 
   @Override
   public boolean isZoomingOut()
   {
-    return this.zoom_out;
+    return JCameraSphericalInputState.isSet(
+      this.getState(), JCameraSphericalInputState.ZOOMING_OUT);
   }
 
   @Override
   public void setZoomingOut(
     final boolean in_zoom_out)
   {
-    this.zoom_out = in_zoom_out;
+    this.setFlag(JCameraSphericalInputState.ZOOMING_OUT, in_zoom_out);
   }
 
   @Override
@@ -218,113 +264,110 @@ public final class JCameraSphericalInput implements JCameraSphericalInputType
   public void setOrbitHeadingNegative(
     final boolean o)
   {
-    this.orbit_heading_negative = o;
+    this.setFlag(JCameraSphericalInputState.ORBITING_HEADING_NEGATIVE, o);
   }
 
   @Override
   public void setOrbitHeadingPositive(
     final boolean o)
   {
-    this.orbit_heading_positive = o;
+    this.setFlag(JCameraSphericalInputState.ORBITING_HEADING_POSITIVE, o);
   }
 
   @Override
   public void setOrbitInclineNegative(
     final boolean o)
   {
-    this.orbit_incline_negative = o;
+    this.setFlag(JCameraSphericalInputState.ORBITING_INCLINE_NEGATIVE, o);
   }
 
   @Override
   public void setOrbitInclinePositive(
     final boolean o)
   {
-    this.orbit_incline_positive = o;
+    this.setFlag(JCameraSphericalInputState.ORBITING_INCLINE_POSITIVE, o);
   }
 
   @Override
   public void setTargetMovingBackwardCursor(
     final boolean in_backward)
   {
-    this.backward_cursor = in_backward;
+    this.setFlag(TARGET_MOVING_BACKWARD_CURSOR, in_backward);
   }
 
   @Override
   public void setTargetMovingBackwardKey(
     final boolean in_backward)
   {
-    this.backward_key = in_backward;
+    this.setFlag(
+      JCameraSphericalInputState.TARGET_MOVING_BACKWARD, in_backward);
   }
 
   @Override
   public void setTargetMovingContinuousForward(
     final double f)
   {
-    this.forward_continuous = f;
+    this.forward_continuous.set(f);
   }
 
   @Override
   public void setTargetMovingContinuousRight(
     final double f)
   {
-    this.right_continuous = f;
+    this.right_continuous.set(f);
   }
 
   @Override
   public void setTargetMovingForwardCursor(
     final boolean in_forward)
   {
-    this.forward_cursor = in_forward;
+    this.setFlag(TARGET_MOVING_FORWARD_CURSOR, in_forward);
   }
 
   @Override
   public void setTargetMovingForwardKey(
     final boolean in_forward)
   {
-    this.forward_key = in_forward;
+    this.setFlag(JCameraSphericalInputState.TARGET_MOVING_FORWARD, in_forward);
   }
 
   @Override
   public void setTargetMovingLeftCursor(
     final boolean in_left)
   {
-    this.left_cursor = in_left;
+    this.setFlag(TARGET_MOVING_LEFT_CURSOR, in_left);
   }
 
   @Override
   public void setTargetMovingLeftKey(
     final boolean in_left)
   {
-    this.left_key = in_left;
+    this.setFlag(JCameraSphericalInputState.TARGET_MOVING_LEFT, in_left);
   }
 
   @Override
   public void setTargetMovingRightCursor(
     final boolean in_right)
   {
-    this.right_cursor = in_right;
+    this.setFlag(TARGET_MOVING_RIGHT_CURSOR, in_right);
   }
 
   @Override
   public void setTargetMovingRightKey(
     final boolean in_right)
   {
-    this.right_key = in_right;
+    this.setFlag(JCameraSphericalInputState.TARGET_MOVING_RIGHT, in_right);
   }
 
   @Override
   public double takeTargetMovingForward()
   {
-    final double r = this.getTargetMovingForwardContinuous();
-    this.forward_continuous = 0.0;
-    return r;
+    return this.forward_continuous.take() * this.forward_factor;
   }
 
   @Override
   public double takeTargetMovingRight()
   {
-    final double r = this.getTargetMovingRight();
-    this.right_continuous = 0.0;
-    return r;
+    return this.right_continuous.take() * this.right_factor;
   }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>The kinds of input events for spherical cameras, for use with
+ * {@link JCameraInputEventRing}.</p>
+ *
+ * @see JCameraInputEventIntegrator
+ */
+
+@EqualityReference
+public final class JCameraSphericalInputEvents
+{
+  /**
+   * A change to the forward movement key state.
+   */
+
+  public static final int TARGET_MOVING_FORWARD_KEY = 0;
+
+  /**
+   * A change to the forward movement cursor state.
+   */
+
+  public static final int TARGET_MOVING_FORWARD_CURSOR = 1;
+
+  /**
+   * A change to the backward movement key state.
+   */
+
+  public static final int TARGET_MOVING_BACKWARD_KEY = 2;
+
+  /**
+   * A change to the backward movement cursor state.
+   */
+
+  public static final int TARGET_MOVING_BACKWARD_CURSOR = 3;
+
+  /**
+   * A change to the leftward movement key state.
+   */
+
+  public static final int TARGET_MOVING_LEFT_KEY = 4;
+
+  /**
+   * A change to the leftward movement cursor state.
+   */
+
+  public static final int TARGET_MOVING_LEFT_CURSOR = 5;
+
+  /**
+   * A change to the rightward movement key state.
+   */
+
+  public static final int TARGET_MOVING_RIGHT_KEY = 6;
+
+  /**
+   * A change to the rightward movement cursor state.
+   */
+
+  public static final int TARGET_MOVING_RIGHT_CURSOR = 7;
+
+  /**
+   * A change to the upward movement state.
+   */
+
+  public static final int TARGET_MOVING_UP = 8;
+
+  /**
+   * A change to the downward movement state.
+   */
+
+  public static final int TARGET_MOVING_DOWN = 9;
+
+  /**
+   * A change to the zooming in state.
+   */
+
+  public static final int ZOOMING_IN = 10;
+
+  /**
+   * A change to the zooming out state.
+   */
+
+  public static final int ZOOMING_OUT = 11;
+
+  /**
+   * A change to the positive heading orbit state.
+   */
+
+  public static final int ORBITING_HEADING_POSITIVE = 12;
+
+  /**
+   * A change to the negative heading orbit state.
+   */
+
+  public static final int ORBITING_HEADING_NEGATIVE = 13;
+
+  /**
+   * A change to the positive incline orbit state.
+   */
+
+  public static final int ORBITING_INCLINE_POSITIVE = 14;
+
+  /**
+   * A change to the negative incline orbit state.
+   */
+
+  public static final int ORBITING_INCLINE_NEGATIVE = 15;
+
+  /**
+   * A continuous forward movement, added to the current movement.
+   */
+
+  public static final int TARGET_MOVING_CONTINUOUS_FORWARD = 16;
+
+  /**
+   * A continuous rightward movement, added to the current movement.
+   */
+
+  public static final int TARGET_MOVING_CONTINUOUS_RIGHT = 17;
+
+  private JCameraSphericalInputEvents()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Apply the event {@code kind} with value {@code value} to
+   * {@code input}. Events that represent boolean states are considered to
+   * be {@code true} iff {@code value != 0.0}.
+   *
+   * @param input The input
+   * @param kind  The kind of event
+   * @param value The value associated with the event
+   *
+   * @throws IllegalArgumentException If {@code kind} is not a recognized
+   *                                  event kind
+   */
+
+  public static void apply(
+    final JCameraSphericalInputType input,
+    final int kind,
+    final double value)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(input, "Input");
+
+    if (kind >= TARGET_MOVING_FORWARD_KEY && kind <= TARGET_MOVING_DOWN) {
+      applyTarget(input, kind, value);
+    } else if (kind >= ZOOMING_IN && kind <= ORBITING_INCLINE_NEGATIVE) {
+      applyOrbitZoom(input, kind, value);
+    } else if (kind >= TARGET_MOVING_CONTINUOUS_FORWARD
+      && kind <= TARGET_MOVING_CONTINUOUS_RIGHT) {
+      applyContinuous(input, kind, value);
+    } else {
+      throw new IllegalArgumentException("Unrecognized event kind: " + kind);
+    }
+  }
+
+  /**
+   * @param input The input
+   *
+   * @return An applier that applies events to {@code input}
+   */
+
+  public static JCameraInputEventApplierType applier(
+    final JCameraSphericalInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+    return (kind, value) -> apply(input, kind, value);
+  }
+
+  private static void applyTarget(
+    final JCameraSphericalInputType input,
+    final int kind,
+    final double value)
+  {
+    switch (kind) {
+      case TARGET_MOVING_FORWARD_KEY ->
+        input.setTargetMovingForwardKey(value != 0.0);
+      case TARGET_MOVING_FORWARD_CURSOR ->
+        input.setTargetMovingForwardCursor(value != 0.0);
+      case TARGET_MOVING_BACKWARD_KEY ->
+        input.setTargetMovingBackwardKey(value != 0.0);
+      case TARGET_MOVING_BACKWARD_CURSOR ->
+        input.setTargetMovingBackwardCursor(value != 0.0);
+      case TARGET_MOVING_LEFT_KEY -> input.setTargetMovingLeftKey(value != 0.0);
+      case TARGET_MOVING_LEFT_CURSOR ->
+        input.setTargetMovingLeftCursor(value != 0.0);
+      case TARGET_MOVING_RIGHT_KEY ->
+        input.setTargetMovingRightKey(value != 0.0);
+      case TARGET_MOVING_RIGHT_CURSOR ->
+        input.setTargetMovingRightCursor(value != 0.0);
+      case TARGET_MOVING_UP -> input.setTargetMovingUp(value != 0.0);
+      case TARGET_MOVING_DOWN -> input.setTargetMovingDown(value != 0.0);
+      default -> throw new UnreachableCodeException();
+    }
+  }
+
+  private static void applyOrbitZoom(
+    final JCameraSphericalInputType input,
+    final int kind,
+    final double value)
+  {
+    switch (kind) {
+      case ZOOMING_IN -> input.setZoomingIn(value != 0.0);
+      case ZOOMING_OUT -> input.setZoomingOut(value != 0.0);
+      case ORBITING_HEADING_POSITIVE ->
+        input.setOrbitHeadingPositive(value != 0.0);
+      case ORBITING_HEADING_NEGATIVE ->
+        input.setOrbitHeadingNegative(value != 0.0);
+      case ORBITING_INCLINE_POSITIVE ->
+        input.setOrbitInclinePositive(value != 0.0);
+      case ORBITING_INCLINE_NEGATIVE ->
+        input.setOrbitInclineNegative(value != 0.0);
+      default -> throw new UnreachableCodeException();
+    }
+  }
+
+  private static void applyContinuous(
+    final JCameraSphericalInputType input,
+    final int kind,
+    final double value)
+  {
+    switch (kind) {
+      case TARGET_MOVING_CONTINUOUS_FORWARD ->
+        input.addTargetMovingContinuousForward(value);
+      case TARGET_MOVING_CONTINUOUS_RIGHT ->
+        input.addTargetMovingContinuousRight(value);
+      default -> throw new UnreachableCodeException();
+    }
+  }
+}
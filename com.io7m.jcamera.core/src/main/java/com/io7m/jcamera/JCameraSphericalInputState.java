@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>The flags that make up the packed state returned by
+ * {@link JCameraSphericalInputType#getState()}.</p>
+ *
+ * <p>Each flag corresponds to one of the boolean queries on
+ * {@link JCameraSphericalInputType}, and is set in the packed state if and
+ * only if the corresponding query would return {@code true}.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalInputState
+{
+  /**
+   * The target is moving forward.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingForward()
+   */
+
+  public static final int TARGET_MOVING_FORWARD = 1 << 0;
+
+  /**
+   * The target is moving backward.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingBackward()
+   */
+
+  public static final int TARGET_MOVING_BACKWARD = 1 << 1;
+
+  /**
+   * The target is moving left.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingLeft()
+   */
+
+  public static final int TARGET_MOVING_LEFT = 1 << 2;
+
+  /**
+   * The target is moving right.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingRight()
+   */
+
+  public static final int TARGET_MOVING_RIGHT = 1 << 3;
+
+  /**
+   * The target is moving up.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingUp()
+   */
+
+  public static final int TARGET_MOVING_UP = 1 << 4;
+
+  /**
+   * The target is moving down.
+   *
+   * @see JCameraSphericalInputType#isTargetMovingDown()
+   */
+
+  public static final int TARGET_MOVING_DOWN = 1 << 5;
+
+  /**
+   * The camera is zooming in.
+   *
+   * @see JCameraSphericalInputType#isZoomingIn()
+   */
+
+  public static final int ZOOMING_IN = 1 << 6;
+
+  /**
+   * The camera is zooming out.
+   *
+   * @see JCameraSphericalInputType#isZoomingOut()
+   */
+
+  public static final int ZOOMING_OUT = 1 << 7;
+
+  /**
+   * The camera is orbiting with a positive heading.
+   *
+   * @see JCameraSphericalInputType#isOrbitingHeadingPositive()
+   */
+
+  public static final int ORBITING_HEADING_POSITIVE = 1 << 8;
+
+  /**
+   * The camera is orbiting with a negative heading.
+   *
+   * @see JCameraSphericalInputType#isOrbitingHeadingNegative()
+   */
+
+  public static final int ORBITING_HEADING_NEGATIVE = 1 << 9;
+
+  /**
+   * The camera is orbiting with a positive incline.
+   *
+   * @see JCameraSphericalInputType#isOrbitingInclinePositive()
+   */
+
+  public static final int ORBITING_INCLINE_POSITIVE = 1 << 10;
+
+  /**
+   * The camera is orbiting with a negative incline.
+   *
+   * @see JCameraSphericalInputType#isOrbitingInclineNegative()
+   */
+
+  public static final int ORBITING_INCLINE_NEGATIVE = 1 << 11;
+
+  /**
+   * The union of all of the defined flags.
+   */
+
+  public static final int ALL = (1 << 12) - 1;
+
+  private JCameraSphericalInputState()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int flag(
+    final boolean set,
+    final int flag)
+  {
+    return set ? flag : 0;
+  }
+
+  /**
+   * Construct a packed state by querying each of the boolean states of the
+   * given input in turn. Note that, unlike
+   * {@link JCameraSphericalInput#getState()}, the result is not guaranteed to
+   * be a consistent snapshot if the input is being modified concurrently.
+   *
+   * @param input The input
+   *
+   * @return The packed state
+   */
+
+  public static int ofQueries(
+    final JCameraSphericalInputType input)
+  {
+    int s = 0;
+    s |= flag(input.isTargetMovingForward(), TARGET_MOVING_FORWARD);
+    s |= flag(input.isTargetMovingBackward(), TARGET_MOVING_BACKWARD);
+    s |= flag(input.isTargetMovingLeft(), TARGET_MOVING_LEFT);
+    s |= flag(input.isTargetMovingRight(), TARGET_MOVING_RIGHT);
+    s |= flag(input.isTargetMovingUp(), TARGET_MOVING_UP);
+    s |= flag(input.isTargetMovingDown(), TARGET_MOVING_DOWN);
+    s |= flag(input.isZoomingIn(), ZOOMING_IN);
+    s |= flag(input.isZoomingOut(), ZOOMING_OUT);
+    s |= flag(input.isOrbitingHeadingPositive(), ORBITING_HEADING_POSITIVE);
+    s |= flag(input.isOrbitingHeadingNegative(), ORBITING_HEADING_NEGATIVE);
+    s |= flag(input.isOrbitingInclinePositive(), ORBITING_INCLINE_POSITIVE);
+    s |= flag(input.isOrbitingInclineNegative(), ORBITING_INCLINE_NEGATIVE);
+    return s;
+  }
+
+  /**
+   * @param state A packed state
+   * @param flag  A flag, such as {@link #ZOOMING_IN}
+   *
+   * @return {@code true} iff {@code flag} is set in {@code state}
+   */
+
+  public static boolean isSet(
+    final int state,
+    final int flag)
+  {
+    return (state & flag) != 0;
+  }
+}
@@ -69,6 +69,21 @@ public interface JCameraSphericalInputType
 
   double getTargetMovingRight();
 
+  /**
+   * Retrieve the current boolean states (such as whether or not the target is
+   * moving forward) packed into a single integer value, using the flags
+   * defined in {@link JCameraSphericalInputState}. Implementations are
+   * encouraged to return a consistent snapshot of the state, which also
+   * allows integrators to sample all of the states with a single read.
+   *
+   * @return The current boolean states as a packed set of flags
+   */
+
+  default int getState()
+  {
+    return JCameraSphericalInputState.ofQueries(this);
+  }
+
   /**
    * @return {@code true} if the user is telling the camera to orbit
    */
@@ -56,6 +56,30 @@ public final class JCameraSphericalIntegrator
     return newIntegratorWith(ai, li);
   }
 
+  /**
+   * Return a new integrator for the given camera and input using the
+   * integrator implementations that integrate movement exactly. See
+   * {@link JCameraSphericalLinearIntegratorExact} and {@link
+   * JCameraSphericalAngularIntegratorExact}.
+   *
+   * @param in_camera The camera
+   * @param in_input  The input
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraSphericalIntegratorType newIntegratorExact(
+    final JCameraSphericalType in_camera,
+    final JCameraSphericalInputType in_input)
+  {
+    final JCameraSphericalAngularIntegratorType ai =
+      JCameraSphericalAngularIntegratorExact.newIntegrator(in_camera, in_input);
+    final JCameraSphericalLinearIntegratorType li =
+      JCameraSphericalLinearIntegratorExact.newIntegrator(in_camera, in_input);
+
+    return newIntegratorWith(ai, li);
+  }
+
   /**
    * Return a new integrator using the given integrator implementations.
    *
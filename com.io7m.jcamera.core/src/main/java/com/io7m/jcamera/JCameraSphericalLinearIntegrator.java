@@ -91,22 +91,28 @@ public final class JCameraSphericalLinearIntegrator implements
   public void integrate(
     final double t)
   {
-    this.speed_zoom = this.integrateZoom(t);
-    this.speed_forward = this.integrateForward(t);
-    this.speed_right = this.integrateRight(t);
-    this.speed_up = this.integrateUp(t);
+    final int state = this.input.getState();
+    this.speed_zoom = this.integrateZoom(state, t);
+    this.speed_forward = this.integrateForward(state, t);
+    this.speed_right = this.integrateRight(state, t);
+    this.speed_up = this.integrateUp(state, t);
   }
 
   private double integrateForward(
+    final int state,
     final double time)
   {
     double s = this.speed_forward;
 
-    final boolean forward = this.input.isTargetMovingForward();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_FORWARD);
     if (forward) {
       s += this.target_acceleration * time;
     }
-    final boolean backward = this.input.isTargetMovingBackward();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_BACKWARD);
     if (backward) {
       s -= this.target_acceleration * time;
     }
@@ -119,15 +125,20 @@ public final class JCameraSphericalLinearIntegrator implements
   }
 
   private double integrateRight(
+    final int state,
     final double time)
   {
     double s = this.speed_right;
 
-    final boolean forward = this.input.isTargetMovingRight();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_RIGHT);
     if (forward) {
       s += this.target_acceleration * time;
     }
-    final boolean backward = this.input.isTargetMovingLeft();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_LEFT);
     if (backward) {
       s -= this.target_acceleration * time;
     }
@@ -140,15 +151,20 @@ public final class JCameraSphericalLinearIntegrator implements
   }
 
   private double integrateUp(
+    final int state,
     final double time)
   {
     double s = this.speed_up;
 
-    final boolean forward = this.input.isTargetMovingUp();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_UP);
     if (forward) {
       s += this.target_acceleration * time;
     }
-    final boolean backward = this.input.isTargetMovingDown();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_DOWN);
     if (backward) {
       s -= this.target_acceleration * time;
     }
@@ -160,15 +176,20 @@ public final class JCameraSphericalLinearIntegrator implements
   }
 
   private double integrateZoom(
+    final int state,
     final double time)
   {
     double s = this.speed_zoom;
 
-    final boolean forward = this.input.isZoomingIn();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ZOOMING_IN);
     if (forward) {
       s += this.zoom_acceleration * time;
     }
-    final boolean backward = this.input.isZoomingOut();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ZOOMING_OUT);
     if (backward) {
       s -= this.zoom_acceleration * time;
     }
@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * <p>An implementation of {@link JCameraSphericalLinearIntegratorType} that
+ * uses the exact solution of constant acceleration under exponential drag
+ * over each interval, rather than an explicit Euler step.</p>
+ *
+ * <p>Given unchanging input, integrating once over a time {@code t} yields
+ * the same result as integrating repeatedly over any subdivision of {@code
+ * t}. Continuous target movement accumulated since the last call is treated
+ * as an additional constant acceleration over the interval and, as with
+ * {@link JCameraSphericalLinearIntegrator}, is not limited by the maximum
+ * target speed.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalLinearIntegratorExact implements
+  JCameraSphericalLinearIntegratorType
+{
+  private final JCameraSphericalType camera;
+  private final JCameraSphericalInputType input;
+  private final JCameraDragIntegration exact;
+  private double speed_forward;
+  private double speed_right;
+  private double speed_up;
+  private double speed_zoom;
+  private double target_acceleration;
+  private double target_drag_rate;
+  private double target_maximum_speed;
+  private double zoom_acceleration;
+  private double zoom_drag_rate;
+  private double zoom_maximum_speed;
+
+  private JCameraSphericalLinearIntegratorExact(
+    final JCameraSphericalType in_camera,
+    final JCameraSphericalInputType in_input)
+  {
+    this.camera = Objects.requireNonNull(in_camera, "Camera");
+    this.input = Objects.requireNonNull(in_input, "Input");
+    this.exact = new JCameraDragIntegration();
+
+    this.speed_forward = 0.0;
+    this.speed_right = 0.0;
+    this.speed_up = 0.0;
+    this.speed_zoom = 0.0;
+
+    this.target_maximum_speed = 3.0;
+    this.target_drag_rate = JCameraDragIntegration.rate(0.25);
+    this.target_acceleration = 30.0;
+
+    this.zoom_maximum_speed = 3.0;
+    this.zoom_drag_rate = JCameraDragIntegration.rate(0.25);
+    this.zoom_acceleration = 30.0;
+  }
+
+  /**
+   * Construct a new integrator.
+   *
+   * @param in_camera The camera to be integrated.
+   * @param in_input  The input to be sampled.
+   *
+   * @return A new integrator
+   */
+
+  public static JCameraSphericalLinearIntegratorType newIntegrator(
+    final JCameraSphericalType in_camera,
+    final JCameraSphericalInputType in_input)
+  {
+    return new JCameraSphericalLinearIntegratorExact(in_camera, in_input);
+  }
+
+  private static double accelerationFor(
+    final int state,
+    final int positive,
+    final int negative,
+    final double acceleration)
+  {
+    double a = 0.0;
+    if (JCameraSphericalInputState.isSet(state, positive)) {
+      a += acceleration;
+    }
+    if (JCameraSphericalInputState.isSet(state, negative)) {
+      a -= acceleration;
+    }
+    return a;
+  }
+
+  private static double checkDrag(
+    final double f)
+  {
+    return RangeCheck.checkGreaterEqualDouble(
+      RangeCheck
+        .checkLessEqualDouble(f, "Drag factor", 1.0, "Maximum drag"),
+      "Drag factor",
+      0.0,
+      "Minimum drag");
+  }
+
+  @Override
+  public void integrate(
+    final double t)
+  {
+    final int state = this.input.getState();
+    this.speed_zoom = this.integrateZoom(state, t);
+    this.speed_forward = this.integrateForward(state, t);
+    this.speed_right = this.integrateRight(state, t);
+    this.speed_up = this.integrateUp(state, t);
+  }
+
+  private double integrateForward(
+    final int state,
+    final double time)
+  {
+    this.exact.integrate(
+      this.speed_forward,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.TARGET_MOVING_FORWARD,
+        JCameraSphericalInputState.TARGET_MOVING_BACKWARD,
+        this.target_acceleration),
+      this.target_drag_rate,
+      this.target_maximum_speed,
+      time);
+
+    final double d = this.exact.distance();
+    final double s = this.exact.speed();
+    this.integrateContinuous(
+      this.input.takeTargetMovingForward() * this.target_acceleration,
+      time);
+
+    this.camera.cameraMoveTargetForwardOnXZ(d + this.exact.distance());
+    return s + this.exact.speed();
+  }
+
+  private double integrateRight(
+    final int state,
+    final double time)
+  {
+    this.exact.integrate(
+      this.speed_right,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.TARGET_MOVING_RIGHT,
+        JCameraSphericalInputState.TARGET_MOVING_LEFT,
+        this.target_acceleration),
+      this.target_drag_rate,
+      this.target_maximum_speed,
+      time);
+
+    final double d = this.exact.distance();
+    final double s = this.exact.speed();
+    this.integrateContinuous(
+      this.input.takeTargetMovingRight() * this.target_acceleration,
+      time);
+
+    this.camera.cameraMoveTargetRight(d + this.exact.distance());
+    return s + this.exact.speed();
+  }
+
+  private void integrateContinuous(
+    final double a,
+    final double time)
+  {
+    this.exact.integrate(
+      0.0,
+      a,
+      this.target_drag_rate,
+      Double.POSITIVE_INFINITY,
+      time);
+  }
+
+  private double integrateUp(
+    final int state,
+    final double time)
+  {
+    this.exact.integrate(
+      this.speed_up,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.TARGET_MOVING_UP,
+        JCameraSphericalInputState.TARGET_MOVING_DOWN,
+        this.target_acceleration),
+      this.target_drag_rate,
+      this.target_maximum_speed,
+      time);
+
+    this.camera.cameraMoveTargetUp(this.exact.distance());
+    return this.exact.speed();
+  }
+
+  private double integrateZoom(
+    final int state,
+    final double time)
+  {
+    this.exact.integrate(
+      this.speed_zoom,
+      accelerationFor(
+        state,
+        JCameraSphericalInputState.ZOOMING_IN,
+        JCameraSphericalInputState.ZOOMING_OUT,
+        this.zoom_acceleration),
+      this.zoom_drag_rate,
+      this.zoom_maximum_speed,
+      time);
+
+    this.camera.cameraZoomIn(this.exact.distance());
+    return this.exact.speed();
+  }
+
+  @Override
+  public JCameraSphericalType integratorGetCamera()
+  {
+    return this.camera;
+  }
+
+  @Override
+  public JCameraSphericalInputType integratorGetInput()
+  {
+    return this.input;
+  }
+
+  @Override
+  public void integratorLinearTargetSetAcceleration(
+    final double a)
+  {
+    this.target_acceleration =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  @Override
+  public void integratorLinearTargetSetDrag(
+    final double f)
+  {
+    this.target_drag_rate = JCameraDragIntegration.rate(checkDrag(f));
+  }
+
+  @Override
+  public void integratorLinearTargetSetMaximumSpeed(
+    final double s)
+  {
+    this.target_maximum_speed =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+
+  @Override
+  public void integratorLinearZoomSetAcceleration(
+    final double a)
+  {
+    this.zoom_acceleration =
+      RangeCheck.checkGreaterDouble(
+        a,
+        "Acceleration",
+        0.0,
+        "Minimum acceleration");
+  }
+
+  @Override
+  public void integratorLinearZoomSetDrag(
+    final double f)
+  {
+    this.zoom_drag_rate = JCameraDragIntegration.rate(checkDrag(f));
+  }
+
+  @Override
+  public void integratorLinearZoomSetMaximumSpeed(
+    final double s)
+  {
+    this.zoom_maximum_speed =
+      RangeCheck.checkGreaterEqualDouble(
+        s,
+        "Speed limit",
+        0.0,
+        "Minimum limit");
+  }
+}
@@ -133,7 +133,8 @@ public final class JCameraSphericalLinearIntegratorZoomScaled implements
   public void integrate(
     final double t)
   {
-    this.speed_zoom = this.integrateZoom(t);
+    final int state = this.input.getState();
+    this.speed_zoom = this.integrateZoom(state, t);
 
     final double linear_zoom_scale =
       this.linear_scale.evaluate(this.camera.cameraGetZoom());
@@ -141,24 +142,29 @@ public final class JCameraSphericalLinearIntegratorZoomScaled implements
       this.drag_scale.evaluate(this.camera.cameraGetZoom());
 
     this.speed_forward =
-      this.integrateForward(t, linear_zoom_scale, drag_zoom_scale);
+      this.integrateForward(state, t, linear_zoom_scale, drag_zoom_scale);
     this.speed_right =
-      this.integrateRight(t, linear_zoom_scale, drag_zoom_scale);
-    this.speed_up = this.integrateUp(t);
+      this.integrateRight(state, t, linear_zoom_scale, drag_zoom_scale);
+    this.speed_up = this.integrateUp(state, t);
   }
 
   private double integrateForward(
+    final int state,
     final double time,
     final double linear_zoom_scale,
     final double drag_zoom_scale)
   {
     double s = this.speed_forward;
 
-    final boolean forward = this.input.isTargetMovingForward();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_FORWARD);
     if (forward) {
       s += this.target_acceleration * time * linear_zoom_scale;
     }
-    final boolean backward = this.input.isTargetMovingBackward();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_BACKWARD);
     if (backward) {
       s -= this.target_acceleration * time * linear_zoom_scale;
     }
@@ -183,17 +189,22 @@ public final class JCameraSphericalLinearIntegratorZoomScaled implements
   }
 
   private double integrateRight(
+    final int state,
     final double time,
     final double linear_zoom_scale,
     final double drag_zoom_scale)
   {
     double s = this.speed_right;
 
-    final boolean forward = this.input.isTargetMovingRight();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_RIGHT);
     if (forward) {
       s += this.target_acceleration * time * linear_zoom_scale;
     }
-    final boolean backward = this.input.isTargetMovingLeft();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_LEFT);
     if (backward) {
       s -= this.target_acceleration * time * linear_zoom_scale;
     }
@@ -218,15 +229,20 @@ public final class JCameraSphericalLinearIntegratorZoomScaled implements
   }
 
   private double integrateUp(
+    final int state,
     final double time)
   {
     double s = this.speed_up;
 
-    final boolean forward = this.input.isTargetMovingUp();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_UP);
     if (forward) {
       s += this.target_acceleration * time;
     }
-    final boolean backward = this.input.isTargetMovingDown();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.TARGET_MOVING_DOWN);
     if (backward) {
       s -= this.target_acceleration * time;
     }
@@ -241,15 +257,20 @@ public final class JCameraSphericalLinearIntegratorZoomScaled implements
   }
 
   private double integrateZoom(
+    final int state,
     final double time)
   {
     double s = this.speed_zoom;
 
-    final boolean forward = this.input.isZoomingIn();
+    final boolean forward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ZOOMING_IN);
     if (forward) {
       s += this.zoom_acceleration * time;
     }
-    final boolean backward = this.input.isZoomingOut();
+    final boolean backward =
+      JCameraSphericalInputState.isSet(
+        state, JCameraSphericalInputState.ZOOMING_OUT);
     if (backward) {
       s -= this.zoom_acceleration * time;
     }
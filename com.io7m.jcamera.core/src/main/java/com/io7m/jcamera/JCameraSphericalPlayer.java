@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A player for files written by {@link JCameraSphericalRecorder}.</p>
+ *
+ * <p>The player behaves exactly as {@link JCameraFPSStylePlayer} does.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ *
+ * @see JCameraFPSStylePlayer
+ */
+
+@EqualityReference
+public final class JCameraSphericalPlayer implements Closeable
+{
+  private final JCameraRecordingReader reader;
+
+  private JCameraSphericalPlayer(
+    final JCameraRecordingReader in_reader)
+  {
+    this.reader = in_reader;
+  }
+
+  /**
+   * Open a recording.
+   *
+   * @param file The file
+   *
+   * @return A new player
+   *
+   * @throws IOException On I/O errors, or if the file is not a recording of
+   *                     a spherical camera
+   */
+
+  public static JCameraSphericalPlayer open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "File");
+    return new JCameraSphericalPlayer(
+      JCameraRecordingReader.open(
+        file,
+        JCameraRecordingFormat.KIND_SPHERICAL,
+        JCameraRecordingFormat.SPHERICAL_RECORD_SIZE));
+  }
+
+  /**
+   * @return The number of records
+   */
+
+  public int size()
+  {
+    return this.reader.count();
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The tick of the record
+   */
+
+  public long tickAt(
+    final int index)
+  {
+    return this.reader.tick(index);
+  }
+
+  /**
+   * @param tick A tick
+   *
+   * @return The index of the newest record with a tick less than or equal
+   * to {@code tick}, or {@code -1} if there is no such record
+   */
+
+  public int find(
+    final long tick)
+  {
+    return this.reader.find(tick);
+  }
+
+  /**
+   * Read the camera state of a record into {@code target}.
+   *
+   * @param index  The index of a record
+   * @param target The target snapshot
+   *
+   * @return {@code target}
+   */
+
+  public JCameraSphericalSnapshotMutable snapshotInto(
+    final int index,
+    final JCameraSphericalSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    target.setOrientation(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_HEADING),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_INCLINE),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_ZOOM));
+    target.setPosition(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_POSITION),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_POSITION + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_POSITION + 16));
+    target.setRight(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_RIGHT_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_RIGHT_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_RIGHT_VECTOR + 16));
+    target.setUp(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_UP_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_UP_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_UP_VECTOR + 16));
+    target.setForward(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_VECTOR),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_VECTOR + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_VECTOR + 16));
+    target.setForwardOnXZ(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_ON_XZ),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_ON_XZ + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_FORWARD_ON_XZ + 16));
+    target.setTarget(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET + 16));
+    return target;
+  }
+
+  /**
+   * @param index The index of a record
+   *
+   * @return The camera state of the record
+   */
+
+  public JCameraSphericalSnapshot snapshot(
+    final int index)
+  {
+    return JCameraSphericalSnapshots.of(
+      this.snapshotInto(index, JCameraSphericalSnapshotMutable.create()));
+  }
+
+  /**
+   * Set the angles, zoom and target position of {@code camera} to the
+   * camera state of a record.
+   *
+   * @param index  The index of a record
+   * @param camera The camera
+   */
+
+  public void applyCamera(
+    final int index,
+    final JCameraSphericalType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    camera.cameraSetAngleHeading(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_HEADING));
+    camera.cameraSetAngleIncline(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_INCLINE));
+    camera.cameraSetZoom(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_ZOOM));
+    camera.cameraSetTargetPosition3(
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET + 8),
+      b.getDouble(base + JCameraRecordingFormat.SPHERICAL_TARGET + 16));
+  }
+
+  /**
+   * Set {@code input} to the input state of a record. Keyboard and cursor
+   * movement are not distinguished in the recording, so recorded movement
+   * is applied as keyboard movement and cursor movement is cleared. The
+   * recorded continuous movement already includes the factors that were in
+   * effect when it was recorded, so the continuous movement factors of
+   * {@code input} are reset to {@code 1.0}.
+   *
+   * @param index The index of a record
+   * @param input The input
+   */
+
+  public void applyInput(
+    final int index,
+    final JCameraSphericalInputType input)
+  {
+    Objects.requireNonNull(input, "Input");
+
+    final ByteBuffer b = this.reader.chunk(index);
+    final int base = this.reader.offset(index);
+    final int flags =
+      b.getInt(base + JCameraRecordingFormat.RECORD_INPUT_FLAGS);
+
+    input.setTargetMovingForwardCursor(false);
+    input.setTargetMovingBackwardCursor(false);
+    input.setTargetMovingLeftCursor(false);
+    input.setTargetMovingRightCursor(false);
+    input.setTargetMovingForwardKey(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_FORWARD));
+    input.setTargetMovingBackwardKey(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_BACKWARD));
+    input.setTargetMovingLeftKey(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_LEFT));
+    input.setTargetMovingRightKey(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_RIGHT));
+    input.setTargetMovingUp(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_UP));
+    input.setTargetMovingDown(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.TARGET_MOVING_DOWN));
+    input.setZoomingIn(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ZOOMING_IN));
+    input.setZoomingOut(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ZOOMING_OUT));
+    input.setOrbitHeadingPositive(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ORBITING_HEADING_POSITIVE));
+    input.setOrbitHeadingNegative(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ORBITING_HEADING_NEGATIVE));
+    input.setOrbitInclinePositive(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ORBITING_INCLINE_POSITIVE));
+    input.setOrbitInclineNegative(
+      JCameraSphericalInputState.isSet(
+        flags, JCameraSphericalInputState.ORBITING_INCLINE_NEGATIVE));
+    input.setContinuousForwardFactor(1.0);
+    input.setContinuousRightwardFactor(1.0);
+    input.setTargetMovingContinuousForward(
+      b.getDouble(base + JCameraRecordingFormat.RECORD_INPUT_0));
+    input.setTargetMovingContinuousRight(
+      b.getDouble(base + JCameraRecordingFormat.RECORD_INPUT_1));
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.reader.close();
+  }
+}
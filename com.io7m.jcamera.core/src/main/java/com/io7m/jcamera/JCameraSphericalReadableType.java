@@ -77,4 +77,130 @@ public interface JCameraSphericalReadableType extends JCameraReadableType
    */
 
   double cameraGetZoom();
+
+  @Override
+  default double cameraGetPositionX()
+  {
+    return this.cameraGetPosition().x();
+  }
+
+  @Override
+  default double cameraGetPositionY()
+  {
+    return this.cameraGetPosition().y();
+  }
+
+  @Override
+  default double cameraGetPositionZ()
+  {
+    return this.cameraGetPosition().z();
+  }
+
+  @Override
+  default double cameraGetRightX()
+  {
+    return this.cameraGetRight().x();
+  }
+
+  @Override
+  default double cameraGetRightY()
+  {
+    return this.cameraGetRight().y();
+  }
+
+  @Override
+  default double cameraGetRightZ()
+  {
+    return this.cameraGetRight().z();
+  }
+
+  @Override
+  default double cameraGetUpX()
+  {
+    return this.cameraGetUp().x();
+  }
+
+  @Override
+  default double cameraGetUpY()
+  {
+    return this.cameraGetUp().y();
+  }
+
+  @Override
+  default double cameraGetUpZ()
+  {
+    return this.cameraGetUp().z();
+  }
+
+  @Override
+  default double cameraGetForwardX()
+  {
+    return this.cameraGetForward().x();
+  }
+
+  @Override
+  default double cameraGetForwardY()
+  {
+    return this.cameraGetForward().y();
+  }
+
+  @Override
+  default double cameraGetForwardZ()
+  {
+    return this.cameraGetForward().z();
+  }
+
+  /**
+   * @return The X component of the forward direction projected onto the X/Z plane
+   */
+
+  default double cameraGetForwardProjectedOnXZX()
+  {
+    return this.cameraGetForwardProjectedOnXZ().x();
+  }
+
+  /**
+   * @return The Y component of the forward direction projected onto the X/Z plane
+   */
+
+  default double cameraGetForwardProjectedOnXZY()
+  {
+    return this.cameraGetForwardProjectedOnXZ().y();
+  }
+
+  /**
+   * @return The Z component of the forward direction projected onto the X/Z plane
+   */
+
+  default double cameraGetForwardProjectedOnXZZ()
+  {
+    return this.cameraGetForwardProjectedOnXZ().z();
+  }
+
+  /**
+   * @return The X component of the position of the camera target
+   */
+
+  default double cameraGetTargetPositionX()
+  {
+    return this.cameraGetTargetPosition().x();
+  }
+
+  /**
+   * @return The Y component of the position of the camera target
+   */
+
+  default double cameraGetTargetPositionY()
+  {
+    return this.cameraGetTargetPosition().y();
+  }
+
+  /**
+   * @return The Z component of the position of the camera target
+   */
+
+  default double cameraGetTargetPositionZ()
+  {
+    return this.cameraGetTargetPosition().z();
+  }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A recorder that appends the path of a spherical camera to a file, for
+ * later playback with {@link JCameraSphericalPlayer}.</p>
+ *
+ * <p>The recorder behaves exactly as {@link JCameraFPSStyleRecorder} does.
+ * The recorded input consists of the flags returned by {@link
+ * JCameraSphericalInputType#getState()} and the continuous forward and
+ * rightward movement.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ *
+ * @see JCameraFPSStyleRecorder
+ */
+
+@EqualityReference
+public final class JCameraSphericalRecorder implements Closeable
+{
+  private final JCameraRecordingWriter writer;
+  private final JCameraSphericalSnapshotMutable scratch;
+
+  private JCameraSphericalRecorder(
+    final JCameraRecordingWriter in_writer)
+  {
+    this.writer = in_writer;
+    this.scratch = JCameraSphericalSnapshotMutable.create();
+  }
+
+  /**
+   * Create a new recorder, replacing {@code file} if it exists.
+   *
+   * @param file          The output file
+   * @param chunk_records The number of records in each mapped region
+   *
+   * @return A new recorder
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static JCameraSphericalRecorder create(
+    final Path file,
+    final int chunk_records)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "File");
+    RangeCheck.checkGreaterInteger(
+      chunk_records, "Chunk records", 0, "Minimum chunk records");
+    RangeCheck.checkLessEqualInteger(
+      chunk_records,
+      "Chunk records",
+      Integer.MAX_VALUE / JCameraRecordingFormat.SPHERICAL_RECORD_SIZE,
+      "Maximum chunk records");
+
+    return new JCameraSphericalRecorder(
+      JCameraRecordingWriter.create(
+        file,
+        JCameraRecordingFormat.KIND_SPHERICAL,
+        JCameraRecordingFormat.SPHERICAL_RECORD_SIZE,
+        chunk_records));
+  }
+
+  /**
+   * @return The number of completed records
+   */
+
+  public long size()
+  {
+    return this.writer.count();
+  }
+
+  /**
+   * Begin the record for a tick by sampling the given input. The input is
+   * not modified.
+   *
+   * @param tick  The tick, which must be greater than that of the previous
+   *              record
+   * @param input The input
+   *
+   * @throws IOException              If a new region of the file could not
+   *                                  be mapped
+   * @throws IllegalStateException    If the previous record has not been
+   *                                  completed
+   * @throws IllegalArgumentException If {@code tick} is not greater than
+   *                                  that of the previous record
+   */
+
+  public void recordInput(
+    final long tick,
+    final JCameraSphericalInputType input)
+    throws IOException
+  {
+    Objects.requireNonNull(input, "Input");
+
+    final int base = this.writer.begin(tick);
+    final ByteBuffer b = this.writer.chunk();
+    b.putInt(
+      base + JCameraRecordingFormat.RECORD_INPUT_FLAGS,
+      input.getState());
+    b.putDouble(
+      base + JCameraRecordingFormat.RECORD_INPUT_0,
+      input.getTargetMovingForwardContinuous());
+    b.putDouble(
+      base + JCameraRecordingFormat.RECORD_INPUT_1,
+      input.getTargetMovingRight());
+  }
+
+  /**
+   * Complete the record for the current tick with the state of the given
+   * camera.
+   *
+   * @param camera The camera
+   *
+   * @throws IllegalStateException If no record has been started
+   */
+
+  public void recordCamera(
+    final JCameraSphericalReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    this.recordCamera(JCameraSphericalSnapshots.ofInto(camera, this.scratch));
+  }
+
+  /**
+   * Complete the record for the current tick with the given snapshot.
+   *
+   * @param snapshot The snapshot
+   *
+   * @throws IllegalStateException If no record has been started
+   */
+
+  public void recordCamera(
+    final JCameraSphericalSnapshotMutable snapshot)
+  {
+    Objects.requireNonNull(snapshot, "Snapshot");
+
+    final int base = this.writer.pending();
+    final ByteBuffer b = this.writer.chunk();
+    b.putDouble(
+      base + JCameraRecordingFormat.SPHERICAL_HEADING,
+      snapshot.cameraGetAngleHeading());
+    b.putDouble(
+      base + JCameraRecordingFormat.SPHERICAL_INCLINE,
+      snapshot.cameraGetAngleIncline());
+    b.putDouble(
+      base + JCameraRecordingFormat.SPHERICAL_ZOOM,
+      snapshot.cameraGetZoom());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_POSITION,
+      snapshot.cameraGetPositionX(),
+      snapshot.cameraGetPositionY(),
+      snapshot.cameraGetPositionZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_RIGHT_VECTOR,
+      snapshot.cameraGetRightX(),
+      snapshot.cameraGetRightY(),
+      snapshot.cameraGetRightZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_UP_VECTOR,
+      snapshot.cameraGetUpX(),
+      snapshot.cameraGetUpY(),
+      snapshot.cameraGetUpZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_FORWARD_VECTOR,
+      snapshot.cameraGetForwardX(),
+      snapshot.cameraGetForwardY(),
+      snapshot.cameraGetForwardZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_FORWARD_ON_XZ,
+      snapshot.cameraGetForwardProjectedOnXZX(),
+      snapshot.cameraGetForwardProjectedOnXZY(),
+      snapshot.cameraGetForwardProjectedOnXZZ());
+    JCameraRecordingWriter.putVector(
+      b,
+      base + JCameraRecordingFormat.SPHERICAL_TARGET,
+      snapshot.cameraGetTargetPositionX(),
+      snapshot.cameraGetTargetPositionY(),
+      snapshot.cameraGetTargetPositionZ());
+    this.writer.commit();
+  }
+
+  /**
+   * Write any outstanding data to storage and close the file. A record that
+   * has been started but not completed is discarded.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.writer.close();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.util.Objects;
+
+/**
+ * <p>A channel that publishes the latest state of a spherical camera from
+ * one thread to any number of other threads.</p>
+ *
+ * <p>The state is held in preallocated primitive slots guarded by a sequence
+ * counter. Exactly one thread (typically the simulation thread) may call the
+ * {@code publish} functions. Any number of threads (such as render, audio,
+ * or network threads) may concurrently call {@link
+ * #readInto(JCameraSphericalSnapshotMutable)}, which always produces a
+ * complete state from a single publication. Neither publishing nor reading
+ * takes a lock or allocates; a reader that races with a publication simply
+ * reads again.</p>
+ *
+ * <p>Cameras such as {@link JCameraSpherical} are not safe to share between
+ * threads; the simulation thread should publish them here instead.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalSnapshotChannel
+{
+  private final JCameraSeqlock lock;
+  private final JCameraSphericalSnapshotMutable scratch;
+
+  private JCameraSphericalSnapshotChannel()
+  {
+    this.lock = new JCameraSeqlock(SphericalSnapshotLayout.SIZE);
+    this.scratch = JCameraSphericalSnapshotMutable.create();
+  }
+
+  /**
+   * Create a new channel. Until the first publication, readers observe a
+   * state with all values set to zero.
+   *
+   * @return A new channel
+   */
+
+  public static JCameraSphericalSnapshotChannel create()
+  {
+    return new JCameraSphericalSnapshotChannel();
+  }
+
+  /**
+   * Publish the current state of {@code camera}. This function must only be
+   * called from the publishing thread.
+   *
+   * @param camera The camera
+   */
+
+  public void publish(
+    final JCameraSphericalReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    this.publish(JCameraSphericalSnapshots.ofInto(camera, this.scratch));
+  }
+
+  /**
+   * Publish the state held in {@code snapshot}. This function must only be
+   * called from the publishing thread.
+   *
+   * @param snapshot The snapshot
+   */
+
+  public void publish(
+    final JCameraSphericalSnapshotMutable snapshot)
+  {
+    Objects.requireNonNull(snapshot, "Snapshot");
+
+    final JCameraSeqlock k = this.lock;
+    k.writeBegin();
+    SphericalSnapshotLayout.pack(snapshot, k.slots(), 0);
+    k.writeEnd();
+  }
+
+  /**
+   * Read the most recently published state into {@code target}. This
+   * function may be called from any thread, but {@code target} must not be
+   * shared between reading threads.
+   *
+   * @param target The snapshot that will be overwritten
+   *
+   * @return The number of the publication that was read, counting from one,
+   * or zero if nothing has been published
+   */
+
+  public long readInto(
+    final JCameraSphericalSnapshotMutable target)
+  {
+    Objects.requireNonNull(target, "Target");
+
+    final JCameraSeqlock k = this.lock;
+    while (true) {
+      final long stamp = k.readBegin();
+      SphericalSnapshotLayout.unpack(k.slots(), 0, target);
+      if (k.readValidate(stamp)) {
+        return stamp >>> 1;
+      }
+    }
+  }
+
+  /**
+   * A reader that has already read the state returned by a particular
+   * publication can compare that publication's number with this value to
+   * avoid reading the same state again.
+   *
+   * @return The number of completed publications
+   */
+
+  public long version()
+  {
+    return this.lock.version();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>A compact binary codec for snapshots of spherical cameras.</p>
+ *
+ * <p>Only the input state of a camera is written: the heading and incline
+ * angles, the zoom, and the target position. The camera position and the
+ * forward, right, and up vectors are derived on decoding, exactly as a
+ * {@link JCameraSpherical} camera would derive them. The zoom and target
+ * position are written as 8-byte IEEE 754 values, and angles are written as
+ * specified by the {@link JCameraSnapshotAngleEncoding}. An encoded snapshot
+ * occupies {@code 48} bytes with
+ * {@link JCameraSnapshotAngleEncoding#ANGLE_DOUBLE} angles and {@code 36}
+ * bytes with {@link JCameraSnapshotAngleEncoding#ANGLE_QUANTIZED_16}
+ * angles.</p>
+ *
+ * <p>Values are read and written at the current position of the given
+ * buffer using the buffer's byte order, and the position of the buffer is
+ * advanced by {@link #sizeBytes()}. The writer and reader must agree on the
+ * byte order. Clamp configuration is not part of a camera's readable state,
+ * and so is not written.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalSnapshotCodec
+{
+  private final JCameraSnapshotAngleEncoding encoding;
+  private final JCameraSphericalType camera;
+  private final int size;
+
+  private JCameraSphericalSnapshotCodec(
+    final JCameraSnapshotAngleEncoding in_encoding)
+  {
+    this.encoding = in_encoding;
+    this.size =
+      (2 * JCameraSnapshotEncoding.angleSize(in_encoding))
+        + (4 * Double.BYTES);
+    this.camera = JCameraSpherical.newCamera();
+    this.camera.cameraClampInclineDisable();
+    this.camera.cameraClampRadiusEnable(Double.MIN_VALUE, Double.MAX_VALUE);
+  }
+
+  /**
+   * Create a new codec.
+   *
+   * @param encoding The encoding used for angles
+   *
+   * @return A new codec
+   */
+
+  public static JCameraSphericalSnapshotCodec create(
+    final JCameraSnapshotAngleEncoding encoding)
+  {
+    return new JCameraSphericalSnapshotCodec(
+      Objects.requireNonNull(encoding, "Encoding"));
+  }
+
+  /**
+   * @return The encoding used for angles
+   */
+
+  public JCameraSnapshotAngleEncoding angleEncoding()
+  {
+    return this.encoding;
+  }
+
+  /**
+   * @return The number of bytes occupied by an encoded snapshot
+   */
+
+  public int sizeBytes()
+  {
+    return this.size;
+  }
+
+  /**
+   * Encode the state of the given camera.
+   *
+   * @param c      The camera
+   * @param buffer The output buffer
+   *
+   * @throws BufferOverflowException If fewer than {@link #sizeBytes()} bytes
+   *                                 remain in {@code buffer}; nothing is
+   *                                 written in this case
+   */
+
+  public void encode(
+    final JCameraSphericalReadableType c,
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(c, "Camera");
+    if (buffer.remaining() < this.size) {
+      throw new BufferOverflowException();
+    }
+
+    JCameraSnapshotEncoding.putAngle(
+      buffer, this.encoding, c.cameraGetAngleHeading());
+    JCameraSnapshotEncoding.putAngle(
+      buffer, this.encoding, c.cameraGetAngleIncline());
+    buffer.putDouble(c.cameraGetZoom());
+    buffer.putDouble(c.cameraGetTargetPositionX());
+    buffer.putDouble(c.cameraGetTargetPositionY());
+    buffer.putDouble(c.cameraGetTargetPositionZ());
+  }
+
+  /**
+   * Decode a snapshot, deriving the camera position and vectors from the
+   * decoded state.
+   *
+   * @param buffer The input buffer
+   *
+   * @return A decoded snapshot
+   *
+   * @throws BufferUnderflowException If fewer than {@link #sizeBytes()} bytes
+   *                                  remain in {@code buffer}; nothing is
+   *                                  read in this case
+   */
+
+  public JCameraSphericalSnapshot decode(
+    final ByteBuffer buffer)
+  {
+    if (buffer.remaining() < this.size) {
+      throw new BufferUnderflowException();
+    }
+
+    final double h = JCameraSnapshotEncoding.getAngle(buffer, this.encoding);
+    final double i = JCameraSnapshotEncoding.getAngle(buffer, this.encoding);
+    final double r = buffer.getDouble();
+    final double x = buffer.getDouble();
+    final double y = buffer.getDouble();
+    final double z = buffer.getDouble();
+
+    this.camera.cameraSetAngleHeading(h);
+    this.camera.cameraSetAngleIncline(i);
+    this.camera.cameraSetZoom(r);
+    this.camera.cameraSetTargetPosition3(x, y, z);
+    return JCameraSphericalSnapshots.of(this.camera);
+  }
+}
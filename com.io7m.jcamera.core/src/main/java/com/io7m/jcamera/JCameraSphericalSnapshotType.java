@@ -21,6 +21,8 @@ import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import org.immutables.value.Value;
 
+import java.nio.DoubleBuffer;
+
 /**
  * An immutable snapshot of a camera.
  */
@@ -85,4 +87,32 @@ public interface JCameraSphericalSnapshotType
       this.cameraGetUp(),
       this.cameraGetForward());
   }
+
+  @Override
+  default void cameraMakeViewMatrixInto(
+    final double[] output,
+    final int offset)
+  {
+    JCameraViewMatrix.makeViewMatrixInto(
+      this.cameraGetPosition(),
+      this.cameraGetRight(),
+      this.cameraGetUp(),
+      this.cameraGetForward(),
+      output,
+      offset);
+  }
+
+  @Override
+  default void cameraMakeViewMatrixInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    JCameraViewMatrix.makeViewMatrixInto(
+      this.cameraGetPosition(),
+      this.cameraGetRight(),
+      this.cameraGetUp(),
+      this.cameraGetForward(),
+      output,
+      offset);
+  }
 }
@@ -22,7 +22,7 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
- * Functions to derive immutable snapshots of cameras.
+ * Functions to derive immutable and mutable snapshots of cameras.
  */
 
 public final class JCameraSphericalSnapshots
@@ -33,7 +33,9 @@ public final class JCameraSphericalSnapshots
   }
 
   /**
-   * Linearly interpolate between two camera snapshots.
+   * Linearly interpolate between two camera snapshots. The heading is
+   * interpolated along the shortest arc, because cameras wrap the heading
+   * into the range {@code [-π, π]} as they orbit.
    *
    * @param x The first snapshot
    * @param y The second snapshot
@@ -68,7 +70,7 @@ public final class JCameraSphericalSnapshots
         y.cameraGetAngleIncline(),
         a);
     final double in_angle_heading =
-      InterpolationD.interpolateLinear(
+      JCameraOrientationSlerp.interpolateAngle(
         x.cameraGetAngleHeading(),
         y.cameraGetAngleHeading(),
         a);
@@ -127,4 +129,233 @@ public final class JCameraSphericalSnapshots
       .setCameraGetForwardProjectedOnXZ(camera.cameraGetForwardProjectedOnXZ())
       .build();
   }
+
+  /**
+   * Copy the state of a camera into an existing mutable snapshot. The
+   * function does not allocate.
+   *
+   * @param camera A camera
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraSphericalSnapshotMutable ofInto(
+    final JCameraSphericalReadableType camera,
+    final JCameraSphericalSnapshotMutable target)
+  {
+    target.setOrientation(
+      camera.cameraGetAngleHeading(),
+      camera.cameraGetAngleIncline(),
+      camera.cameraGetZoom());
+    target.setPosition(
+      camera.cameraGetPositionX(),
+      camera.cameraGetPositionY(),
+      camera.cameraGetPositionZ());
+    target.setRight(
+      camera.cameraGetRightX(),
+      camera.cameraGetRightY(),
+      camera.cameraGetRightZ());
+    target.setUp(
+      camera.cameraGetUpX(),
+      camera.cameraGetUpY(),
+      camera.cameraGetUpZ());
+    target.setForward(
+      camera.cameraGetForwardX(),
+      camera.cameraGetForwardY(),
+      camera.cameraGetForwardZ());
+    target.setForwardOnXZ(
+      camera.cameraGetForwardProjectedOnXZX(),
+      camera.cameraGetForwardProjectedOnXZY(),
+      camera.cameraGetForwardProjectedOnXZZ());
+    target.setTarget(
+      camera.cameraGetTargetPositionX(),
+      camera.cameraGetTargetPositionY(),
+      camera.cameraGetTargetPositionZ());
+    return target;
+  }
+
+  /**
+   * Linearly interpolate between two mutable camera snapshots, writing the
+   * result into {@code target}. The results are identical to those of
+   * {@link #interpolate(JCameraSphericalSnapshot, JCameraSphericalSnapshot,
+   * double)}, but the function does not allocate. The {@code target} may be
+   * the same object as {@code x} or {@code y}.
+   *
+   * @param x      The first snapshot
+   * @param y      The second snapshot
+   * @param a      The interpolation value
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraSphericalSnapshotMutable interpolateInto(
+    final JCameraSphericalSnapshotMutable x,
+    final JCameraSphericalSnapshotMutable y,
+    final double a,
+    final JCameraSphericalSnapshotMutable target)
+  {
+    target.setOrientation(
+      JCameraOrientationSlerp.interpolateAngle(
+        x.cameraGetAngleHeading(), y.cameraGetAngleHeading(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetAngleIncline(), y.cameraGetAngleIncline(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetZoom(), y.cameraGetZoom(), a));
+    target.setPosition(
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionX(), y.cameraGetPositionX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionY(), y.cameraGetPositionY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetPositionZ(), y.cameraGetPositionZ(), a));
+    target.setRight(
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightX(), y.cameraGetRightX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightY(), y.cameraGetRightY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetRightZ(), y.cameraGetRightZ(), a));
+    target.setUp(
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpX(), y.cameraGetUpX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpY(), y.cameraGetUpY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetUpZ(), y.cameraGetUpZ(), a));
+    target.setForward(
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardX(), y.cameraGetForwardX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardY(), y.cameraGetForwardY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardZ(), y.cameraGetForwardZ(), a));
+    target.setForwardOnXZ(
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardProjectedOnXZX(),
+        y.cameraGetForwardProjectedOnXZX(),
+        a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardProjectedOnXZY(),
+        y.cameraGetForwardProjectedOnXZY(),
+        a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetForwardProjectedOnXZZ(),
+        y.cameraGetForwardProjectedOnXZZ(),
+        a));
+    target.setTarget(
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionX(), y.cameraGetTargetPositionX(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionY(), y.cameraGetTargetPositionY(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionZ(), y.cameraGetTargetPositionZ(), a));
+    return target;
+  }
+
+  /**
+   * <p>Interpolate between two camera snapshots, preserving the orientation
+   * of the camera.</p>
+   *
+   * <p>Unlike {@link #interpolate(JCameraSphericalSnapshot,
+   * JCameraSphericalSnapshot, double)}, the camera bases are converted to
+   * quaternions and interpolated spherically, so the resulting basis is
+   * always orthonormal and rotates at a constant rate. The heading is
+   * interpolated along the shortest arc, so a heading that crosses a
+   * multiple of {@code 2π} between snapshots does not cause the camera to
+   * spin the long way around. The incline, which is clamped rather than
+   * wrapped, and the target and zoom are interpolated linearly. The position
+   * is derived from the target, zoom, and interpolated forward vector, so
+   * that the camera follows its orbit rather than cutting across it.</p>
+   *
+   * @param x The first snapshot
+   * @param y The second snapshot
+   * @param a The interpolation value
+   *
+   * @return A value between {@code x} and {@code y}
+   */
+
+  public static JCameraSphericalSnapshot interpolateSlerp(
+    final JCameraSphericalSnapshot x,
+    final JCameraSphericalSnapshot y,
+    final double a)
+  {
+    final JCameraSphericalSnapshotMutable m0 =
+      ofInto(x, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable m1 =
+      ofInto(y, JCameraSphericalSnapshotMutable.create());
+    return of(interpolateSlerpInto(m0, m1, a, m0));
+  }
+
+  /**
+   * Interpolate between two mutable camera snapshots, preserving the
+   * orientation of the camera, and writing the result into {@code target}.
+   * The results are those of {@link #interpolateSlerp(JCameraSphericalSnapshot,
+   * JCameraSphericalSnapshot, double)}, but the function does not allocate.
+   * The {@code target} may be the same object as {@code x} or {@code y}.
+   *
+   * @param x      The first snapshot
+   * @param y      The second snapshot
+   * @param a      The interpolation value
+   * @param target The snapshot that will be overwritten
+   *
+   * @return {@code target}
+   */
+
+  public static JCameraSphericalSnapshotMutable interpolateSlerpInto(
+    final JCameraSphericalSnapshotMutable x,
+    final JCameraSphericalSnapshotMutable y,
+    final double a,
+    final JCameraSphericalSnapshotMutable target)
+  {
+    final JCameraOrientationSlerp s = target.orientationSlerp();
+    s.setBasis0(
+      x.cameraGetRightX(), x.cameraGetRightY(), x.cameraGetRightZ(),
+      x.cameraGetUpX(), x.cameraGetUpY(), x.cameraGetUpZ(),
+      x.cameraGetForwardX(), x.cameraGetForwardY(), x.cameraGetForwardZ());
+    s.setBasis1(
+      y.cameraGetRightX(), y.cameraGetRightY(), y.cameraGetRightZ(),
+      y.cameraGetUpX(), y.cameraGetUpY(), y.cameraGetUpZ(),
+      y.cameraGetForwardX(), y.cameraGetForwardY(), y.cameraGetForwardZ());
+    s.slerp(a);
+
+    final double zoom =
+      InterpolationD.interpolateLinear(
+        x.cameraGetZoom(), y.cameraGetZoom(), a);
+    final double tx =
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionX(), y.cameraGetTargetPositionX(), a);
+    final double ty =
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionY(), y.cameraGetTargetPositionY(), a);
+    final double tz =
+      InterpolationD.interpolateLinear(
+        x.cameraGetTargetPositionZ(), y.cameraGetTargetPositionZ(), a);
+
+    target.setOrientation(
+      JCameraOrientationSlerp.interpolateAngle(
+        x.cameraGetAngleHeading(), y.cameraGetAngleHeading(), a),
+      InterpolationD.interpolateLinear(
+        x.cameraGetAngleIncline(), y.cameraGetAngleIncline(), a),
+      zoom);
+
+    final double fx = s.forwardX();
+    final double fy = s.forwardY();
+    final double fz = s.forwardZ();
+    target.setTarget(tx, ty, tz);
+    target.setPosition(tx - (fx * zoom), ty - (fy * zoom), tz - (fz * zoom));
+    target.setRight(s.rightX(), s.rightY(), s.rightZ());
+    target.setUp(s.upX(), s.upY(), s.upZ());
+    target.setForward(fx, fy, fz);
+
+    final double m = (fx * fx) + (fz * fz);
+    if (Double.compare(m, 0.0) > 0) {
+      final double inv = 1.0 / Math.sqrt(m);
+      target.setForwardOnXZ(fx * inv, 0.0, fz * inv);
+    } else {
+      target.setForwardOnXZ(fx, 0.0, fz);
+    }
+    return target;
+  }
 }
@@ -68,6 +68,27 @@ public interface JCameraSphericalType extends
     double min,
     double max);
 
+  /**
+   * Return the number of times that the camera has derived its forward,
+   * right, and up vectors from its heading and incline. Together with
+   * {@link #cameraGetPositionDerivations()}, this can be used to determine
+   * how often movements of the target alone avoided recalculating the
+   * orientation of the camera.
+   *
+   * @return The number of orientation derivations
+   */
+
+  long cameraGetOrientationDerivations();
+
+  /**
+   * Return the number of times that the camera has derived its position from
+   * its target position, orientation, and radius.
+   *
+   * @return The number of position derivations
+   */
+
+  long cameraGetPositionDerivations();
+
   /**
    * <p> Move the target point of the camera <i>forward</i> {@code u} units
    * iff {@code u} is positive, or <i>backward</i> {@code u} units iff {@code u}
@@ -107,6 +128,14 @@ public interface JCameraSphericalType extends
     double u);
 
   /**
+   * <p>Orbit the camera horizontally around the target point by {@code r}
+   * radians.</p>
+   *
+   * <p>The resulting heading is reduced to the range {@code [-π, π]}
+   * whenever it leaves that range, so a camera can orbit indefinitely
+   * without its heading growing without bound. The reduced heading
+   * describes the same orientation.</p>
+   *
    * @param r The radians to rotate
    */
 
@@ -24,6 +24,9 @@ import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
 /**
  * Functions to produce view matrices.
  */
@@ -130,4 +133,252 @@ public final class JCameraViewMatrix
 
     return (PMatrix4x4D<T0, T1>) PMatrices4x4D.multiply(m_basis, m_trans);
   }
+
+  /**
+   * <p>Construct a view matrix for the given axes, writing the 16 elements of
+   * the matrix in column-major order to {@code output} starting at
+   * {@code offset}.</p>
+   *
+   * <p>The resulting matrix is equal to that produced by
+   * {@link #makeViewMatrix(Vector3D, Vector3D, Vector3D, Vector3D)}, but is
+   * calculated in closed form without allocating: The upper-left 3x3 part
+   * of the matrix is the camera basis, and the translation column is the
+   * negated dot product of the position with each basis vector.</p>
+   *
+   * @param position The camera position
+   * @param right    The right axis
+   * @param up       The up axis
+   * @param forward  The forward axis
+   * @param output   The output array
+   * @param offset   The starting offset in {@code output}
+   */
+
+  public static void makeViewMatrixInto(
+    final Vector3D position,
+    final Vector3D right,
+    final Vector3D up,
+    final Vector3D forward,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+
+    writeViewMatrix(
+      position.x(),
+      position.y(),
+      position.z(),
+      right.x(),
+      right.y(),
+      right.z(),
+      up.x(),
+      up.y(),
+      up.z(),
+      forward.x(),
+      forward.y(),
+      forward.z(),
+      output,
+      offset);
+  }
+
+  /**
+   * <p>Construct a view matrix for the given axes, writing the 16 elements of
+   * the matrix in column-major order to {@code output} starting at the
+   * absolute index {@code offset}. The position of the buffer is not
+   * modified.</p>
+   *
+   * @param position The camera position
+   * @param right    The right axis
+   * @param up       The up axis
+   * @param forward  The forward axis
+   * @param output   The output buffer
+   * @param offset   The starting absolute index in {@code output}
+   */
+
+  public static void makeViewMatrixInto(
+    final Vector3D position,
+    final Vector3D right,
+    final Vector3D up,
+    final Vector3D forward,
+    final DoubleBuffer output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.limit());
+
+    writeViewMatrix(
+      position.x(),
+      position.y(),
+      position.z(),
+      right.x(),
+      right.y(),
+      right.z(),
+      up.x(),
+      up.y(),
+      up.z(),
+      forward.x(),
+      forward.y(),
+      forward.z(),
+      output,
+      offset);
+  }
+
+  /**
+   * Construct a view matrix for the given camera using its component
+   * accessors, as for
+   * {@link #makeViewMatrixInto(Vector3D, Vector3D, Vector3D, Vector3D,
+   * double[], int)}.
+   *
+   * @param camera The camera
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  static void makeViewMatrixInto(
+    final JCameraReadableType camera,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+
+    writeViewMatrix(
+      camera.cameraGetPositionX(),
+      camera.cameraGetPositionY(),
+      camera.cameraGetPositionZ(),
+      camera.cameraGetRightX(),
+      camera.cameraGetRightY(),
+      camera.cameraGetRightZ(),
+      camera.cameraGetUpX(),
+      camera.cameraGetUpY(),
+      camera.cameraGetUpZ(),
+      camera.cameraGetForwardX(),
+      camera.cameraGetForwardY(),
+      camera.cameraGetForwardZ(),
+      output,
+      offset);
+  }
+
+  /**
+   * Construct a view matrix for the given camera using its component
+   * accessors, as for
+   * {@link #makeViewMatrixInto(Vector3D, Vector3D, Vector3D, Vector3D,
+   * DoubleBuffer, int)}.
+   *
+   * @param camera The camera
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   */
+
+  static void makeViewMatrixInto(
+    final JCameraReadableType camera,
+    final DoubleBuffer output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.limit());
+
+    writeViewMatrix(
+      camera.cameraGetPositionX(),
+      camera.cameraGetPositionY(),
+      camera.cameraGetPositionZ(),
+      camera.cameraGetRightX(),
+      camera.cameraGetRightY(),
+      camera.cameraGetRightZ(),
+      camera.cameraGetUpX(),
+      camera.cameraGetUpY(),
+      camera.cameraGetUpZ(),
+      camera.cameraGetForwardX(),
+      camera.cameraGetForwardY(),
+      camera.cameraGetForwardZ(),
+      output,
+      offset);
+  }
+
+  // CHECKSTYLE:OFF
+
+  /*
+   * Write the view matrix for the given position and axes to output
+   * starting at offset, in column-major order. The caller checks the
+   * range. The parameter count exceeds the checkstyle limit deliberately:
+   * the components are passed as primitives so that no caller allocates.
+   * Every allocation-free view matrix writer in the package delegates
+   * here, so that all of them produce exactly the same elements.
+   */
+
+  static void writeViewMatrix(
+    final double px,
+    final double py,
+    final double pz,
+    final double rx,
+    final double ry,
+    final double rz,
+    final double ux,
+    final double uy,
+    final double uz,
+    final double fx,
+    final double fy,
+    final double fz,
+    final double[] output,
+    final int offset)
+  {
+    output[offset] = rx;
+    output[offset + 1] = ux;
+    output[offset + 2] = -fx;
+    output[offset + 3] = 0.0;
+
+    output[offset + 4] = ry;
+    output[offset + 5] = uy;
+    output[offset + 6] = -fy;
+    output[offset + 7] = 0.0;
+
+    output[offset + 8] = rz;
+    output[offset + 9] = uz;
+    output[offset + 10] = -fz;
+    output[offset + 11] = 0.0;
+
+    output[offset + 12] = -((rx * px) + (ry * py) + (rz * pz));
+    output[offset + 13] = -((ux * px) + (uy * py) + (uz * pz));
+    output[offset + 14] = (fx * px) + (fy * py) + (fz * pz);
+    output[offset + 15] = 1.0;
+  }
+
+  /*
+   * The DoubleBuffer equivalent of the above, writing at absolute indices.
+   */
+
+  private static void writeViewMatrix(
+    final double px,
+    final double py,
+    final double pz,
+    final double rx,
+    final double ry,
+    final double rz,
+    final double ux,
+    final double uy,
+    final double uz,
+    final double fx,
+    final double fy,
+    final double fz,
+    final DoubleBuffer output,
+    final int offset)
+  {
+    output.put(offset, rx);
+    output.put(offset + 1, ux);
+    output.put(offset + 2, -fx);
+    output.put(offset + 3, 0.0);
+
+    output.put(offset + 4, ry);
+    output.put(offset + 5, uy);
+    output.put(offset + 6, -fy);
+    output.put(offset + 7, 0.0);
+
+    output.put(offset + 8, rz);
+    output.put(offset + 9, uz);
+    output.put(offset + 10, -fz);
+    output.put(offset + 11, 0.0);
+
+    output.put(offset + 12, -((rx * px) + (ry * py) + (rz * pz)));
+    output.put(offset + 13, -((ux * px) + (uy * py) + (uz * pz)));
+    output.put(offset + 14, (fx * px) + (fy * py) + (fz * pz));
+    output.put(offset + 15, 1.0);
+  }
+
+  // CHECKSTYLE:ON
 }
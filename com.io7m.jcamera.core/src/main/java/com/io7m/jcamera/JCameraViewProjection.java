@@ -0,0 +1,397 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * <p>A projection matrix together with the view matrix of a camera and
+ * their product, the <i>view-projection</i> matrix, which maps world space
+ * directly to clip space.</p>
+ *
+ * <p>The projection is set with one of the {@code set} functions, which
+ * take the same parameters as the corresponding functions of
+ * {@link JCameraProjectionMatrix}, and is retained until it is next set.
+ * Each call to {@link #update(JCameraReadableType)} then rebuilds the view
+ * and view-projection matrices for the current state of a camera, so that
+ * rendering code can upload a single matrix per camera per frame. Matrices
+ * can be written to {@code double} or {@code float} arrays and buffers in
+ * column-major order. None of the functions allocate.</p>
+ *
+ * <p>The projection is initially the identity matrix.</p>
+ *
+ * <p>Values of this type are not thread-safe.</p>
+ */
+
+@EqualityReference
+public final class JCameraViewProjection
+{
+  private final double[] projection;
+  private final double[] view;
+  private final double[] view_projection;
+
+  private JCameraViewProjection()
+  {
+    this.projection = new double[16];
+    this.view = new double[16];
+    this.view_projection = new double[16];
+
+    for (int index = 0; index < 16; index += 5) {
+      this.projection[index] = 1.0;
+      this.view[index] = 1.0;
+      this.view_projection[index] = 1.0;
+    }
+  }
+
+  /**
+   * @return A new view-projection with identity matrices
+   */
+
+  public static JCameraViewProjection create()
+  {
+    return new JCameraViewProjection();
+  }
+
+  /**
+   * Set the projection.
+   *
+   * @param x_min  The minimum X clip plane
+   * @param x_max  The maximum X clip plane
+   * @param y_min  The minimum Y clip plane
+   * @param y_max  The maximum Y clip plane
+   * @param z_near The near Z clip plane
+   * @param z_far  The far Z clip plane
+   *
+   * @see JCameraProjectionMatrix#frustumProjectionRHInto(double, double,
+   * double, double, double, double, double[], int)
+   */
+
+  public void setFrustum(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    JCameraProjectionMatrix.frustumProjectionRHInto(
+      x_min, x_max, y_min, y_max, z_near, z_far, this.projection, 0);
+  }
+
+  /**
+   * Set the projection.
+   *
+   * @param x_min  The minimum X clip plane
+   * @param x_max  The maximum X clip plane
+   * @param y_min  The minimum Y clip plane
+   * @param y_max  The maximum Y clip plane
+   * @param z_near The near Z clip plane
+   * @param z_far  The far Z clip plane
+   *
+   * @see JCameraProjectionMatrix#frustumProjectionReversedRHInto(double,
+   * double, double, double, double, double, double[], int)
+   */
+
+  public void setFrustumReversed(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    JCameraProjectionMatrix.frustumProjectionReversedRHInto(
+      x_min, x_max, y_min, y_max, z_near, z_far, this.projection, 0);
+  }
+
+  /**
+   * Set the projection.
+   *
+   * @param z_near         The near clipping plane coordinate
+   * @param z_far          The far clipping plane coordinate
+   * @param aspect         The aspect ratio of the viewport
+   * @param horizontal_fov The horizontal field of view in radians
+   *
+   * @see JCameraProjectionMatrix#perspectiveProjectionRHInto(double,
+   * double, double, double, double[], int)
+   */
+
+  public void setPerspective(
+    final double z_near,
+    final double z_far,
+    final double aspect,
+    final double horizontal_fov)
+  {
+    JCameraProjectionMatrix.perspectiveProjectionRHInto(
+      z_near, z_far, aspect, horizontal_fov, this.projection, 0);
+  }
+
+  /**
+   * Set the projection.
+   *
+   * @param z_near         The near clipping plane coordinate
+   * @param z_far          The far clipping plane coordinate
+   * @param aspect         The aspect ratio of the viewport
+   * @param horizontal_fov The horizontal field of view in radians
+   *
+   * @see JCameraProjectionMatrix#perspectiveProjectionReversedRHInto(double,
+   * double, double, double, double[], int)
+   */
+
+  public void setPerspectiveReversed(
+    final double z_near,
+    final double z_far,
+    final double aspect,
+    final double horizontal_fov)
+  {
+    JCameraProjectionMatrix.perspectiveProjectionReversedRHInto(
+      z_near, z_far, aspect, horizontal_fov, this.projection, 0);
+  }
+
+  /**
+   * Set the projection.
+   *
+   * @param x_min  The left clipping plane coordinate
+   * @param x_max  The right clipping plane coordinate
+   * @param y_min  The bottom clipping plane coordinate
+   * @param y_max  The top clipping plane coordinate
+   * @param z_near The near clipping plane coordinate
+   * @param z_far  The far clipping plane coordinate
+   *
+   * @see JCameraProjectionMatrix#orthographicProjectionRHInto(double,
+   * double, double, double, double, double, double[], int)
+   */
+
+  public void setOrthographic(
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    JCameraProjectionMatrix.orthographicProjectionRHInto(
+      x_min, x_max, y_min, y_max, z_near, z_far, this.projection, 0);
+  }
+
+  /**
+   * Rebuild the view and view-projection matrices for the current state of
+   * {@code camera}.
+   *
+   * @param camera The camera
+   */
+
+  public void update(
+    final JCameraReadableType camera)
+  {
+    Objects.requireNonNull(camera, "Camera");
+    camera.cameraMakeViewMatrixInto(this.view, 0);
+    JCameraProjectionMatrix.multiplyInto(
+      this.projection, 0, this.view, 0, this.view_projection, 0);
+  }
+
+  /**
+   * Write the view-projection matrix to {@code output}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void viewProjectionInto(
+    final double[] output,
+    final int offset)
+  {
+    copy(this.view_projection, output, offset);
+  }
+
+  /**
+   * Write the view-projection matrix to {@code output}, converting each
+   * element to {@code float}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void viewProjectionInto(
+    final float[] output,
+    final int offset)
+  {
+    copy(this.view_projection, output, offset);
+  }
+
+  /**
+   * Write the view-projection matrix to {@code output} starting at the
+   * absolute index {@code offset}. The position of the buffer is not
+   * modified.
+   *
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   */
+
+  public void viewProjectionInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    copy(this.view_projection, output, offset);
+  }
+
+  /**
+   * Write the view-projection matrix to {@code output} starting at the
+   * absolute index {@code offset}, converting each element to
+   * {@code float}. The position of the buffer is not modified.
+   *
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   */
+
+  public void viewProjectionInto(
+    final FloatBuffer output,
+    final int offset)
+  {
+    copy(this.view_projection, output, offset);
+  }
+
+  /**
+   * Write the projection matrix to {@code output}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void projectionInto(
+    final double[] output,
+    final int offset)
+  {
+    copy(this.projection, output, offset);
+  }
+
+  /**
+   * Write the projection matrix to {@code output}, converting each element
+   * to {@code float}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void projectionInto(
+    final float[] output,
+    final int offset)
+  {
+    copy(this.projection, output, offset);
+  }
+
+  /**
+   * Write the projection matrix to {@code output} starting at the absolute
+   * index {@code offset}. The position of the buffer is not modified.
+   *
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   */
+
+  public void projectionInto(
+    final DoubleBuffer output,
+    final int offset)
+  {
+    copy(this.projection, output, offset);
+  }
+
+  /**
+   * Write the projection matrix to {@code output} starting at the absolute
+   * index {@code offset}, converting each element to {@code float}. The
+   * position of the buffer is not modified.
+   *
+   * @param output The output buffer
+   * @param offset The starting absolute index in {@code output}
+   */
+
+  public void projectionInto(
+    final FloatBuffer output,
+    final int offset)
+  {
+    copy(this.projection, output, offset);
+  }
+
+  /**
+   * Write the view matrix to {@code output}.
+   *
+   * @param output The output array
+   * @param offset The starting offset in {@code output}
+   */
+
+  public void viewInto(
+    final double[] output,
+    final int offset)
+  {
+    copy(this.view, output, offset);
+  }
+
+  /**
+   * @return The view-projection matrix, in column-major order; not to be
+   * modified
+   */
+
+  double[] viewProjection()
+  {
+    return this.view_projection;
+  }
+
+  private static void copy(
+    final double[] m,
+    final double[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    System.arraycopy(m, 0, output, offset, 16);
+  }
+
+  private static void copy(
+    final double[] m,
+    final float[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.length);
+    for (int index = 0; index < 16; ++index) {
+      output[offset + index] = (float) m[index];
+    }
+  }
+
+  private static void copy(
+    final double[] m,
+    final DoubleBuffer output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.limit());
+    for (int index = 0; index < 16; ++index) {
+      output.put(offset + index, m[index]);
+    }
+  }
+
+  private static void copy(
+    final double[] m,
+    final FloatBuffer output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, 16, output.limit());
+    for (int index = 0; index < 16; ++index) {
+      output.put(offset + index, (float) m[index]);
+    }
+  }
+}
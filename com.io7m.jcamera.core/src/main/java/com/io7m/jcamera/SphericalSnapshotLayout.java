@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+@EqualityReference
+final class SphericalSnapshotLayout
+{
+  static final int HEADING = 0;
+  static final int INCLINE = 1;
+  static final int ZOOM = 2;
+  static final int POSITION = 3;
+  static final int RIGHT = 6;
+  static final int UP = 9;
+  static final int FORWARD = 12;
+  static final int FORWARD_ON_XZ = 15;
+  static final int TARGET = 18;
+  static final int SIZE = 21;
+
+  private SphericalSnapshotLayout()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * The state of a spherical snapshot packed into SIZE consecutive doubles,
+   * as held by snapshot channels and histories.
+   */
+
+  static void pack(
+    final JCameraSphericalSnapshotMutable snapshot,
+    final double[] output,
+    final int offset)
+  {
+    output[offset + HEADING] = snapshot.cameraGetAngleHeading();
+    output[offset + INCLINE] = snapshot.cameraGetAngleIncline();
+    output[offset + ZOOM] = snapshot.cameraGetZoom();
+    output[offset + POSITION] = snapshot.cameraGetPositionX();
+    output[offset + POSITION + 1] = snapshot.cameraGetPositionY();
+    output[offset + POSITION + 2] = snapshot.cameraGetPositionZ();
+    output[offset + RIGHT] = snapshot.cameraGetRightX();
+    output[offset + RIGHT + 1] = snapshot.cameraGetRightY();
+    output[offset + RIGHT + 2] = snapshot.cameraGetRightZ();
+    output[offset + UP] = snapshot.cameraGetUpX();
+    output[offset + UP + 1] = snapshot.cameraGetUpY();
+    output[offset + UP + 2] = snapshot.cameraGetUpZ();
+    output[offset + FORWARD] = snapshot.cameraGetForwardX();
+    output[offset + FORWARD + 1] = snapshot.cameraGetForwardY();
+    output[offset + FORWARD + 2] = snapshot.cameraGetForwardZ();
+    output[offset + FORWARD_ON_XZ] =
+      snapshot.cameraGetForwardProjectedOnXZX();
+    output[offset + FORWARD_ON_XZ + 1] =
+      snapshot.cameraGetForwardProjectedOnXZY();
+    output[offset + FORWARD_ON_XZ + 2] =
+      snapshot.cameraGetForwardProjectedOnXZZ();
+    output[offset + TARGET] = snapshot.cameraGetTargetPositionX();
+    output[offset + TARGET + 1] = snapshot.cameraGetTargetPositionY();
+    output[offset + TARGET + 2] = snapshot.cameraGetTargetPositionZ();
+  }
+
+  static void unpack(
+    final double[] input,
+    final int offset,
+    final JCameraSphericalSnapshotMutable target)
+  {
+    target.setOrientation(
+      input[offset + HEADING],
+      input[offset + INCLINE],
+      input[offset + ZOOM]);
+    target.setPosition(
+      input[offset + POSITION],
+      input[offset + POSITION + 1],
+      input[offset + POSITION + 2]);
+    target.setRight(
+      input[offset + RIGHT],
+      input[offset + RIGHT + 1],
+      input[offset + RIGHT + 2]);
+    target.setUp(
+      input[offset + UP],
+      input[offset + UP + 1],
+      input[offset + UP + 2]);
+    target.setForward(
+      input[offset + FORWARD],
+      input[offset + FORWARD + 1],
+      input[offset + FORWARD + 2]);
+    target.setForwardOnXZ(
+      input[offset + FORWARD_ON_XZ],
+      input[offset + FORWARD_ON_XZ + 1],
+      input[offset + FORWARD_ON_XZ + 2]);
+    target.setTarget(
+      input[offset + TARGET],
+      input[offset + TARGET + 1],
+      input[offset + TARGET + 2]);
+  }
+}
@@ -19,6 +19,7 @@ package com.io7m.jcamera.examples.jogl;
 import com.io7m.jcamera.JCameraFPSStyleMouseRegion;
 import com.io7m.jcamera.JCameraFPSStyleSnapshot;
 import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFixedStepDriver;
 import com.io7m.jcamera.JCameraScreenOrigin;
 import com.jogamp.newt.opengl.GLWindow;
 import com.jogamp.opengl.DebugGL3;
@@ -44,10 +45,7 @@ public final class ExampleFPSStyleGLListener implements GLEventListener
   private final ExampleFPSStyleSimulationType sim;
   private final AtomicReference<JCameraFPSStyleMouseRegion> mouse_region;
   private final ExampleRendererType renderer;
-  private long time_then;
-  private double time_accum;
-  private JCameraFPSStyleSnapshot snap_curr;
-  private JCameraFPSStyleSnapshot snap_prev;
+  private final JCameraFixedStepDriver<JCameraFPSStyleSnapshot> driver;
 
   public ExampleFPSStyleGLListener(
     final GLWindow in_window,
@@ -60,8 +58,14 @@ public final class ExampleFPSStyleGLListener implements GLEventListener
     this.sim = in_sim;
     this.mouse_region = in_mouse_region;
     this.renderer = in_renderer;
-    this.snap_curr = in_snap;
-    this.snap_prev = in_snap;
+    this.driver =
+      JCameraFixedStepDriver.create(
+        System::nanoTime,
+        1.0 / (double) in_sim.getDeltaTime(),
+        8,
+        in_snap,
+        delta -> in_sim.integrate(),
+        JCameraFPSStyleSnapshots::interpolate);
   }
 
   /**
@@ -80,7 +84,7 @@ public final class ExampleFPSStyleGLListener implements GLEventListener
       final GL3 g = new DebugGL3(drawable.getGL().getGL3());
       assert g != null;
 
-      this.time_then = System.nanoTime();
+      this.driver.reset();
       this.renderer.init(this.window, g);
       this.renderer.reshape(this.window.getWidth(), this.window.getHeight());
     } catch (final IOException e) {
@@ -103,34 +107,10 @@ public final class ExampleFPSStyleGLListener implements GLEventListener
 
     /*
      * Integrate the camera as many times as necessary for each rendering
-     * frame interval.
+     * frame interval, and interpolate between the two most recent states.
      */
 
-    final long time_now = System.nanoTime();
-    final long time_diff = time_now - this.time_then;
-    final double time_diff_s = (double) time_diff / 1000000000.0;
-    this.time_accum = this.time_accum + time_diff_s;
-    this.time_then = time_now;
-
-    final float sim_delta = this.sim.getDeltaTime();
-    while (this.time_accum >= (double) sim_delta) {
-      this.snap_prev = this.snap_curr;
-      this.snap_curr = this.sim.integrate();
-      this.time_accum -= sim_delta;
-    }
-
-    /*
-     * Determine how far the current time is between the current camera state
-     * and the next, and use that value to interpolate between the two saved
-     * states.
-     */
-
-    final float alpha = (float) (this.time_accum / (double) sim_delta);
-    final JCameraFPSStyleSnapshot snap_interpolated =
-      JCameraFPSStyleSnapshots.interpolate(
-        this.snap_prev,
-        this.snap_curr,
-        alpha);
+    final JCameraFPSStyleSnapshot snap_interpolated = this.driver.update();
 
     final GL3 g = new DebugGL3(drawable.getGL().getGL3());
     assert g != null;
@@ -16,6 +16,7 @@
 
 package com.io7m.jcamera.examples.jogl;
 
+import com.io7m.jcamera.JCameraProjectionMatrix;
 import com.io7m.jcamera.JCameraReadableSnapshotType;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
@@ -749,7 +750,7 @@ public final class ExampleRenderer implements ExampleRendererType
     final double fh = height;
 
     this.projection =
-      ProjectionMatrix.perspectiveProjectionRH(
+      JCameraProjectionMatrix.perspectiveProjectionRH(
         0.01, 100.0, fw / fh, Math.toRadians(90.0));
     this.mproj.setMatrix4x4D(this.projection);
   }
@@ -16,6 +16,7 @@
 
 package com.io7m.jcamera.examples.jogl;
 
+import com.io7m.jcamera.JCameraFixedStepDriver;
 import com.io7m.jcamera.JCameraScreenOrigin;
 import com.io7m.jcamera.JCameraSphericalMouseRegion;
 import com.io7m.jcamera.JCameraSphericalSnapshot;
@@ -45,10 +46,7 @@ public final class ExampleSphericalGLListener implements GLEventListener
   private final ExampleSphericalSimulationType sim;
   private final AtomicReference<JCameraSphericalMouseRegion> mouse_region;
   private final GLWindow window;
-  private long time_then;
-  private double time_accum;
-  private JCameraSphericalSnapshot snap_curr;
-  private JCameraSphericalSnapshot snap_prev;
+  private final JCameraFixedStepDriver<JCameraSphericalSnapshot> driver;
 
   public ExampleSphericalGLListener(
     final ExampleRendererType in_renderer,
@@ -61,8 +59,14 @@ public final class ExampleSphericalGLListener implements GLEventListener
     this.sim = in_sim;
     this.mouse_region = in_mouse_region;
     this.window = in_window;
-    this.snap_curr = in_snap;
-    this.snap_prev = in_snap;
+    this.driver =
+      JCameraFixedStepDriver.create(
+        System::nanoTime,
+        1.0 / (double) in_sim.getDeltaTime(),
+        8,
+        in_snap,
+        delta -> in_sim.integrate(),
+        JCameraSphericalSnapshots::interpolate);
   }
 
   @Override
@@ -75,7 +79,7 @@ public final class ExampleSphericalGLListener implements GLEventListener
       final GL3 g = new DebugGL3(drawable.getGL().getGL3());
       assert g != null;
 
-      this.time_then = System.nanoTime();
+      this.driver.reset();
       this.renderer.init(this.window, g);
       this.renderer.reshape(this.window.getWidth(), this.window.getHeight());
     } catch (final IOException e) {
@@ -98,34 +102,10 @@ public final class ExampleSphericalGLListener implements GLEventListener
 
     /*
      * Integrate the camera as many times as necessary for each rendering
-     * frame interval.
+     * frame interval, and interpolate between the two most recent states.
      */
 
-    final long time_now = System.nanoTime();
-    final long time_diff = time_now - this.time_then;
-    final double time_diff_s = (double) time_diff / 1000000000.0;
-    this.time_accum = this.time_accum + time_diff_s;
-    this.time_then = time_now;
-
-    final double sim_delta = this.sim.getDeltaTime();
-    while (this.time_accum >= sim_delta) {
-      this.snap_prev = this.snap_curr;
-      this.snap_curr = this.sim.integrate();
-      this.time_accum -= sim_delta;
-    }
-
-    /*
-     * Determine how far the current time is between the current camera state
-     * and the next, and use that value to interpolate between the two saved
-     * states.
-     */
-
-    final double alpha = this.time_accum / sim_delta;
-    final JCameraSphericalSnapshot snap_interpolated =
-      JCameraSphericalSnapshots.interpolate(
-        this.snap_prev,
-        this.snap_curr,
-        alpha);
+    final JCameraSphericalSnapshot snap_interpolated = this.driver.update();
 
     final GL3 g = new DebugGL3(drawable.getGL().getGL3());
     assert g != null;
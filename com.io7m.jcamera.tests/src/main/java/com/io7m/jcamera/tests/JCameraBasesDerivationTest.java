@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jcamera.vectorized.JCameraBasesDerivation;
+import com.io7m.jcamera.vectorized.JCameraFPSStyleBases;
+import com.io7m.jcamera.vectorized.JCameraSphericalBases;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraBasesDerivationTest
+{
+  /*
+   * The number of ulps by which vectorized results may differ from scalar
+   * results. The vectorized sin/cos are permitted to differ slightly from
+   * Math.sin/Math.cos, and the differences are magnified a little by
+   * normalization and cross products.
+   */
+
+  private static final double ULPS = 16.0;
+
+  private static final int[] COUNTS = {0, 1, 7, 64, 1001};
+
+  private static void assertUlps(
+    final double expected,
+    final double received)
+  {
+    final double scale =
+      Math.max(1.0, Math.max(Math.abs(expected), Math.abs(received)));
+    final double bound = ULPS * Math.ulp(scale);
+    assertTrue(
+      Math.abs(expected - received) <= bound,
+      String.format(
+        "Expected %s, received %s (bound %s)",
+        Double.valueOf(expected),
+        Double.valueOf(received),
+        Double.valueOf(bound)));
+  }
+
+  private static void assertVectorExact(
+    final Vector3D expected,
+    final double x,
+    final double y,
+    final double z)
+  {
+    assertEquals(expected.x(), x, 0.0);
+    assertEquals(expected.y(), y, 0.0);
+    assertEquals(expected.z(), z, 0.0);
+  }
+
+  @Test
+  public void testFPSStyleScalarIdentical()
+  {
+    for (final int count : COUNTS) {
+      checkFPSStyleScalarIdentical(count);
+    }
+  }
+
+  private static void checkFPSStyleScalarIdentical(
+    final int count)
+  {
+    final Random random = new Random(0x46505331L);
+    final JCameraFPSStyleBases b = JCameraFPSStyleBases.create(count);
+    final JCameraFPSStyleType[] cameras = new JCameraFPSStyleType[count];
+
+    for (int index = 0; index < count; ++index) {
+      final double h = (random.nextDouble() - 0.5) * Math.PI;
+      final double v = (random.nextDouble() - 0.5) * 8.0 * Math.PI;
+      final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+      c.cameraClampHorizontalDisable();
+      c.cameraSetAngleAroundHorizontal(h);
+      c.cameraSetAngleAroundVertical(v);
+      cameras[index] = c;
+      b.setAngles(index, h, v);
+    }
+
+    JCameraBasesDerivation.deriveFPSStyleScalar(b);
+
+    for (int index = 0; index < count; ++index) {
+      final JCameraFPSStyleType c = cameras[index];
+      assertVectorExact(
+        c.cameraGetForward(),
+        b.getForwardX(index),
+        b.getForwardY(index),
+        b.getForwardZ(index));
+      assertVectorExact(
+        c.cameraGetRight(),
+        b.getRightX(index),
+        b.getRightY(index),
+        b.getRightZ(index));
+      assertVectorExact(
+        c.cameraGetUp(),
+        b.getUpX(index),
+        b.getUpY(index),
+        b.getUpZ(index));
+    }
+  }
+
+  @Test
+  public void testFPSStyleVectorAgrees()
+  {
+    for (final int count : COUNTS) {
+      checkFPSStyleVectorAgrees(count);
+    }
+  }
+
+  private static void checkFPSStyleVectorAgrees(
+    final int count)
+  {
+    final Random random = new Random(0x46505332L);
+    final JCameraFPSStyleBases scalar = JCameraFPSStyleBases.create(count);
+    final JCameraFPSStyleBases vector = JCameraFPSStyleBases.create(count);
+
+    for (int index = 0; index < count; ++index) {
+      final double h = (random.nextDouble() - 0.5) * Math.PI;
+      final double v = (random.nextDouble() - 0.5) * 8.0 * Math.PI;
+      scalar.setAngles(index, h, v);
+      vector.setAngles(index, h, v);
+    }
+
+    JCameraBasesDerivation.deriveFPSStyleScalar(scalar);
+    JCameraBasesDerivation.deriveFPSStyle(vector);
+
+    for (int index = 0; index < count; ++index) {
+      assertUlps(scalar.getForwardX(index), vector.getForwardX(index));
+      assertUlps(scalar.getForwardY(index), vector.getForwardY(index));
+      assertUlps(scalar.getForwardZ(index), vector.getForwardZ(index));
+      assertUlps(scalar.getRightX(index), vector.getRightX(index));
+      assertUlps(scalar.getRightY(index), vector.getRightY(index));
+      assertUlps(scalar.getRightZ(index), vector.getRightZ(index));
+      assertUlps(scalar.getUpX(index), vector.getUpX(index));
+      assertUlps(scalar.getUpY(index), vector.getUpY(index));
+      assertUlps(scalar.getUpZ(index), vector.getUpZ(index));
+    }
+  }
+
+  @Test
+  public void testSphericalScalarIdentical()
+  {
+    for (final int count : COUNTS) {
+      checkSphericalScalarIdentical(count);
+    }
+  }
+
+  private static void checkSphericalScalarIdentical(
+    final int count)
+  {
+    final Random random = new Random(0x53504831L);
+    final JCameraSphericalBases b = JCameraSphericalBases.create(count);
+    final JCameraSphericalType[] cameras = new JCameraSphericalType[count];
+
+    for (int index = 0; index < count; ++index) {
+      final double heading = (random.nextDouble() - 0.5) * 8.0 * Math.PI;
+      final double incline = (random.nextDouble() - 0.5) * Math.PI;
+      final double radius = 1.0 + (random.nextDouble() * 16.0);
+      final double x = random.nextGaussian() * 100.0;
+      final double y = random.nextGaussian() * 100.0;
+      final double z = random.nextGaussian() * 100.0;
+
+      final JCameraSphericalType c = JCameraSpherical.newCamera();
+      c.cameraClampInclineDisable();
+      c.cameraSetAngleHeading(heading);
+      c.cameraSetAngleIncline(incline);
+      c.cameraSetZoom(radius);
+      c.cameraSetTargetPosition3(x, y, z);
+      cameras[index] = c;
+
+      b.setOrientation(index, heading, incline, radius);
+      b.setTarget3(index, x, y, z);
+    }
+
+    JCameraBasesDerivation.deriveSphericalScalar(b);
+
+    for (int index = 0; index < count; ++index) {
+      final JCameraSphericalType c = cameras[index];
+      assertVectorExact(
+        c.cameraGetPosition(),
+        b.getPositionX(index),
+        b.getPositionY(index),
+        b.getPositionZ(index));
+      assertVectorExact(
+        c.cameraGetForward(),
+        b.getForwardX(index),
+        b.getForwardY(index),
+        b.getForwardZ(index));
+      assertVectorExact(
+        c.cameraGetForwardProjectedOnXZ(),
+        b.getForwardOnXZX(index),
+        b.getForwardOnXZY(index),
+        b.getForwardOnXZZ(index));
+      assertVectorExact(
+        c.cameraGetRight(),
+        b.getRightX(index),
+        b.getRightY(index),
+        b.getRightZ(index));
+      assertVectorExact(
+        c.cameraGetUp(),
+        b.getUpX(index),
+        b.getUpY(index),
+        b.getUpZ(index));
+    }
+  }
+
+  @Test
+  public void testSphericalVectorAgrees()
+  {
+    for (final int count : COUNTS) {
+      checkSphericalVectorAgrees(count);
+    }
+  }
+
+  private static void checkSphericalVectorAgrees(
+    final int count)
+  {
+    final Random random = new Random(0x53504832L);
+    final JCameraSphericalBases scalar = JCameraSphericalBases.create(count);
+    final JCameraSphericalBases vector = JCameraSphericalBases.create(count);
+
+    for (int index = 0; index < count; ++index) {
+      final double heading = (random.nextDouble() - 0.5) * 8.0 * Math.PI;
+      final double incline = (random.nextDouble() - 0.5) * Math.PI;
+      final double radius = 1.0 + (random.nextDouble() * 16.0);
+      final double x = random.nextGaussian() * 100.0;
+      final double y = random.nextGaussian() * 100.0;
+      final double z = random.nextGaussian() * 100.0;
+      scalar.setOrientation(index, heading, incline, radius);
+      scalar.setTarget3(index, x, y, z);
+      vector.setOrientation(index, heading, incline, radius);
+      vector.setTarget3(index, x, y, z);
+    }
+
+    JCameraBasesDerivation.deriveSphericalScalar(scalar);
+    JCameraBasesDerivation.deriveSpherical(vector);
+
+    for (int index = 0; index < count; ++index) {
+      assertUlps(scalar.getPositionX(index), vector.getPositionX(index));
+      assertUlps(scalar.getPositionY(index), vector.getPositionY(index));
+      assertUlps(scalar.getPositionZ(index), vector.getPositionZ(index));
+      assertUlps(scalar.getForwardX(index), vector.getForwardX(index));
+      assertUlps(scalar.getForwardY(index), vector.getForwardY(index));
+      assertUlps(scalar.getForwardZ(index), vector.getForwardZ(index));
+      assertUlps(scalar.getForwardOnXZX(index), vector.getForwardOnXZX(index));
+      assertUlps(scalar.getForwardOnXZY(index), vector.getForwardOnXZY(index));
+      assertUlps(scalar.getForwardOnXZZ(index), vector.getForwardOnXZZ(index));
+      assertUlps(scalar.getRightX(index), vector.getRightX(index));
+      assertUlps(scalar.getRightY(index), vector.getRightY(index));
+      assertUlps(scalar.getRightZ(index), vector.getRightZ(index));
+      assertUlps(scalar.getUpX(index), vector.getUpX(index));
+      assertUlps(scalar.getUpY(index), vector.getUpY(index));
+      assertUlps(scalar.getUpZ(index), vector.getUpZ(index));
+    }
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleDeltaDecoder;
+import com.io7m.jcamera.JCameraFPSStyleDeltaEncoder;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalDeltaDecoder;
+import com.io7m.jcamera.JCameraSphericalDeltaEncoder;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraDeltaStreamTest
+{
+  private static final double PRECISION = 1.0 / 1024.0;
+  private static final double ANGLE_DELTA = Math.PI / 32768.0;
+
+  /**
+   * The size of a full snapshot of an FPS-style camera, written as two
+   * angles and four vectors of 8-byte values.
+   */
+
+  private static final int FPS_FULL_BYTES = 14 * Double.BYTES;
+
+  private static void assertVectorClose(
+    final Vector3D expected,
+    final Vector3D received,
+    final double delta)
+  {
+    assertEquals(expected.x(), received.x(), delta);
+    assertEquals(expected.y(), received.y(), delta);
+    assertEquals(expected.z(), received.z(), delta);
+  }
+
+  private static void assertFPSClose(
+    final JCameraFPSStyleSnapshot expected,
+    final JCameraFPSStyleSnapshot received)
+  {
+    assertVectorClose(
+      expected.cameraGetPosition(), received.cameraGetPosition(), PRECISION);
+    assertVectorClose(
+      expected.cameraGetForward(), received.cameraGetForward(), 1.0e-4);
+    assertVectorClose(
+      expected.cameraGetRight(), received.cameraGetRight(), 1.0e-4);
+    assertVectorClose(
+      expected.cameraGetUp(), received.cameraGetUp(), 1.0e-4);
+    assertEquals(
+      0.0,
+      Math.IEEEremainder(
+        expected.cameraGetAngleAroundVertical()
+          - received.cameraGetAngleAroundVertical(),
+        2.0 * Math.PI),
+      ANGLE_DELTA);
+  }
+
+  /**
+   * A camera walking at 5 units per second and turning at one radian per
+   * second, sampled at 60Hz.
+   */
+
+  private static void stepFPS(
+    final JCameraFPSStyleType c)
+  {
+    c.cameraRotateAroundVertical(1.0 / 60.0);
+    c.cameraRotateAroundHorizontal(0.1 / 60.0);
+    c.cameraMoveForward(5.0 / 60.0);
+  }
+
+  private static void send(
+    final Pipe pipe,
+    final ByteBuffer message)
+    throws IOException
+  {
+    final ByteBuffer length = ByteBuffer.allocate(1);
+    length.put(0, (byte) message.remaining());
+    while (length.hasRemaining()) {
+      pipe.sink().write(length);
+    }
+    while (message.hasRemaining()) {
+      pipe.sink().write(message);
+    }
+  }
+
+  private static ByteBuffer receive(
+    final Pipe pipe)
+    throws IOException
+  {
+    final ByteBuffer length = ByteBuffer.allocate(1);
+    while (length.hasRemaining()) {
+      pipe.source().read(length);
+    }
+    final ByteBuffer message = ByteBuffer.allocate((int) length.get(0));
+    while (message.hasRemaining()) {
+      pipe.source().read(message);
+    }
+    return message.flip();
+  }
+
+  @Test
+  public void testCreateInvalid()
+  {
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleDeltaEncoder.create(0, 60, PRECISION));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleDeltaEncoder.create(16, 0, PRECISION));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleDeltaEncoder.create(16, 60, 0.0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraSphericalDeltaDecoder.create(16, -1.0));
+  }
+
+  /**
+   * Stream a moving camera through a pipe, acknowledging each message two
+   * ticks after it is sent. The decoded states track the camera, and the
+   * stream is at least an order of magnitude smaller than full snapshots.
+   */
+
+  @Test
+  public void testFPSStylePipe()
+    throws IOException
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 60, PRECISION);
+    final JCameraFPSStyleDeltaDecoder decoder =
+      JCameraFPSStyleDeltaDecoder.create(16, PRECISION);
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(encoder.messageMaximumBytes());
+
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(100.0, 2.0, -40.0);
+
+    final int ticks = 600;
+    final long[] acks = new long[ticks];
+    long total = 0L;
+
+    final Pipe pipe = Pipe.open();
+    try {
+      for (int tick = 0; tick < ticks; ++tick) {
+        stepFPS(c);
+
+        buffer.clear();
+        total += (long) encoder.encode((long) tick, c, buffer);
+        send(pipe, buffer.flip());
+
+        final JCameraFPSStyleSnapshot received =
+          decoder.decode(receive(pipe));
+        assertFPSClose(JCameraFPSStyleSnapshots.of(c), received);
+        assertEquals((long) tick, decoder.lastTick());
+
+        acks[tick] = decoder.lastTick();
+        if (tick >= 2) {
+          encoder.acknowledge(acks[tick - 2]);
+        }
+      }
+    } finally {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+
+    /*
+     * Ticks 0 to 2 are keyframes because no acknowledgements have arrived,
+     * and a keyframe is then sent every 60 ticks.
+     */
+
+    assertEquals(12L, encoder.keyframesSent());
+    assertEquals(588L, encoder.deltasSent());
+
+    final long full = (long) FPS_FULL_BYTES * (long) ticks;
+    assertTrue(
+      total * 10L <= full,
+      "Sent " + total + " bytes against " + full + " for full snapshots");
+  }
+
+  /**
+   * Without acknowledgements, every message is a keyframe.
+   */
+
+  @Test
+  public void testNoAcknowledgements()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 60, PRECISION);
+    final JCameraFPSStyleDeltaDecoder decoder =
+      JCameraFPSStyleDeltaDecoder.create(16, PRECISION);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+
+    for (int tick = 0; tick < 10; ++tick) {
+      stepFPS(c);
+      encoder.encode((long) tick, c, buffer);
+    }
+    buffer.flip();
+    for (int tick = 0; tick < 10; ++tick) {
+      decoder.decode(buffer);
+    }
+
+    assertEquals(10L, encoder.keyframesSent());
+    assertEquals(0L, encoder.deltasSent());
+    assertEquals(0, buffer.remaining());
+  }
+
+  /**
+   * A delta for a camera that has not moved contains no fields.
+   */
+
+  @Test
+  public void testStationary()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 60, PRECISION);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(1000.0, -2000.0, 3000.0);
+
+    encoder.encode(0L, c, buffer);
+    encoder.acknowledge(0L);
+    buffer.clear();
+    assertEquals(4, encoder.encode(1L, c, buffer));
+  }
+
+  /**
+   * Lost messages do not prevent later deltas from being decoded, as long
+   * as only received messages are acknowledged.
+   */
+
+  @Test
+  public void testLostMessages()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(32, 60, PRECISION);
+    final JCameraFPSStyleDeltaDecoder decoder =
+      JCameraFPSStyleDeltaDecoder.create(32, PRECISION);
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(encoder.messageMaximumBytes());
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+
+    for (int tick = 0; tick < 200; ++tick) {
+      stepFPS(c);
+      buffer.clear();
+      encoder.encode((long) tick, c, buffer);
+      buffer.flip();
+
+      if (tick % 3 != 1) {
+        assertFPSClose(
+          JCameraFPSStyleSnapshots.of(c), decoder.decode(buffer));
+        encoder.acknowledge(decoder.lastTick());
+      }
+    }
+
+    assertTrue(encoder.deltasSent() > encoder.keyframesSent());
+  }
+
+  /**
+   * A delta against a state that the decoder does not hold is rejected.
+   */
+
+  @Test
+  public void testMissingBaseline()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 60, PRECISION);
+    final JCameraFPSStyleDeltaDecoder decoder =
+      JCameraFPSStyleDeltaDecoder.create(16, PRECISION);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+
+    encoder.encode(0L, c, buffer);
+    encoder.acknowledge(0L);
+    stepFPS(c);
+    encoder.encode(1L, c, buffer);
+    buffer.flip();
+
+    decoder.decode(buffer);
+    decoder.reset();
+    assertThrows(IllegalStateException.class, decoder::lastTick);
+    assertThrows(IllegalStateException.class, () -> decoder.decode(buffer));
+  }
+
+  @Test
+  public void testTicksIncreasing()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 60, PRECISION);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+
+    encoder.encode(5L, c, buffer);
+    final int position = buffer.position();
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> encoder.encode(5L, c, buffer));
+    assertEquals(position, buffer.position());
+
+    encoder.reset();
+    encoder.encode(0L, c, buffer);
+    assertEquals(2L, encoder.keyframesSent());
+  }
+
+  /**
+   * A keyframe is sent if the newest acknowledged state is too old for the
+   * decoder to reconstruct the tick of a delta.
+   */
+
+  @Test
+  public void testTickWindow()
+  {
+    final JCameraFPSStyleDeltaEncoder encoder =
+      JCameraFPSStyleDeltaEncoder.create(16, 10_000, PRECISION);
+    final JCameraFPSStyleDeltaDecoder decoder =
+      JCameraFPSStyleDeltaDecoder.create(16, PRECISION);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+
+    encoder.encode(0L, c, buffer);
+    encoder.acknowledge(0L);
+    encoder.encode(255L, c, buffer);
+    encoder.encode(256L, c, buffer);
+    buffer.flip();
+
+    decoder.decode(buffer);
+    decoder.decode(buffer);
+    assertEquals(255L, decoder.lastTick());
+    decoder.decode(buffer);
+    assertEquals(256L, decoder.lastTick());
+
+    assertEquals(2L, encoder.keyframesSent());
+    assertEquals(1L, encoder.deltasSent());
+  }
+
+  @Test
+  public void testSpherical()
+  {
+    final JCameraSphericalDeltaEncoder encoder =
+      JCameraSphericalDeltaEncoder.create(16, 30, PRECISION);
+    final JCameraSphericalDeltaDecoder decoder =
+      JCameraSphericalDeltaDecoder.create(16, PRECISION);
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(encoder.messageMaximumBytes());
+
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(-50.0, 0.0, 25.0);
+    c.cameraSetZoom(8.0);
+
+    for (int tick = 0; tick < 300; ++tick) {
+      c.cameraOrbitHeading(1.0 / 60.0);
+      c.cameraMoveTargetForwardOnXZ(2.0 / 60.0);
+      c.cameraZoomIn(0.01);
+
+      buffer.clear();
+      encoder.encode((long) tick, c, buffer);
+      buffer.flip();
+
+      final JCameraSphericalSnapshot expected =
+        JCameraSphericalSnapshots.of(c);
+      final JCameraSphericalSnapshot received = decoder.decode(buffer);
+      encoder.acknowledge(decoder.lastTick());
+
+      assertEquals(
+        expected.cameraGetZoom(), received.cameraGetZoom(), PRECISION);
+      assertVectorClose(
+        expected.cameraGetTargetPosition(),
+        received.cameraGetTargetPosition(),
+        PRECISION);
+      assertVectorClose(
+        expected.cameraGetForward(), received.cameraGetForward(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetPosition(),
+        received.cameraGetPosition(),
+        PRECISION + (1.0e-4 * expected.cameraGetZoom()));
+    }
+
+    assertEquals(10L, encoder.keyframesSent());
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleBatch;
+import com.io7m.jcamera.JCameraFPSStyleBatchInput;
+import com.io7m.jcamera.JCameraFPSStyleBatchIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraFPSStyleBatchIntegratorTest
+{
+  @Test
+  public void testSizeMismatch()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      JCameraFPSStyleBatchIntegrator.newIntegrator(
+        JCameraFPSStyleBatch.newBatch(2),
+        JCameraFPSStyleBatchInput.newInput(3));
+    });
+  }
+
+  @Test
+  public void testInputMovement()
+  {
+    final JCameraFPSStyleBatchInput input =
+      JCameraFPSStyleBatchInput.newInput(2);
+
+    input.setMovingForward(1, true);
+    input.setMovingDown(1, true);
+    assertTrue(input.isMovingForward(1));
+    assertTrue(input.isMovingDown(1));
+    assertFalse(input.isMovingBackward(1));
+    assertFalse(input.isMovingForward(0));
+
+    input.setMovingForward(1, false);
+    assertFalse(input.isMovingForward(1));
+    assertTrue(input.isMovingDown(1));
+
+    input.setRotationHorizontalFactor(0, 2.0);
+    input.addRotationAroundHorizontal(0, 1.5);
+    assertEquals(3.0, input.takeRotationHorizontal(0), 0.0);
+    assertEquals(0.0, input.getRotationHorizontal(0), 0.0);
+  }
+
+  @Test
+  public void testIntegrationIdentical()
+  {
+    final int count = 16;
+    final Random random = new Random(0x494e5447L);
+
+    final JCameraFPSStyleBatch batch = JCameraFPSStyleBatch.newBatch(count);
+    final JCameraFPSStyleBatchInput batch_input =
+      JCameraFPSStyleBatchInput.newInput(count);
+    final JCameraFPSStyleBatchIntegrator batch_integrator =
+      JCameraFPSStyleBatchIntegrator.newIntegrator(batch, batch_input);
+
+    batch_integrator.integratorLinearSetDrag(0.1);
+    batch_integrator.integratorAngularSetDragVertical(0.1);
+    batch_integrator.integratorLinearSetMaximumSpeed(5.0);
+    batch_integrator.integratorAngularSetMaximumSpeedHorizontal(1.0);
+
+    final JCameraFPSStyleType[] cameras = new JCameraFPSStyleType[count];
+    final JCameraFPSStyleInputType[] inputs =
+      new JCameraFPSStyleInputType[count];
+    final JCameraFPSStyleIntegratorType[] integrators =
+      new JCameraFPSStyleIntegratorType[count];
+
+    for (int index = 0; index < count; ++index) {
+      cameras[index] = JCameraFPSStyle.newCamera();
+      inputs[index] = JCameraFPSStyleInput.newInput();
+      integrators[index] =
+        JCameraFPSStyleIntegrator.newIntegrator(cameras[index], inputs[index]);
+      integrators[index].integratorLinearSetDrag(0.1);
+      integrators[index].integratorAngularSetDragVertical(0.1);
+      integrators[index].integratorLinearSetMaximumSpeed(5.0);
+      integrators[index].integratorAngularSetMaximumSpeedHorizontal(1.0);
+    }
+
+    for (int step = 0; step < 500; ++step) {
+      for (int index = 0; index < count; ++index) {
+        final JCameraFPSStyleInputType in = inputs[index];
+        final boolean[] keys = new boolean[6];
+        for (int k = 0; k < keys.length; ++k) {
+          keys[k] = random.nextInt(4) == 0;
+        }
+
+        in.setMovingForward(keys[0]);
+        in.setMovingBackward(keys[1]);
+        in.setMovingRight(keys[2]);
+        in.setMovingLeft(keys[3]);
+        in.setMovingUp(keys[4]);
+        in.setMovingDown(keys[5]);
+        batch_input.setMovingForward(index, keys[0]);
+        batch_input.setMovingBackward(index, keys[1]);
+        batch_input.setMovingRight(index, keys[2]);
+        batch_input.setMovingLeft(index, keys[3]);
+        batch_input.setMovingUp(index, keys[4]);
+        batch_input.setMovingDown(index, keys[5]);
+
+        final double rh = random.nextGaussian() * 0.1;
+        final double rv = random.nextGaussian() * 0.1;
+        in.addRotationAroundHorizontal(rh);
+        in.addRotationAroundVertical(rv);
+        batch_input.addRotationAroundHorizontal(index, rh);
+        batch_input.addRotationAroundVertical(index, rv);
+      }
+
+      final double t = (1.0 / 60.0) + (random.nextDouble() * 0.01);
+      for (int index = 0; index < count; ++index) {
+        integrators[index].integrate(t);
+      }
+      batch_integrator.integrate(t);
+
+      for (int index = 0; index < count; ++index) {
+        final JCameraFPSStyleType c = cameras[index];
+        assertEquals(
+          c.cameraGetAngleAroundHorizontal(),
+          batch.cameraGetAngleAroundHorizontal(index),
+          0.0);
+        assertEquals(
+          c.cameraGetAngleAroundVertical(),
+          batch.cameraGetAngleAroundVertical(index),
+          0.0);
+        assertEquals(
+          c.cameraGetPosition().x(), batch.cameraGetPositionX(index), 0.0);
+        assertEquals(
+          c.cameraGetPosition().y(), batch.cameraGetPositionY(index), 0.0);
+        assertEquals(
+          c.cameraGetPosition().z(), batch.cameraGetPositionZ(index), 0.0);
+      }
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleBatch;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JCameraFPSStyleBatchTest
+{
+  private static void compareCamera(
+    final JCameraFPSStyleBatch batch,
+    final int index,
+    final JCameraFPSStyleType c)
+  {
+    assertEquals(
+      c.cameraGetAngleAroundHorizontal(),
+      batch.cameraGetAngleAroundHorizontal(index),
+      0.0);
+    assertEquals(
+      c.cameraGetAngleAroundVertical(),
+      batch.cameraGetAngleAroundVertical(index),
+      0.0);
+
+    assertEquals(
+      c.cameraGetPosition().x(), batch.cameraGetPositionX(index), 0.0);
+    assertEquals(
+      c.cameraGetPosition().y(), batch.cameraGetPositionY(index), 0.0);
+    assertEquals(
+      c.cameraGetPosition().z(), batch.cameraGetPositionZ(index), 0.0);
+    assertEquals(c.cameraGetForward().x(), batch.cameraGetForwardX(index), 0.0);
+    assertEquals(c.cameraGetForward().y(), batch.cameraGetForwardY(index), 0.0);
+    assertEquals(c.cameraGetForward().z(), batch.cameraGetForwardZ(index), 0.0);
+    assertEquals(c.cameraGetRight().x(), batch.cameraGetRightX(index), 0.0);
+    assertEquals(c.cameraGetRight().y(), batch.cameraGetRightY(index), 0.0);
+    assertEquals(c.cameraGetRight().z(), batch.cameraGetRightZ(index), 0.0);
+    assertEquals(c.cameraGetUp().x(), batch.cameraGetUpX(index), 0.0);
+    assertEquals(c.cameraGetUp().y(), batch.cameraGetUpY(index), 0.0);
+    assertEquals(c.cameraGetUp().z(), batch.cameraGetUpZ(index), 0.0);
+
+    final double[] expected = new double[16];
+    final double[] received = new double[16];
+    c.cameraMakeViewMatrixInto(expected, 0);
+    batch.cameraMakeViewMatrixInto(index, received, 0);
+    for (int k = 0; k < 16; ++k) {
+      assertEquals(expected[k], received[k], 0.0);
+    }
+  }
+
+  @Test
+  public void testInitialIdentical()
+  {
+    final JCameraFPSStyleBatch batch = JCameraFPSStyleBatch.newBatch(4);
+    assertEquals(4, batch.size());
+
+    for (int index = 0; index < batch.size(); ++index) {
+      compareCamera(batch, index, JCameraFPSStyle.newCamera());
+    }
+  }
+
+  @Test
+  public void testOperationsIdentical()
+  {
+    final int count = 32;
+    final Random random = new Random(0x4a43414dL);
+    final JCameraFPSStyleBatch batch = JCameraFPSStyleBatch.newBatch(count);
+    final JCameraFPSStyleType[] cameras = new JCameraFPSStyleType[count];
+    for (int index = 0; index < count; ++index) {
+      cameras[index] = JCameraFPSStyle.newCamera();
+    }
+
+    for (int step = 0; step < 2000; ++step) {
+      final int index = random.nextInt(count);
+      final JCameraFPSStyleType c = cameras[index];
+      final double x = (random.nextDouble() - 0.5) * 4.0;
+
+      switch (random.nextInt(9)) {
+        case 0 -> {
+          c.cameraMoveForward(x);
+          batch.cameraMoveForward(index, x);
+        }
+        case 1 -> {
+          c.cameraMoveRight(x);
+          batch.cameraMoveRight(index, x);
+        }
+        case 2 -> {
+          c.cameraMoveUp(x);
+          batch.cameraMoveUp(index, x);
+        }
+        case 3 -> {
+          assertEquals(
+            Boolean.valueOf(c.cameraRotateAroundHorizontal(x)),
+            Boolean.valueOf(batch.cameraRotateAroundHorizontal(index, x)));
+        }
+        case 4 -> {
+          c.cameraRotateAroundVertical(x);
+          batch.cameraRotateAroundVertical(index, x);
+        }
+        case 5 -> {
+          c.cameraSetAngleAroundHorizontal(x);
+          batch.cameraSetAngleAroundHorizontal(index, x);
+        }
+        case 6 -> {
+          c.cameraSetAngleAroundVertical(x);
+          batch.cameraSetAngleAroundVertical(index, x);
+        }
+        case 7 -> {
+          c.cameraSetPosition3(x, -x, x * 2.0);
+          batch.cameraSetPosition3(index, x, -x, x * 2.0);
+        }
+        default -> {
+          if (random.nextBoolean()) {
+            c.cameraClampHorizontalDisable();
+            batch.cameraClampHorizontalDisable(index);
+          } else {
+            c.cameraClampHorizontalEnable(-Math.abs(x), Math.abs(x) + 0.1);
+            batch.cameraClampHorizontalEnable(
+              index, -Math.abs(x), Math.abs(x) + 0.1);
+          }
+        }
+      }
+
+      compareCamera(batch, index, c);
+    }
+
+    final double[] matrices = new double[(count * 16) + 3];
+    batch.makeViewMatricesInto(matrices, 3);
+
+    final double[] expected = new double[16];
+    for (int index = 0; index < count; ++index) {
+      cameras[index].cameraMakeViewMatrixInto(expected, 0);
+      for (int k = 0; k < 16; ++k) {
+        assertEquals(expected[k], matrices[3 + (index * 16) + k], 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testSetFromSnapshot()
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraRotateAroundHorizontal(0.3);
+    c.cameraRotateAroundVertical(1.7);
+    c.cameraSetPosition3(1.0, 2.0, 3.0);
+
+    final JCameraFPSStyleBatch batch = JCameraFPSStyleBatch.newBatch(2);
+    batch.cameraSetFrom(1, c);
+    compareCamera(batch, 1, c);
+    compareCamera(batch, 0, JCameraFPSStyle.newCamera());
+
+    assertEquals(JCameraFPSStyleSnapshots.of(c), batch.cameraSnapshot(1));
+  }
+
+  @Test
+  public void testViewMatrixBounds()
+  {
+    final JCameraFPSStyleBatch batch = JCameraFPSStyleBatch.newBatch(2);
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      batch.cameraMakeViewMatrixInto(0, new double[15], 0);
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      batch.cameraMakeViewMatrixInto(2, new double[16], 0);
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      batch.makeViewMatricesInto(new double[32], 1);
+    });
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class JCameraFPSStyleInputTest
+{
+  private static final int PRODUCERS = 4;
+  private static final int ITERATIONS = 200_000;
+
+  @Test
+  public void testTakeResets()
+  {
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    input.setRotationHorizontalFactor(2.0);
+    input.addRotationAroundHorizontal(1.0);
+    input.addRotationAroundHorizontal(0.5);
+    input.addRotationAroundVertical(-3.0);
+
+    assertEquals(3.0, input.getRotationHorizontal(), 0.0);
+    assertEquals(3.0, input.takeRotationHorizontal(), 0.0);
+    assertEquals(0.0, input.takeRotationHorizontal(), 0.0);
+    assertEquals(-3.0, input.takeRotationVertical(), 0.0);
+    assertEquals(0.0, input.getRotationVertical(), 0.0);
+
+    input.setRotationVertical(4.0);
+    assertEquals(4.0, input.takeRotationVertical(), 0.0);
+  }
+
+  /**
+   * Several threads add rotations while another thread concurrently takes
+   * them. Every rotation must be taken exactly once. All values involved are
+   * small integers, so the sums are exact.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentAccumulationLossless()
+    throws Exception
+  {
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicBoolean done = new AtomicBoolean(false);
+
+    final List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < PRODUCERS; ++p) {
+      final Thread t = new Thread(() -> {
+        awaitQuietly(start);
+        for (int index = 0; index < ITERATIONS; ++index) {
+          input.addRotationAroundHorizontal(1.0);
+          input.addRotationAroundVertical(-2.0);
+        }
+      });
+      producers.add(t);
+      t.start();
+    }
+
+    final double[] taken = new double[2];
+    final Thread consumer = new Thread(() -> {
+      awaitQuietly(start);
+      while (!done.get()) {
+        taken[0] += input.takeRotationHorizontal();
+        taken[1] += input.takeRotationVertical();
+      }
+    });
+    consumer.start();
+
+    start.countDown();
+    for (final Thread t : producers) {
+      t.join();
+    }
+    done.set(true);
+    consumer.join();
+
+    taken[0] += input.takeRotationHorizontal();
+    taken[1] += input.takeRotationVertical();
+
+    assertEquals((double) (PRODUCERS * ITERATIONS), taken[0], 0.0);
+    assertEquals((double) (PRODUCERS * ITERATIONS) * -2.0, taken[1], 0.0);
+  }
+
+  private static void awaitQuietly(
+    final CountDownLatch latch)
+  {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -16,20 +16,53 @@
 
 package com.io7m.jcamera.tests;
 
+import com.io7m.jcamera.JCameraDerivation;
 import com.io7m.jcamera.JCameraFPSStyle;
 import com.io7m.jcamera.JCameraFPSStyleReadableType;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
 import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import org.junit.jupiter.api.Test;
 
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
 import static com.io7m.jequality.AlmostEqualDouble.ContextRelative;
 import static com.io7m.jequality.AlmostEqualDouble.almostEqual;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class JCameraFPSStyleTest
 {
+  private static void checkPrimitiveAccessors(
+    final JCameraFPSStyleReadableType c)
+  {
+    final Vector3D p = c.cameraGetPosition();
+    final Vector3D r = c.cameraGetRight();
+    final Vector3D u = c.cameraGetUp();
+    final Vector3D f = c.cameraGetForward();
+
+    assertEquals(p.x(), c.cameraGetPositionX(), 0.0);
+    assertEquals(p.y(), c.cameraGetPositionY(), 0.0);
+    assertEquals(p.z(), c.cameraGetPositionZ(), 0.0);
+    assertEquals(r.x(), c.cameraGetRightX(), 0.0);
+    assertEquals(r.y(), c.cameraGetRightY(), 0.0);
+    assertEquals(r.z(), c.cameraGetRightZ(), 0.0);
+    assertEquals(u.x(), c.cameraGetUpX(), 0.0);
+    assertEquals(u.y(), c.cameraGetUpY(), 0.0);
+    assertEquals(u.z(), c.cameraGetUpZ(), 0.0);
+    assertEquals(f.x(), c.cameraGetForwardX(), 0.0);
+    assertEquals(f.y(), c.cameraGetForwardY(), 0.0);
+    assertEquals(f.z(), c.cameraGetForwardZ(), 0.0);
+  }
+
   private static void dumpVector(
     final String name,
     final Vector3D v)
@@ -42,6 +75,29 @@ public final class JCameraFPSStyleTest
       Double.valueOf(v.z()));
   }
 
+  private static void compareMatrixArray(
+    final Matrix4x4D m,
+    final double[] a,
+    final int offset)
+  {
+    assertEquals(m.r0c0(), a[offset], 0.0);
+    assertEquals(m.r1c0(), a[offset + 1], 0.0);
+    assertEquals(m.r2c0(), a[offset + 2], 0.0);
+    assertEquals(m.r3c0(), a[offset + 3], 0.0);
+    assertEquals(m.r0c1(), a[offset + 4], 0.0);
+    assertEquals(m.r1c1(), a[offset + 5], 0.0);
+    assertEquals(m.r2c1(), a[offset + 6], 0.0);
+    assertEquals(m.r3c1(), a[offset + 7], 0.0);
+    assertEquals(m.r0c2(), a[offset + 8], 0.0);
+    assertEquals(m.r1c2(), a[offset + 9], 0.0);
+    assertEquals(m.r2c2(), a[offset + 10], 0.0);
+    assertEquals(m.r3c2(), a[offset + 11], 0.0);
+    assertEquals(m.r0c3(), a[offset + 12], 0.0);
+    assertEquals(m.r1c3(), a[offset + 13], 0.0);
+    assertEquals(m.r2c3(), a[offset + 14], 0.0);
+    assertEquals(m.r3c3(), a[offset + 15], 0.0);
+  }
+
   private static double random()
   {
     return Math.random();
@@ -73,6 +129,12 @@ public final class JCameraFPSStyleTest
     assertEquals(m, snap_m);
     assertEquals(pm, snap_pm);
 
+    final double[] m_array = new double[16];
+    c.cameraMakeViewMatrixInto(m_array, 0);
+    compareMatrixArray(m, m_array, 0);
+    snap.cameraMakeViewMatrixInto(m_array, 0);
+    compareMatrixArray(m, m_array, 0);
+
     final var snap2 = JCameraFPSStyleSnapshots.of(c);
     final var snap3 = JCameraFPSStyleSnapshots.of(snap);
 
@@ -844,4 +906,349 @@ public final class JCameraFPSStyleTest
   {
     // Nothing
   }
+
+  @Test
+  public void testViewMatrixInto()
+  {
+    final var c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(1.0, 2.0, 3.0);
+    c.cameraRotateAroundVertical(0.3);
+    c.cameraRotateAroundHorizontal(-0.2);
+
+    final Matrix4x4D m = c.cameraMakeViewMatrix();
+
+    final double[] array = new double[20];
+    array[0] = 23.0;
+    array[1] = 23.0;
+    array[18] = 23.0;
+    array[19] = 23.0;
+    c.cameraMakeViewMatrixInto(array, 2);
+    compareMatrixArray(m, array, 2);
+    assertEquals(23.0, array[0], 0.0);
+    assertEquals(23.0, array[1], 0.0);
+    assertEquals(23.0, array[18], 0.0);
+    assertEquals(23.0, array[19], 0.0);
+
+    final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+    buffer.position(3);
+    c.cameraMakeViewMatrixInto(buffer, 4);
+    assertEquals(3, buffer.position());
+
+    final double[] buffer_array = new double[20];
+    buffer.get(0, buffer_array);
+    compareMatrixArray(m, buffer_array, 4);
+  }
+
+  /**
+   * Lazily and eagerly deriving cameras produce identical results for any
+   * sequence of operations.
+   */
+
+  @Test
+  public void testDerivationEagerMatchesLazy()
+  {
+    final Random random = new Random(0x45414731L);
+    final JCameraFPSStyleType lazy = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleType eager =
+      JCameraFPSStyle.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    final JCameraFPSStyleType[] cameras = {lazy, eager};
+
+    for (int index = 0; index < 1000; ++index) {
+      final int op = random.nextInt(7);
+      final double x = (random.nextDouble() - 0.5) * 4.0;
+      for (final JCameraFPSStyleType c : cameras) {
+        switch (op) {
+          case 0 -> c.cameraRotateAroundHorizontal(x);
+          case 1 -> c.cameraRotateAroundVertical(x);
+          case 2 -> c.cameraMoveForward(x);
+          case 3 -> c.cameraMoveRight(x);
+          case 4 -> c.cameraMoveUp(x);
+          case 5 -> c.cameraSetAngleAroundHorizontal(x);
+          default -> c.cameraSetAngleAroundVertical(x);
+        }
+      }
+
+      if (random.nextBoolean()) {
+        assertEquals(lazy.cameraGetForward(), eager.cameraGetForward());
+        assertEquals(lazy.cameraGetRight(), eager.cameraGetRight());
+        assertEquals(lazy.cameraGetUp(), eager.cameraGetUp());
+        assertEquals(lazy.cameraGetPosition(), eager.cameraGetPosition());
+        assertEquals(
+          lazy.cameraMakeViewMatrix(), eager.cameraMakeViewMatrix());
+      }
+    }
+
+    assertEquals(lazy, eager);
+    assertEquals(
+      eager,
+      JCameraFPSStyle.newCameraFrom(
+        eager, JCameraDerivation.DERIVATION_EAGER));
+  }
+
+  /**
+   * An eagerly deriving camera can be read from several threads at once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDerivationEagerConcurrentReads()
+    throws Exception
+  {
+    final JCameraFPSStyleType c =
+      JCameraFPSStyle.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    c.cameraRotateAroundVertical(0.7);
+    c.cameraRotateAroundHorizontal(0.3);
+
+    final JCameraFPSStyleType expected = JCameraFPSStyle.newCameraFrom(c);
+    final Vector3D forward = expected.cameraGetForward();
+    final Vector3D right = expected.cameraGetRight();
+    final Vector3D up = expected.cameraGetUp();
+
+    final AtomicBoolean consistent = new AtomicBoolean(true);
+    final Thread[] readers = new Thread[4];
+    for (int r = 0; r < readers.length; ++r) {
+      readers[r] = new Thread(() -> {
+        for (int index = 0; index < 10000; ++index) {
+          final boolean ok =
+            forward.equals(c.cameraGetForward())
+              && right.equals(c.cameraGetRight())
+              && up.equals(c.cameraGetUp());
+          if (!ok) {
+            consistent.set(false);
+          }
+        }
+      });
+    }
+
+    for (final Thread reader : readers) {
+      reader.start();
+    }
+    for (final Thread reader : readers) {
+      reader.join();
+    }
+    assertTrue(consistent.get());
+  }
+
+  /**
+   * The primitive accessors agree exactly with the vector accessors for
+   * cameras and snapshots.
+   */
+
+  @Test
+  public void testPrimitiveAccessors()
+  {
+    final Random random = new Random(0x3a5c7e91L);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    for (int index = 0; index < 1000; ++index) {
+      final double x = (random.nextDouble() - 0.5) * 4.0;
+      switch (random.nextInt(5)) {
+        case 0 -> c.cameraRotateAroundHorizontal(x);
+        case 1 -> c.cameraRotateAroundVertical(x);
+        case 2 -> c.cameraMoveForward(x);
+        case 3 -> c.cameraMoveRight(x);
+        default -> c.cameraMoveUp(x);
+      }
+
+      checkPrimitiveAccessors(c);
+      checkPrimitiveAccessors(JCameraFPSStyleSnapshots.of(c));
+      checkPrimitiveAccessors(JCameraFPSStyleSnapshots.ofInto(c, m));
+    }
+  }
+
+  /**
+   * Moving, rotating, and reading the primitive accessors of a camera does
+   * not allocate.
+   */
+
+  @Test
+  public void testMoveRotateNoAllocation()
+  {
+    final JCameraFPSStyleType lazy = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleType eager =
+      JCameraFPSStyle.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    final int count = 10000;
+
+    double total = 0.0;
+    for (int index = 0; index < count; ++index) {
+      total += moveAndRead(lazy) + moveAndRead(eager);
+    }
+
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      total += moveAndRead(lazy) + moveAndRead(eager);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(Double.isFinite(total));
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+
+  private static double moveAndRead(
+    final JCameraFPSStyleType c)
+  {
+    c.cameraRotateAroundVertical(0.001);
+    c.cameraRotateAroundHorizontal(0.0);
+    c.cameraMoveForward(0.01);
+    c.cameraMoveRight(0.01);
+    c.cameraMoveUp(0.01);
+    return c.cameraGetPositionX()
+      + c.cameraGetRightY()
+      + c.cameraGetUpZ()
+      + c.cameraGetForwardX();
+  }
+
+  /**
+   * Rotating around the vertical axis for a long time keeps the angle in
+   * the range {@code [-π, π]} without disturbing the orientation.
+   */
+
+  @Test
+  public void testRotateAroundVerticalWraps()
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final double v0 = c.cameraGetAngleAroundVertical();
+    c.cameraRotateAroundVertical(0.5);
+    assertEquals(v0 + 0.5, c.cameraGetAngleAroundVertical(), 0.0);
+
+    boolean in_range = true;
+    for (int index = 0; index < 1_000_000; ++index) {
+      c.cameraRotateAroundVertical(0.01);
+      final double v = c.cameraGetAngleAroundVertical();
+      in_range = in_range && v >= -Math.PI && v <= Math.PI;
+    }
+    assertTrue(in_range);
+
+    final JCameraFPSStyleType expected = JCameraFPSStyle.newCamera();
+    expected.cameraSetAngleAroundVertical(v0 + 0.5 + 10000.0);
+
+    final Vector3D f = c.cameraGetForward();
+    final Vector3D e = expected.cameraGetForward();
+    assertEquals(e.x(), f.x(), 1.0e-8);
+    assertEquals(e.y(), f.y(), 1.0e-8);
+    assertEquals(e.z(), f.z(), 1.0e-8);
+  }
+
+  /**
+   * Interpolating between snapshots takes the shortest arc around the
+   * vertical axis when the angle wraps.
+   */
+
+  @Test
+  public void testSnapshotInterpolationWraps()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    c0.cameraSetAngleAroundVertical(Math.PI - 0.1);
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    c1.cameraSetAngleAroundVertical(-Math.PI + 0.1);
+
+    final JCameraFPSStyleSnapshot s =
+      JCameraFPSStyleSnapshots.interpolate(
+        JCameraFPSStyleSnapshots.of(c0),
+        JCameraFPSStyleSnapshots.of(c1),
+        0.5);
+    assertEquals(Math.PI, Math.abs(s.cameraGetAngleAroundVertical()), 1.0e-12);
+
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshots.interpolateInto(
+        JCameraFPSStyleSnapshots.ofInto(
+          c0, JCameraFPSStyleSnapshotMutable.create()),
+        JCameraFPSStyleSnapshots.ofInto(
+          c1, JCameraFPSStyleSnapshotMutable.create()),
+        0.5,
+        JCameraFPSStyleSnapshotMutable.create());
+    assertEquals(
+      s.cameraGetAngleAroundVertical(),
+      m.cameraGetAngleAroundVertical(),
+      0.0);
+  }
+
+  /**
+   * Interpolating between snapshots yields exactly the angles of the
+   * snapshots at the endpoints, even when the angles are more than
+   * {@code π} apart.
+   */
+
+  @Test
+  public void testSnapshotInterpolationWrapsEndpoints()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    c0.cameraSetAngleAroundVertical(3.0);
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    c1.cameraSetAngleAroundVertical(-Math.PI / 2.0);
+
+    final JCameraFPSStyleSnapshot s0 = JCameraFPSStyleSnapshots.of(c0);
+    final JCameraFPSStyleSnapshot s1 = JCameraFPSStyleSnapshots.of(c1);
+    final JCameraFPSStyleSnapshotMutable m0 =
+      JCameraFPSStyleSnapshots.ofInto(
+        c0, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable m1 =
+      JCameraFPSStyleSnapshots.ofInto(
+        c1, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    assertEquals(
+      3.0,
+      JCameraFPSStyleSnapshots.interpolate(s0, s1, 0.0)
+        .cameraGetAngleAroundVertical(),
+      0.0);
+    assertEquals(
+      -Math.PI / 2.0,
+      JCameraFPSStyleSnapshots.interpolate(s0, s1, 1.0)
+        .cameraGetAngleAroundVertical(),
+      0.0);
+    assertEquals(
+      3.0,
+      JCameraFPSStyleSnapshots.interpolateInto(m0, m1, 0.0, m)
+        .cameraGetAngleAroundVertical(),
+      0.0);
+    assertEquals(
+      -Math.PI / 2.0,
+      JCameraFPSStyleSnapshots.interpolateInto(m0, m1, 1.0, m)
+        .cameraGetAngleAroundVertical(),
+      0.0);
+  }
+
+  @Test
+  public void testDeriveBasisIntoIdentical()
+  {
+    final Random r = new Random(0x5eedL);
+    final double[] out = new double[11];
+
+    for (int index = 0; index < 100; ++index) {
+      final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+      c.cameraClampHorizontalDisable();
+      c.cameraSetAngleAroundHorizontal((r.nextDouble() - 0.5) * 8.0);
+      c.cameraSetAngleAroundVertical((r.nextDouble() - 0.5) * 8.0);
+
+      JCameraFPSStyle.deriveBasisInto(
+        c.cameraGetAngleAroundHorizontal(),
+        c.cameraGetAngleAroundVertical(),
+        out,
+        2);
+
+      assertEquals(c.cameraGetForwardX(), out[2], 0.0);
+      assertEquals(c.cameraGetForwardY(), out[3], 0.0);
+      assertEquals(c.cameraGetForwardZ(), out[4], 0.0);
+      assertEquals(c.cameraGetRightX(), out[5], 0.0);
+      assertEquals(c.cameraGetRightY(), out[6], 0.0);
+      assertEquals(c.cameraGetRightZ(), out[7], 0.0);
+      assertEquals(c.cameraGetUpX(), out[8], 0.0);
+      assertEquals(c.cameraGetUpY(), out[9], 0.0);
+      assertEquals(c.cameraGetUpZ(), out[10], 0.0);
+    }
+
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JCameraFPSStyle.deriveBasisInto(0.0, 0.0, out, 3));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JCameraFPSStyle.deriveBasisInto(0.0, 0.0, out, -1));
+  }
 }
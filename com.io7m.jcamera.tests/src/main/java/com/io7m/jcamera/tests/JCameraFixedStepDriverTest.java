@@ -0,0 +1,283 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraFixedStepDriver;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import com.io7m.jcamera.JCameraSphericalIntegrator;
+import com.io7m.jcamera.JCameraSphericalIntegratorType;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JCameraFixedStepDriverTest
+{
+  private static final long STEP = 10_000_000L;
+
+  /**
+   * A driver over a simulation whose state is simply the number of steps
+   * taken, interpolated linearly.
+   */
+
+  private static JCameraFixedStepDriver<Double> counter(
+    final long[] clock,
+    final int maximum)
+  {
+    final double[] count = {0.0};
+    return JCameraFixedStepDriver.create(
+      () -> clock[0],
+      100.0,
+      maximum,
+      Double.valueOf(0.0),
+      delta -> {
+        assertEquals(0.01, delta, 0.0);
+        count[0] += 1.0;
+        return Double.valueOf(count[0]);
+      },
+      (p, c, a) -> Double.valueOf(
+        p.doubleValue() + ((c.doubleValue() - p.doubleValue()) * a)));
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    assertThrows(RangeCheckException.class, () -> {
+      counter(new long[1], 0);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      JCameraFixedStepDriver.create(
+        () -> 0L,
+        0.0,
+        1,
+        Double.valueOf(0.0),
+        delta -> Double.valueOf(0.0),
+        (p, c, a) -> p);
+    });
+  }
+
+  @Test
+  public void testSteps()
+  {
+    final long[] clock = {1000L};
+    final JCameraFixedStepDriver<Double> driver = counter(clock, 8);
+    assertEquals(0.01, driver.stepSeconds(), 0.0);
+
+    clock[0] += STEP / 2L;
+    assertEquals(0.0, driver.update().doubleValue(), 0.0);
+    assertEquals(0, driver.frameSteps());
+    assertEquals(0.5, driver.alpha(), 0.0);
+
+    clock[0] += STEP;
+    assertEquals(0.5, driver.update().doubleValue(), 1.0e-12);
+    assertEquals(1, driver.frameSteps());
+
+    clock[0] += (STEP * 3L) + (STEP / 4L);
+    assertEquals(3.75, driver.update().doubleValue(), 1.0e-12);
+    assertEquals(3, driver.frameSteps());
+    assertEquals(4L, driver.totalSteps());
+    assertEquals(0L, driver.totalDroppedNanoseconds());
+  }
+
+  @Test
+  public void testCatchUpLimited()
+  {
+    final long[] clock = {0L};
+    final JCameraFixedStepDriver<Double> driver = counter(clock, 4);
+
+    clock[0] += (STEP * 100L) + (STEP / 2L);
+    assertEquals(3.5, driver.update().doubleValue(), 1.0e-12);
+    assertEquals(4, driver.frameSteps());
+    assertEquals(STEP * 96L, driver.frameDroppedNanoseconds());
+
+    clock[0] += STEP / 2L;
+    assertEquals(4.0, driver.update().doubleValue(), 1.0e-12);
+    assertEquals(1, driver.frameSteps());
+    assertEquals(0L, driver.frameDroppedNanoseconds());
+    assertEquals(STEP * 96L, driver.totalDroppedNanoseconds());
+    assertEquals(5L, driver.totalSteps());
+  }
+
+  @Test
+  public void testClockBackwards()
+  {
+    final long[] clock = {STEP * 10L};
+    final JCameraFixedStepDriver<Double> driver = counter(clock, 4);
+
+    clock[0] -= STEP * 5L;
+    driver.update();
+    assertEquals(0, driver.frameSteps());
+
+    clock[0] += STEP;
+    driver.update();
+    assertEquals(1, driver.frameSteps());
+  }
+
+  @Test
+  public void testReset()
+  {
+    final long[] clock = {0L};
+    final JCameraFixedStepDriver<Double> driver = counter(clock, 4);
+
+    clock[0] += STEP + (STEP / 2L);
+    driver.update();
+    assertEquals(1.0, driver.current().doubleValue(), 0.0);
+    assertEquals(0.0, driver.previous().doubleValue(), 0.0);
+
+    clock[0] += STEP * 1000L;
+    driver.reset();
+    assertEquals(1.0, driver.previous().doubleValue(), 0.0);
+    assertEquals(1.0, driver.update().doubleValue(), 0.0);
+    assertEquals(0, driver.frameSteps());
+  }
+
+  @Test
+  public void testSphericalCamera()
+  {
+    final JCameraSphericalType camera = JCameraSpherical.newCamera();
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    final JCameraSphericalIntegratorType integrator =
+      JCameraSphericalIntegrator.newIntegrator(camera, input);
+
+    final long[] clock = {0L};
+    final JCameraFixedStepDriver<JCameraSphericalSnapshot> driver =
+      JCameraFixedStepDriver.create(
+        () -> clock[0],
+        60.0,
+        8,
+        JCameraSphericalSnapshots.of(camera),
+        delta -> {
+          integrator.integrate(delta);
+          return JCameraSphericalSnapshots.of(camera);
+        },
+        JCameraSphericalSnapshots::interpolate);
+
+    input.setOrbitHeadingPositive(true);
+    clock[0] += 1_000_000_000L;
+    final JCameraSphericalSnapshot snap = driver.update();
+    assertEquals(8, driver.frameSteps());
+    assertEquals(
+      JCameraSphericalSnapshots.interpolate(
+        driver.previous(), driver.current(), driver.alpha()),
+      snap);
+  }
+
+  @Test
+  public void testSameSnapshotRejected()
+  {
+    final long[] clock = {0L};
+    final Double same = Double.valueOf(1.0);
+    final JCameraFixedStepDriver<Double> driver =
+      JCameraFixedStepDriver.create(
+        () -> clock[0],
+        100.0,
+        4,
+        Double.valueOf(0.0),
+        delta -> same,
+        (p, c, a) -> p);
+
+    clock[0] += STEP;
+    driver.update();
+    clock[0] += STEP;
+    assertThrows(IllegalStateException.class, driver::update);
+  }
+
+  /**
+   * A simulation that reuses two mutable snapshots, alternating between
+   * them, must be interpolated exactly as one that allocates a new
+   * snapshot per step.
+   */
+
+  @Test
+  public void testMutableSnapshotsPingPong()
+  {
+    final JCameraFPSStyleType camera_m = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType input_m = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType integrator_m =
+      JCameraFPSStyleIntegrator.newIntegrator(camera_m, input_m);
+    final JCameraFPSStyleType camera_i = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType input_i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType integrator_i =
+      JCameraFPSStyleIntegrator.newIntegrator(camera_i, input_i);
+
+    final JCameraFPSStyleSnapshotMutable[] buffers = {
+      JCameraFPSStyleSnapshots.ofInto(
+        camera_m, JCameraFPSStyleSnapshotMutable.create()),
+      JCameraFPSStyleSnapshotMutable.create(),
+    };
+    final int[] next = {1};
+    final JCameraFPSStyleSnapshotMutable output =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    final long[] clock = {0L};
+    final JCameraFixedStepDriver<JCameraFPSStyleSnapshotMutable> driver_m =
+      JCameraFixedStepDriver.create(
+        () -> clock[0],
+        100.0,
+        8,
+        buffers[0],
+        delta -> {
+          integrator_m.integrate(delta);
+          final JCameraFPSStyleSnapshotMutable target = buffers[next[0]];
+          next[0] = 1 - next[0];
+          return JCameraFPSStyleSnapshots.ofInto(camera_m, target);
+        },
+        (p, c, a) -> JCameraFPSStyleSnapshots.interpolateInto(p, c, a, output));
+    final JCameraFixedStepDriver<JCameraFPSStyleSnapshot> driver_i =
+      JCameraFixedStepDriver.create(
+        () -> clock[0],
+        100.0,
+        8,
+        JCameraFPSStyleSnapshots.of(camera_i),
+        delta -> {
+          integrator_i.integrate(delta);
+          return JCameraFPSStyleSnapshots.of(camera_i);
+        },
+        JCameraFPSStyleSnapshots::interpolate);
+
+    input_m.setMovingForward(true);
+    input_i.setMovingForward(true);
+    for (int frame = 0; frame < 50; ++frame) {
+      input_m.addRotationAroundVertical(0.01);
+      input_i.addRotationAroundVertical(0.01);
+      clock[0] += (STEP * 3L) / 2L;
+
+      final JCameraFPSStyleSnapshotMutable received = driver_m.update();
+      final JCameraFPSStyleSnapshot expected = driver_i.update();
+      assertSame(output, received);
+      assertNotSame(driver_m.previous(), driver_m.current());
+      assertEquals(expected, JCameraFPSStyleSnapshots.of(received));
+    }
+  }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraFrustum;
+import com.io7m.jcamera.JCameraFrustumCuller;
+import com.io7m.jcamera.JCameraViewProjection;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraFrustumCullerTest
+{
+  private static final int[] COUNTS = {0, 1, 63, 64, 65, 1000, 100_000};
+
+  private static double[] random(
+    final Random random,
+    final int count,
+    final double scale)
+  {
+    final double[] r = new double[count];
+    for (int index = 0; index < count; ++index) {
+      r[index] = (random.nextDouble() - 0.5) * scale;
+    }
+    return r;
+  }
+
+  private static double[] radii(
+    final Random random,
+    final int count)
+  {
+    final double[] r = new double[count];
+    for (int index = 0; index < count; ++index) {
+      r[index] = random.nextDouble() * 5.0;
+    }
+    return r;
+  }
+
+  private static double[] add(
+    final double[] a,
+    final double[] b)
+  {
+    final double[] r = new double[a.length];
+    for (int index = 0; index < a.length; ++index) {
+      r[index] = a[index] + b[index];
+    }
+    return r;
+  }
+
+  /**
+   * Move a camera through a sequence of poses, so that the coherency state
+   * of the culler carries over from one pose to the next.
+   */
+
+  private static void pose(
+    final JCameraFPSStyleType camera,
+    final JCameraViewProjection vp,
+    final JCameraFrustum frustum,
+    final int frame)
+  {
+    camera.cameraRotateAroundVertical(0.3);
+    camera.cameraRotateAroundHorizontal(frame % 2 == 0 ? 0.1 : -0.05);
+    camera.cameraMoveForward(5.0);
+    update(camera, vp, frustum);
+  }
+
+  private static void update(
+    final JCameraFPSStyleType camera,
+    final JCameraViewProjection vp,
+    final JCameraFrustum frustum)
+  {
+    vp.setPerspective(0.5, 200.0, 1.5, 1.2);
+    vp.update(camera);
+    frustum.updateFromViewProjection(vp);
+  }
+
+  @Test
+  public void testSpheresMatchFrustum()
+  {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final int count : COUNTS) {
+        final Random random = new Random(count);
+        final double[] x = random(random, count, 400.0);
+        final double[] y = random(random, count, 400.0);
+        final double[] z = random(random, count, 400.0);
+        final double[] r = radii(random, count);
+
+        final JCameraFrustumCuller sequential =
+          JCameraFrustumCuller.create(count);
+        final JCameraFrustumCuller parallel =
+          JCameraFrustumCuller.create(count);
+        final long[] visible_s =
+          new long[JCameraFrustumCuller.bitsetSize(count)];
+        final long[] visible_p =
+          new long[JCameraFrustumCuller.bitsetSize(count)];
+        Arrays.fill(visible_s, -1L);
+
+        final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+        camera.cameraClampHorizontalDisable();
+        final JCameraFrustum frustum = JCameraFrustum.create();
+        final JCameraViewProjection vp = JCameraViewProjection.create();
+
+        for (int frame = 0; frame < 8; ++frame) {
+          pose(camera, vp, frustum, frame);
+
+          final int total_s =
+            sequential.cullSpheres(frustum, x, y, z, r, count, visible_s);
+          final int total_p =
+            parallel.cullSpheresParallel(
+              pool, frustum, x, y, z, r, count, visible_p);
+
+          int expected = 0;
+          for (int index = 0; index < count; ++index) {
+            final boolean e =
+              frustum.intersectsSphere(x[index], y[index], z[index], r[index]);
+            expected += e ? 1 : 0;
+            assertEquals(e, JCameraFrustumCuller.isVisible(visible_s, index));
+            assertEquals(e, JCameraFrustumCuller.isVisible(visible_p, index));
+          }
+
+          assertEquals(expected, total_s);
+          assertEquals(expected, total_p);
+          assertEquals(expected, bitCount(visible_s));
+          assertEquals(expected, bitCount(visible_p));
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testAABBsMatchFrustum()
+  {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final int count : COUNTS) {
+        final Random random = new Random(count);
+        final double[] x0 = random(random, count, 400.0);
+        final double[] y0 = random(random, count, 400.0);
+        final double[] z0 = random(random, count, 400.0);
+        final double[] x1 = add(x0, radii(random, count));
+        final double[] y1 = add(y0, radii(random, count));
+        final double[] z1 = add(z0, radii(random, count));
+
+        final JCameraFrustumCuller sequential =
+          JCameraFrustumCuller.create(count);
+        final JCameraFrustumCuller parallel =
+          JCameraFrustumCuller.create(count);
+        final long[] visible_s =
+          new long[JCameraFrustumCuller.bitsetSize(count)];
+        final long[] visible_p =
+          new long[JCameraFrustumCuller.bitsetSize(count)];
+
+        final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+        camera.cameraClampHorizontalDisable();
+        final JCameraFrustum frustum = JCameraFrustum.create();
+        final JCameraViewProjection vp = JCameraViewProjection.create();
+
+        for (int frame = 0; frame < 8; ++frame) {
+          pose(camera, vp, frustum, frame);
+
+          final int total_s =
+            sequential.cullAABBs(
+              frustum, x0, y0, z0, x1, y1, z1, count, visible_s);
+          final int total_p =
+            parallel.cullAABBsParallel(
+              pool, frustum, x0, y0, z0, x1, y1, z1, count, visible_p);
+
+          int expected = 0;
+          for (int index = 0; index < count; ++index) {
+            final boolean e =
+              frustum.intersectsAABB(
+                x0[index], y0[index], z0[index],
+                x1[index], y1[index], z1[index]);
+            expected += e ? 1 : 0;
+            assertEquals(e, JCameraFrustumCuller.isVisible(visible_s, index));
+            assertEquals(e, JCameraFrustumCuller.isVisible(visible_p, index));
+          }
+
+          assertEquals(expected, total_s);
+          assertEquals(expected, total_p);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static int bitCount(
+    final long[] bits)
+  {
+    int total = 0;
+    for (final long word : bits) {
+      total += Long.bitCount(word);
+    }
+    return total;
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraFrustumCuller c = JCameraFrustumCuller.create(100);
+    final double[] a = new double[100];
+    final double[] s = new double[10];
+
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFrustumCuller.create(-1));
+    assertThrows(
+      RangeCheckException.class,
+      () -> c.cullSpheres(f, a, a, a, a, 101, new long[2]));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> c.cullSpheres(f, a, a, a, s, 100, new long[2]));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> c.cullSpheres(f, a, a, a, a, 100, new long[1]));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> c.cullAABBs(f, a, a, a, a, s, a, 100, new long[2]));
+
+    assertEquals(0, JCameraFrustumCuller.bitsetSize(0));
+    assertEquals(1, JCameraFrustumCuller.bitsetSize(64));
+    assertEquals(2, JCameraFrustumCuller.bitsetSize(65));
+    assertEquals(100, c.capacity());
+  }
+
+  @Test
+  public void testNoAllocation()
+  {
+    final int count = 4096;
+    final Random random = new Random(0L);
+    final double[] x = random(random, count, 400.0);
+    final double[] y = random(random, count, 400.0);
+    final double[] z = random(random, count, 400.0);
+    final double[] r = radii(random, count);
+    final double[] x1 = add(x, r);
+    final double[] y1 = add(y, r);
+    final double[] z1 = add(z, r);
+    final long[] visible = new long[JCameraFrustumCuller.bitsetSize(count)];
+
+    final JCameraFrustumCuller c = JCameraFrustumCuller.create(count);
+    final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+    camera.cameraClampHorizontalDisable();
+    final JCameraFrustum frustum = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+
+    for (int frame = 0; frame < 200; ++frame) {
+      pose(camera, vp, frustum, frame);
+      c.cullSpheres(frustum, x, y, z, r, count, visible);
+      c.cullAABBs(frustum, x, y, z, x1, y1, z1, count, visible);
+    }
+
+    final long before = allocatedBytes();
+    int total = 0;
+    for (int frame = 0; frame < 200; ++frame) {
+      update(camera, vp, frustum);
+      total += c.cullSpheres(frustum, x, y, z, r, count, visible);
+      total += c.cullAABBs(frustum, x, y, z, x1, y1, z1, count, visible);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(total > 0);
+    assertTrue(
+      after - before < 1000L,
+      "Allocated " + (after - before) + " bytes");
+  }
+}
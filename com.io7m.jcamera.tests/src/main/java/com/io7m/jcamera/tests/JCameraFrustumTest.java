@@ -0,0 +1,393 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraFrustum;
+import com.io7m.jcamera.JCameraReadableType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jcamera.JCameraViewProjection;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraFrustumTest
+{
+  private static final double[][] POSES = {
+    {0.0, 0.0, 0.0, 0.0, 0.0},
+    {1.0, 2.0, 3.0, 0.5, 0.25},
+    {-10.0, 5.0, 7.0, 2.0, -0.5},
+    {100.0, -50.0, 20.0, -3.0, 1.0},
+  };
+
+  private static JCameraFPSStyleSnapshot camera(
+    final double[] pose)
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraClampHorizontalDisable();
+    c.cameraSetPosition3(pose[0], pose[1], pose[2]);
+    c.cameraRotateAroundVertical(pose[3]);
+    c.cameraRotateAroundHorizontal(pose[4]);
+    return JCameraFPSStyleSnapshots.of(c);
+  }
+
+  /**
+   * @return The world-space point at the given distances along the right,
+   * up and forward axes of the camera
+   */
+
+  private static Vector3D at(
+    final JCameraFPSStyleSnapshot c,
+    final double right,
+    final double up,
+    final double forward)
+  {
+    final Vector3D p = c.cameraGetPosition();
+    final Vector3D r = c.cameraGetRight();
+    final Vector3D u = c.cameraGetUp();
+    final Vector3D f = c.cameraGetForward();
+    return Vector3D.of(
+      p.x() + (r.x() * right) + (u.x() * up) + (f.x() * forward),
+      p.y() + (r.y() * right) + (u.y() * up) + (f.y() * forward),
+      p.z() + (r.z() * right) + (u.z() * up) + (f.z() * forward));
+  }
+
+  private static void perspective(
+    final JCameraFrustum f,
+    final JCameraViewProjection vp,
+    final JCameraReadableType c,
+    final double horizontal_fov,
+    final double aspect,
+    final double z_near,
+    final double z_far)
+  {
+    vp.setPerspective(z_near, z_far, aspect, horizontal_fov);
+    vp.update(c);
+    f.updateFromViewProjection(vp);
+  }
+
+  private static void orthographic(
+    final JCameraFrustum f,
+    final JCameraViewProjection vp,
+    final JCameraReadableType c,
+    final double x_min,
+    final double x_max,
+    final double y_min,
+    final double y_max,
+    final double z_near,
+    final double z_far)
+  {
+    vp.setOrthographic(x_min, x_max, y_min, y_max, z_near, z_far);
+    vp.update(c);
+    f.updateFromViewProjection(vp);
+  }
+
+  private static boolean contains(
+    final JCameraFrustum f,
+    final Vector3D p)
+  {
+    return f.containsPoint(p.x(), p.y(), p.z());
+  }
+
+  private static boolean sphere(
+    final JCameraFrustum f,
+    final Vector3D p,
+    final double radius)
+  {
+    return f.intersectsSphere(p.x(), p.y(), p.z(), radius);
+  }
+
+  private static boolean box(
+    final JCameraFrustum f,
+    final Vector3D p,
+    final double half)
+  {
+    return f.intersectsAABB(
+      p.x() - half, p.y() - half, p.z() - half,
+      p.x() + half, p.y() + half, p.z() + half);
+  }
+
+  @Test
+  public void testInitialContainsEverything()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    assertTrue(f.containsPoint(1.0e9, -1.0e9, 0.0));
+    assertTrue(f.intersectsSphere(0.0, 0.0, 0.0, 0.0));
+    assertTrue(f.containsAABB(-1.0, -1.0, -1.0, 1.0, 1.0, 1.0));
+  }
+
+  @Test
+  public void testPlanesNormalized()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    for (final double[] pose : POSES) {
+      perspective(f, vp, camera(pose), Math.toRadians(70.0), 1.5, 0.1, 50.0);
+      for (int plane = 0; plane < JCameraFrustum.PLANE_COUNT; ++plane) {
+        final double a = f.planeA(plane);
+        final double b = f.planeB(plane);
+        final double c = f.planeC(plane);
+        assertEquals(1.0, (a * a) + (b * b) + (c * c), 1.0e-12);
+      }
+    }
+
+    assertThrows(IndexOutOfBoundsException.class, () -> f.planeA(6));
+    assertThrows(IndexOutOfBoundsException.class, () -> f.planeD(-1));
+  }
+
+  @Test
+  public void testViewProjectionMatrixIdentical()
+  {
+    final JCameraFrustum f0 = JCameraFrustum.create();
+    final JCameraFrustum f1 = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final double[] m = new double[20];
+
+    for (final double[] pose : POSES) {
+      vp.setPerspective(0.1, 50.0, 1.5, Math.toRadians(70.0));
+      vp.update(camera(pose));
+      vp.viewProjectionInto(m, 4);
+      f0.updateFromViewProjection(vp);
+      f1.updateFromViewProjection(m, 4);
+
+      for (int plane = 0; plane < JCameraFrustum.PLANE_COUNT; ++plane) {
+        assertEquals(f1.planeA(plane), f0.planeA(plane), 0.0);
+        assertEquals(f1.planeB(plane), f0.planeB(plane), 0.0);
+        assertEquals(f1.planeC(plane), f0.planeC(plane), 0.0);
+        assertEquals(f1.planeD(plane), f0.planeD(plane), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testPerspectivePoints()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    for (final double[] pose : POSES) {
+      final JCameraFPSStyleSnapshot c = camera(pose);
+
+      /*
+       * A 90 degree horizontal field of view with an aspect ratio of 2
+       * gives half-widths of d and d / 2 at a distance d.
+       */
+
+      perspective(f, vp, c, Math.PI / 2.0, 2.0, 1.0, 100.0);
+
+      assertTrue(contains(f, at(c, 0.0, 0.0, 10.0)));
+      assertTrue(contains(f, at(c, 9.9, 4.9, 10.0)));
+      assertTrue(contains(f, at(c, -9.9, -4.9, 10.0)));
+      assertTrue(contains(f, at(c, 0.0, 0.0, 99.9)));
+      assertTrue(contains(f, at(c, 0.0, 0.0, 1.01)));
+
+      assertFalse(contains(f, at(c, 10.1, 0.0, 10.0)));
+      assertFalse(contains(f, at(c, -10.1, 0.0, 10.0)));
+      assertFalse(contains(f, at(c, 0.0, 5.1, 10.0)));
+      assertFalse(contains(f, at(c, 0.0, -5.1, 10.0)));
+      assertFalse(contains(f, at(c, 0.0, 0.0, 0.99)));
+      assertFalse(contains(f, at(c, 0.0, 0.0, 100.1)));
+      assertFalse(contains(f, at(c, 0.0, 0.0, -10.0)));
+
+      final Vector3D p = at(c, 0.0, 0.0, 10.0);
+      assertEquals(
+        9.0,
+        f.distance(JCameraFrustum.PLANE_NEAR, p.x(), p.y(), p.z()),
+        1.0e-9);
+      assertEquals(
+        90.0,
+        f.distance(JCameraFrustum.PLANE_FAR, p.x(), p.y(), p.z()),
+        1.0e-9);
+    }
+  }
+
+  @Test
+  public void testPerspectiveVolumes()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    for (final double[] pose : POSES) {
+      final JCameraFPSStyleSnapshot c = camera(pose);
+      perspective(f, vp, c, Math.PI / 2.0, 1.0, 1.0, 100.0);
+
+      /*
+       * The right plane is at 45 degrees, so a point 1 unit outside it at
+       * the same depth is sqrt(2) / 2 units from the plane.
+       */
+
+      final Vector3D outside = at(c, 11.0, 0.0, 10.0);
+      assertTrue(sphere(f, outside, 0.75));
+      assertFalse(sphere(f, outside, 0.65));
+      assertTrue(box(f, outside, 1.01));
+      assertFalse(box(f, outside, 0.25));
+
+      final Vector3D inside = at(c, 0.0, 0.0, 50.0);
+      assertTrue(sphere(f, inside, 1.0));
+      assertTrue(box(f, inside, 1.0));
+      assertTrue(f.containsSphere(inside.x(), inside.y(), inside.z(), 10.0));
+      assertFalse(f.containsSphere(inside.x(), inside.y(), inside.z(), 60.0));
+      assertTrue(
+        f.containsAABB(
+          inside.x() - 5.0, inside.y() - 5.0, inside.z() - 5.0,
+          inside.x() + 5.0, inside.y() + 5.0, inside.z() + 5.0));
+      assertFalse(
+        f.containsAABB(
+          outside.x() - 1.01, outside.y() - 1.01, outside.z() - 1.01,
+          outside.x() + 1.01, outside.y() + 1.01, outside.z() + 1.01));
+
+      final Vector3D behind = at(c, 0.0, 0.0, -10.0);
+      assertFalse(sphere(f, behind, 5.0));
+      assertFalse(box(f, behind, 5.0));
+      assertTrue(sphere(f, behind, 12.0));
+    }
+  }
+
+  @Test
+  public void testPerspectiveInfinite()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final JCameraFPSStyleSnapshot c = camera(POSES[1]);
+    perspective(
+      f, vp, c, Math.PI / 2.0, 1.0, 1.0, Double.POSITIVE_INFINITY);
+
+    assertTrue(contains(f, at(c, 0.0, 0.0, 1.0e9)));
+    assertFalse(contains(f, at(c, 0.0, 0.0, 0.5)));
+    assertEquals(1.0, f.planeD(JCameraFrustum.PLANE_FAR));
+  }
+
+  @Test
+  public void testOrthographic()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    for (final double[] pose : POSES) {
+      final JCameraFPSStyleSnapshot c = camera(pose);
+      orthographic(f, vp, c, -5.0, 5.0, -2.0, 2.0, 1.0, 10.0);
+
+      assertTrue(contains(f, at(c, 4.9, 1.9, 1.1)));
+      assertTrue(contains(f, at(c, -4.9, -1.9, 9.9)));
+      assertFalse(contains(f, at(c, 5.1, 0.0, 5.0)));
+      assertFalse(contains(f, at(c, 0.0, -2.1, 5.0)));
+      assertFalse(contains(f, at(c, 0.0, 0.0, 0.9)));
+      assertFalse(contains(f, at(c, 0.0, 0.0, 10.1)));
+      assertTrue(sphere(f, at(c, 5.5, 0.0, 5.0), 0.6));
+      assertFalse(sphere(f, at(c, 5.5, 0.0, 5.0), 0.4));
+    }
+  }
+
+  @Test
+  public void testSpherical()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(3.0, 4.0, 5.0);
+    c.cameraOrbitHeading(1.0);
+    c.cameraOrbitIncline(0.5);
+    c.cameraSetZoom(8.0);
+
+    perspective(f, vp, c, Math.PI / 2.0, 1.0, 1.0, 100.0);
+    assertTrue(f.containsPoint(3.0, 4.0, 5.0));
+    final Vector3D p = c.cameraGetPosition();
+    assertFalse(f.containsPoint(p.x(), p.y(), p.z()));
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final JCameraFPSStyleSnapshot c = camera(POSES[0]);
+    assertThrows(
+      RangeCheckException.class,
+      () -> perspective(f, vp, c, Math.PI / 2.0, 1.0, 0.0, 100.0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> perspective(f, vp, c, Math.PI / 2.0, 1.0, 10.0, 1.0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> perspective(f, vp, c, Math.PI, 1.0, 1.0, 100.0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> perspective(f, vp, c, Math.PI / 2.0, 0.0, 1.0, 100.0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> orthographic(f, vp, c, 1.0, -1.0, -1.0, 1.0, 1.0, 10.0));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> f.updateFromViewProjection(new double[16], 1));
+    assertThrows(
+      NullPointerException.class,
+      () -> f.updateFromViewProjection((JCameraViewProjection) null));
+  }
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFrustum f = JCameraFrustum.create();
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final JCameraFPSStyleSnapshot c = camera(POSES[2]);
+    final Vector3D p = at(c, 0.0, 0.0, 10.0);
+    final int count = 10000;
+
+    int visible = 0;
+    for (int index = 0; index < count; ++index) {
+      visible += cull(f, vp, c, p, index);
+    }
+
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      visible += cull(f, vp, c, p, index);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(visible > 0);
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+
+  private static int cull(
+    final JCameraFrustum f,
+    final JCameraViewProjection vp,
+    final JCameraFPSStyleSnapshot c,
+    final Vector3D p,
+    final int index)
+  {
+    final double x = p.x() + (double) (index % 20) - 10.0;
+    final double y = p.y();
+    final double z = p.z();
+    perspective(f, vp, c, 1.2, 1.5, 0.1, 100.0);
+    int visible = 0;
+    visible += f.containsPoint(x, y, z) ? 1 : 0;
+    visible += f.intersectsSphere(x, y, z, 2.0) ? 1 : 0;
+    visible += f.intersectsAABB(x, y, z, x + 1.0, y + 1.0, z + 1.0) ? 1 : 0;
+    orthographic(f, vp, c, -5.0, 5.0, -5.0, 5.0, 0.0, 100.0);
+    visible += f.containsAABB(x, y, z, x + 1.0, y + 1.0, z + 1.0) ? 1 : 0;
+    return visible;
+  }
+}
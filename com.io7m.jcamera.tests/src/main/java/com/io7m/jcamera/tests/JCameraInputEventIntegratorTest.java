@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleAngularIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputEvents;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStyleLinearIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraInputEventIntegrator;
+import com.io7m.jcamera.JCameraInputEventRing;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputEvents;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import com.io7m.jcamera.JCameraSphericalIntegrator;
+import com.io7m.jcamera.JCameraSphericalIntegratorType;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraInputEventIntegratorTest
+{
+  private static final long START = 1_000_000_000L;
+
+  private static JCameraInputEventIntegrator fpsEvents(
+    final JCameraFPSStyleType camera,
+    final JCameraFPSStyleInputType input,
+    final JCameraInputEventRing ring)
+  {
+    return JCameraInputEventIntegrator.newIntegratorFPSStyle(
+      JCameraFPSStyleAngularIntegrator.newIntegrator(camera, input),
+      JCameraFPSStyleLinearIntegrator.newIntegrator(camera, input),
+      ring,
+      START);
+  }
+
+  @Test
+  public void testNoEventsIdentical()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i0 = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType plain =
+      JCameraFPSStyleIntegrator.newIntegrator(c0, i0);
+
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i1 = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator events =
+      fpsEvents(c1, i1, ring);
+
+    i0.setMovingForward(true);
+    i1.setMovingForward(true);
+    for (int index = 0; index < 100; ++index) {
+      plain.integrate(1.0 / 60.0);
+      events.integrate(1.0 / 60.0);
+    }
+
+    assertEquals(c0.cameraGetPosition(), c1.cameraGetPosition());
+  }
+
+  /**
+   * A key pressed and released entirely within one step must still move the
+   * camera, exactly as if the step had been split at the event times.
+   */
+
+  @Test
+  public void testKeyWithinStep()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i0 = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType plain =
+      JCameraFPSStyleIntegrator.newIntegrator(c0, i0);
+
+    plain.integrate(0.25);
+    i0.setMovingForward(true);
+    plain.integrate(0.5);
+    i0.setMovingForward(false);
+    plain.integrate(0.25);
+
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i1 = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator events =
+      fpsEvents(c1, i1, ring);
+
+    ring.offer(
+      START + 250_000_000L, JCameraFPSStyleInputEvents.MOVING_FORWARD, 1.0);
+    ring.offer(
+      START + 750_000_000L, JCameraFPSStyleInputEvents.MOVING_FORWARD, 0.0);
+    events.integrate(1.0);
+
+    assertFalse(i1.isMovingForward());
+    assertTrue(ring.isEmpty());
+    assertEquals(START + 1_000_000_000L, events.integratorGetTime());
+    assertNotEquals(0.0, c1.cameraGetPosition().z());
+    assertEquals(c0.cameraGetPosition(), c1.cameraGetPosition());
+  }
+
+  @Test
+  public void testFutureEventsRetained()
+  {
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator events =
+      fpsEvents(JCameraFPSStyle.newCamera(), input, ring);
+
+    ring.offer(START + 100L, JCameraFPSStyleInputEvents.MOVING_LEFT, 1.0);
+    ring.offer(
+      START + 2_000_000_000L, JCameraFPSStyleInputEvents.MOVING_LEFT, 0.0);
+
+    events.integrate(1.0);
+    assertTrue(input.isMovingLeft());
+    assertEquals(1, ring.size());
+
+    events.integrate(1.0);
+    assertFalse(input.isMovingLeft());
+    assertTrue(ring.isEmpty());
+  }
+
+  /**
+   * Rotation events are per-frame impulses, so several rotation events
+   * within one step must rotate the camera exactly as far as a single event
+   * carrying the sum of their deltas, and as far as the plain integrator.
+   */
+
+  @Test
+  public void testRotationEventsWithinStep()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i0 = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType plain =
+      JCameraFPSStyleIntegrator.newIntegrator(c0, i0);
+    i0.addRotationAroundHorizontal(0.875);
+    i0.addRotationAroundVertical(-0.875);
+    plain.integrate(1.0 / 60.0);
+    plain.integrate(1.0 / 60.0);
+
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i1 = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing r1 = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator e1 = fpsEvents(c1, i1, r1);
+    r1.offer(
+      START + 4_000_000L,
+      JCameraFPSStyleInputEvents.ROTATION_HORIZONTAL,
+      0.875);
+    r1.offer(
+      START + 4_000_000L,
+      JCameraFPSStyleInputEvents.ROTATION_VERTICAL,
+      -0.875);
+    e1.integrate(1.0 / 60.0);
+    e1.integrate(1.0 / 60.0);
+
+    final JCameraFPSStyleType c2 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i2 = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing r2 = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator e2 = fpsEvents(c2, i2, r2);
+    final double[] deltas = {0.5, 0.25, 0.125};
+    for (int index = 0; index < deltas.length; ++index) {
+      final long t = START + ((long) (index + 1) * 4_000_000L);
+      r2.offer(
+        t, JCameraFPSStyleInputEvents.ROTATION_HORIZONTAL, deltas[index]);
+      r2.offer(
+        t, JCameraFPSStyleInputEvents.ROTATION_VERTICAL, -deltas[index]);
+    }
+    e2.integrate(1.0 / 60.0);
+    e2.integrate(1.0 / 60.0);
+
+    assertNotEquals(
+      JCameraFPSStyle.newCamera().cameraGetAngleAroundVertical(),
+      c0.cameraGetAngleAroundVertical());
+    assertEquals(
+      c0.cameraGetAngleAroundHorizontal(),
+      c1.cameraGetAngleAroundHorizontal(),
+      0.0);
+    assertEquals(
+      c0.cameraGetAngleAroundVertical(),
+      c1.cameraGetAngleAroundVertical(),
+      0.0);
+    assertEquals(
+      c1.cameraGetAngleAroundHorizontal(),
+      c2.cameraGetAngleAroundHorizontal(),
+      0.0);
+    assertEquals(
+      c1.cameraGetAngleAroundVertical(),
+      c2.cameraGetAngleAroundVertical(),
+      0.0);
+  }
+
+  @Test
+  public void testSphericalContinuous()
+  {
+    final JCameraSphericalType c0 = JCameraSpherical.newCamera();
+    final JCameraSphericalInputType i0 = JCameraSphericalInput.newInput();
+    final JCameraSphericalIntegratorType plain =
+      JCameraSphericalIntegrator.newIntegrator(c0, i0);
+
+    plain.integrate(0.5);
+    i0.addTargetMovingContinuousForward(3.0);
+    i0.setZoomingIn(true);
+    plain.integrate(0.5);
+
+    final JCameraSphericalType c1 = JCameraSpherical.newCamera();
+    final JCameraSphericalInputType i1 = JCameraSphericalInput.newInput();
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator events =
+      JCameraInputEventIntegrator.newIntegratorSpherical(
+        JCameraSphericalIntegrator.newIntegrator(c1, i1), ring, START);
+
+    ring.offer(
+      START + 500_000_000L,
+      JCameraSphericalInputEvents.TARGET_MOVING_CONTINUOUS_FORWARD,
+      3.0);
+    ring.offer(
+      START + 500_000_000L,
+      JCameraSphericalInputEvents.ZOOMING_IN,
+      1.0);
+    events.integrate(1.0);
+
+    assertEquals(c0.cameraGetTargetPosition(), c1.cameraGetTargetPosition());
+    assertEquals(c0.cameraGetZoom(), c1.cameraGetZoom(), 0.0);
+  }
+
+  @Test
+  public void testUnrecognizedKind()
+  {
+    final JCameraFPSStyleInputType fps = JCameraFPSStyleInput.newInput();
+    assertThrows(IllegalArgumentException.class, () -> {
+      JCameraFPSStyleInputEvents.apply(fps, 1000, 1.0);
+    });
+
+    final JCameraSphericalInputType sph = JCameraSphericalInput.newInput();
+    assertThrows(IllegalArgumentException.class, () -> {
+      JCameraSphericalInputEvents.apply(sph, -1, 1.0);
+    });
+  }
+
+  @Test
+  public void testUnrecognizedKindAdvancesTime()
+  {
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(16);
+    final JCameraInputEventIntegrator events =
+      fpsEvents(JCameraFPSStyle.newCamera(), input, ring);
+
+    ring.offer(START + 250_000_000L, 1000, 1.0);
+    ring.offer(
+      START + 500_000_000L, JCameraFPSStyleInputEvents.MOVING_LEFT, 1.0);
+
+    assertThrows(IllegalArgumentException.class, () -> events.integrate(1.0));
+    assertEquals(START + 1_000_000_000L, events.integratorGetTime());
+    assertEquals(1, ring.size());
+
+    events.integrate(1.0);
+    assertEquals(START + 2_000_000_000L, events.integratorGetTime());
+    assertTrue(input.isMovingLeft());
+    assertTrue(ring.isEmpty());
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraInputEventRing;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraInputEventRingTest
+{
+  @Test
+  public void testCapacityPowerOfTwo()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      JCameraInputEventRing.create(3);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      JCameraInputEventRing.create(0);
+    });
+    assertEquals(4, JCameraInputEventRing.create(4).capacity());
+  }
+
+  @Test
+  public void testFull()
+  {
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(2);
+    assertTrue(ring.isEmpty());
+    assertTrue(ring.offer(1L, 0, 1.0));
+    assertTrue(ring.offer(2L, 1, 2.0));
+    assertFalse(ring.offer(3L, 2, 3.0));
+    assertEquals(2, ring.size());
+
+    final List<Long> times = new ArrayList<>();
+    assertTrue(ring.poll((time, kind, value) -> times.add(Long.valueOf(time))));
+    assertTrue(ring.offer(3L, 2, 3.0));
+    assertEquals(2, ring.drainUntil(
+      Long.MAX_VALUE, (time, kind, value) -> times.add(Long.valueOf(time))));
+    assertFalse(
+      ring.poll((time, kind, value) -> times.add(Long.valueOf(time))));
+    assertEquals(List.of(1L, 2L, 3L), times);
+    assertTrue(ring.isEmpty());
+  }
+
+  /**
+   * Times are compared as {@link System#nanoTime()} values, so events
+   * remain ordered when the time base wraps around.
+   */
+
+  @Test
+  public void testDrainUntilWraps()
+  {
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(4);
+    final long before = Long.MAX_VALUE - 10L;
+    final long after = Long.MIN_VALUE + 10L;
+    ring.offer(before, 0, 0.0);
+    ring.offer(after, 1, 1.0);
+
+    final List<Integer> kinds = new ArrayList<>();
+    assertEquals(1, ring.drainUntil(
+      Long.MAX_VALUE, (time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+    assertEquals(List.of(0), kinds);
+    assertEquals(0, ring.drainUntil(
+      after - 1L, (time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+    assertEquals(1, ring.drainUntil(
+      after, (time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+    assertEquals(List.of(0, 1), kinds);
+
+    ring.offer(Long.MIN_VALUE, 2, 2.0);
+    assertTrue(
+      ring.poll((time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+    assertEquals(List.of(0, 1, 2), kinds);
+  }
+
+  @Test
+  public void testDrainUntil()
+  {
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(8);
+    for (int index = 0; index < 6; ++index) {
+      ring.offer((long) index * 10L, index, (double) index);
+    }
+
+    final List<Integer> kinds = new ArrayList<>();
+    assertEquals(3, ring.drainUntil(
+      20L, (time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+    assertEquals(List.of(0, 1, 2), kinds);
+    assertEquals(3, ring.size());
+    assertEquals(0, ring.drainUntil(
+      29L, (time, kind, value) -> kinds.add(Integer.valueOf(kind))));
+  }
+
+  /**
+   * A producer thread inserts a long sequence of events into a small ring
+   * while a consumer thread removes them. Every event must be received
+   * exactly once and in order.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentOrdered()
+    throws Exception
+  {
+    final int count = 100_000;
+    final JCameraInputEventRing ring = JCameraInputEventRing.create(64);
+
+    final Thread producer = new Thread(() -> {
+      for (int index = 0; index < count; ++index) {
+        while (!ring.offer(index, index, (double) index)) {
+          Thread.yield();
+        }
+      }
+    });
+
+    final long[] expected = new long[1];
+    final boolean[] ordered = {true};
+    final Thread consumer = new Thread(() -> {
+      while (expected[0] < (long) count) {
+        ring.drainUntil(Long.MAX_VALUE, (time, kind, value) -> {
+          final boolean ok =
+            time == expected[0]
+              && (long) kind == expected[0]
+              && value == (double) expected[0];
+          ordered[0] = ordered[0] && ok;
+          expected[0] += 1L;
+        });
+        Thread.yield();
+      }
+    });
+
+    producer.start();
+    consumer.start();
+    producer.join();
+    consumer.join();
+
+    assertTrue(ordered[0]);
+    assertEquals((long) count, expected[0]);
+    assertTrue(ring.isEmpty());
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStyleLinearIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleLinearIntegratorExact;
+import com.io7m.jcamera.JCameraFPSStyleLinearIntegratorType;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import com.io7m.jcamera.JCameraSphericalIntegrator;
+import com.io7m.jcamera.JCameraSphericalIntegratorType;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public final class JCameraIntegratorExactTest
+{
+  private static final double[] DRAGS = {0.0, 0.05, 0.25, 0.9, 1.0};
+  private static final double[] SPEEDS = {0.0, 1.0, 3.0, 1000.0};
+
+  private static void assertVectorEquals(
+    final Vector3D expected,
+    final Vector3D received,
+    final double delta)
+  {
+    assertEquals(expected.x(), received.x(), delta);
+    assertEquals(expected.y(), received.y(), delta);
+    assertEquals(expected.z(), received.z(), delta);
+  }
+
+  private static JCameraFPSStyleType runFPSStyle(
+    final double drag,
+    final double speed,
+    final int steps,
+    final double total)
+  {
+    final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType integrator =
+      JCameraFPSStyleIntegrator.newIntegratorExact(camera, input);
+
+    integrator.integratorLinearSetDrag(drag);
+    integrator.integratorLinearSetMaximumSpeed(speed);
+
+    final double step = total / (double) steps;
+    input.setMovingForward(true);
+    input.setMovingUp(true);
+    for (int index = 0; index < steps; ++index) {
+      integrator.integrate(step);
+    }
+    input.setMovingForward(false);
+    input.setMovingUp(false);
+    input.setMovingLeft(true);
+    for (int index = 0; index < steps; ++index) {
+      integrator.integrate(step);
+    }
+    return camera;
+  }
+
+  /**
+   * Integrating once over an interval produces the same result as
+   * integrating over many small subdivisions of the interval.
+   */
+
+  @Test
+  public void testFPSStyleStepIndependent()
+  {
+    for (final double drag : DRAGS) {
+      for (final double speed : SPEEDS) {
+        final JCameraFPSStyleType c0 = runFPSStyle(drag, speed, 1, 2.0);
+        final JCameraFPSStyleType c1 = runFPSStyle(drag, speed, 1000, 2.0);
+        final JCameraFPSStyleType c2 = runFPSStyle(drag, speed, 7, 2.0);
+        assertVectorEquals(
+          c0.cameraGetPosition(), c1.cameraGetPosition(), 1.0e-9);
+        assertVectorEquals(
+          c0.cameraGetPosition(), c2.cameraGetPosition(), 1.0e-9);
+      }
+    }
+  }
+
+  @Test
+  public void testFPSStyleInfiniteDrag()
+  {
+    final JCameraFPSStyleType c = runFPSStyle(0.0, 3.0, 10, 1.0);
+    assertEquals(0.0, c.cameraGetPosition().x(), 0.0);
+    assertEquals(0.0, c.cameraGetPosition().y(), 0.0);
+    assertEquals(0.0, c.cameraGetPosition().z(), 0.0);
+  }
+
+  @Test
+  public void testFPSStyleUndamped()
+  {
+    final JCameraFPSStyleType camera = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType input = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleLinearIntegratorType integrator =
+      JCameraFPSStyleLinearIntegratorExact.newIntegrator(camera, input);
+
+    integrator.integratorLinearSetDrag(1.0);
+    integrator.integratorLinearSetAcceleration(2.0);
+    integrator.integratorLinearSetMaximumSpeed(4.0);
+
+    /*
+     * The speed reaches the limit after 2 seconds, covering 4 units, and
+     * then covers 4 units per second.
+     */
+
+    input.setMovingUp(true);
+    integrator.integrate(3.0);
+    assertEquals(8.0, camera.cameraGetPosition().y(), 1.0e-12);
+  }
+
+  /**
+   * The exact integrator is the limit of the Euler integrator as the step
+   * size approaches zero.
+   */
+
+  @Test
+  public void testFPSStyleEulerConverges()
+  {
+    final JCameraFPSStyleType c0 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i0 = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleLinearIntegratorType euler =
+      JCameraFPSStyleLinearIntegrator.newIntegrator(c0, i0);
+
+    final JCameraFPSStyleType c1 = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i1 = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleLinearIntegratorType exact =
+      JCameraFPSStyleLinearIntegratorExact.newIntegrator(c1, i1);
+
+    i0.setMovingRight(true);
+    i1.setMovingRight(true);
+    for (int index = 0; index < 100_000; ++index) {
+      euler.integrate(0.00001);
+    }
+    exact.integrate(1.0);
+
+    assertNotEquals(0.0, c1.cameraGetPosition().x());
+    assertVectorEquals(c0.cameraGetPosition(), c1.cameraGetPosition(), 1.0e-3);
+  }
+
+  private static JCameraSphericalType runSpherical(
+    final boolean orbit,
+    final int steps,
+    final double total)
+  {
+    final JCameraSphericalType camera = JCameraSpherical.newCamera();
+    camera.cameraClampInclineDisable();
+
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    final JCameraSphericalIntegratorType integrator =
+      JCameraSphericalIntegrator.newIntegratorExact(camera, input);
+
+    final double step = total / (double) steps;
+    input.setZoomingOut(true);
+    if (orbit) {
+      input.setOrbitHeadingPositive(true);
+      input.setOrbitInclineNegative(true);
+    } else {
+      input.setTargetMovingForwardKey(true);
+      input.setTargetMovingUp(true);
+    }
+    for (int index = 0; index < steps; ++index) {
+      integrator.integrate(step);
+    }
+    return camera;
+  }
+
+  @Test
+  public void testSphericalOrbitStepIndependent()
+  {
+    final JCameraSphericalType c0 = runSpherical(true, 1, 3.0);
+    final JCameraSphericalType c1 = runSpherical(true, 600, 3.0);
+
+    assertNotEquals(0.0, c0.cameraGetAngleHeading());
+    assertEquals(
+      c0.cameraGetAngleHeading(), c1.cameraGetAngleHeading(), 1.0e-9);
+    assertEquals(
+      c0.cameraGetAngleIncline(), c1.cameraGetAngleIncline(), 1.0e-9);
+    assertEquals(c0.cameraGetZoom(), c1.cameraGetZoom(), 1.0e-9);
+  }
+
+  @Test
+  public void testSphericalTargetStepIndependent()
+  {
+    final JCameraSphericalType c0 = runSpherical(false, 1, 3.0);
+    final JCameraSphericalType c1 = runSpherical(false, 600, 3.0);
+
+    assertEquals(c0.cameraGetZoom(), c1.cameraGetZoom(), 1.0e-9);
+    assertVectorEquals(
+      c0.cameraGetTargetPosition(), c1.cameraGetTargetPosition(), 1.0e-9);
+  }
+}
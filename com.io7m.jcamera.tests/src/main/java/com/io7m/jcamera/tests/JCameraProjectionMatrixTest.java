@@ -0,0 +1,310 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraProjectionMatrix;
+import com.io7m.jcamera.JCameraViewProjection;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraProjectionMatrixTest
+{
+  /**
+   * @return The normalized device depth of the eye-space point
+   * {@code (0, 0, z)} under the column-major matrix {@code m}
+   */
+
+  private static double depth(
+    final double[] m,
+    final double z)
+  {
+    final double clip_z = (m[10] * z) + m[14];
+    final double clip_w = (m[11] * z) + m[15];
+    return clip_z / clip_w;
+  }
+
+  private static double element(
+    final Matrix4x4D m,
+    final int row,
+    final int column)
+  {
+    final double[] a = toArray(m);
+    return a[(column * 4) + row];
+  }
+
+  private static double[] toArray(
+    final Matrix4x4D m)
+  {
+    return new double[]{
+      m.r0c0(), m.r1c0(), m.r2c0(), m.r3c0(),
+      m.r0c1(), m.r1c1(), m.r2c1(), m.r3c1(),
+      m.r0c2(), m.r1c2(), m.r2c2(), m.r3c2(),
+      m.r0c3(), m.r1c3(), m.r2c3(), m.r3c3(),
+    };
+  }
+
+  private static void assertArrayClose(
+    final double[] expected,
+    final double[] received,
+    final int offset)
+  {
+    for (int index = 0; index < 16; ++index) {
+      assertEquals(expected[index], received[offset + index], 1.0e-12);
+    }
+  }
+
+  @Test
+  public void testMatrixMatchesInto()
+  {
+    final double[] m = new double[20];
+
+    JCameraProjectionMatrix.perspectiveProjectionRHInto(
+      0.1, 100.0, 1.5, 1.2, m, 4);
+    assertArrayClose(
+      toArray(JCameraProjectionMatrix.perspectiveProjectionRH(
+        0.1, 100.0, 1.5, 1.2)), m, 4);
+
+    JCameraProjectionMatrix.frustumProjectionRHInto(
+      -1.0, 2.0, -0.5, 1.5, 0.5, 50.0, m, 4);
+    assertArrayClose(
+      toArray(JCameraProjectionMatrix.frustumProjectionRH(
+        -1.0, 2.0, -0.5, 1.5, 0.5, 50.0)), m, 4);
+
+    JCameraProjectionMatrix.orthographicProjectionRHInto(
+      -1.0, 2.0, -0.5, 1.5, 0.5, 50.0, m, 4);
+    assertArrayClose(
+      toArray(JCameraProjectionMatrix.orthographicProjectionRH(
+        -1.0, 2.0, -0.5, 1.5, 0.5, 50.0)), m, 4);
+
+    assertEquals(
+      -1.0,
+      element(JCameraProjectionMatrix.perspectiveProjectionRH(
+        0.1, 100.0, 1.5, 1.2), 3, 2));
+  }
+
+  @Test
+  public void testPerspectiveDepth()
+  {
+    final double[] m = new double[16];
+    JCameraProjectionMatrix.perspectiveProjectionRHInto(
+      1.0, 100.0, 1.0, Math.PI / 2.0, m, 0);
+    assertEquals(-1.0, depth(m, -1.0), 1.0e-12);
+    assertEquals(1.0, depth(m, -100.0), 1.0e-12);
+
+    /*
+     * A 90 degree field of view maps the point (d, 0, -d) to the right
+     * edge of the window.
+     */
+
+    final double clip_x = m[0] * 10.0;
+    final double clip_w = (m[11] * -10.0) + m[15];
+    assertEquals(1.0, clip_x / clip_w, 1.0e-12);
+  }
+
+  @Test
+  public void testPerspectiveInfinite()
+  {
+    final double[] m = new double[16];
+    JCameraProjectionMatrix.perspectiveProjectionRHInto(
+      1.0, Double.POSITIVE_INFINITY, 1.0, Math.PI / 2.0, m, 0);
+    assertEquals(-1.0, depth(m, -1.0), 1.0e-12);
+    assertEquals(1.0, depth(m, -1.0e12), 1.0e-9);
+    assertTrue(depth(m, -1.0e6) < 1.0);
+  }
+
+  @Test
+  public void testPerspectiveReversed()
+  {
+    final double[] m = new double[16];
+    JCameraProjectionMatrix.perspectiveProjectionReversedRHInto(
+      1.0, 100.0, 1.0, Math.PI / 2.0, m, 0);
+    assertEquals(1.0, depth(m, -1.0), 1.0e-12);
+    assertEquals(0.0, depth(m, -100.0), 1.0e-12);
+    assertTrue(depth(m, -10.0) > depth(m, -20.0));
+
+    JCameraProjectionMatrix.frustumProjectionReversedRHInto(
+      -1.0, 1.0, -1.0, 1.0, 1.0, Double.POSITIVE_INFINITY, m, 0);
+    assertEquals(1.0, depth(m, -1.0), 1.0e-12);
+    assertEquals(0.0, depth(m, -1.0e15), 1.0e-12);
+    assertTrue(depth(m, -1.0e6) > 0.0);
+  }
+
+  @Test
+  public void testOrthographicDepth()
+  {
+    final double[] m = new double[16];
+    JCameraProjectionMatrix.orthographicProjectionRHInto(
+      -1.0, 1.0, -1.0, 1.0, 1.0, 10.0, m, 0);
+    assertEquals(-1.0, depth(m, -1.0), 1.0e-12);
+    assertEquals(1.0, depth(m, -10.0), 1.0e-12);
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final double[] m = new double[16];
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraProjectionMatrix.perspectiveProjectionRHInto(
+        0.0, 100.0, 1.0, 1.0, m, 0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraProjectionMatrix.perspectiveProjectionRHInto(
+        10.0, 1.0, 1.0, 1.0, m, 0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraProjectionMatrix.perspectiveProjectionReversedRHInto(
+        1.0, 10.0, 0.0, 1.0, m, 0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraProjectionMatrix.orthographicProjectionRHInto(
+        1.0, -1.0, -1.0, 1.0, 1.0, 10.0, m, 0));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JCameraProjectionMatrix.perspectiveProjectionRHInto(
+        1.0, 10.0, 1.0, 1.0, m, 1));
+  }
+
+  @Test
+  public void testViewProjectionFused()
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(1.0, 2.0, 3.0);
+    c.cameraRotateAroundVertical(0.7);
+    c.cameraRotateAroundHorizontal(0.2);
+
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    vp.setPerspective(0.1, 100.0, 1.5, 1.2);
+    vp.update(c);
+
+    final Matrix4x4D expected =
+      Matrices4x4D.multiply(
+        JCameraProjectionMatrix.perspectiveProjectionRH(0.1, 100.0, 1.5, 1.2),
+        c.cameraMakeViewMatrix());
+    final double[] e = toArray(expected);
+
+    final double[] d = new double[16];
+    vp.viewProjectionInto(d, 0);
+    assertArrayClose(e, d, 0);
+
+    final float[] f = new float[18];
+    vp.viewProjectionInto(f, 2);
+    for (int index = 0; index < 16; ++index) {
+      assertEquals((float) d[index], f[index + 2]);
+    }
+
+    final FloatBuffer fb =
+      ByteBuffer.allocateDirect(16 * 4)
+        .order(ByteOrder.nativeOrder())
+        .asFloatBuffer();
+    vp.viewProjectionInto(fb, 0);
+    assertEquals(0, fb.position());
+    for (int index = 0; index < 16; ++index) {
+      assertEquals((float) d[index], fb.get(index));
+    }
+
+    final DoubleBuffer db = DoubleBuffer.allocate(16);
+    vp.viewProjectionInto(db, 0);
+    for (int index = 0; index < 16; ++index) {
+      assertEquals(d[index], db.get(index));
+    }
+
+    final double[] p = new double[16];
+    vp.projectionInto(p, 0);
+    assertArrayClose(
+      toArray(JCameraProjectionMatrix.perspectiveProjectionRH(
+        0.1, 100.0, 1.5, 1.2)), p, 0);
+
+    final double[] v = new double[16];
+    vp.viewInto(v, 0);
+    assertArrayClose(toArray(c.cameraMakeViewMatrix()), v, 0);
+
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> vp.viewProjectionInto(new float[16], 1));
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> vp.projectionInto(FloatBuffer.allocate(15), 0));
+  }
+
+  @Test
+  public void testViewProjectionIdentity()
+  {
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final double[] d = new double[16];
+    vp.viewProjectionInto(d, 0);
+    assertArrayClose(toArray(Matrices4x4D.identity()), d, 0);
+  }
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFPSStyleType m = JCameraFPSStyle.newCamera();
+    m.cameraRotateAroundVertical(0.7);
+    final JCameraFPSStyleSnapshot c = JCameraFPSStyleSnapshots.of(m);
+    final JCameraViewProjection vp = JCameraViewProjection.create();
+    final float[] f = new float[16];
+    final FloatBuffer fb =
+      ByteBuffer.allocateDirect(16 * 4)
+        .order(ByteOrder.nativeOrder())
+        .asFloatBuffer();
+    final int count = 10000;
+
+    for (int index = 0; index < count; ++index) {
+      this.frame(c, vp, f, fb);
+    }
+
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      this.frame(c, vp, f, fb);
+    }
+    final long after = allocatedBytes();
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+
+  private void frame(
+    final JCameraFPSStyleSnapshot c,
+    final JCameraViewProjection vp,
+    final float[] f,
+    final FloatBuffer fb)
+  {
+    vp.setPerspectiveReversed(0.1, Double.POSITIVE_INFINITY, 1.5, 1.2);
+    vp.update(c);
+    vp.viewProjectionInto(f, 0);
+    vp.setOrthographic(-1.0, 1.0, -1.0, 1.0, 0.0, 10.0);
+    vp.update(c);
+    vp.viewProjectionInto(fb, 0);
+  }
+}
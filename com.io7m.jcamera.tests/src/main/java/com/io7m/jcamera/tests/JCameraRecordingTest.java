@@ -0,0 +1,368 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStylePlayer;
+import com.io7m.jcamera.JCameraFPSStyleRecorder;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import com.io7m.jcamera.JCameraSphericalIntegrator;
+import com.io7m.jcamera.JCameraSphericalIntegratorType;
+import com.io7m.jcamera.JCameraSphericalPlayer;
+import com.io7m.jcamera.JCameraSphericalRecorder;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraRecordingTest
+{
+  private static final int[] CHUNKS = {1, 3, 7, 1000};
+  private static final double DELTA = 1.0 / 60.0;
+
+  @TempDir
+  Path directory;
+
+  /**
+   * The file is not truncated on close: it holds a whole number of chunks,
+   * enough for every record, and at most one chunk mapped in advance.
+   */
+
+  private static void assertLength(
+    final Path file,
+    final int count,
+    final int chunk,
+    final long record_size)
+    throws IOException
+  {
+    final long chunk_bytes = (long) chunk * record_size;
+    final long data = Files.size(file) - 32L;
+    final long chunks =
+      Math.max(1L, ((long) count + (long) chunk - 1L) / (long) chunk);
+    assertEquals(0L, data % chunk_bytes);
+    assertTrue(data >= chunks * chunk_bytes);
+    assertTrue(data <= (chunks + 1L) * chunk_bytes);
+  }
+
+  private static void driveFPS(
+    final long tick,
+    final JCameraFPSStyleInputType input)
+  {
+    input.setMovingForward(tick % 3L != 0L);
+    input.setMovingLeft(tick % 5L == 0L);
+    input.setMovingUp(tick % 7L == 0L);
+    input.setRotationHorizontalFactor(0.5);
+    input.setRotationVerticalFactor(2.0);
+    input.setRotationHorizontal(0.01 * (double) (tick % 11L));
+    input.setRotationVertical(-0.02 * (double) (tick % 13L));
+  }
+
+  private static void driveSpherical(
+    final long tick,
+    final JCameraSphericalInputType input)
+  {
+    input.setTargetMovingForwardKey(tick % 3L != 0L);
+    input.setTargetMovingLeftCursor(tick % 5L == 0L);
+    input.setZoomingIn(tick % 7L == 0L);
+    input.setOrbitHeadingPositive(tick % 2L == 0L);
+    input.setOrbitInclineNegative(tick % 9L == 0L);
+    input.setContinuousForwardFactor(3.0);
+    input.setContinuousRightwardFactor(0.25);
+    input.setTargetMovingContinuousForward(0.1 * (double) (tick % 4L));
+    input.setTargetMovingContinuousRight(-0.3 * (double) (tick % 6L));
+  }
+
+  @Test
+  public void testCreateInvalid()
+  {
+    final Path file = this.directory.resolve("invalid.jcr");
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleRecorder.create(file, 0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraSphericalRecorder.create(file, 0));
+  }
+
+  @Test
+  public void testFPSRoundTrip()
+    throws IOException
+  {
+    for (final int chunk : CHUNKS) {
+      final Path file = this.directory.resolve("fps-" + chunk + ".jcr");
+      final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+      c.cameraClampHorizontalDisable();
+      final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+      final JCameraFPSStyleIntegratorType d =
+        JCameraFPSStyleIntegrator.newIntegrator(c, i);
+
+      final int count = 50;
+      try (JCameraFPSStyleRecorder r =
+             JCameraFPSStyleRecorder.create(file, chunk)) {
+        for (int index = 0; index < count; ++index) {
+          final long tick = 100L + (long) (index * 2);
+          driveFPS(tick, i);
+          r.recordInput(tick, i);
+          d.integrate(DELTA);
+          r.recordCamera(c);
+        }
+        assertEquals((long) count, r.size());
+      }
+
+      assertLength(file, count, chunk, 144L);
+
+      final JCameraFPSStyleType rc = JCameraFPSStyle.newCamera();
+      rc.cameraClampHorizontalDisable();
+      final JCameraFPSStyleInputType ri = JCameraFPSStyleInput.newInput();
+      final JCameraFPSStyleIntegratorType rd =
+        JCameraFPSStyleIntegrator.newIntegrator(rc, ri);
+      final JCameraFPSStyleSnapshotMutable m =
+        JCameraFPSStyleSnapshotMutable.create();
+
+      try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+        assertEquals(count, p.size());
+        assertEquals(-1, p.find(99L));
+        assertEquals(0, p.find(100L));
+        assertEquals(0, p.find(101L));
+        assertEquals(count - 1, p.find(Long.MAX_VALUE));
+
+        for (int index = 0; index < count; ++index) {
+          assertEquals(100L + (long) (index * 2), p.tickAt(index));
+
+          p.applyInput(index, ri);
+          rd.integrate(DELTA);
+          assertEquals(p.snapshot(index), JCameraFPSStyleSnapshots.of(rc));
+          assertEquals(
+            p.snapshot(index),
+            JCameraFPSStyleSnapshots.of(p.snapshotInto(index, m)));
+        }
+
+        final JCameraFPSStyleType ac = JCameraFPSStyle.newCamera();
+        ac.cameraClampHorizontalDisable();
+        p.applyCamera(count - 1, ac);
+        assertEquals(p.snapshot(count - 1), JCameraFPSStyleSnapshots.of(ac));
+      }
+    }
+  }
+
+  @Test
+  public void testSphericalRoundTrip()
+    throws IOException
+  {
+    for (final int chunk : CHUNKS) {
+      final Path file = this.directory.resolve("spherical-" + chunk + ".jcr");
+      final JCameraSphericalType c = JCameraSpherical.newCamera();
+      final JCameraSphericalInputType i = JCameraSphericalInput.newInput();
+      final JCameraSphericalIntegratorType d =
+        JCameraSphericalIntegrator.newIntegrator(c, i);
+
+      final int count = 50;
+      try (JCameraSphericalRecorder r =
+             JCameraSphericalRecorder.create(file, chunk)) {
+        for (int index = 0; index < count; ++index) {
+          final long tick = (long) index;
+          driveSpherical(tick, i);
+          r.recordInput(tick, i);
+          d.integrate(DELTA);
+          r.recordCamera(c);
+        }
+      }
+
+      assertLength(file, count, chunk, 200L);
+
+      final JCameraSphericalType rc = JCameraSpherical.newCamera();
+      final JCameraSphericalInputType ri = JCameraSphericalInput.newInput();
+      final JCameraSphericalIntegratorType rd =
+        JCameraSphericalIntegrator.newIntegrator(rc, ri);
+
+      try (JCameraSphericalPlayer p = JCameraSphericalPlayer.open(file)) {
+        assertEquals(count, p.size());
+        for (int index = 0; index < count; ++index) {
+          p.applyInput(index, ri);
+          rd.integrate(DELTA);
+          assertEquals(p.snapshot(index), JCameraSphericalSnapshots.of(rc));
+        }
+
+        final JCameraSphericalType ac = JCameraSpherical.newCamera();
+        p.applyCamera(count - 1, ac);
+        assertEquals(p.snapshot(count - 1), JCameraSphericalSnapshots.of(ac));
+      }
+    }
+  }
+
+  @Test
+  public void testRecordingErrors()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("errors.jcr");
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+
+    try (JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 4)) {
+      assertThrows(IllegalStateException.class, () -> r.recordCamera(c));
+
+      r.recordInput(10L, i);
+      assertThrows(IllegalStateException.class, () -> r.recordInput(11L, i));
+      r.recordCamera(c);
+
+      assertThrows(
+        IllegalArgumentException.class, () -> r.recordInput(10L, i));
+      assertThrows(
+        IllegalArgumentException.class, () -> r.recordInput(9L, i));
+
+      r.recordInput(11L, i);
+      r.close();
+      assertThrows(IllegalStateException.class, () -> r.recordInput(12L, i));
+    }
+
+    try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+      assertEquals(1, p.size());
+      assertEquals(10L, p.tickAt(0));
+      assertThrows(IndexOutOfBoundsException.class, () -> p.tickAt(1));
+    }
+  }
+
+  @Test
+  public void testOpenWrongKind()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("kind.jcr");
+    try (JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 4)) {
+      r.recordInput(0L, JCameraFPSStyleInput.newInput());
+      r.recordCamera(JCameraFPSStyle.newCamera());
+    }
+
+    assertThrows(IOException.class, () -> JCameraSphericalPlayer.open(file));
+
+    final Path junk = this.directory.resolve("junk.jcr");
+    Files.write(junk, new byte[64]);
+    assertThrows(IOException.class, () -> JCameraFPSStylePlayer.open(junk));
+  }
+
+  @Test
+  public void testUnclosedRecordingReadable()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("unclosed.jcr");
+    final JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 8);
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    for (int index = 0; index < 5; ++index) {
+      r.recordInput((long) index, i);
+      c.cameraMoveForward(1.0);
+      r.recordCamera(c);
+    }
+
+    try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+      assertEquals(5, p.size());
+      assertEquals(JCameraFPSStyleSnapshots.of(c), p.snapshot(4));
+    } finally {
+      r.close();
+    }
+  }
+
+  @Test
+  public void testRecordNoAllocation()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("allocation.jcr");
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshotMutable.create();
+    final int count = 10000;
+
+    try (JCameraFPSStyleRecorder r =
+           JCameraFPSStyleRecorder.create(file, count * 2)) {
+      for (int index = 0; index < count; ++index) {
+        r.recordInput((long) index, i);
+        r.recordCamera(JCameraFPSStyleSnapshots.ofInto(c, m));
+      }
+
+      final long before = allocatedBytes();
+      for (int index = count; index < count * 2; ++index) {
+        r.recordInput((long) index, i);
+        r.recordCamera(JCameraFPSStyleSnapshots.ofInto(c, m));
+      }
+      final long after = allocatedBytes();
+      assertTrue(
+        after - before < (long) count,
+        "Allocated " + (after - before) + " bytes");
+      assertFalse(r.size() < (long) (count * 2));
+    }
+  }
+
+  /**
+   * Moving from one mapped region to the next does not allocate on the
+   * recording thread, because regions are mapped ahead of time.
+   */
+
+  @Test
+  public void testRecordNoAllocationAcrossChunks()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("allocation-chunks.jcr");
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshotMutable.create();
+    final int count = 10000;
+
+    try (JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 64)) {
+      for (int index = 0; index < count; ++index) {
+        r.recordInput((long) index, i);
+        r.recordCamera(JCameraFPSStyleSnapshots.ofInto(c, m));
+      }
+
+      final long before = allocatedBytes();
+      for (int index = count; index < count * 2; ++index) {
+        c.cameraMoveForward(1.0);
+        r.recordInput((long) index, i);
+        r.recordCamera(JCameraFPSStyleSnapshots.ofInto(c, m));
+      }
+      final long after = allocatedBytes();
+      assertTrue(
+        after - before < (long) count,
+        "Allocated " + (after - before) + " bytes");
+    }
+
+    try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+      assertEquals(count * 2, p.size());
+      assertEquals(JCameraFPSStyleSnapshots.of(c), p.snapshot(count * 2 - 1));
+    }
+  }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleInput;
+import com.io7m.jcamera.JCameraFPSStyleInputLog;
+import com.io7m.jcamera.JCameraFPSStyleInputType;
+import com.io7m.jcamera.JCameraFPSStyleIntegrator;
+import com.io7m.jcamera.JCameraFPSStyleIntegratorType;
+import com.io7m.jcamera.JCameraFPSStylePlayer;
+import com.io7m.jcamera.JCameraFPSStyleRecorder;
+import com.io7m.jcamera.JCameraFPSStyleReplay;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraReplayTest
+{
+  private static final int STEPS = 2000;
+
+  @TempDir
+  Path directory;
+
+  private static JCameraFPSStyleType newCamera()
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraClampHorizontalDisable();
+    return c;
+  }
+
+  /**
+   * Drive an input with a pseudo-random but reproducible pattern of key
+   * presses and mouse movement.
+   */
+
+  private static void drive(
+    final Random random,
+    final JCameraFPSStyleInputType input)
+  {
+    if (random.nextInt(10) == 0) {
+      input.setMovingForward(random.nextBoolean());
+      input.setMovingBackward(random.nextInt(4) == 0);
+      input.setMovingLeft(random.nextBoolean());
+      input.setMovingRight(random.nextInt(3) == 0);
+      input.setMovingUp(random.nextInt(8) == 0);
+      input.setMovingDown(random.nextInt(8) == 0);
+    }
+    input.setRotationHorizontalFactor(0.75);
+    input.setRotationVerticalFactor(1.5);
+    input.addRotationAroundHorizontal(random.nextGaussian() * 0.01);
+    input.addRotationAroundVertical(random.nextGaussian() * 0.02);
+  }
+
+  /**
+   * Run a live session with jittered frame times, logging the input and
+   * the resulting camera state of each step.
+   */
+
+  private static List<JCameraFPSStyleSnapshot> live(
+    final JCameraFPSStyleInputLog log)
+  {
+    final Random random = new Random(0x5eedL);
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType d =
+      JCameraFPSStyleIntegrator.newIntegrator(c, i);
+
+    final List<JCameraFPSStyleSnapshot> results = new ArrayList<>(STEPS);
+    for (int index = 0; index < STEPS; ++index) {
+      drive(random, i);
+      final double delta = (1.0 / 60.0) + (random.nextDouble() * 0.004);
+      log.record(delta, i);
+      d.integrate(delta);
+      results.add(JCameraFPSStyleSnapshots.of(c));
+    }
+    return results;
+  }
+
+  private static JCameraFPSStyleSnapshot replay(
+    final JCameraFPSStyleInputLog log)
+  {
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleReplay r =
+      JCameraFPSStyleReplay.create(
+        log, i, JCameraFPSStyleIntegrator.newIntegrator(c, i));
+    assertEquals(log.size(), r.run());
+    return JCameraFPSStyleSnapshots.of(c);
+  }
+
+  private static void assertBitsEqual(
+    final JCameraFPSStyleSnapshot expected,
+    final JCameraFPSStyleSnapshot received)
+  {
+    assertEquals(
+      Double.doubleToRawLongBits(expected.cameraGetAngleAroundHorizontal()),
+      Double.doubleToRawLongBits(received.cameraGetAngleAroundHorizontal()));
+    assertEquals(
+      Double.doubleToRawLongBits(expected.cameraGetAngleAroundVertical()),
+      Double.doubleToRawLongBits(received.cameraGetAngleAroundVertical()));
+    assertEquals(
+      Double.doubleToRawLongBits(expected.cameraGetPosition().x()),
+      Double.doubleToRawLongBits(received.cameraGetPosition().x()));
+    assertEquals(
+      Double.doubleToRawLongBits(expected.cameraGetPosition().y()),
+      Double.doubleToRawLongBits(received.cameraGetPosition().y()));
+    assertEquals(
+      Double.doubleToRawLongBits(expected.cameraGetPosition().z()),
+      Double.doubleToRawLongBits(received.cameraGetPosition().z()));
+    assertEquals(expected, received);
+  }
+
+  @Test
+  public void testCreateInvalid()
+  {
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleInputLog.create(0));
+
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(1);
+    assertThrows(
+      RangeCheckException.class,
+      () -> log.record(-1.0, JCameraFPSStyleInput.newInput()));
+    assertThrows(
+      RangeCheckException.class,
+      () -> log.recordFrom(
+        -1.0,
+        JCameraFPSStyleInput.newInput(),
+        JCameraFPSStyleInput.newInput()));
+    assertThrows(IndexOutOfBoundsException.class, () -> log.delta(0));
+  }
+
+  @Test
+  public void testReplayStepwiseIdentical()
+  {
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(1);
+    final List<JCameraFPSStyleSnapshot> expected = live(log);
+    assertEquals(STEPS, log.size());
+
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleReplay r =
+      JCameraFPSStyleReplay.create(
+        log, i, JCameraFPSStyleIntegrator.newIntegrator(c, i));
+
+    for (int index = 0; index < STEPS; ++index) {
+      assertFalse(r.isFinished());
+      assertEquals(index, r.position());
+      r.step();
+      assertBitsEqual(expected.get(index), JCameraFPSStyleSnapshots.of(c));
+    }
+
+    assertTrue(r.isFinished());
+    assertThrows(IllegalStateException.class, r::step);
+    assertEquals(0, r.run());
+  }
+
+  @Test
+  public void testReplayIndependentOfThread()
+    throws InterruptedException, ExecutionException
+  {
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(16);
+    final List<JCameraFPSStyleSnapshot> expected = live(log);
+    final JCameraFPSStyleSnapshot last = expected.get(STEPS - 1);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<JCameraFPSStyleSnapshot>> futures = new ArrayList<>();
+      for (int index = 0; index < 8; ++index) {
+        futures.add(executor.submit(() -> replay(log)));
+      }
+      for (final Future<JCameraFPSStyleSnapshot> future : futures) {
+        assertBitsEqual(last, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Log a live session while producer threads keep updating the input,
+   * as a windowing system would. Every step must be reproduced exactly.
+   */
+
+  @Test
+  public void testReplayConcurrentProducers()
+    throws InterruptedException, ExecutionException
+  {
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(16);
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType source = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleInputType target = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType d =
+      JCameraFPSStyleIntegrator.newIntegrator(c, target);
+
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    final List<JCameraFPSStyleSnapshot> expected = new ArrayList<>(STEPS);
+    try {
+      final List<Future<?>> producers = new ArrayList<>();
+      for (int index = 0; index < 2; ++index) {
+        final long seed = 0x5eedL + (long) index;
+        producers.add(executor.submit(() -> {
+          final Random random = new Random(seed);
+          while (!done.get()) {
+            drive(random, source);
+          }
+        }));
+      }
+
+      for (int index = 0; index < STEPS; ++index) {
+        log.recordFrom(1.0 / 60.0, source, target);
+        d.integrate(1.0 / 60.0);
+        expected.add(JCameraFPSStyleSnapshots.of(c));
+      }
+
+      done.set(true);
+      for (final Future<?> producer : producers) {
+        producer.get();
+      }
+    } finally {
+      done.set(true);
+      executor.shutdown();
+    }
+
+    final JCameraFPSStyleType r_c = newCamera();
+    final JCameraFPSStyleInputType r_i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleReplay r =
+      JCameraFPSStyleReplay.create(
+        log, r_i, JCameraFPSStyleIntegrator.newIntegrator(r_c, r_i));
+    for (int index = 0; index < STEPS; ++index) {
+      r.step();
+      assertBitsEqual(expected.get(index), JCameraFPSStyleSnapshots.of(r_c));
+    }
+  }
+
+  /**
+   * An input that behaves as if a producer thread updated it immediately
+   * after every read, which is the worst interleaving a live session can
+   * encounter.
+   */
+
+  private static final class InterleavedInput
+    implements JCameraFPSStyleInputType
+  {
+    private final JCameraFPSStyleInputType delegate;
+    private final Random random;
+
+    InterleavedInput(
+      final long seed)
+    {
+      this.delegate = JCameraFPSStyleInput.newInput();
+      this.random = new Random(seed);
+    }
+
+    private void produce()
+    {
+      drive(this.random, this.delegate);
+    }
+
+    @Override
+    public void addRotationAroundHorizontal(
+      final double r)
+    {
+      this.delegate.addRotationAroundHorizontal(r);
+    }
+
+    @Override
+    public void addRotationAroundVertical(
+      final double r)
+    {
+      this.delegate.addRotationAroundVertical(r);
+    }
+
+    @Override
+    public double getRotationHorizontal()
+    {
+      final double r = this.delegate.getRotationHorizontal();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setRotationHorizontal(
+      final double r)
+    {
+      this.delegate.setRotationHorizontal(r);
+    }
+
+    @Override
+    public double getRotationVertical()
+    {
+      final double r = this.delegate.getRotationVertical();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setRotationVertical(
+      final double r)
+    {
+      this.delegate.setRotationVertical(r);
+    }
+
+    @Override
+    public boolean isMovingBackward()
+    {
+      final boolean r = this.delegate.isMovingBackward();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingBackward(
+      final boolean in_backward)
+    {
+      this.delegate.setMovingBackward(in_backward);
+    }
+
+    @Override
+    public boolean isMovingDown()
+    {
+      final boolean r = this.delegate.isMovingDown();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingDown(
+      final boolean in_down)
+    {
+      this.delegate.setMovingDown(in_down);
+    }
+
+    @Override
+    public boolean isMovingForward()
+    {
+      final boolean r = this.delegate.isMovingForward();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingForward(
+      final boolean in_forward)
+    {
+      this.delegate.setMovingForward(in_forward);
+    }
+
+    @Override
+    public boolean isMovingLeft()
+    {
+      final boolean r = this.delegate.isMovingLeft();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingLeft(
+      final boolean in_left)
+    {
+      this.delegate.setMovingLeft(in_left);
+    }
+
+    @Override
+    public boolean isMovingRight()
+    {
+      final boolean r = this.delegate.isMovingRight();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingRight(
+      final boolean in_right)
+    {
+      this.delegate.setMovingRight(in_right);
+    }
+
+    @Override
+    public boolean isMovingUp()
+    {
+      final boolean r = this.delegate.isMovingUp();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public void setMovingUp(
+      final boolean in_up)
+    {
+      this.delegate.setMovingUp(in_up);
+    }
+
+    @Override
+    public void setRotationHorizontalFactor(
+      final double f)
+    {
+      this.delegate.setRotationHorizontalFactor(f);
+    }
+
+    @Override
+    public void setRotationVerticalFactor(
+      final double f)
+    {
+      this.delegate.setRotationVerticalFactor(f);
+    }
+
+    @Override
+    public double takeRotationHorizontal()
+    {
+      final double r = this.delegate.takeRotationHorizontal();
+      this.produce();
+      return r;
+    }
+
+    @Override
+    public double takeRotationVertical()
+    {
+      final double r = this.delegate.takeRotationVertical();
+      this.produce();
+      return r;
+    }
+  }
+
+  /**
+   * Log a session in which the input changes between every read. The log
+   * must still hold exactly the input that the integrator consumed.
+   */
+
+  @Test
+  public void testReplayInterleavedProducer()
+  {
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(16);
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType source = new InterleavedInput(0x5eedL);
+    final JCameraFPSStyleInputType target = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType d =
+      JCameraFPSStyleIntegrator.newIntegrator(c, target);
+
+    for (int index = 0; index < STEPS; ++index) {
+      log.recordFrom(1.0 / 60.0, source, target);
+      d.integrate(1.0 / 60.0);
+    }
+
+    assertBitsEqual(JCameraFPSStyleSnapshots.of(c), replay(log));
+  }
+
+  @Test
+  public void testClear()
+  {
+    final JCameraFPSStyleInputLog log = JCameraFPSStyleInputLog.create(4);
+    final List<JCameraFPSStyleSnapshot> expected = live(log);
+    log.clear();
+    assertEquals(0, log.size());
+
+    live(log);
+    assertBitsEqual(expected.get(STEPS - 1), replay(log));
+  }
+
+  @Test
+  public void testReplayFromRecording()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("replay.jcr");
+    final Random random = new Random(0x5eedL);
+    final double step = 1.0 / 60.0;
+
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType i = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType d =
+      JCameraFPSStyleIntegrator.newIntegrator(c, i);
+
+    try (JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 64)) {
+      for (int index = 0; index < 500; ++index) {
+        drive(random, i);
+        r.recordInput((long) index, i);
+        d.integrate(step);
+        r.recordCamera(c);
+      }
+    }
+
+    try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+      final JCameraFPSStyleInputLog log =
+        JCameraFPSStyleInputLog.fromRecording(p, step);
+      assertEquals(p.size(), log.size());
+      assertBitsEqual(p.snapshot(p.size() - 1), replay(log));
+    }
+    assertBitsEqual(JCameraFPSStyleSnapshots.of(c), replayFile(file, step));
+  }
+
+  @Test
+  public void testReplayFromRecordingInterleavedProducer()
+    throws IOException
+  {
+    final Path file = this.directory.resolve("replay.jcr");
+    final double step = 1.0 / 60.0;
+
+    final JCameraFPSStyleType c = newCamera();
+    final JCameraFPSStyleInputType source = new InterleavedInput(0x5eedL);
+    final JCameraFPSStyleInputType target = JCameraFPSStyleInput.newInput();
+    final JCameraFPSStyleIntegratorType d =
+      JCameraFPSStyleIntegrator.newIntegrator(c, target);
+
+    try (JCameraFPSStyleRecorder r = JCameraFPSStyleRecorder.create(file, 64)) {
+      for (int index = 0; index < 500; ++index) {
+        r.recordInputFrom((long) index, source, target);
+        d.integrate(step);
+        r.recordCamera(c);
+      }
+    }
+
+    assertBitsEqual(JCameraFPSStyleSnapshots.of(c), replayFile(file, step));
+  }
+
+  private static JCameraFPSStyleSnapshot replayFile(
+    final Path file,
+    final double step)
+    throws IOException
+  {
+    try (JCameraFPSStylePlayer p = JCameraFPSStylePlayer.open(file)) {
+      return replay(JCameraFPSStyleInputLog.fromRecording(p, step));
+    }
+  }
+}
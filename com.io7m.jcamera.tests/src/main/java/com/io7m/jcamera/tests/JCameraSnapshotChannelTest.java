@@ -0,0 +1,329 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotChannel;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalSnapshotChannel;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSnapshotChannelTest
+{
+  private static JCameraFPSStyleSnapshotMutable fps(
+    final double x,
+    final double h,
+    final double v)
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(x, x * 2.0, x * 3.0);
+    c.cameraSetAngleAroundHorizontal(h);
+    c.cameraSetAngleAroundVertical(v);
+    return JCameraFPSStyleSnapshots.ofInto(
+      c, JCameraFPSStyleSnapshotMutable.create());
+  }
+
+  private static JCameraSphericalSnapshotMutable spherical(
+    final double x,
+    final double heading,
+    final double incline)
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(x, x * 2.0, x * 3.0);
+    c.cameraSetAngleHeading(heading);
+    c.cameraSetAngleIncline(incline);
+    c.cameraSetZoom(x + 4.0);
+    return JCameraSphericalSnapshots.ofInto(
+      c, JCameraSphericalSnapshotMutable.create());
+  }
+
+  private static boolean same(
+    final JCameraFPSStyleSnapshotMutable x,
+    final JCameraFPSStyleSnapshotMutable y)
+  {
+    return x.cameraGetAngleAroundHorizontal()
+      == y.cameraGetAngleAroundHorizontal()
+      && x.cameraGetAngleAroundVertical() == y.cameraGetAngleAroundVertical()
+      && x.cameraGetPositionX() == y.cameraGetPositionX()
+      && x.cameraGetPositionY() == y.cameraGetPositionY()
+      && x.cameraGetPositionZ() == y.cameraGetPositionZ()
+      && x.cameraGetRightX() == y.cameraGetRightX()
+      && x.cameraGetRightY() == y.cameraGetRightY()
+      && x.cameraGetRightZ() == y.cameraGetRightZ()
+      && x.cameraGetUpX() == y.cameraGetUpX()
+      && x.cameraGetUpY() == y.cameraGetUpY()
+      && x.cameraGetUpZ() == y.cameraGetUpZ()
+      && x.cameraGetForwardX() == y.cameraGetForwardX()
+      && x.cameraGetForwardY() == y.cameraGetForwardY()
+      && x.cameraGetForwardZ() == y.cameraGetForwardZ();
+  }
+
+  private static boolean same(
+    final JCameraSphericalSnapshotMutable x,
+    final JCameraSphericalSnapshotMutable y)
+  {
+    return x.cameraGetAngleHeading() == y.cameraGetAngleHeading()
+      && x.cameraGetAngleIncline() == y.cameraGetAngleIncline()
+      && x.cameraGetZoom() == y.cameraGetZoom()
+      && x.cameraGetPositionX() == y.cameraGetPositionX()
+      && x.cameraGetPositionY() == y.cameraGetPositionY()
+      && x.cameraGetPositionZ() == y.cameraGetPositionZ()
+      && x.cameraGetRightX() == y.cameraGetRightX()
+      && x.cameraGetRightY() == y.cameraGetRightY()
+      && x.cameraGetRightZ() == y.cameraGetRightZ()
+      && x.cameraGetUpX() == y.cameraGetUpX()
+      && x.cameraGetUpY() == y.cameraGetUpY()
+      && x.cameraGetUpZ() == y.cameraGetUpZ()
+      && x.cameraGetForwardX() == y.cameraGetForwardX()
+      && x.cameraGetForwardY() == y.cameraGetForwardY()
+      && x.cameraGetForwardZ() == y.cameraGetForwardZ()
+      && x.cameraGetForwardProjectedOnXZX()
+      == y.cameraGetForwardProjectedOnXZX()
+      && x.cameraGetForwardProjectedOnXZY()
+      == y.cameraGetForwardProjectedOnXZY()
+      && x.cameraGetForwardProjectedOnXZZ()
+      == y.cameraGetForwardProjectedOnXZZ()
+      && x.cameraGetTargetPositionX() == y.cameraGetTargetPositionX()
+      && x.cameraGetTargetPositionY() == y.cameraGetTargetPositionY()
+      && x.cameraGetTargetPositionZ() == y.cameraGetTargetPositionZ();
+  }
+
+  @Test
+  public void testFPSStyleIdentity()
+  {
+    final JCameraFPSStyleSnapshotChannel ch =
+      JCameraFPSStyleSnapshotChannel.create();
+    final JCameraFPSStyleSnapshotMutable out =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    assertEquals(0L, ch.version());
+    assertEquals(0L, ch.readInto(out));
+    assertTrue(same(JCameraFPSStyleSnapshotMutable.create(), out));
+
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(1.0, 2.0, 3.0);
+    c.cameraRotateAroundVertical(0.5);
+    c.cameraRotateAroundHorizontal(0.25);
+    ch.publish(c);
+    assertEquals(1L, ch.version());
+    assertEquals(1L, ch.readInto(out));
+    assertTrue(same(
+      JCameraFPSStyleSnapshots.ofInto(
+        c, JCameraFPSStyleSnapshotMutable.create()), out));
+
+    final JCameraFPSStyleSnapshotMutable s = fps(5.0, 0.1, 0.2);
+    ch.publish(s);
+    assertEquals(2L, ch.version());
+    assertEquals(2L, ch.readInto(out));
+    assertTrue(same(s, out));
+  }
+
+  @Test
+  public void testSphericalIdentity()
+  {
+    final JCameraSphericalSnapshotChannel ch =
+      JCameraSphericalSnapshotChannel.create();
+    final JCameraSphericalSnapshotMutable out =
+      JCameraSphericalSnapshotMutable.create();
+
+    assertEquals(0L, ch.version());
+    assertEquals(0L, ch.readInto(out));
+    assertTrue(same(JCameraSphericalSnapshotMutable.create(), out));
+
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    c.cameraOrbitHeading(0.5);
+    ch.publish(c);
+    assertEquals(1L, ch.readInto(out));
+    assertTrue(same(
+      JCameraSphericalSnapshots.ofInto(
+        c, JCameraSphericalSnapshotMutable.create()), out));
+
+    final JCameraSphericalSnapshotMutable s = spherical(5.0, 0.1, 0.2);
+    ch.publish(s);
+    assertEquals(2L, ch.readInto(out));
+    assertTrue(same(s, out));
+  }
+
+  /**
+   * A writer thread repeatedly publishes one of two states while reader
+   * threads read the channel. Every read must produce exactly one of the
+   * two states, and the publication numbers observed by each reader must
+   * never decrease.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFPSStyleConcurrentConsistent()
+    throws Exception
+  {
+    final JCameraFPSStyleSnapshotChannel ch =
+      JCameraFPSStyleSnapshotChannel.create();
+    final JCameraFPSStyleSnapshotMutable[] states = {
+      fps(1.0, 0.1, 0.2),
+      fps(-7.0, -0.3, 2.5),
+    };
+    ch.publish(states[0]);
+
+    final int count = 200_000;
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final AtomicLong reads = new AtomicLong(0L);
+    final AtomicBoolean consistent = new AtomicBoolean(true);
+
+    final Thread writer = new Thread(() -> {
+      for (int index = 0; index < count; ++index) {
+        ch.publish(states[index & 1]);
+      }
+      done.set(true);
+    });
+
+    final Thread[] readers = new Thread[2];
+    for (int r = 0; r < readers.length; ++r) {
+      readers[r] = new Thread(() -> {
+        final JCameraFPSStyleSnapshotMutable out =
+          JCameraFPSStyleSnapshotMutable.create();
+        long last = 0L;
+        while (!done.get()) {
+          final long version = ch.readInto(out);
+          final boolean ok =
+            version >= last
+              && (same(out, states[0]) || same(out, states[1]));
+          if (!ok) {
+            consistent.set(false);
+          }
+          last = version;
+          reads.incrementAndGet();
+        }
+      });
+    }
+
+    for (final Thread reader : readers) {
+      reader.start();
+    }
+    writer.start();
+    writer.join();
+    for (final Thread reader : readers) {
+      reader.join();
+    }
+
+    assertTrue(consistent.get());
+    assertTrue(reads.get() > 0L);
+    assertEquals((long) count + 1L, ch.version());
+  }
+
+  @Test
+  public void testSphericalConcurrentConsistent()
+    throws Exception
+  {
+    final JCameraSphericalSnapshotChannel ch =
+      JCameraSphericalSnapshotChannel.create();
+    final JCameraSphericalSnapshotMutable[] states = {
+      spherical(1.0, 0.1, 0.2),
+      spherical(-7.0, -0.3, 1.2),
+    };
+    ch.publish(states[0]);
+
+    final int count = 200_000;
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final AtomicBoolean consistent = new AtomicBoolean(true);
+
+    final Thread writer = new Thread(() -> {
+      for (int index = 0; index < count; ++index) {
+        ch.publish(states[index & 1]);
+      }
+      done.set(true);
+    });
+
+    final Thread reader = new Thread(() -> {
+      final JCameraSphericalSnapshotMutable out =
+        JCameraSphericalSnapshotMutable.create();
+      while (!done.get()) {
+        ch.readInto(out);
+        if (!(same(out, states[0]) || same(out, states[1]))) {
+          consistent.set(false);
+        }
+      }
+    });
+
+    reader.start();
+    writer.start();
+    writer.join();
+    reader.join();
+
+    assertTrue(consistent.get());
+    assertEquals((long) count + 1L, ch.version());
+  }
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFPSStyleSnapshotChannel fc =
+      JCameraFPSStyleSnapshotChannel.create();
+    final JCameraSphericalSnapshotChannel sc =
+      JCameraSphericalSnapshotChannel.create();
+    final JCameraFPSStyleSnapshotMutable fs = fps(1.0, 0.1, 0.2);
+    final JCameraSphericalSnapshotMutable ss = spherical(1.0, 0.1, 0.2);
+    final JCameraFPSStyleSnapshotMutable fo =
+      JCameraFPSStyleSnapshotMutable.create();
+    final JCameraSphericalSnapshotMutable so =
+      JCameraSphericalSnapshotMutable.create();
+    final int count = 10000;
+
+    long total = 0L;
+    for (int index = 0; index < count; ++index) {
+      total += exchange(fc, sc, fs, ss, fo, so);
+    }
+
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      total += exchange(fc, sc, fs, ss, fo, so);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(total > 0L);
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+
+  private static long exchange(
+    final JCameraFPSStyleSnapshotChannel fc,
+    final JCameraSphericalSnapshotChannel sc,
+    final JCameraFPSStyleSnapshotMutable fs,
+    final JCameraSphericalSnapshotMutable ss,
+    final JCameraFPSStyleSnapshotMutable fo,
+    final JCameraSphericalSnapshotMutable so)
+  {
+    fc.publish(fs);
+    sc.publish(ss);
+    return fc.readInto(fo) + sc.readInto(so);
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotCodec;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraSnapshotAngleEncoding;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshotCodec;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.fpsCamera;
+import static com.io7m.jcamera.tests.JCameraTestFixtures.sphericalCamera;
+import static com.io7m.jcamera.JCameraSnapshotAngleEncoding.ANGLE_DOUBLE;
+import static com.io7m.jcamera.JCameraSnapshotAngleEncoding.ANGLE_QUANTIZED_16;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSnapshotCodecTest
+{
+  private static final double QUANTIZED_DELTA = Math.PI / 32768.0;
+
+  private static void assertVectorClose(
+    final Vector3D expected,
+    final Vector3D received,
+    final double delta)
+  {
+    assertEquals(expected.x(), received.x(), delta);
+    assertEquals(expected.y(), received.y(), delta);
+    assertEquals(expected.z(), received.z(), delta);
+  }
+
+  @Test
+  public void testSizes()
+  {
+    assertEquals(
+      40, JCameraFPSStyleSnapshotCodec.create(ANGLE_DOUBLE).sizeBytes());
+    assertEquals(
+      28, JCameraFPSStyleSnapshotCodec.create(ANGLE_QUANTIZED_16).sizeBytes());
+    assertEquals(
+      48, JCameraSphericalSnapshotCodec.create(ANGLE_DOUBLE).sizeBytes());
+    assertEquals(
+      36, JCameraSphericalSnapshotCodec.create(ANGLE_QUANTIZED_16).sizeBytes());
+
+    for (final JCameraSnapshotAngleEncoding e :
+      JCameraSnapshotAngleEncoding.values()) {
+      final JCameraFPSStyleSnapshotCodec codec =
+        JCameraFPSStyleSnapshotCodec.create(e);
+      final ByteBuffer buffer = ByteBuffer.allocate(256);
+      codec.encode(fpsCamera(1.0, 0.7, 0.1), buffer);
+      assertEquals(codec.sizeBytes(), buffer.position());
+      assertEquals(e, codec.angleEncoding());
+    }
+  }
+
+  /**
+   * Encoding with exact angles and decoding yields an identical snapshot.
+   */
+
+  @Test
+  public void testFPSStyleExactRoundTrip()
+  {
+    final JCameraFPSStyleSnapshotCodec codec =
+      JCameraFPSStyleSnapshotCodec.create(ANGLE_DOUBLE);
+    final ByteBuffer buffer = ByteBuffer.allocate(codec.sizeBytes() * 10);
+
+    for (int index = 0; index < 10; ++index) {
+      codec.encode(fpsCamera((double) index, 0.7, 0.1), buffer);
+    }
+    buffer.flip();
+    for (int index = 0; index < 10; ++index) {
+      assertEquals(
+        JCameraFPSStyleSnapshots.of(fpsCamera((double) index, 0.7, 0.1)),
+        codec.decode(buffer));
+    }
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void testSphericalExactRoundTrip()
+  {
+    final JCameraSphericalSnapshotCodec codec =
+      JCameraSphericalSnapshotCodec.create(ANGLE_DOUBLE);
+    final ByteBuffer buffer =
+      ByteBuffer.allocateDirect(codec.sizeBytes() * 10)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    for (int index = 0; index < 10; ++index) {
+      codec.encode(sphericalCamera((double) index, 0.7, 0.1), buffer);
+    }
+    buffer.flip();
+    for (int index = 0; index < 10; ++index) {
+      assertEquals(
+        JCameraSphericalSnapshots.of(sphericalCamera((double) index, 0.7, 0.1)),
+        codec.decode(buffer));
+    }
+  }
+
+  /**
+   * Quantized angles are accurate to within half of the quantization step,
+   * and the decoded camera faces in the same direction as the original.
+   */
+
+  @Test
+  public void testFPSStyleQuantizedRoundTrip()
+  {
+    final JCameraFPSStyleSnapshotCodec codec =
+      JCameraFPSStyleSnapshotCodec.create(ANGLE_QUANTIZED_16);
+    final ByteBuffer buffer = ByteBuffer.allocate(codec.sizeBytes());
+
+    for (int index = 0; index < 20; ++index) {
+      final JCameraFPSStyleSnapshot expected =
+        JCameraFPSStyleSnapshots.of(fpsCamera((double) index, 0.7, 0.1));
+
+      buffer.clear();
+      codec.encode(expected, buffer);
+      buffer.flip();
+      final JCameraFPSStyleSnapshot received = codec.decode(buffer);
+
+      assertEquals(
+        0.0,
+        Math.IEEEremainder(
+          expected.cameraGetAngleAroundVertical()
+            - received.cameraGetAngleAroundVertical(),
+          2.0 * Math.PI),
+        QUANTIZED_DELTA);
+      assertEquals(
+        expected.cameraGetAngleAroundHorizontal(),
+        received.cameraGetAngleAroundHorizontal(),
+        QUANTIZED_DELTA);
+      assertEquals(expected.cameraGetPosition(), received.cameraGetPosition());
+      assertVectorClose(
+        expected.cameraGetForward(), received.cameraGetForward(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetRight(), received.cameraGetRight(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetUp(), received.cameraGetUp(), 1.0e-4);
+    }
+  }
+
+  @Test
+  public void testSphericalQuantizedRoundTrip()
+  {
+    final JCameraSphericalSnapshotCodec codec =
+      JCameraSphericalSnapshotCodec.create(ANGLE_QUANTIZED_16);
+    final ByteBuffer buffer = ByteBuffer.allocate(codec.sizeBytes());
+
+    for (int index = 0; index < 20; ++index) {
+      final JCameraSphericalSnapshot expected =
+        JCameraSphericalSnapshots.of(sphericalCamera((double) index, 0.7, 0.1));
+
+      buffer.clear();
+      codec.encode(expected, buffer);
+      buffer.flip();
+      final JCameraSphericalSnapshot received = codec.decode(buffer);
+
+      assertEquals(expected.cameraGetZoom(), received.cameraGetZoom());
+      assertEquals(
+        expected.cameraGetTargetPosition(),
+        received.cameraGetTargetPosition());
+      assertVectorClose(
+        expected.cameraGetForward(), received.cameraGetForward(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetRight(), received.cameraGetRight(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetUp(), received.cameraGetUp(), 1.0e-4);
+      assertVectorClose(
+        expected.cameraGetPosition(),
+        received.cameraGetPosition(),
+        1.0e-4 * expected.cameraGetZoom());
+    }
+  }
+
+  /**
+   * Nothing is written or read if the buffer is too small.
+   */
+
+  @Test
+  public void testBufferTooSmall()
+  {
+    final JCameraFPSStyleSnapshotCodec codec =
+      JCameraFPSStyleSnapshotCodec.create(ANGLE_QUANTIZED_16);
+    final ByteBuffer buffer = ByteBuffer.allocate(codec.sizeBytes() - 1);
+
+    assertThrows(
+      BufferOverflowException.class,
+      () -> codec.encode(fpsCamera(1.0, 0.7, 0.1), buffer));
+    assertEquals(0, buffer.position());
+    assertThrows(
+      BufferUnderflowException.class,
+      () -> codec.decode(buffer));
+    assertEquals(0, buffer.position());
+    assertTrue(buffer.remaining() < codec.sizeBytes());
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyleSnapshotHistory;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraSphericalSnapshotHistory;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static com.io7m.jcamera.tests.JCameraTestFixtures.fpsCamera;
+import static com.io7m.jcamera.tests.JCameraTestFixtures.sphericalCamera;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSnapshotHistoryTest
+{
+  private static final double[] TIMES = {
+    10.0, 10.25, 10.5, 11.0, 11.75, 12.0, 13.5, 14.0,
+  };
+
+  @Test
+  public void testCreateInvalid()
+  {
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraFPSStyleSnapshotHistory.create(0));
+    assertThrows(
+      RangeCheckException.class,
+      () -> JCameraSphericalSnapshotHistory.create(0));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final JCameraFPSStyleSnapshotHistory h =
+      JCameraFPSStyleSnapshotHistory.create(4);
+
+    assertTrue(h.isEmpty());
+    assertEquals(0, h.size());
+    assertEquals(4, h.capacity());
+    assertEquals(-1, h.find(100L));
+    assertThrows(IllegalStateException.class, h::oldestTick);
+    assertThrows(IllegalStateException.class, h::newestTick);
+    assertThrows(IllegalStateException.class, () -> h.sample(1.0));
+    assertThrows(IndexOutOfBoundsException.class, () -> h.tickAt(0));
+  }
+
+  @Test
+  public void testTicksIncreasing()
+  {
+    final JCameraFPSStyleSnapshotHistory h =
+      JCameraFPSStyleSnapshotHistory.create(4);
+
+    h.record(10L, fpsCamera(10.0, 0.1, 0.01));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> h.record(10L, fpsCamera(10.0, 0.1, 0.01)));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> h.record(9L, fpsCamera(9.0, 0.1, 0.01)));
+    assertEquals(1, h.size());
+  }
+
+  /**
+   * Recording into a full history discards the oldest states.
+   */
+
+  @Test
+  public void testEviction()
+  {
+    final JCameraFPSStyleSnapshotHistory h =
+      JCameraFPSStyleSnapshotHistory.create(4);
+
+    for (long tick = 0L; tick < 10L; ++tick) {
+      h.record(tick, fpsCamera((double) tick, 0.1, 0.01));
+    }
+
+    assertFalse(h.isEmpty());
+    assertEquals(4, h.size());
+    assertEquals(6L, h.oldestTick());
+    assertEquals(9L, h.newestTick());
+
+    for (int index = 0; index < 4; ++index) {
+      final long tick = 6L + (long) index;
+      assertEquals(tick, h.tickAt(index));
+      assertEquals(
+        JCameraFPSStyleSnapshots.of(fpsCamera((double) tick, 0.1, 0.01)),
+        h.get(index));
+    }
+
+    h.clear();
+    assertTrue(h.isEmpty());
+    h.record(0L, fpsCamera(0.0, 0.1, 0.01));
+    assertEquals(0L, h.oldestTick());
+  }
+
+  /**
+   * Finding a state returns the newest state at or before the given tick,
+   * even when ticks are not contiguous.
+   */
+
+  @Test
+  public void testFind()
+  {
+    final JCameraSphericalSnapshotHistory h =
+      JCameraSphericalSnapshotHistory.create(8);
+
+    final long[] ticks = {10L, 11L, 12L, 14L, 20L};
+    for (final long tick : ticks) {
+      h.record(tick, sphericalCamera((double) tick, 0.1, 0.01));
+    }
+
+    assertEquals(-1, h.find(9L));
+    assertEquals(0, h.find(10L));
+    assertEquals(2, h.find(12L));
+    assertEquals(2, h.find(13L));
+    assertEquals(3, h.find(14L));
+    assertEquals(3, h.find(19L));
+    assertEquals(4, h.find(20L));
+    assertEquals(4, h.find(Long.MAX_VALUE));
+  }
+
+  /**
+   * Samples between recorded ticks are interpolated, and samples outside of
+   * the recorded range are clamped.
+   */
+
+  @Test
+  public void testFPSStyleSample()
+  {
+    final JCameraFPSStyleSnapshotHistory h =
+      JCameraFPSStyleSnapshotHistory.create(3);
+    final JCameraFPSStyleSnapshotMutable out =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    h.record(9L, fpsCamera(9.0, 0.1, 0.01));
+    h.record(10L, fpsCamera(10.0, 0.1, 0.01));
+    h.record(11L, fpsCamera(11.0, 0.1, 0.01));
+    h.record(13L, fpsCamera(13.0, 0.1, 0.01));
+
+    assertEquals(h.get(0), h.sample(5.0));
+    assertEquals(h.get(0), h.sample(10.0));
+    assertEquals(h.get(2), h.sample(13.0));
+    assertEquals(h.get(2), h.sample(100.0));
+
+    assertEquals(
+      JCameraFPSStyleSnapshots.interpolate(h.get(0), h.get(1), 0.5),
+      h.sample(10.5));
+    assertEquals(
+      JCameraFPSStyleSnapshots.interpolate(h.get(1), h.get(2), 0.25),
+      h.sample(11.5));
+
+    for (final double time : TIMES) {
+      assertEquals(
+        h.sample(time),
+        JCameraFPSStyleSnapshots.of(h.sampleInto(time, out)));
+    }
+  }
+
+  @Test
+  public void testSphericalSample()
+  {
+    final JCameraSphericalSnapshotHistory h =
+      JCameraSphericalSnapshotHistory.create(3);
+    final JCameraSphericalSnapshotMutable out =
+      JCameraSphericalSnapshotMutable.create();
+
+    h.record(9L, sphericalCamera(9.0, 0.1, 0.01));
+    h.record(10L, sphericalCamera(10.0, 0.1, 0.01));
+    h.record(11L, sphericalCamera(11.0, 0.1, 0.01));
+    h.record(13L, sphericalCamera(13.0, 0.1, 0.01));
+
+    assertEquals(h.get(0), h.sample(5.0));
+    assertEquals(h.get(2), h.sample(100.0));
+    assertEquals(
+      JCameraSphericalSnapshots.interpolate(h.get(1), h.get(2), 0.25),
+      h.sample(11.5));
+
+    for (final double time : TIMES) {
+      assertEquals(
+        h.sample(time),
+        JCameraSphericalSnapshots.of(h.sampleInto(time, out)));
+    }
+  }
+
+  /**
+   * Recording mutable snapshots and sampling into mutable snapshots does not
+   * allocate.
+   */
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFPSStyleSnapshotHistory fh =
+      JCameraFPSStyleSnapshotHistory.create(64);
+    final JCameraSphericalSnapshotHistory sh =
+      JCameraSphericalSnapshotHistory.create(64);
+    final JCameraFPSStyleSnapshotMutable f =
+      JCameraFPSStyleSnapshots.ofInto(
+        fpsCamera(1.0, 0.1, 0.01), JCameraFPSStyleSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable s =
+      JCameraSphericalSnapshots.ofInto(
+        sphericalCamera(1.0, 0.1, 0.01),
+        JCameraSphericalSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable f_out =
+      JCameraFPSStyleSnapshotMutable.create();
+    final JCameraSphericalSnapshotMutable s_out =
+      JCameraSphericalSnapshotMutable.create();
+
+    final int count = 100_000;
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      final long tick = (long) index;
+      fh.record(tick, f);
+      sh.record(tick, s);
+      fh.sampleInto((double) tick - 10.5, f_out);
+      sh.sampleInto((double) tick - 10.5, s_out);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import org.junit.jupiter.api.Test;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
+import static com.io7m.jcamera.tests.JCameraTestFixtures.fpsCamera;
+import static com.io7m.jcamera.tests.JCameraTestFixtures.sphericalCamera;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSnapshotMutableTest
+{
+  private static final double[] ALPHAS = {0.0, 0.25, 0.5, 0.9, 1.0};
+
+  @Test
+  public void testFPSStyleOfInto()
+  {
+    final JCameraFPSStyleType c = fpsCamera(1.0, 0.3, 0.1);
+    final JCameraFPSStyleSnapshotMutable m =
+      JCameraFPSStyleSnapshots.ofInto(
+        c, JCameraFPSStyleSnapshotMutable.create());
+
+    assertEquals(
+      JCameraFPSStyleSnapshots.of(c), JCameraFPSStyleSnapshots.of(m));
+
+    final double[] expected = new double[16];
+    final double[] received = new double[16];
+    c.cameraMakeViewMatrixInto(expected, 0);
+    m.cameraMakeViewMatrixInto(received, 0);
+    assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testFPSStyleInterpolateInto()
+  {
+    final JCameraFPSStyleSnapshot s0 =
+      JCameraFPSStyleSnapshots.of(fpsCamera(1.0, 0.3, 0.1));
+    final JCameraFPSStyleSnapshot s1 =
+      JCameraFPSStyleSnapshots.of(fpsCamera(-2.0, 0.3, 0.1));
+
+    final JCameraFPSStyleSnapshotMutable m0 =
+      JCameraFPSStyleSnapshots.ofInto(
+        s0, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable m1 =
+      JCameraFPSStyleSnapshots.ofInto(
+        s1, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable out =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    for (final double a : ALPHAS) {
+      assertEquals(
+        JCameraFPSStyleSnapshots.interpolate(s0, s1, a),
+        JCameraFPSStyleSnapshots.of(
+          JCameraFPSStyleSnapshots.interpolateInto(m0, m1, a, out)));
+    }
+
+    JCameraFPSStyleSnapshots.interpolateInto(m0, m1, 0.25, m0);
+    assertEquals(
+      JCameraFPSStyleSnapshots.interpolate(s0, s1, 0.25),
+      JCameraFPSStyleSnapshots.of(m0));
+  }
+
+  @Test
+  public void testSphericalOfInto()
+  {
+    final JCameraSphericalType c = sphericalCamera(1.0, 0.3, 0.1);
+    final JCameraSphericalSnapshotMutable m =
+      JCameraSphericalSnapshots.ofInto(
+        c, JCameraSphericalSnapshotMutable.create());
+
+    assertEquals(
+      JCameraSphericalSnapshots.of(c), JCameraSphericalSnapshots.of(m));
+
+    final double[] expected = new double[16];
+    final double[] received = new double[16];
+    c.cameraMakeViewMatrixInto(expected, 0);
+    m.cameraMakeViewMatrixInto(received, 0);
+    assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testSphericalInterpolateInto()
+  {
+    final JCameraSphericalSnapshot s0 =
+      JCameraSphericalSnapshots.of(sphericalCamera(1.0, 0.3, 0.1));
+    final JCameraSphericalSnapshot s1 =
+      JCameraSphericalSnapshots.of(sphericalCamera(-2.0, 0.3, 0.1));
+
+    final JCameraSphericalSnapshotMutable m0 =
+      JCameraSphericalSnapshots.ofInto(
+        s0, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable m1 =
+      JCameraSphericalSnapshots.ofInto(
+        s1, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable out =
+      JCameraSphericalSnapshotMutable.create();
+
+    for (final double a : ALPHAS) {
+      assertEquals(
+        JCameraSphericalSnapshots.interpolate(s0, s1, a),
+        JCameraSphericalSnapshots.of(
+          JCameraSphericalSnapshots.interpolateInto(m0, m1, a, out)));
+    }
+
+    JCameraSphericalSnapshots.interpolateInto(m0, m1, 0.75, m1);
+    assertEquals(
+      JCameraSphericalSnapshots.interpolate(s0, s1, 0.75),
+      JCameraSphericalSnapshots.of(m1));
+  }
+
+  /**
+   * Snapshotting and interpolating into mutable snapshots does not allocate.
+   */
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFPSStyleType fps = fpsCamera(1.0, 0.3, 0.1);
+    final JCameraSphericalType sph = sphericalCamera(1.0, 0.3, 0.1);
+    final JCameraFPSStyleSnapshotMutable f0 =
+      JCameraFPSStyleSnapshotMutable.create();
+    final JCameraFPSStyleSnapshotMutable f1 =
+      JCameraFPSStyleSnapshotMutable.create();
+    final JCameraSphericalSnapshotMutable s0 =
+      JCameraSphericalSnapshotMutable.create();
+    final JCameraSphericalSnapshotMutable s1 =
+      JCameraSphericalSnapshotMutable.create();
+    final double[] matrix = new double[16];
+
+    final int count = 100_000;
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      JCameraFPSStyleSnapshots.ofInto(fps, f0);
+      JCameraFPSStyleSnapshots.interpolateInto(f0, f1, 0.5, f1);
+      f1.cameraMakeViewMatrixInto(matrix, 0);
+      JCameraSphericalSnapshots.ofInto(sph, s0);
+      JCameraSphericalSnapshots.interpolateInto(s0, s1, 0.5, s1);
+      s1.cameraMakeViewMatrixInto(matrix, 0);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+}
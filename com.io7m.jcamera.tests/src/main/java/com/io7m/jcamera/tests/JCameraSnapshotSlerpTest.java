@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleReadableType;
+import com.io7m.jcamera.JCameraFPSStyleSnapshot;
+import com.io7m.jcamera.JCameraFPSStyleSnapshotMutable;
+import com.io7m.jcamera.JCameraFPSStyleSnapshots;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
+import com.io7m.jcamera.JCameraSphericalSnapshots;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSnapshotSlerpTest
+{
+  private static final double[] ALPHAS = {0.0, 0.1, 0.25, 0.5, 0.9, 1.0};
+  private static final double DELTA = 1.0e-9;
+
+  private static JCameraFPSStyleSnapshot fps(
+    final double h,
+    final double v)
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraClampHorizontalDisable();
+    c.cameraSetAngleAroundHorizontal(h);
+    c.cameraSetAngleAroundVertical(v);
+    c.cameraSetPosition3(1.0, 2.0, 3.0);
+    return JCameraFPSStyleSnapshots.of(c);
+  }
+
+  private static JCameraSphericalSnapshot spherical(
+    final double heading,
+    final double incline,
+    final double zoom)
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraClampInclineDisable();
+    c.cameraSetAngleHeading(heading);
+    c.cameraSetAngleIncline(incline);
+    c.cameraSetZoom(zoom);
+    c.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    return JCameraSphericalSnapshots.of(c);
+  }
+
+  private static void assertVectorEquals(
+    final Vector3D expected,
+    final Vector3D received)
+  {
+    assertEquals(expected.x(), received.x(), DELTA);
+    assertEquals(expected.y(), received.y(), DELTA);
+    assertEquals(expected.z(), received.z(), DELTA);
+  }
+
+  private static void assertOrthonormal(
+    final JCameraFPSStyleReadableType s)
+  {
+    final Vector3D r = s.cameraGetRight();
+    final Vector3D u = s.cameraGetUp();
+    final Vector3D f = s.cameraGetForward();
+    assertEquals(1.0, Vectors3D.magnitude(r), DELTA);
+    assertEquals(1.0, Vectors3D.magnitude(u), DELTA);
+    assertEquals(1.0, Vectors3D.magnitude(f), DELTA);
+    assertEquals(0.0, Vectors3D.dotProduct(r, u), DELTA);
+    assertEquals(0.0, Vectors3D.dotProduct(r, f), DELTA);
+    assertEquals(0.0, Vectors3D.dotProduct(u, f), DELTA);
+    assertVectorEquals(
+      Vectors3D.scale(f, -1.0), Vectors3D.crossProduct(r, u));
+  }
+
+  private static void assertBasisEquals(
+    final JCameraFPSStyleReadableType expected,
+    final JCameraFPSStyleReadableType received)
+  {
+    assertVectorEquals(expected.cameraGetRight(), received.cameraGetRight());
+    assertVectorEquals(expected.cameraGetUp(), received.cameraGetUp());
+    assertVectorEquals(
+      expected.cameraGetForward(), received.cameraGetForward());
+  }
+
+  /**
+   * Interpolating between two headings produces exactly the orientation of
+   * the camera at the interpolated heading.
+   */
+
+  @Test
+  public void testFPSStyleYaw()
+  {
+    final JCameraFPSStyleSnapshot x = fps(0.2, 0.3);
+    final JCameraFPSStyleSnapshot y = fps(0.2, 1.1);
+
+    for (final double a : ALPHAS) {
+      final JCameraFPSStyleSnapshot r =
+        JCameraFPSStyleSnapshots.interpolateSlerp(x, y, a);
+      final JCameraFPSStyleSnapshot e = fps(0.2, 0.3 + (0.8 * a));
+      assertBasisEquals(e, r);
+      assertEquals(
+        e.cameraGetAngleAroundVertical(),
+        r.cameraGetAngleAroundVertical(),
+        DELTA);
+      assertOrthonormal(r);
+    }
+  }
+
+  /**
+   * Crossing the {@code 2π} boundary takes the shortest path.
+   */
+
+  @Test
+  public void testFPSStyleWrap()
+  {
+    final JCameraFPSStyleSnapshot x = fps(0.0, 0.1);
+    final JCameraFPSStyleSnapshot y = fps(0.0, (2.0 * Math.PI) - 0.1);
+
+    final JCameraFPSStyleSnapshot r =
+      JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 0.5);
+    assertEquals(0.0, r.cameraGetAngleAroundVertical(), DELTA);
+    assertVectorEquals(fps(0.0, 0.0).cameraGetForward(), r.cameraGetForward());
+  }
+
+  @Test
+  public void testFPSStyleOrthonormal()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int index = 0; index < 1000; ++index) {
+      final JCameraFPSStyleSnapshot x =
+        fps(random.nextDouble() * 1.5 - 0.75, random.nextDouble() * 20.0);
+      final JCameraFPSStyleSnapshot y =
+        fps(random.nextDouble() * 1.5 - 0.75, random.nextDouble() * 20.0);
+      final double a = random.nextDouble();
+
+      assertOrthonormal(JCameraFPSStyleSnapshots.interpolateSlerp(x, y, a));
+      assertBasisEquals(
+        x, JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 0.0));
+      assertBasisEquals(
+        y, JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 1.0));
+    }
+  }
+
+  @Test
+  public void testFPSStyleInto()
+  {
+    final JCameraFPSStyleSnapshot x = fps(0.4, -2.0);
+    final JCameraFPSStyleSnapshot y = fps(-0.3, 1.5);
+    final JCameraFPSStyleSnapshotMutable m0 =
+      JCameraFPSStyleSnapshots.ofInto(
+        x, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable m1 =
+      JCameraFPSStyleSnapshots.ofInto(
+        y, JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable out =
+      JCameraFPSStyleSnapshotMutable.create();
+
+    for (final double a : ALPHAS) {
+      assertEquals(
+        JCameraFPSStyleSnapshots.interpolateSlerp(x, y, a),
+        JCameraFPSStyleSnapshots.of(
+          JCameraFPSStyleSnapshots.interpolateSlerpInto(m0, m1, a, out)));
+    }
+  }
+
+  @Test
+  public void testSphericalHeading()
+  {
+    final JCameraSphericalSnapshot x = spherical(0.5, 0.4, 5.0);
+    final JCameraSphericalSnapshot y = spherical(2.5, 0.4, 5.0);
+
+    for (final double a : ALPHAS) {
+      final JCameraSphericalSnapshot r =
+        JCameraSphericalSnapshots.interpolateSlerp(x, y, a);
+      final JCameraSphericalSnapshot e = spherical(0.5 + (2.0 * a), 0.4, 5.0);
+
+      assertVectorEquals(e.cameraGetRight(), r.cameraGetRight());
+      assertVectorEquals(e.cameraGetUp(), r.cameraGetUp());
+      assertVectorEquals(e.cameraGetForward(), r.cameraGetForward());
+      assertVectorEquals(
+        e.cameraGetForwardProjectedOnXZ(), r.cameraGetForwardProjectedOnXZ());
+      assertVectorEquals(e.cameraGetPosition(), r.cameraGetPosition());
+      assertEquals(e.cameraGetAngleHeading(), r.cameraGetAngleHeading(), DELTA);
+    }
+  }
+
+  /**
+   * The camera follows its orbit rather than cutting across it.
+   */
+
+  @Test
+  public void testSphericalOrbit()
+  {
+    final JCameraSphericalSnapshot x = spherical(0.0, -0.6, 3.0);
+    final JCameraSphericalSnapshot y = spherical(-3.0, 1.2, 7.0);
+
+    for (final double a : ALPHAS) {
+      final JCameraSphericalSnapshot r =
+        JCameraSphericalSnapshots.interpolateSlerp(x, y, a);
+      assertEquals(
+        r.cameraGetZoom(),
+        Vectors3D.magnitude(
+          Vectors3D.subtract(
+            r.cameraGetPosition(), r.cameraGetTargetPosition())),
+        DELTA);
+      assertEquals(
+        1.0, Vectors3D.magnitude(r.cameraGetForwardProjectedOnXZ()), DELTA);
+    }
+  }
+
+  @Test
+  public void testSphericalWrap()
+  {
+    final JCameraSphericalSnapshot x = spherical(-0.1, 0.0, 3.0);
+    final JCameraSphericalSnapshot y =
+      spherical((4.0 * Math.PI) + 0.1, 0.0, 3.0);
+
+    final JCameraSphericalSnapshot r =
+      JCameraSphericalSnapshots.interpolateSlerp(x, y, 0.5);
+    assertEquals(0.0, r.cameraGetAngleHeading(), DELTA);
+    assertVectorEquals(
+      spherical(0.0, 0.0, 3.0).cameraGetPosition(), r.cameraGetPosition());
+  }
+
+  /**
+   * The endpoints reproduce the angles of the snapshots exactly, and the
+   * clamped horizontal angle is interpolated linearly rather than along the
+   * shortest arc.
+   */
+
+  @Test
+  public void testFPSStyleEndpointAngles()
+  {
+    final JCameraFPSStyleSnapshot x = fps(-2.0, 3.0);
+    final JCameraFPSStyleSnapshot y = fps(2.0, -Math.PI / 2.0);
+
+    final JCameraFPSStyleSnapshot r0 =
+      JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 0.0);
+    final JCameraFPSStyleSnapshot r1 =
+      JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 1.0);
+    final JCameraFPSStyleSnapshot rh =
+      JCameraFPSStyleSnapshots.interpolateSlerp(x, y, 0.5);
+
+    assertEquals(-2.0, r0.cameraGetAngleAroundHorizontal(), 0.0);
+    assertEquals(3.0, r0.cameraGetAngleAroundVertical(), 0.0);
+    assertEquals(2.0, r1.cameraGetAngleAroundHorizontal(), 0.0);
+    assertEquals(-Math.PI / 2.0, r1.cameraGetAngleAroundVertical(), 0.0);
+    assertEquals(0.0, rh.cameraGetAngleAroundHorizontal(), 0.0);
+  }
+
+  /**
+   * The endpoints reproduce the angles of the snapshots exactly, and the
+   * clamped incline is interpolated linearly rather than along the shortest
+   * arc.
+   */
+
+  @Test
+  public void testSphericalEndpointAngles()
+  {
+    final JCameraSphericalSnapshot x = spherical(3.0, -2.0, 3.0);
+    final JCameraSphericalSnapshot y = spherical(-Math.PI / 2.0, 2.0, 3.0);
+
+    final JCameraSphericalSnapshot r0 =
+      JCameraSphericalSnapshots.interpolateSlerp(x, y, 0.0);
+    final JCameraSphericalSnapshot r1 =
+      JCameraSphericalSnapshots.interpolateSlerp(x, y, 1.0);
+    final JCameraSphericalSnapshot rh =
+      JCameraSphericalSnapshots.interpolateSlerp(x, y, 0.5);
+
+    assertEquals(3.0, r0.cameraGetAngleHeading(), 0.0);
+    assertEquals(-2.0, r0.cameraGetAngleIncline(), 0.0);
+    assertEquals(-Math.PI / 2.0, r1.cameraGetAngleHeading(), 0.0);
+    assertEquals(2.0, r1.cameraGetAngleIncline(), 0.0);
+    assertEquals(0.0, rh.cameraGetAngleIncline(), 0.0);
+  }
+
+  @Test
+  public void testSphericalInto()
+  {
+    final JCameraSphericalSnapshot x = spherical(0.4, -0.2, 2.0);
+    final JCameraSphericalSnapshot y = spherical(-0.3, 0.5, 4.0);
+    final JCameraSphericalSnapshotMutable m0 =
+      JCameraSphericalSnapshots.ofInto(
+        x, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable m1 =
+      JCameraSphericalSnapshots.ofInto(
+        y, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable out =
+      JCameraSphericalSnapshotMutable.create();
+
+    for (final double a : ALPHAS) {
+      assertEquals(
+        JCameraSphericalSnapshots.interpolateSlerp(x, y, a),
+        JCameraSphericalSnapshots.of(
+          JCameraSphericalSnapshots.interpolateSlerpInto(m0, m1, a, out)));
+    }
+  }
+
+  @Test
+  public void testNoAllocation()
+  {
+    final JCameraFPSStyleSnapshotMutable f0 =
+      JCameraFPSStyleSnapshots.ofInto(
+        fps(0.1, 0.2), JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable f1 =
+      JCameraFPSStyleSnapshots.ofInto(
+        fps(0.3, 2.2), JCameraFPSStyleSnapshotMutable.create());
+    final JCameraFPSStyleSnapshotMutable fo =
+      JCameraFPSStyleSnapshotMutable.create();
+    final JCameraSphericalSnapshotMutable s0 =
+      JCameraSphericalSnapshots.ofInto(
+        spherical(0.1, 0.2, 3.0), JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable s1 =
+      JCameraSphericalSnapshots.ofInto(
+        spherical(0.3, 0.9, 5.0), JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable so =
+      JCameraSphericalSnapshotMutable.create();
+
+    final com.sun.management.ThreadMXBean bean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    final int count = 100_000;
+    final long before = bean.getCurrentThreadAllocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      final double a = (double) index / (double) count;
+      JCameraFPSStyleSnapshots.interpolateSlerpInto(f0, f1, a, fo);
+      JCameraSphericalSnapshots.interpolateSlerpInto(s0, s1, a, so);
+    }
+    final long after = bean.getCurrentThreadAllocatedBytes();
+
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraSphericalInput;
+import com.io7m.jcamera.JCameraSphericalInputState;
+import com.io7m.jcamera.JCameraSphericalInputType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCameraSphericalInputTest
+{
+  private static final int PRODUCERS = 4;
+  private static final int ITERATIONS = 200_000;
+
+  private static void awaitQuietly(
+    final CountDownLatch latch)
+  {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void testKeyAndCursorCombined()
+  {
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    assertEquals(0, input.getState());
+
+    input.setTargetMovingForwardKey(true);
+    assertTrue(input.isTargetMovingForward());
+    input.setTargetMovingForwardCursor(true);
+    input.setTargetMovingForwardKey(false);
+    assertTrue(input.isTargetMovingForward());
+    assertEquals(
+      JCameraSphericalInputState.TARGET_MOVING_FORWARD,
+      input.getState());
+
+    input.setTargetMovingForwardCursor(false);
+    assertFalse(input.isTargetMovingForward());
+    assertEquals(0, input.getState());
+  }
+
+  @Test
+  public void testStateMatchesQueries()
+  {
+    final Random random = new Random(0x53544154L);
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+
+    for (int index = 0; index < 1000; ++index) {
+      final boolean value = random.nextBoolean();
+      switch (random.nextInt(16)) {
+        case 0 -> input.setTargetMovingForwardKey(value);
+        case 1 -> input.setTargetMovingForwardCursor(value);
+        case 2 -> input.setTargetMovingBackwardKey(value);
+        case 3 -> input.setTargetMovingBackwardCursor(value);
+        case 4 -> input.setTargetMovingLeftKey(value);
+        case 5 -> input.setTargetMovingLeftCursor(value);
+        case 6 -> input.setTargetMovingRightKey(value);
+        case 7 -> input.setTargetMovingRightCursor(value);
+        case 8 -> input.setTargetMovingUp(value);
+        case 9 -> input.setTargetMovingDown(value);
+        case 10 -> input.setZoomingIn(value);
+        case 11 -> input.setZoomingOut(value);
+        case 12 -> input.setOrbitHeadingPositive(value);
+        case 13 -> input.setOrbitHeadingNegative(value);
+        case 14 -> input.setOrbitInclinePositive(value);
+        default -> input.setOrbitInclineNegative(value);
+      }
+
+      assertEquals(
+        JCameraSphericalInputState.ofQueries(input),
+        input.getState());
+    }
+  }
+
+  @Test
+  public void testTakeResets()
+  {
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    input.setContinuousForwardFactor(2.0);
+    input.addTargetMovingContinuousForward(1.0);
+    input.addTargetMovingContinuousForward(0.5);
+    input.addTargetMovingContinuousRight(-3.0);
+
+    assertEquals(3.0, input.getTargetMovingForwardContinuous(), 0.0);
+    assertEquals(3.0, input.takeTargetMovingForward(), 0.0);
+    assertEquals(0.0, input.takeTargetMovingForward(), 0.0);
+    assertEquals(-3.0, input.takeTargetMovingRight(), 0.0);
+    assertEquals(0.0, input.getTargetMovingRight(), 0.0);
+  }
+
+  /**
+   * Several threads add movements while another thread concurrently takes
+   * them. Every movement must be taken exactly once. All values involved are
+   * small integers, so the sums are exact.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentAccumulationLossless()
+    throws Exception
+  {
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicBoolean done = new AtomicBoolean(false);
+
+    final List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < PRODUCERS; ++p) {
+      final Thread t = new Thread(() -> {
+        awaitQuietly(start);
+        for (int index = 0; index < ITERATIONS; ++index) {
+          input.addTargetMovingContinuousForward(1.0);
+          input.addTargetMovingContinuousRight(-2.0);
+        }
+      });
+      producers.add(t);
+      t.start();
+    }
+
+    final double[] taken = new double[2];
+    final Thread consumer = new Thread(() -> {
+      awaitQuietly(start);
+      while (!done.get()) {
+        taken[0] += input.takeTargetMovingForward();
+        taken[1] += input.takeTargetMovingRight();
+      }
+    });
+    consumer.start();
+
+    start.countDown();
+    for (final Thread t : producers) {
+      t.join();
+    }
+    done.set(true);
+    consumer.join();
+
+    taken[0] += input.takeTargetMovingForward();
+    taken[1] += input.takeTargetMovingRight();
+
+    assertEquals((double) (PRODUCERS * ITERATIONS), taken[0], 0.0);
+    assertEquals((double) (PRODUCERS * ITERATIONS) * -2.0, taken[1], 0.0);
+  }
+
+  /**
+   * Several threads repeatedly toggle different flags. Because the flags are
+   * packed into a single word, an update to one flag must never overwrite a
+   * concurrent update to another.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentFlagsIndependent()
+    throws Exception
+  {
+    final JCameraSphericalInputType input = JCameraSphericalInput.newInput();
+    final CountDownLatch start = new CountDownLatch(1);
+
+    final Thread zoom = new Thread(() -> {
+      awaitQuietly(start);
+      for (int index = 0; index < ITERATIONS; ++index) {
+        input.setZoomingIn((index & 1) == 0);
+      }
+    });
+    final Thread orbit = new Thread(() -> {
+      awaitQuietly(start);
+      for (int index = 0; index < ITERATIONS; ++index) {
+        input.setOrbitHeadingPositive((index & 1) == 0);
+      }
+    });
+    final Thread up = new Thread(() -> {
+      awaitQuietly(start);
+      for (int index = 0; index < ITERATIONS; ++index) {
+        input.setTargetMovingUp(true);
+      }
+    });
+
+    zoom.start();
+    orbit.start();
+    up.start();
+    start.countDown();
+    zoom.join();
+    orbit.join();
+    up.join();
+
+    assertEquals(JCameraSphericalInputState.TARGET_MOVING_UP, input.getState());
+  }
+}
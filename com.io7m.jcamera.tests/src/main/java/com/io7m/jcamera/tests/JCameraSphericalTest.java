@@ -16,9 +16,11 @@
 
 package com.io7m.jcamera.tests;
 
+import com.io7m.jcamera.JCameraDerivation;
 import com.io7m.jcamera.JCameraSpherical;
 import com.io7m.jcamera.JCameraSphericalReadableType;
 import com.io7m.jcamera.JCameraSphericalSnapshot;
+import com.io7m.jcamera.JCameraSphericalSnapshotMutable;
 import com.io7m.jcamera.JCameraSphericalSnapshots;
 import com.io7m.jcamera.JCameraSphericalType;
 import com.io7m.jequality.AlmostEqualDouble;
@@ -28,12 +30,47 @@ import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import org.junit.jupiter.api.Test;
 
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.io7m.jcamera.tests.JCameraTestFixtures.allocatedBytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class JCameraSphericalTest
 {
+  private static void checkPrimitiveAccessors(
+    final JCameraSphericalReadableType c)
+  {
+    final Vector3D p = c.cameraGetPosition();
+    final Vector3D r = c.cameraGetRight();
+    final Vector3D u = c.cameraGetUp();
+    final Vector3D f = c.cameraGetForward();
+    final Vector3D fxz = c.cameraGetForwardProjectedOnXZ();
+    final Vector3D t = c.cameraGetTargetPosition();
+
+    assertEquals(p.x(), c.cameraGetPositionX(), 0.0);
+    assertEquals(p.y(), c.cameraGetPositionY(), 0.0);
+    assertEquals(p.z(), c.cameraGetPositionZ(), 0.0);
+    assertEquals(r.x(), c.cameraGetRightX(), 0.0);
+    assertEquals(r.y(), c.cameraGetRightY(), 0.0);
+    assertEquals(r.z(), c.cameraGetRightZ(), 0.0);
+    assertEquals(u.x(), c.cameraGetUpX(), 0.0);
+    assertEquals(u.y(), c.cameraGetUpY(), 0.0);
+    assertEquals(u.z(), c.cameraGetUpZ(), 0.0);
+    assertEquals(f.x(), c.cameraGetForwardX(), 0.0);
+    assertEquals(f.y(), c.cameraGetForwardY(), 0.0);
+    assertEquals(f.z(), c.cameraGetForwardZ(), 0.0);
+    assertEquals(fxz.x(), c.cameraGetForwardProjectedOnXZX(), 0.0);
+    assertEquals(fxz.y(), c.cameraGetForwardProjectedOnXZY(), 0.0);
+    assertEquals(fxz.z(), c.cameraGetForwardProjectedOnXZZ(), 0.0);
+    assertEquals(t.x(), c.cameraGetTargetPositionX(), 0.0);
+    assertEquals(t.y(), c.cameraGetTargetPositionY(), 0.0);
+    assertEquals(t.z(), c.cameraGetTargetPositionZ(), 0.0);
+  }
+
   private static void dumpVector(
     final String name,
     final Vector3D v)
@@ -51,6 +88,29 @@ public final class JCameraSphericalTest
     return new ContextRelative();
   }
 
+  private static void compareMatrixArray(
+    final Matrix4x4D m,
+    final double[] a,
+    final int offset)
+  {
+    assertEquals(m.r0c0(), a[offset], 0.0);
+    assertEquals(m.r1c0(), a[offset + 1], 0.0);
+    assertEquals(m.r2c0(), a[offset + 2], 0.0);
+    assertEquals(m.r3c0(), a[offset + 3], 0.0);
+    assertEquals(m.r0c1(), a[offset + 4], 0.0);
+    assertEquals(m.r1c1(), a[offset + 5], 0.0);
+    assertEquals(m.r2c1(), a[offset + 6], 0.0);
+    assertEquals(m.r3c1(), a[offset + 7], 0.0);
+    assertEquals(m.r0c2(), a[offset + 8], 0.0);
+    assertEquals(m.r1c2(), a[offset + 9], 0.0);
+    assertEquals(m.r2c2(), a[offset + 10], 0.0);
+    assertEquals(m.r3c2(), a[offset + 11], 0.0);
+    assertEquals(m.r0c3(), a[offset + 12], 0.0);
+    assertEquals(m.r1c3(), a[offset + 13], 0.0);
+    assertEquals(m.r2c3(), a[offset + 14], 0.0);
+    assertEquals(m.r3c3(), a[offset + 15], 0.0);
+  }
+
   private static double random()
   {
     return Math.random();
@@ -82,6 +142,12 @@ public final class JCameraSphericalTest
     assertEquals(m, snap_m);
     assertEquals(pm, snap_pm);
 
+    final double[] m_array = new double[16];
+    c.cameraMakeViewMatrixInto(m_array, 0);
+    compareMatrixArray(m, m_array, 0);
+    snap.cameraMakeViewMatrixInto(m_array, 0);
+    compareMatrixArray(m, m_array, 0);
+
     final JCameraSphericalSnapshot snap2 = JCameraSphericalSnapshots.of(c);
     final JCameraSphericalSnapshot snap3 = JCameraSphericalSnapshots.of(snap);
 
@@ -829,6 +895,220 @@ public final class JCameraSphericalTest
       snap_0_i1.cameraGetTargetPosition());
   }
 
+  @Test
+  public void testViewMatrixInto()
+  {
+    final var c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    c.cameraOrbitHeading(0.3);
+    c.cameraOrbitIncline(0.2);
+
+    final Matrix4x4D m = c.cameraMakeViewMatrix();
+
+    final double[] array = new double[20];
+    array[0] = 23.0;
+    array[1] = 23.0;
+    array[18] = 23.0;
+    array[19] = 23.0;
+    c.cameraMakeViewMatrixInto(array, 2);
+    compareMatrixArray(m, array, 2);
+    assertEquals(23.0, array[0], 0.0);
+    assertEquals(23.0, array[1], 0.0);
+    assertEquals(23.0, array[18], 0.0);
+    assertEquals(23.0, array[19], 0.0);
+
+    final DoubleBuffer buffer = DoubleBuffer.allocate(20);
+    buffer.position(3);
+    c.cameraMakeViewMatrixInto(buffer, 4);
+    assertEquals(3, buffer.position());
+
+    final double[] buffer_array = new double[20];
+    buffer.get(0, buffer_array);
+    compareMatrixArray(m, buffer_array, 4);
+  }
+
+  /**
+   * Lazily and eagerly deriving cameras produce identical results for any
+   * sequence of operations.
+   */
+
+  @Test
+  public void testDerivationEagerMatchesLazy()
+  {
+    final Random random = new Random(0x45414732L);
+    final JCameraSphericalType lazy = JCameraSpherical.newCamera();
+    final JCameraSphericalType eager =
+      JCameraSpherical.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    final JCameraSphericalType[] cameras = {lazy, eager};
+
+    for (int index = 0; index < 1000; ++index) {
+      final int op = random.nextInt(10);
+      final double x = (random.nextDouble() - 0.5) * 4.0;
+      for (final JCameraSphericalType c : cameras) {
+        switch (op) {
+          case 0 -> c.cameraOrbitHeading(x);
+          case 1 -> c.cameraOrbitIncline(x);
+          case 2 -> c.cameraMoveTargetForwardOnXZ(x);
+          case 3 -> c.cameraMoveTargetRight(x);
+          case 4 -> c.cameraMoveTargetUp(x);
+          case 5 -> c.cameraSetAngleHeading(x);
+          case 6 -> c.cameraSetAngleIncline(x);
+          case 7 -> c.cameraSetTargetPosition3(x, -x, x * 2.0);
+          case 8 -> c.cameraZoomIn(x);
+          default -> c.cameraSetZoom(x * 4.0);
+        }
+      }
+
+      if (random.nextBoolean()) {
+        assertEquals(lazy.cameraGetForward(), eager.cameraGetForward());
+        assertEquals(
+          lazy.cameraGetForwardProjectedOnXZ(),
+          eager.cameraGetForwardProjectedOnXZ());
+        assertEquals(lazy.cameraGetRight(), eager.cameraGetRight());
+        assertEquals(lazy.cameraGetUp(), eager.cameraGetUp());
+        assertEquals(lazy.cameraGetPosition(), eager.cameraGetPosition());
+        assertEquals(
+          lazy.cameraMakeViewMatrix(), eager.cameraMakeViewMatrix());
+      }
+    }
+
+    assertEquals(lazy, eager);
+    assertEquals(
+      eager,
+      JCameraSpherical.newCameraFrom(
+        eager, JCameraDerivation.DERIVATION_EAGER));
+  }
+
+  /**
+   * An eagerly deriving camera can be read from several threads at once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDerivationEagerConcurrentReads()
+    throws Exception
+  {
+    final JCameraSphericalType c =
+      JCameraSpherical.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    c.cameraOrbitHeading(0.7);
+    c.cameraOrbitIncline(0.3);
+    c.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+
+    final JCameraSphericalType expected = JCameraSpherical.newCameraFrom(c);
+    final Vector3D position = expected.cameraGetPosition();
+    final Vector3D forward = expected.cameraGetForward();
+    final Vector3D right = expected.cameraGetRight();
+    final Vector3D up = expected.cameraGetUp();
+
+    final AtomicBoolean consistent = new AtomicBoolean(true);
+    final Thread[] readers = new Thread[4];
+    for (int r = 0; r < readers.length; ++r) {
+      readers[r] = new Thread(() -> {
+        for (int index = 0; index < 10000; ++index) {
+          final boolean ok =
+            position.equals(c.cameraGetPosition())
+              && forward.equals(c.cameraGetForward())
+              && right.equals(c.cameraGetRight())
+              && up.equals(c.cameraGetUp());
+          if (!ok) {
+            consistent.set(false);
+          }
+        }
+      });
+    }
+
+    for (final Thread reader : readers) {
+      reader.start();
+    }
+    for (final Thread reader : readers) {
+      reader.join();
+    }
+    assertTrue(consistent.get());
+  }
+
+  /**
+   * Moving the target or changing the zoom does not rederive the
+   * orientation of the camera, and produces the same results as a camera
+   * constructed directly at the resulting position.
+   */
+
+  @Test
+  public void testDerivationPanningSkipsOrientation()
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraOrbitHeading(0.3);
+    c.cameraOrbitIncline(0.4);
+    c.cameraGetPosition();
+    assertEquals(1L, c.cameraGetOrientationDerivations());
+    assertEquals(1L, c.cameraGetPositionDerivations());
+
+    for (int index = 0; index < 100; ++index) {
+      c.cameraMoveTargetRight(0.5);
+      c.cameraMoveTargetForwardOnXZ(0.25);
+      c.cameraMoveTargetUp(0.125);
+      c.cameraGetPosition();
+    }
+    c.cameraZoomIn(2.0);
+    c.cameraMakeViewMatrix();
+
+    assertEquals(1L, c.cameraGetOrientationDerivations());
+    assertEquals(102L, c.cameraGetPositionDerivations());
+
+    final JCameraSphericalType d = JCameraSpherical.newCameraFrom(c);
+    assertEquals(d.cameraGetPosition(), c.cameraGetPosition());
+    assertEquals(d.cameraGetForward(), c.cameraGetForward());
+    assertEquals(d.cameraGetRight(), c.cameraGetRight());
+    assertEquals(d.cameraGetUp(), c.cameraGetUp());
+    assertEquals(d.cameraMakeViewMatrix(), c.cameraMakeViewMatrix());
+
+    c.cameraOrbitHeading(0.1);
+    c.cameraGetForward();
+    assertEquals(2L, c.cameraGetOrientationDerivations());
+    assertEquals(102L, c.cameraGetPositionDerivations());
+    c.cameraGetPosition();
+    assertEquals(103L, c.cameraGetPositionDerivations());
+  }
+
+  /**
+   * An eagerly deriving camera also rederives only its position when
+   * panned.
+   */
+
+  @Test
+  public void testDerivationPanningSkipsOrientationEager()
+  {
+    final JCameraSphericalType c =
+      JCameraSpherical.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    assertEquals(1L, c.cameraGetOrientationDerivations());
+    assertEquals(1L, c.cameraGetPositionDerivations());
+
+    c.cameraSetTargetPosition3(1.0, 2.0, 3.0);
+    c.cameraSetZoom(4.0);
+    c.cameraMoveTargetRight(1.0);
+    assertEquals(1L, c.cameraGetOrientationDerivations());
+    assertEquals(4L, c.cameraGetPositionDerivations());
+
+    c.cameraSetAngleHeading(1.0);
+    assertEquals(2L, c.cameraGetOrientationDerivations());
+    assertEquals(5L, c.cameraGetPositionDerivations());
+  }
+
+  /**
+   * Disabling the radius clamp affects the radius and not the incline.
+   */
+
+  @Test
+  public void testClampRadiusDisable()
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraClampRadiusDisable();
+    c.cameraSetZoom(0.25);
+    assertEquals(0.25, c.cameraGetZoom(), 0.0);
+    c.cameraSetAngleIncline(2.0);
+    assertEquals(1.4, c.cameraGetAngleIncline(), 0.0);
+  }
+
   private interface ViewSpace
   {
     // Nothing
@@ -838,4 +1118,191 @@ public final class JCameraSphericalTest
   {
     // Nothing
   }
+
+  /**
+   * The primitive accessors agree exactly with the vector accessors for
+   * cameras and snapshots.
+   */
+
+  @Test
+  public void testPrimitiveAccessors()
+  {
+    final Random random = new Random(0x51d2e6b8L);
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    final JCameraSphericalSnapshotMutable m =
+      JCameraSphericalSnapshotMutable.create();
+
+    for (int index = 0; index < 1000; ++index) {
+      final double x = (random.nextDouble() - 0.5) * 4.0;
+      switch (random.nextInt(6)) {
+        case 0 -> c.cameraOrbitHeading(x);
+        case 1 -> c.cameraOrbitIncline(x);
+        case 2 -> c.cameraMoveTargetForwardOnXZ(x);
+        case 3 -> c.cameraMoveTargetRight(x);
+        case 4 -> c.cameraMoveTargetUp(x);
+        default -> c.cameraSetZoom(Math.abs(x) + 1.0);
+      }
+
+      checkPrimitiveAccessors(c);
+      checkPrimitiveAccessors(JCameraSphericalSnapshots.of(c));
+      checkPrimitiveAccessors(JCameraSphericalSnapshots.ofInto(c, m));
+    }
+  }
+
+  /**
+   * Moving, orbiting, and reading the primitive accessors of a camera does
+   * not allocate.
+   */
+
+  @Test
+  public void testMoveOrbitNoAllocation()
+  {
+    final JCameraSphericalType lazy = JCameraSpherical.newCamera();
+    final JCameraSphericalType eager =
+      JCameraSpherical.newCamera(JCameraDerivation.DERIVATION_EAGER);
+    final int count = 10000;
+
+    double total = 0.0;
+    for (int index = 0; index < count; ++index) {
+      total += moveAndRead(lazy) + moveAndRead(eager);
+    }
+
+    final long before = allocatedBytes();
+    for (int index = 0; index < count; ++index) {
+      total += moveAndRead(lazy) + moveAndRead(eager);
+    }
+    final long after = allocatedBytes();
+
+    assertTrue(Double.isFinite(total));
+    assertTrue(
+      after - before < (long) count,
+      "Allocated " + (after - before) + " bytes");
+  }
+
+  private static double moveAndRead(
+    final JCameraSphericalType c)
+  {
+    c.cameraOrbitHeading(0.001);
+    c.cameraOrbitIncline(0.0);
+    c.cameraMoveTargetForwardOnXZ(0.01);
+    c.cameraMoveTargetRight(0.01);
+    c.cameraMoveTargetUp(0.01);
+    return c.cameraGetPositionX()
+      + c.cameraGetRightY()
+      + c.cameraGetUpZ()
+      + c.cameraGetForwardProjectedOnXZX()
+      + c.cameraGetTargetPositionZ();
+  }
+
+  /**
+   * Orbiting for a long time keeps the heading in the range
+   * {@code [-π, π]} without disturbing the orientation.
+   */
+
+  @Test
+  public void testOrbitHeadingWraps()
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    final double h0 = c.cameraGetAngleHeading();
+    c.cameraOrbitHeading(0.5);
+    assertEquals(h0 + 0.5, c.cameraGetAngleHeading(), 0.0);
+
+    boolean in_range = true;
+    for (int index = 0; index < 1_000_000; ++index) {
+      c.cameraOrbitHeading(0.01);
+      final double h = c.cameraGetAngleHeading();
+      in_range = in_range && h >= -Math.PI && h <= Math.PI;
+    }
+    assertTrue(in_range);
+
+    final JCameraSphericalType expected = JCameraSpherical.newCamera();
+    expected.cameraSetAngleHeading(h0 + 0.5 + 10000.0);
+
+    final Vector3D p = c.cameraGetPosition();
+    final Vector3D e = expected.cameraGetPosition();
+    assertEquals(e.x(), p.x(), 1.0e-8);
+    assertEquals(e.y(), p.y(), 1.0e-8);
+    assertEquals(e.z(), p.z(), 1.0e-8);
+  }
+
+  /**
+   * Interpolating between snapshots takes the shortest arc around the
+   * target when the heading wraps.
+   */
+
+  @Test
+  public void testSnapshotInterpolationWraps()
+  {
+    final JCameraSphericalType c0 = JCameraSpherical.newCamera();
+    c0.cameraSetAngleHeading(Math.PI - 0.1);
+    final JCameraSphericalType c1 = JCameraSpherical.newCamera();
+    c1.cameraSetAngleHeading(-Math.PI + 0.1);
+
+    final JCameraSphericalSnapshot s =
+      JCameraSphericalSnapshots.interpolate(
+        JCameraSphericalSnapshots.of(c0),
+        JCameraSphericalSnapshots.of(c1),
+        0.5);
+    assertEquals(Math.PI, Math.abs(s.cameraGetAngleHeading()), 1.0e-12);
+
+    final JCameraSphericalSnapshotMutable m =
+      JCameraSphericalSnapshots.interpolateInto(
+        JCameraSphericalSnapshots.ofInto(
+          c0, JCameraSphericalSnapshotMutable.create()),
+        JCameraSphericalSnapshots.ofInto(
+          c1, JCameraSphericalSnapshotMutable.create()),
+        0.5,
+        JCameraSphericalSnapshotMutable.create());
+    assertEquals(
+      s.cameraGetAngleHeading(),
+      m.cameraGetAngleHeading(),
+      0.0);
+  }
+
+  /**
+   * Interpolating between snapshots yields exactly the headings of the
+   * snapshots at the endpoints, even when the headings are more than
+   * {@code π} apart.
+   */
+
+  @Test
+  public void testSnapshotInterpolationWrapsEndpoints()
+  {
+    final JCameraSphericalType c0 = JCameraSpherical.newCamera();
+    c0.cameraSetAngleHeading(3.0);
+    final JCameraSphericalType c1 = JCameraSpherical.newCamera();
+    c1.cameraSetAngleHeading(-Math.PI / 2.0);
+
+    final JCameraSphericalSnapshot s0 = JCameraSphericalSnapshots.of(c0);
+    final JCameraSphericalSnapshot s1 = JCameraSphericalSnapshots.of(c1);
+    final JCameraSphericalSnapshotMutable m0 =
+      JCameraSphericalSnapshots.ofInto(
+        c0, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable m1 =
+      JCameraSphericalSnapshots.ofInto(
+        c1, JCameraSphericalSnapshotMutable.create());
+    final JCameraSphericalSnapshotMutable m =
+      JCameraSphericalSnapshotMutable.create();
+
+    assertEquals(
+      3.0,
+      JCameraSphericalSnapshots.interpolate(s0, s1, 0.0)
+        .cameraGetAngleHeading(),
+      0.0);
+    assertEquals(
+      -Math.PI / 2.0,
+      JCameraSphericalSnapshots.interpolate(s0, s1, 1.0)
+        .cameraGetAngleHeading(),
+      0.0);
+    assertEquals(
+      3.0,
+      JCameraSphericalSnapshots.interpolateInto(m0, m1, 0.0, m)
+        .cameraGetAngleHeading(),
+      0.0);
+    assertEquals(
+      -Math.PI / 2.0,
+      JCameraSphericalSnapshots.interpolateInto(m0, m1, 1.0, m)
+        .cameraGetAngleHeading(),
+      0.0);
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.tests;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.jcamera.JCameraFPSStyleType;
+import com.io7m.jcamera.JCameraSpherical;
+import com.io7m.jcamera.JCameraSphericalType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Fixtures shared between tests.
+ */
+
+final class JCameraTestFixtures
+{
+  private JCameraTestFixtures()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return The number of bytes allocated so far by the current thread
+   */
+
+  static long allocatedBytes()
+  {
+    final com.sun.management.ThreadMXBean bean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return bean.getCurrentThreadAllocatedBytes();
+  }
+
+  /**
+   * Construct an FPS-style camera at {@code (x, 2x, -3x)}, rotated by
+   * {@code vertical * x} around the vertical axis and then by
+   * {@code horizontal * x} around the horizontal axis.
+   *
+   * @param x          The parameter
+   * @param vertical   The vertical rotation factor
+   * @param horizontal The horizontal rotation factor
+   *
+   * @return A new camera
+   */
+
+  static JCameraFPSStyleType fpsCamera(
+    final double x,
+    final double vertical,
+    final double horizontal)
+  {
+    final JCameraFPSStyleType c = JCameraFPSStyle.newCamera();
+    c.cameraSetPosition3(x, 2.0 * x, -3.0 * x);
+    c.cameraRotateAroundVertical(vertical * x);
+    c.cameraRotateAroundHorizontal(horizontal * x);
+    return c;
+  }
+
+  /**
+   * Construct a spherical camera targeting {@code (x, 2x, -3x)}, orbited by
+   * {@code heading * x} and {@code incline * x}, with a zoom of
+   * {@code 4 + x}.
+   *
+   * @param x       The parameter
+   * @param heading The heading factor
+   * @param incline The incline factor
+   *
+   * @return A new camera
+   */
+
+  static JCameraSphericalType sphericalCamera(
+    final double x,
+    final double heading,
+    final double incline)
+  {
+    final JCameraSphericalType c = JCameraSpherical.newCamera();
+    c.cameraSetTargetPosition3(x, 2.0 * x, -3.0 * x);
+    c.cameraOrbitHeading(heading * x);
+    c.cameraOrbitIncline(incline * x);
+    c.cameraSetZoom(4.0 + x);
+    return c;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.vectorized;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Functions to derive the bases of many cameras at once.</p>
+ *
+ * <p>If the {@code jdk.incubator.vector} module is available (for example,
+ * because the JVM was started with {@code --add-modules jdk.incubator.vector})
+ * and the platform supports vectors of more than one {@code double}, the
+ * derivation is performed several cameras at a time using the Vector API.
+ * Otherwise, a scalar implementation that produces results bit-for-bit
+ * identical to the cameras in {@code com.io7m.jcamera.core} is used.</p>
+ *
+ * <p>The vectorized trigonometric functions are not guaranteed to produce
+ * results identical to {@link Math#sin(double)} and
+ * {@link Math#cos(double)}, and so the vectorized results may differ from the
+ * scalar results by a small number of ulps.</p>
+ */
+
+public final class JCameraBasesDerivation
+{
+  private static final boolean VECTORIZED = vectorSupported();
+
+  private JCameraBasesDerivation()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static boolean vectorSupported()
+  {
+    try {
+      return JCameraBasesVector.lanes() > 1;
+    } catch (final LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if derivation will use the Vector API
+   */
+
+  public static boolean isVectorized()
+  {
+    return VECTORIZED;
+  }
+
+  /**
+   * Derive the forward, right, and up vectors for all cameras.
+   *
+   * @param b The cameras
+   */
+
+  public static void deriveFPSStyle(
+    final JCameraFPSStyleBases b)
+  {
+    Objects.requireNonNull(b, "Bases");
+
+    int start = 0;
+    if (VECTORIZED) {
+      start = JCameraBasesVector.deriveFPSStyle(b);
+    }
+    JCameraBasesScalar.deriveFPSStyle(b, start, b.size());
+  }
+
+  /**
+   * Derive the forward, right, and up vectors for all cameras without using
+   * the Vector API.
+   *
+   * @param b The cameras
+   */
+
+  public static void deriveFPSStyleScalar(
+    final JCameraFPSStyleBases b)
+  {
+    Objects.requireNonNull(b, "Bases");
+    JCameraBasesScalar.deriveFPSStyle(b, 0, b.size());
+  }
+
+  /**
+   * Derive the positions and the forward, right, and up vectors for all
+   * cameras.
+   *
+   * @param b The cameras
+   */
+
+  public static void deriveSpherical(
+    final JCameraSphericalBases b)
+  {
+    Objects.requireNonNull(b, "Bases");
+
+    int start = 0;
+    if (VECTORIZED) {
+      start = JCameraBasesVector.deriveSpherical(b);
+    }
+    JCameraBasesScalar.deriveSpherical(b, start, b.size());
+  }
+
+  /**
+   * Derive the positions and the forward, right, and up vectors for all
+   * cameras without using the Vector API.
+   *
+   * @param b The cameras
+   */
+
+  public static void deriveSphericalScalar(
+    final JCameraSphericalBases b)
+  {
+    Objects.requireNonNull(b, "Bases");
+    JCameraBasesScalar.deriveSpherical(b, 0, b.size());
+  }
+}
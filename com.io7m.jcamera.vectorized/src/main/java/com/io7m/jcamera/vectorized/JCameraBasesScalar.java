@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.vectorized;
+
+import com.io7m.jcamera.JCameraFPSStyle;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Scalar derivation of camera bases. FPS-style bases are derived by the same
+ * function that the cameras in {@code com.io7m.jcamera.core} use; spherical
+ * bases repeat the arithmetic of {@code JCameraSpherical}.
+ */
+
+final class JCameraBasesScalar
+{
+  private static final double INCLINE_UP_OFFSET = Math.toRadians(90.0);
+
+  private JCameraBasesScalar()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /*
+   * The scaling factor that normalizes a vector, with the same semantics as
+   * Vectors3D.normalize(): Vectors of zero length are left unchanged.
+   */
+
+  static double inverseMagnitude(
+    final double x,
+    final double y,
+    final double z)
+  {
+    final double m = (x * x) + (y * y) + (z * z);
+    if (Double.compare(m, 0.0) > 0) {
+      return 1.0 / Math.sqrt(m);
+    }
+    return 1.0;
+  }
+
+  static void deriveFPSStyle(
+    final JCameraFPSStyleBases b,
+    final int start,
+    final int end)
+  {
+    final double[] basis = new double[9];
+    for (int index = start; index < end; ++index) {
+      JCameraFPSStyle.deriveBasisInto(
+        b.angleAroundHorizontalArray()[index],
+        b.angleAroundVerticalArray()[index],
+        basis,
+        0);
+
+      b.forwardXArray()[index] = basis[0];
+      b.forwardYArray()[index] = basis[1];
+      b.forwardZArray()[index] = basis[2];
+      b.rightXArray()[index] = basis[3];
+      b.rightYArray()[index] = basis[4];
+      b.rightZArray()[index] = basis[5];
+      b.upXArray()[index] = basis[6];
+      b.upYArray()[index] = basis[7];
+      b.upZArray()[index] = basis[8];
+    }
+  }
+
+  static void deriveSpherical(
+    final JCameraSphericalBases b,
+    final int start,
+    final int end)
+  {
+    for (int index = start; index < end; ++index) {
+      deriveSphericalPositionForward(b, index);
+      deriveSphericalUpRight(b, index);
+    }
+  }
+
+  private static void deriveSphericalPositionForward(
+    final JCameraSphericalBases b,
+    final int index)
+  {
+    final double a = b.headingArray()[index];
+    final double i = b.inclineArray()[index];
+    final double r = b.radiusArray()[index];
+    final double cos_i = Math.cos(i);
+
+    final double x = Math.cos(a) * cos_i;
+    final double y = Math.sin(i);
+    final double z = -(cos_i * Math.sin(a));
+
+    b.positionXArray()[index] = b.targetXArray()[index] + (x * r);
+    b.positionYArray()[index] = b.targetYArray()[index] + (y * r);
+    b.positionZArray()[index] = b.targetZArray()[index] + (z * r);
+
+    final double fx = x * -1.0;
+    final double fy = y * -1.0;
+    final double fz = z * -1.0;
+    final double f_scale = inverseMagnitude(fx, fy, fz);
+    final double nfx = fx * f_scale;
+    final double nfz = fz * f_scale;
+    b.forwardXArray()[index] = nfx;
+    b.forwardYArray()[index] = fy * f_scale;
+    b.forwardZArray()[index] = nfz;
+
+    final double xz_scale = inverseMagnitude(nfx, 0.0, nfz);
+    b.forwardOnXzXArray()[index] = nfx * xz_scale;
+    b.forwardOnXzYArray()[index] = 0.0 * xz_scale;
+    b.forwardOnXzZArray()[index] = nfz * xz_scale;
+  }
+
+  private static void deriveSphericalUpRight(
+    final JCameraSphericalBases b,
+    final int index)
+  {
+    final double a = b.headingArray()[index];
+    final double im = b.inclineArray()[index] - INCLINE_UP_OFFSET;
+    final double cos_im = Math.cos(im);
+
+    final double ux = (Math.cos(a) * cos_im) * -1.0;
+    final double uy = Math.sin(im) * -1.0;
+    final double uz = (-(cos_im * Math.sin(a))) * -1.0;
+    final double u_scale = inverseMagnitude(ux, uy, uz);
+    final double nux = ux * u_scale;
+    final double nuy = uy * u_scale;
+    final double nuz = uz * u_scale;
+    b.upXArray()[index] = nux;
+    b.upYArray()[index] = nuy;
+    b.upZArray()[index] = nuz;
+
+    final double fx = b.forwardXArray()[index];
+    final double fy = b.forwardYArray()[index];
+    final double fz = b.forwardZArray()[index];
+    b.rightXArray()[index] = (fy * nuz) - (fz * nuy);
+    b.rightYArray()[index] = (fz * nux) - (fx * nuz);
+    b.rightZArray()[index] = (fx * nuy) - (fy * nux);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.vectorized;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Derivation of camera bases using the Vector API. This class must only be
+ * loaded when the {@code jdk.incubator.vector} module is available.
+ */
+
+final class JCameraBasesVector
+{
+  private static final VectorSpecies<Double> SPECIES =
+    DoubleVector.SPECIES_PREFERRED;
+  private static final double INCLINE_UP_OFFSET = Math.toRadians(90.0);
+
+  private JCameraBasesVector()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int lanes()
+  {
+    return SPECIES.length();
+  }
+
+  /*
+   * The scaling factors that normalize vectors, with the same semantics as
+   * JCameraBasesScalar.inverseMagnitude().
+   */
+
+  private static DoubleVector inverseMagnitude(
+    final DoubleVector x,
+    final DoubleVector y,
+    final DoubleVector z)
+  {
+    final DoubleVector m = x.mul(x).add(y.mul(y)).add(z.mul(z));
+    final VectorMask<Double> positive =
+      m.compare(VectorOperators.GT, 0.0)
+        .or(m.test(VectorOperators.IS_NAN));
+    final DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+    return one.blend(one.div(m.lanewise(VectorOperators.SQRT)), positive);
+  }
+
+  /**
+   * Derive bases for as many whole vectors of cameras as possible.
+   *
+   * @param b The cameras
+   *
+   * @return The index of the first camera that was not processed
+   */
+
+  static int deriveFPSStyle(
+    final JCameraFPSStyleBases b)
+  {
+    final int bound = SPECIES.loopBound(b.size());
+    for (int index = 0; index < bound; index += SPECIES.length()) {
+      deriveFPSStyleLanes(b, index);
+    }
+    return bound;
+  }
+
+  /**
+   * Derive bases for as many whole vectors of cameras as possible.
+   *
+   * @param b The cameras
+   *
+   * @return The index of the first camera that was not processed
+   */
+
+  static int deriveSpherical(
+    final JCameraSphericalBases b)
+  {
+    final int bound = SPECIES.loopBound(b.size());
+    for (int index = 0; index < bound; index += SPECIES.length()) {
+      deriveSphericalPositionForwardLanes(b, index);
+      deriveSphericalUpRightLanes(b, index);
+    }
+    return bound;
+  }
+
+  private static void deriveFPSStyleLanes(
+    final JCameraFPSStyleBases b,
+    final int index)
+  {
+    final DoubleVector v =
+      DoubleVector.fromArray(SPECIES, b.angleAroundVerticalArray(), index);
+    final DoubleVector h =
+      DoubleVector.fromArray(SPECIES, b.angleAroundHorizontalArray(), index);
+    final DoubleVector cos_h = h.lanewise(VectorOperators.COS);
+
+    final DoubleVector fx = cos_h.mul(v.lanewise(VectorOperators.COS));
+    final DoubleVector fy = h.lanewise(VectorOperators.SIN);
+    final DoubleVector fz = cos_h.mul(v.lanewise(VectorOperators.SIN)).neg();
+    final DoubleVector f_scale = inverseMagnitude(fx, fy, fz);
+    final DoubleVector nfx = fx.mul(f_scale);
+    final DoubleVector nfy = fy.mul(f_scale);
+    final DoubleVector nfz = fz.mul(f_scale);
+
+    final DoubleVector vr = v.sub(Math.PI / 2.0);
+    final DoubleVector zero = DoubleVector.zero(SPECIES);
+    final DoubleVector rx = cos_h.mul(vr.lanewise(VectorOperators.COS));
+    final DoubleVector rz = cos_h.mul(vr.lanewise(VectorOperators.SIN)).neg();
+    final DoubleVector r_scale = inverseMagnitude(rx, zero, rz);
+    final DoubleVector nrx = rx.mul(r_scale);
+    final DoubleVector nry = zero.mul(r_scale);
+    final DoubleVector nrz = rz.mul(r_scale);
+
+    nfx.intoArray(b.forwardXArray(), index);
+    nfy.intoArray(b.forwardYArray(), index);
+    nfz.intoArray(b.forwardZArray(), index);
+    nrx.intoArray(b.rightXArray(), index);
+    nry.intoArray(b.rightYArray(), index);
+    nrz.intoArray(b.rightZArray(), index);
+    nry.mul(nfz).sub(nrz.mul(nfy)).intoArray(b.upXArray(), index);
+    nrz.mul(nfx).sub(nrx.mul(nfz)).intoArray(b.upYArray(), index);
+    nrx.mul(nfy).sub(nry.mul(nfx)).intoArray(b.upZArray(), index);
+  }
+
+  private static void deriveSphericalPositionForwardLanes(
+    final JCameraSphericalBases b,
+    final int index)
+  {
+    final DoubleVector a =
+      DoubleVector.fromArray(SPECIES, b.headingArray(), index);
+    final DoubleVector i =
+      DoubleVector.fromArray(SPECIES, b.inclineArray(), index);
+    final DoubleVector r =
+      DoubleVector.fromArray(SPECIES, b.radiusArray(), index);
+    final DoubleVector cos_i = i.lanewise(VectorOperators.COS);
+
+    final DoubleVector x = a.lanewise(VectorOperators.COS).mul(cos_i);
+    final DoubleVector y = i.lanewise(VectorOperators.SIN);
+    final DoubleVector z = cos_i.mul(a.lanewise(VectorOperators.SIN)).neg();
+
+    DoubleVector.fromArray(SPECIES, b.targetXArray(), index)
+      .add(x.mul(r))
+      .intoArray(b.positionXArray(), index);
+    DoubleVector.fromArray(SPECIES, b.targetYArray(), index)
+      .add(y.mul(r))
+      .intoArray(b.positionYArray(), index);
+    DoubleVector.fromArray(SPECIES, b.targetZArray(), index)
+      .add(z.mul(r))
+      .intoArray(b.positionZArray(), index);
+
+    final DoubleVector fx = x.neg();
+    final DoubleVector fy = y.neg();
+    final DoubleVector fz = z.neg();
+    final DoubleVector f_scale = inverseMagnitude(fx, fy, fz);
+    final DoubleVector nfx = fx.mul(f_scale);
+    final DoubleVector nfz = fz.mul(f_scale);
+    nfx.intoArray(b.forwardXArray(), index);
+    fy.mul(f_scale).intoArray(b.forwardYArray(), index);
+    nfz.intoArray(b.forwardZArray(), index);
+
+    final DoubleVector zero = DoubleVector.zero(SPECIES);
+    final DoubleVector xz_scale = inverseMagnitude(nfx, zero, nfz);
+    nfx.mul(xz_scale).intoArray(b.forwardOnXzXArray(), index);
+    zero.mul(xz_scale).intoArray(b.forwardOnXzYArray(), index);
+    nfz.mul(xz_scale).intoArray(b.forwardOnXzZArray(), index);
+  }
+
+  private static void deriveSphericalUpRightLanes(
+    final JCameraSphericalBases b,
+    final int index)
+  {
+    final DoubleVector a =
+      DoubleVector.fromArray(SPECIES, b.headingArray(), index);
+    final DoubleVector im =
+      DoubleVector.fromArray(SPECIES, b.inclineArray(), index)
+        .sub(INCLINE_UP_OFFSET);
+    final DoubleVector cos_im = im.lanewise(VectorOperators.COS);
+
+    final DoubleVector ux = a.lanewise(VectorOperators.COS).mul(cos_im).neg();
+    final DoubleVector uy = im.lanewise(VectorOperators.SIN).neg();
+    final DoubleVector uz = cos_im.mul(a.lanewise(VectorOperators.SIN));
+    final DoubleVector u_scale = inverseMagnitude(ux, uy, uz);
+    final DoubleVector nux = ux.mul(u_scale);
+    final DoubleVector nuy = uy.mul(u_scale);
+    final DoubleVector nuz = uz.mul(u_scale);
+    nux.intoArray(b.upXArray(), index);
+    nuy.intoArray(b.upYArray(), index);
+    nuz.intoArray(b.upZArray(), index);
+
+    final DoubleVector fx =
+      DoubleVector.fromArray(SPECIES, b.forwardXArray(), index);
+    final DoubleVector fy =
+      DoubleVector.fromArray(SPECIES, b.forwardYArray(), index);
+    final DoubleVector fz =
+      DoubleVector.fromArray(SPECIES, b.forwardZArray(), index);
+    fy.mul(nuz).sub(fz.mul(nuy)).intoArray(b.rightXArray(), index);
+    fz.mul(nux).sub(fx.mul(nuz)).intoArray(b.rightYArray(), index);
+    fx.mul(nuy).sub(fy.mul(nux)).intoArray(b.rightZArray(), index);
+  }
+}
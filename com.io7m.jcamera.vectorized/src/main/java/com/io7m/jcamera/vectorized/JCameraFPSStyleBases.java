@@ -0,0 +1,297 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.vectorized;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+
+/**
+ * <p>The inputs and derived bases for a set of FPS-style cameras, stored as
+ * parallel arrays of primitive values.</p>
+ *
+ * <p>The angles of each camera are set with
+ * {@link #setAngles(int, double, double)}, and the forward, right, and up
+ * vectors are written by
+ * {@link JCameraBasesDerivation#deriveFPSStyle(JCameraFPSStyleBases)}.</p>
+ */
+
+@EqualityReference
+public final class JCameraFPSStyleBases
+{
+  private final int size;
+  private final double[] angle_around_horizontal;
+  private final double[] angle_around_vertical;
+  private final double[] forward_x;
+  private final double[] forward_y;
+  private final double[] forward_z;
+  private final double[] right_x;
+  private final double[] right_y;
+  private final double[] right_z;
+  private final double[] up_x;
+  private final double[] up_y;
+  private final double[] up_z;
+
+  private JCameraFPSStyleBases(
+    final int in_size)
+  {
+    this.size = in_size;
+    this.angle_around_horizontal = new double[in_size];
+    this.angle_around_vertical = new double[in_size];
+    this.forward_x = new double[in_size];
+    this.forward_y = new double[in_size];
+    this.forward_z = new double[in_size];
+    this.right_x = new double[in_size];
+    this.right_y = new double[in_size];
+    this.right_z = new double[in_size];
+    this.up_x = new double[in_size];
+    this.up_y = new double[in_size];
+    this.up_z = new double[in_size];
+
+    Arrays.fill(this.angle_around_vertical, Math.PI / 2.0);
+  }
+
+  /**
+   * Create storage for the given number of cameras.
+   *
+   * @param size The number of cameras
+   *
+   * @return New storage
+   */
+
+  public static JCameraFPSStyleBases create(
+    final int size)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      size, "Size", 0, "Minimum size");
+    return new JCameraFPSStyleBases(size);
+  }
+
+  /**
+   * @return The number of cameras
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Set the angles for the camera at {@code index}.
+   *
+   * @param index The camera index
+   * @param h     The angle around the horizontal axis
+   * @param v     The angle around the vertical axis
+   */
+
+  public void setAngles(
+    final int index,
+    final double h,
+    final double v)
+  {
+    this.angle_around_horizontal[index] = h;
+    this.angle_around_vertical[index] = v;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The angle around the horizontal axis
+   */
+
+  public double getAngleAroundHorizontal(
+    final int index)
+  {
+    return this.angle_around_horizontal[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The angle around the vertical axis
+   */
+
+  public double getAngleAroundVertical(
+    final int index)
+  {
+    return this.angle_around_vertical[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the forward direction
+   */
+
+  public double getForwardX(
+    final int index)
+  {
+    return this.forward_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the forward direction
+   */
+
+  public double getForwardY(
+    final int index)
+  {
+    return this.forward_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the forward direction
+   */
+
+  public double getForwardZ(
+    final int index)
+  {
+    return this.forward_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the right direction
+   */
+
+  public double getRightX(
+    final int index)
+  {
+    return this.right_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the right direction
+   */
+
+  public double getRightY(
+    final int index)
+  {
+    return this.right_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the right direction
+   */
+
+  public double getRightZ(
+    final int index)
+  {
+    return this.right_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the up direction
+   */
+
+  public double getUpX(
+    final int index)
+  {
+    return this.up_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the up direction
+   */
+
+  public double getUpY(
+    final int index)
+  {
+    return this.up_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the up direction
+   */
+
+  public double getUpZ(
+    final int index)
+  {
+    return this.up_z[index];
+  }
+
+  double[] angleAroundHorizontalArray()
+  {
+    return this.angle_around_horizontal;
+  }
+
+  double[] angleAroundVerticalArray()
+  {
+    return this.angle_around_vertical;
+  }
+
+  double[] forwardXArray()
+  {
+    return this.forward_x;
+  }
+
+  double[] forwardYArray()
+  {
+    return this.forward_y;
+  }
+
+  double[] forwardZArray()
+  {
+    return this.forward_z;
+  }
+
+  double[] rightXArray()
+  {
+    return this.right_x;
+  }
+
+  double[] rightYArray()
+  {
+    return this.right_y;
+  }
+
+  double[] rightZArray()
+  {
+    return this.right_z;
+  }
+
+  double[] upXArray()
+  {
+    return this.up_x;
+  }
+
+  double[] upYArray()
+  {
+    return this.up_y;
+  }
+
+  double[] upZArray()
+  {
+    return this.up_z;
+  }
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcamera.vectorized;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+
+/**
+ * <p>The inputs and derived bases for a set of spherical cameras, stored as
+ * parallel arrays of primitive values.</p>
+ *
+ * <p>The orientation and target of each camera are set with
+ * {@link #setOrientation(int, double, double, double)} and
+ * {@link #setTarget3(int, double, double, double)}, and the position and
+ * direction vectors are written by
+ * {@link JCameraBasesDerivation#deriveSpherical(JCameraSphericalBases)}.</p>
+ */
+
+@EqualityReference
+public final class JCameraSphericalBases
+{
+  private final int size;
+  private final double[] forward_on_xz_x;
+  private final double[] forward_on_xz_y;
+  private final double[] forward_on_xz_z;
+  private final double[] forward_x;
+  private final double[] forward_y;
+  private final double[] forward_z;
+  private final double[] heading;
+  private final double[] incline;
+  private final double[] position_x;
+  private final double[] position_y;
+  private final double[] position_z;
+  private final double[] radius;
+  private final double[] right_x;
+  private final double[] right_y;
+  private final double[] right_z;
+  private final double[] target_x;
+  private final double[] target_y;
+  private final double[] target_z;
+  private final double[] up_x;
+  private final double[] up_y;
+  private final double[] up_z;
+
+  private JCameraSphericalBases(
+    final int in_size)
+  {
+    this.size = in_size;
+    this.forward_on_xz_x = new double[in_size];
+    this.forward_on_xz_y = new double[in_size];
+    this.forward_on_xz_z = new double[in_size];
+    this.forward_x = new double[in_size];
+    this.forward_y = new double[in_size];
+    this.forward_z = new double[in_size];
+    this.heading = new double[in_size];
+    this.incline = new double[in_size];
+    this.position_x = new double[in_size];
+    this.position_y = new double[in_size];
+    this.position_z = new double[in_size];
+    this.radius = new double[in_size];
+    this.right_x = new double[in_size];
+    this.right_y = new double[in_size];
+    this.right_z = new double[in_size];
+    this.target_x = new double[in_size];
+    this.target_y = new double[in_size];
+    this.target_z = new double[in_size];
+    this.up_x = new double[in_size];
+    this.up_y = new double[in_size];
+    this.up_z = new double[in_size];
+
+    Arrays.fill(this.heading, -(Math.PI / 2.0));
+    Arrays.fill(this.radius, 8.0);
+  }
+
+  /**
+   * Create storage for the given number of cameras.
+   *
+   * @param size The number of cameras
+   *
+   * @return New storage
+   */
+
+  public static JCameraSphericalBases create(
+    final int size)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      size, "Size", 0, "Minimum size");
+    return new JCameraSphericalBases(size);
+  }
+
+  /**
+   * @return The number of cameras
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Set the angles and radius for the camera at {@code index}.
+   *
+   * @param index      The camera index
+   * @param in_heading The heading angle
+   * @param in_incline The incline angle
+   * @param in_radius  The radius
+   */
+
+  public void setOrientation(
+    final int index,
+    final double in_heading,
+    final double in_incline,
+    final double in_radius)
+  {
+    this.heading[index] = in_heading;
+    this.incline[index] = in_incline;
+    this.radius[index] = in_radius;
+  }
+
+  /**
+   * Set the target position for the camera at {@code index}.
+   *
+   * @param index The camera index
+   * @param x     The x coordinate
+   * @param y     The y coordinate
+   * @param z     The z coordinate
+   */
+
+  public void setTarget3(
+    final int index,
+    final double x,
+    final double y,
+    final double z)
+  {
+    this.target_x[index] = x;
+    this.target_y[index] = y;
+    this.target_z[index] = z;
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The heading angle
+   */
+
+  public double getHeading(
+    final int index)
+  {
+    return this.heading[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The incline angle
+   */
+
+  public double getIncline(
+    final int index)
+  {
+    return this.incline[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The radius
+   */
+
+  public double getRadius(
+    final int index)
+  {
+    return this.radius[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the target position
+   */
+
+  public double getTargetX(
+    final int index)
+  {
+    return this.target_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the target position
+   */
+
+  public double getTargetY(
+    final int index)
+  {
+    return this.target_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the target position
+   */
+
+  public double getTargetZ(
+    final int index)
+  {
+    return this.target_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the position
+   */
+
+  public double getPositionX(
+    final int index)
+  {
+    return this.position_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the position
+   */
+
+  public double getPositionY(
+    final int index)
+  {
+    return this.position_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the position
+   */
+
+  public double getPositionZ(
+    final int index)
+  {
+    return this.position_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the forward direction
+   */
+
+  public double getForwardX(
+    final int index)
+  {
+    return this.forward_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the forward direction
+   */
+
+  public double getForwardY(
+    final int index)
+  {
+    return this.forward_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the forward direction
+   */
+
+  public double getForwardZ(
+    final int index)
+  {
+    return this.forward_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the forward direction projected onto the
+   *         X/Z plane
+   */
+
+  public double getForwardOnXZX(
+    final int index)
+  {
+    return this.forward_on_xz_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the forward direction projected onto the
+   *         X/Z plane
+   */
+
+  public double getForwardOnXZY(
+    final int index)
+  {
+    return this.forward_on_xz_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the forward direction projected onto the
+   *         X/Z plane
+   */
+
+  public double getForwardOnXZZ(
+    final int index)
+  {
+    return this.forward_on_xz_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the right direction
+   */
+
+  public double getRightX(
+    final int index)
+  {
+    return this.right_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the right direction
+   */
+
+  public double getRightY(
+    final int index)
+  {
+    return this.right_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the right direction
+   */
+
+  public double getRightZ(
+    final int index)
+  {
+    return this.right_z[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The X component of the up direction
+   */
+
+  public double getUpX(
+    final int index)
+  {
+    return this.up_x[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Y component of the up direction
+   */
+
+  public double getUpY(
+    final int index)
+  {
+    return this.up_y[index];
+  }
+
+  /**
+   * @param index The camera index
+   *
+   * @return The Z component of the up direction
+   */
+
+  public double getUpZ(
+    final int index)
+  {
+    return this.up_z[index];
+  }
+
+  double[] forwardOnXzXArray()
+  {
+    return this.forward_on_xz_x;
+  }
+
+  double[] forwardOnXzYArray()
+  {
+    return this.forward_on_xz_y;
+  }
+
+  double[] forwardOnXzZArray()
+  {
+    return this.forward_on_xz_z;
+  }
+
+  double[] forwardXArray()
+  {
+    return this.forward_x;
+  }
+
+  double[] forwardYArray()
+  {
+    return this.forward_y;
+  }
+
+  double[] forwardZArray()
+  {
+    return this.forward_z;
+  }
+
+  double[] headingArray()
+  {
+    return this.heading;
+  }
+
+  double[] inclineArray()
+  {
+    return this.incline;
+  }
+
+  double[] positionXArray()
+  {
+    return this.position_x;
+  }
+
+  double[] positionYArray()
+  {
+    return this.position_y;
+  }
+
+  double[] positionZArray()
+  {
+    return this.position_z;
+  }
+
+  double[] radiusArray()
+  {
+    return this.radius;
+  }
+
+  double[] rightXArray()
+  {
+    return this.right_x;
+  }
+
+  double[] rightYArray()
+  {
+    return this.right_y;
+  }
+
+  double[] rightZArray()
+  {
+    return this.right_z;
+  }
+
+  double[] targetXArray()
+  {
+    return this.target_x;
+  }
+
+  double[] targetYArray()
+  {
+    return this.target_y;
+  }
+
+  double[] targetZArray()
+  {
+    return this.target_z;
+  }
+
+  double[] upXArray()
+  {
+    return this.up_x;
+  }
+
+  double[] upYArray()
+  {
+    return this.up_y;
+  }
+
+  double[] upZArray()
+  {
+    return this.up_z;
+  }
+}